@@ -0,0 +1,134 @@
+package in.zeta.analytics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Mergeable histogram of durations in seconds with log-spaced buckets.
+ * <p>
+ * Bucket {@code i} holds values in {@code (GAMMA^(i-1), GAMMA^i]}, so any quantile read back is within
+ * {@link #RELATIVE_ACCURACY} of a value actually recorded, whatever the spread of the data. Bucket 0 holds zero.
+ * Only non-empty buckets are kept, which for durations between a second and a year is a few hundred at most.
+ * Sketches built on different days or replicas merge by adding bucket counts, which is what lets the daily
+ * aggregates be summed over any date range. Not thread-safe.
+ */
+public final class DurationSketch {
+
+    static final double RELATIVE_ACCURACY = 0.02;
+    static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Bucket> buckets = new TreeMap<>();
+    private long count;
+    private long totalSeconds;
+    private long maxSeconds;
+
+    public static int bucketOf(long seconds) {
+        if (seconds <= 0) {
+            return 0;
+        }
+        return Math.max(1, (int) Math.ceil(Math.log(seconds) / LOG_GAMMA));
+    }
+
+    public void add(long seconds) {
+        long value = Math.max(0, seconds);
+        add(bucketOf(value), 1, value, value);
+    }
+
+    /**
+     * Adds a pre-aggregated bucket, as stored in {@code sla_daily_aggregates}.
+     */
+    public void add(int bucket, long bucketCount, long bucketTotalSeconds, long bucketMaxSeconds) {
+        if (bucketCount <= 0) {
+            return;
+        }
+        buckets.computeIfAbsent(bucket, b -> new Bucket()).add(bucketCount, bucketTotalSeconds, bucketMaxSeconds);
+        count += bucketCount;
+        totalSeconds += bucketTotalSeconds;
+        maxSeconds = Math.max(maxSeconds, bucketMaxSeconds);
+    }
+
+    public DurationSketch merge(DurationSketch other) {
+        other.buckets.forEach((bucket, b) -> add(bucket, b.count, b.totalSeconds, b.maxSeconds));
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long totalSeconds() {
+        return totalSeconds;
+    }
+
+    public long maxSeconds() {
+        return maxSeconds;
+    }
+
+    public double meanSeconds() {
+        return count == 0 ? 0 : (double) totalSeconds / count;
+    }
+
+    /**
+     * Returns the value at quantile {@code q} (0 to 1), or 0 for an empty sketch.
+     */
+    public long quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(Math.min(Math.max(q, 0), 1) * (count - 1));
+        long seen = 0;
+        for (Map.Entry<Integer, Bucket> entry : buckets.entrySet()) {
+            seen += entry.getValue().count;
+            if (seen > rank) {
+                return Math.min(Math.round(representative(entry.getKey())), entry.getValue().maxSeconds);
+            }
+        }
+        return maxSeconds;
+    }
+
+    /**
+     * Visits the non-empty buckets in ascending order with their count, total and max.
+     */
+    public void forEachBucket(BiConsumer<Integer, Bucket> consumer) {
+        buckets.forEach(consumer);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    private static double representative(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        // midpoint in relative terms, so the error is the same on both sides of the bucket
+        return 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+    }
+
+    public static final class Bucket {
+
+        private long count;
+        private long totalSeconds;
+        private long maxSeconds;
+
+        private void add(long bucketCount, long bucketTotalSeconds, long bucketMaxSeconds) {
+            count += bucketCount;
+            totalSeconds += bucketTotalSeconds;
+            maxSeconds = Math.max(maxSeconds, bucketMaxSeconds);
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalSeconds() {
+            return totalSeconds;
+        }
+
+        public long maxSeconds() {
+            return maxSeconds;
+        }
+    }
+}
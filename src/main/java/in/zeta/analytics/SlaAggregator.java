@@ -0,0 +1,168 @@
+package in.zeta.analytics;
+
+import in.zeta.entity.StatusHistory;
+import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.SlaDimension;
+import in.zeta.enums.SlaMetric;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running SLA aggregates fed by status transitions.
+ * <p>
+ * Each transition adds a time-in-status sample for the status it leaves (time since the previous transition, or
+ * since creation for the first one) and, when it approves or rejects the request, a turnaround sample (time since
+ * creation). Samples are recorded per day against both the requestor and the assigned officer in a
+ * {@link DurationSketch}. Sketches accumulate in memory and {@link #flush()} adds them to
+ * {@code sla_daily_aggregates} one row per bucket; the upsert adds counts and sums, so replicas can flush into the
+ * same rows. Samples buffered since the last flush are lost if the process dies.
+ */
+@Component
+public class SlaAggregator {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(SlaAggregator.class);
+
+    static final String UPSERT_AGGREGATE_SQL =
+            "INSERT INTO sla_daily_aggregates AS a " +
+            "(dimension, dimension_id, day, metric, status, bucket, sample_count, total_seconds, max_seconds) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (dimension, dimension_id, day, metric, status, bucket) DO UPDATE SET " +
+            "sample_count = a.sample_count + EXCLUDED.sample_count, " +
+            "total_seconds = a.total_seconds + EXCLUDED.total_seconds, " +
+            "max_seconds = GREATEST(a.max_seconds, EXCLUDED.max_seconds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<SlaKey, DurationSketch> pending = new ConcurrentHashMap<>();
+    private final Counter samplesCounter;
+
+    @Value("${sla.analytics.enabled}")
+    private boolean enabled;
+
+    public SlaAggregator(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.samplesCounter = Counter.builder("sla.analytics.samples").register(meterRegistry);
+    }
+
+    /**
+     * Records the samples for a transition that follows one made at {@code previousAt}. Returns {@code false}, and
+     * records nothing, when the transition is not newer than {@code previousAt}: a late or redelivered event would
+     * otherwise yield a negative or zero duration.
+     */
+    public boolean record(StatusHistory statusHistory, LocalDateTime previousAt) {
+        LocalDateTime changedAt = statusHistory.getChangedAt();
+        if (!enabled || previousAt == null || !changedAt.isAfter(previousAt)) {
+            return false;
+        }
+
+        VerificationRequest verificationRequest = statusHistory.getVerificationRequest();
+        LocalDate day = changedAt.toLocalDate();
+        if (statusHistory.getFromStatus() != null) {
+            addSample(verificationRequest, day, SlaMetric.TIME_IN_STATUS, statusHistory.getFromStatus(),
+                    Duration.between(previousAt, changedAt).getSeconds());
+        }
+        VerificationStatus toStatus = statusHistory.getToStatus();
+        if ((toStatus == VerificationStatus.APPROVED || toStatus == VerificationStatus.REJECTED)
+                && verificationRequest.getCreatedAt() != null) {
+            addSample(verificationRequest, day, SlaMetric.TURNAROUND, toStatus,
+                    Duration.between(verificationRequest.getCreatedAt(), changedAt).getSeconds());
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${sla.analytics.flush-interval-ms}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<SlaKey, DurationSketch> flushed = new HashMap<>();
+        List<Object[]> args = new ArrayList<>();
+        for (SlaKey key : List.copyOf(pending.keySet())) {
+            // samples recorded after the remove start a new sketch and go out with the next flush
+            DurationSketch sketch = pending.remove(key);
+            if (sketch == null) {
+                continue;
+            }
+            flushed.put(key, sketch);
+            sketch.forEachBucket((bucket, totals) -> args.add(toUpsertArgs(key, bucket, totals)));
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_AGGREGATE_SQL, args);
+            logger.info("Flushed SLA aggregates")
+                    .attr("keys", flushed.size())
+                    .attr("rows", args.size())
+                    .log();
+        } catch (Exception e) {
+            flushed.forEach((key, sketch) -> pending.merge(key, sketch, DurationSketch::merge));
+            logger.error("Failed to flush SLA aggregates")
+                    .attr("keys", flushed.size())
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingKeys() {
+        return pending.size();
+    }
+
+    private void addSample(VerificationRequest verificationRequest, LocalDate day, SlaMetric metric,
+                           VerificationStatus status, long seconds) {
+        addSample(new SlaKey(SlaDimension.REQUESTOR, verificationRequest.getRequestor().getId(), day, metric, status),
+                seconds);
+        if (verificationRequest.getAssignedOfficer() != null) {
+            addSample(new SlaKey(SlaDimension.OFFICER, verificationRequest.getAssignedOfficer().getId(), day, metric,
+                    status), seconds);
+        }
+    }
+
+    private void addSample(SlaKey key, long seconds) {
+        pending.compute(key, (k, sketch) -> {
+            DurationSketch target = sketch != null ? sketch : new DurationSketch();
+            target.add(seconds);
+            return target;
+        });
+        samplesCounter.increment();
+    }
+
+    private static Object[] toUpsertArgs(SlaKey key, int bucket, DurationSketch.Bucket totals) {
+        return new Object[]{
+                key.dimension().name(),
+                key.dimensionId(),
+                Date.valueOf(key.day()),
+                key.metric().name(),
+                key.status().name(),
+                bucket,
+                totals.count(),
+                totals.totalSeconds(),
+                totals.maxSeconds()
+        };
+    }
+
+    record SlaKey(SlaDimension dimension, UUID dimensionId, LocalDate day, SlaMetric metric, VerificationStatus status) {
+    }
+}
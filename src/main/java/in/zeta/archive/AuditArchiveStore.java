@@ -0,0 +1,365 @@
+package in.zeta.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.AuditLogException;
+import in.zeta.mapper.AuditLogMapper;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.KeysetCursor;
+import in.zeta.writer.AuditLogRecord;
+import jakarta.annotation.PostConstruct;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cold tier for audit logs: one immutable, gzip-compressed NDJSON file per month.
+ * <p>
+ * Lines are {@link AuditLogRecord}s sorted by entity and then newest first, so one entity's rows form a single
+ * run in the file. {@code audit_archive_entities} records which monthly buckets hold rows of which entity, so a
+ * trail lookup only opens the files that contain the entity, newest bucket first, and stops once it has enough rows.
+ * <p>
+ * A file is a chain of gzip members of about {@value #BLOCK_BYTES} uncompressed bytes, each starting at an entity
+ * boundary. {@code audit_archive_blocks} keeps the first entity and byte offset of every member, so a lookup seeks
+ * straight to the member holding the entity's run instead of decompressing the file from the start.
+ * <p>
+ * Buckets replace the rows dropped from the database, so {@code audit.archive.directory} has to be durable storage
+ * shared by every replica (a ReadWriteMany volume, see {@code auditArchive} in the Helm values). The store refuses
+ * to start with archival enabled when the directory is not configured or does not exist.
+ */
+@Component
+public class AuditArchiveStore {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditArchiveStore.class);
+
+    // The entity's run starts in the last block whose first entity sorts at or before it
+    private static final String SELECT_BUCKETS_SQL =
+            "SELECT b.bucket_month, b.location, COALESCE(k.byte_offset, 0) AS byte_offset " +
+            "FROM audit_archive_entities e " +
+            "JOIN audit_archive_buckets b ON b.bucket_month = e.bucket_month " +
+            "LEFT JOIN LATERAL (SELECT k.byte_offset FROM audit_archive_blocks k " +
+            "WHERE k.bucket_month = e.bucket_month AND (k.entity_type, k.entity_id) <= (e.entity_type, e.entity_id) " +
+            "ORDER BY k.entity_type DESC, k.entity_id DESC LIMIT 1) k ON TRUE " +
+            "WHERE e.entity_type = ? AND e.entity_id = ? ORDER BY b.bucket_month DESC";
+
+    static final int BLOCK_BYTES = 64 * 1024;
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path directory;
+
+    public AuditArchiveStore(JdbcTemplate jdbcTemplate,
+                             @Value("${audit.archive.enabled}") boolean enabled,
+                             @Value("${audit.archive.directory}") String directory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.directory = directory == null || directory.isBlank() ? null : Paths.get(directory);
+    }
+
+    /**
+     * Fails startup rather than archiving onto storage that is missing, e.g. a volume that was not mounted. The
+     * directory is never created here, since a created directory would sit on the container's ephemeral disk.
+     */
+    @PostConstruct
+    void checkDirectory() {
+        if (!enabled) {
+            return;
+        }
+        if (directory == null) {
+            throw new IllegalStateException(
+                    "audit.archive.directory must point at durable shared storage when audit archival is enabled");
+        }
+        if (!Files.isDirectory(directory) || !Files.isWritable(directory)) {
+            throw new IllegalStateException("Audit archive directory " + directory + " is not a writable directory");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a writer for a month's bucket. Rows must be written in entity order, newest first within an entity.
+     * Nothing is visible under the final name until {@link BucketWriter#commit()}.
+     */
+    public BucketWriter openBucket(YearMonth month) throws IOException {
+        return new BucketWriter(directory.resolve(fileName(month)));
+    }
+
+    /**
+     * Reads a committed bucket back end to end and checks that every line parses and that it holds
+     * {@code expectedRows} rows, so its partition is only dropped once the archive is known to be readable.
+     *
+     * @throws AuditLogException when the bucket cannot be read or its row count differs
+     */
+    public void verifyBucket(String location, long expectedRows) {
+        Path file = directory.resolve(location);
+        long rows = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                objectMapper.readValue(line, AuditLogRecord.class);
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new AuditLogException("Audit archive bucket " + location + " is not readable", e);
+        }
+        if (rows != expectedRows) {
+            throw new AuditLogException(String.format(
+                    "Audit archive bucket %s holds %d rows, expected %d", location, rows, expectedRows));
+        }
+    }
+
+    /**
+     * Archived rows of the entity in the filter that come after {@code after}, newest first, at most {@code limit}.
+     */
+    public List<AuditLogsResponse> findEntityLogs(AuditLogFilter filter, KeysetCursor after, int limit) {
+        List<AuditLogsResponse> result = new ArrayList<>();
+        if (!enabled || limit <= 0) {
+            return result;
+        }
+
+        List<Bucket> buckets = jdbcTemplate.query(SELECT_BUCKETS_SQL,
+                (rs, rowNum) -> new Bucket(YearMonth.from(rs.getDate("bucket_month").toLocalDate()),
+                        rs.getString("location"), rs.getLong("byte_offset")),
+                filter.entityType().name(), filter.entityId());
+
+        for (Bucket bucket : buckets) {
+            LocalDateTime start = bucket.month().atDay(1).atStartOfDay();
+            LocalDateTime end = bucket.month().plusMonths(1).atDay(1).atStartOfDay();
+            if (filter.from() != null && !end.isAfter(filter.from())) {
+                break;
+            }
+            if ((after != null && start.isAfter(after.timestamp()))
+                    || (filter.to() != null && !start.isBefore(filter.to()))) {
+                continue;
+            }
+            readBucket(bucket, filter, after, limit, result);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    static String fileName(YearMonth month) {
+        return "audit-logs-" + month + ".ndjson.gz";
+    }
+
+    static String entityPrefix(EntityType entityType, UUID entityId) {
+        return "{\"entityType\":\"" + entityType.name() + "\",\"entityId\":\"" + entityId + "\"";
+    }
+
+    private void readBucket(Bucket bucket, AuditLogFilter filter, KeysetCursor after, int limit,
+                            List<AuditLogsResponse> result) {
+        String prefix = entityPrefix(filter.entityType(), filter.entityId());
+        Path file = directory.resolve(bucket.location());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(bucket.offset());
+            // GZIPInputStream carries on into the following members, so a run spanning blocks is read whole
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Channels.newInputStream(channel)), StandardCharsets.UTF_8));
+            boolean inRun = false;
+            String line;
+            while ((line = reader.readLine()) != null && result.size() < limit) {
+                if (!line.startsWith(prefix)) {
+                    if (inRun) {
+                        // The entity's rows are contiguous; nothing more for it in this file
+                        break;
+                    }
+                    continue;
+                }
+                inRun = true;
+                AuditLogRecord record = objectMapper.readValue(line, AuditLogRecord.class);
+                if (matches(record, filter, after)) {
+                    result.add(AuditLogMapper.toResponse(record));
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to read audit archive bucket")
+                    .attr("bucket", bucket.month())
+                    .attr("file", file)
+                    .attr("error", e.getMessage())
+                    .log();
+            throw new AuditLogException("Failed to read audit archive bucket " + bucket.month(), e);
+        }
+    }
+
+    private static boolean matches(AuditLogRecord record, AuditLogFilter filter, KeysetCursor after) {
+        if (after != null && !after.isFollowedBy(record.timestamp(), record.id())) {
+            return false;
+        }
+        if (filter.from() != null && record.timestamp().isBefore(filter.from())) {
+            return false;
+        }
+        return filter.to() == null || record.timestamp().isBefore(filter.to());
+    }
+
+    private record Bucket(YearMonth month, String location, long offset) {
+    }
+
+    /**
+     * A gzip member of a bucket: the first entity written to it and its byte offset in the file.
+     */
+    public record Block(EntityType entityType, UUID entityId, long offset) {
+    }
+
+    /**
+     * Writes a bucket to a temporary file and moves it into place, read-only, on commit. Closing without
+     * committing deletes the temporary file.
+     */
+    public static final class BucketWriter implements Closeable {
+
+        private final Path target;
+        private final Path temp;
+        private final CountingOutputStream file;
+        private final List<Block> blocks = new ArrayList<>();
+        private GZIPOutputStream member;
+        private Writer writer;
+        private long memberBytes;
+        private EntityType lastEntityType;
+        private UUID lastEntityId;
+        private long rowCount;
+        private boolean committed;
+
+        private BucketWriter(Path target) throws IOException {
+            this.target = target;
+            this.temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+            this.file = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+        }
+
+        public void write(AuditLogRecord record) {
+            try {
+                String line = objectMapper.writeValueAsString(record);
+                boolean newEntity = !record.entityType().equals(lastEntityType) || !record.entityId().equals(lastEntityId);
+                if (writer == null || (newEntity && memberBytes >= BLOCK_BYTES)) {
+                    startBlock(record);
+                }
+                writer.write(line);
+                writer.write('\n');
+                memberBytes += line.length() + 1;
+                lastEntityType = record.entityType();
+                lastEntityId = record.entityId();
+                rowCount++;
+            } catch (JsonProcessingException e) {
+                throw new AuditLogException("Failed to serialize archived audit log " + record.id(), e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public long rowCount() {
+            return rowCount;
+        }
+
+        public List<Block> blocks() {
+            return List.copyOf(blocks);
+        }
+
+        /**
+         * Publishes the bucket and returns its location relative to the archive directory.
+         */
+        public String commit() throws IOException {
+            closeWriter();
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            target.toFile().setReadOnly();
+            committed = true;
+            return target.getFileName().toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                closeWriter();
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        private void startBlock(AuditLogRecord record) throws IOException {
+            if (writer != null) {
+                // Ends the current member without closing the file underneath it
+                writer.flush();
+                member.finish();
+            }
+            blocks.add(new Block(record.entityType(), record.entityId(), file.count()));
+            member = new GZIPOutputStream(file);
+            writer = new BufferedWriter(new OutputStreamWriter(member, StandardCharsets.UTF_8));
+            memberBytes = 0;
+        }
+
+        private void closeWriter() throws IOException {
+            if (writer == null) {
+                // No rows; still write one empty member so the bucket is a valid gzip file
+                member = new GZIPOutputStream(file);
+                writer = new BufferedWriter(new OutputStreamWriter(member, StandardCharsets.UTF_8));
+            }
+            writer.close();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package in.zeta.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.enums.EntityType;
+import in.zeta.util.KeysetCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Newest audit entries of the most-viewed entities, kept sorted the same way as the audit trail query
+ * (timestamp desc, ID desc).
+ * <p>
+ * A timeline is loaded once on first view and then kept current by {@link #append} as audit rows are written,
+ * so a hot entity's first page never goes back to the database. Each timeline holds one entry more than
+ * {@link #capacity()} so callers can tell whether another page exists. The number of cached entities is capped by
+ * {@code audit.timeline.hot-entities}; Caffeine's admission policy keeps the frequently viewed ones.
+ * Setting the cap to 0 disables the cache.
+ */
+@Component
+public class AuditTimelineCache {
+
+    static final String CACHE_NAME = "auditTimelines";
+
+    static final Comparator<AuditLogsResponse> NEWEST_FIRST = Comparator
+            .comparing(AuditLogsResponse::getTimestamp)
+            .thenComparing(AuditLogsResponse::getId, KeysetCursor::compareIds)
+            .reversed();
+
+    private final Cache<TimelineKey, List<AuditLogsResponse>> cache;
+    private final boolean enabled;
+    private final int capacity;
+
+    public AuditTimelineCache(MeterRegistry meterRegistry,
+                              @Value("${audit.timeline.hot-entities}") long hotEntities,
+                              @Value("${audit.timeline.entries-per-entity}") int entriesPerEntity,
+                              @Value("${audit.timeline.expire-after-write-seconds}") long expireAfterWriteSeconds) {
+        this.enabled = hotEntities > 0;
+        this.capacity = entriesPerEntity;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(hotEntities, 0))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Largest page that can be served from a cached timeline.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the newest entries of an entity, newest first, calling {@code loader} on a miss. The loader must
+     * return at least {@code capacity() + 1} rows when that many exist, in {@link #NEWEST_FIRST} order.
+     */
+    public List<AuditLogsResponse> get(EntityType entityType, UUID entityId,
+                                       Supplier<List<AuditLogsResponse>> loader) {
+        return cache.get(new TimelineKey(entityType, entityId), key -> trim(loader.get()));
+    }
+
+    /**
+     * Adds a newly written entry to its entity's timeline if that timeline is cached. Entries older than a full
+     * timeline belong to a later page and are ignored.
+     */
+    public void append(AuditLogsResponse entry) {
+        if (!enabled) {
+            return;
+        }
+        cache.asMap().computeIfPresent(new TimelineKey(entry.getEntityType(), entry.getEntityId()),
+                (key, timeline) -> insert(timeline, entry));
+    }
+
+    public void invalidate(EntityType entityType, UUID entityId) {
+        cache.invalidate(new TimelineKey(entityType, entityId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private List<AuditLogsResponse> insert(List<AuditLogsResponse> timeline, AuditLogsResponse entry) {
+        if (timeline.stream().anyMatch(existing -> existing.getId().equals(entry.getId()))) {
+            return timeline;
+        }
+
+        boolean full = timeline.size() > capacity;
+        if (full && NEWEST_FIRST.compare(entry, timeline.get(timeline.size() - 1)) > 0) {
+            return timeline;
+        }
+
+        List<AuditLogsResponse> updated = new ArrayList<>(timeline.size() + 1);
+        updated.addAll(timeline);
+        int position = 0;
+        while (position < updated.size() && NEWEST_FIRST.compare(updated.get(position), entry) < 0) {
+            position++;
+        }
+        updated.add(position, entry);
+        return trim(updated);
+    }
+
+    private List<AuditLogsResponse> trim(List<AuditLogsResponse> timeline) {
+        return List.copyOf(timeline.size() > capacity + 1 ? timeline.subList(0, capacity + 1) : timeline);
+    }
+
+    private record TimelineKey(EntityType entityType, UUID entityId) {
+    }
+}
@@ -0,0 +1,37 @@
+package in.zeta.cache;
+
+import in.zeta.entity.Users;
+import in.zeta.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable, password-free copy of a user as held by {@link UserCache}.
+ * <p>
+ * Callers get a fresh detached {@link Users} from {@link #toUsers()} on every read, so a caller changing the
+ * returned entity never changes what other readers see.
+ */
+public record CachedUser(UUID id,
+                         String username,
+                         String email,
+                         Role role,
+                         LocalDateTime createdAt,
+                         LocalDateTime updatedAt) {
+
+    public static CachedUser from(Users user) {
+        return new CachedUser(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    public Users toUsers() {
+        return Users.builder()
+                .id(id)
+                .username(username)
+                .email(email)
+                .role(role)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,332 @@
+package in.zeta.cache;
+
+import in.zeta.spectra.capture.SpectraLogger;
+import jakarta.annotation.PreDestroy;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory quota counters for {@code verification_request_limits}, keyed by (customer, requestor, year).
+ * <p>
+ * Counters live in a {@link ConcurrentHashMap} and are updated with a single CAS, so limit checks never
+ * touch the database once a key is warm. {@link #tryAcquire} checks the limits and takes the quota in that same
+ * CAS, so two concurrent creates cannot both pass on the last free slot; {@link #release} gives it back when the
+ * create does not commit. Changed keys are written back in batches by {@link #flush()}.
+ * The cache assumes it is the only writer of the limits table (single replica); the startup reconcile
+ * recovers increments lost by a crash between two flushes.
+ */
+@Component
+public class RequestLimitQuotaCache {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(RequestLimitQuotaCache.class);
+
+    private static final String SELECT_LIMITS_FOR_YEAR_SQL =
+            "SELECT customer_id, verification_requestor, year, request_count_by_requestor, total_requests, max_allowed_requests " +
+            "FROM verification_request_limits WHERE year = ?";
+
+    private static final String SELECT_LIMIT_SQL =
+            "SELECT customer_id, verification_requestor, year, request_count_by_requestor, total_requests, max_allowed_requests " +
+            "FROM verification_request_limits WHERE customer_id = ? AND verification_requestor = ? AND year = ?";
+
+    private static final String UPSERT_LIMIT_SQL =
+            "INSERT INTO verification_request_limits " +
+            "(id, customer_id, verification_requestor, year, request_count_by_requestor, total_requests, max_allowed_requests, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (customer_id, verification_requestor, year) DO UPDATE SET " +
+            "request_count_by_requestor = EXCLUDED.request_count_by_requestor, " +
+            "total_requests = EXCLUDED.total_requests";
+
+    private static final String COUNT_REQUESTS_FOR_YEAR_SQL =
+            "SELECT customer_id, requestor_id, COUNT(*) AS request_total FROM verification_requests " +
+            "WHERE created_at >= ? AND created_at < ? GROUP BY customer_id, requestor_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<QuotaKey, QuotaCounter> counters = new ConcurrentHashMap<>();
+    private final Set<QuotaKey> dirtyKeys = ConcurrentHashMap.newKeySet();
+
+    @Value("${max.verification.request.to.each.customer}")
+    private Integer maxVerificationRequestsToEachCustomer;
+
+    @Value("${quota.cache.flush-batch-size}")
+    private int flushBatchSize;
+
+    @Value("${quota.cache.reconcile-on-startup}")
+    private boolean reconcileOnStartup;
+
+    public RequestLimitQuotaCache(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the live counter for the key, loading it from the database on a miss.
+     * A key with no row starts at zero and is only persisted once it has been incremented.
+     */
+    public QuotaCounter getOrLoad(UUID customerId, UUID requestorId, int year) {
+        QuotaKey key = new QuotaKey(customerId, requestorId, year);
+        QuotaCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(key, this::loadCounter);
+    }
+
+    public void increment(UUID customerId, UUID requestorId, int year, int requestCountCeiling) {
+        QuotaKey key = new QuotaKey(customerId, requestorId, year);
+        getOrLoad(customerId, requestorId, year).increment(requestCountCeiling);
+        dirtyKeys.add(key);
+    }
+
+    /**
+     * Takes {@code permits} requests from the key's quota if the request count stays within
+     * {@code requestCountLimit} and the total within the key's maximum; otherwise leaves the counter untouched and
+     * returns {@code false}.
+     */
+    public boolean tryAcquire(UUID customerId, UUID requestorId, int year, int permits, int requestCountLimit) {
+        QuotaKey key = new QuotaKey(customerId, requestorId, year);
+        boolean acquired = getOrLoad(customerId, requestorId, year).tryAcquire(permits, requestCountLimit);
+        if (acquired) {
+            dirtyKeys.add(key);
+        }
+        return acquired;
+    }
+
+    /**
+     * Gives back permits taken by {@link #tryAcquire} for a create that did not commit.
+     */
+    public void release(UUID customerId, UUID requestorId, int year, int permits) {
+        QuotaKey key = new QuotaKey(customerId, requestorId, year);
+        QuotaCounter counter = counters.get(key);
+        if (counter == null) {
+            return;
+        }
+        counter.release(permits);
+        dirtyKeys.add(key);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int year = LocalDate.now().getYear();
+
+        jdbcTemplate.query(SELECT_LIMITS_FOR_YEAR_SQL, rs -> {
+            QuotaKey key = new QuotaKey(
+                    rs.getObject("customer_id", UUID.class),
+                    rs.getObject("verification_requestor", UUID.class),
+                    rs.getInt("year"));
+            counters.putIfAbsent(key, new QuotaCounter(
+                    rs.getInt("request_count_by_requestor"),
+                    rs.getInt("total_requests"),
+                    rs.getInt("max_allowed_requests")));
+        }, year);
+
+        logger.info("Request limit quota cache warmed up")
+                .attr("year", year)
+                .attr("entries", counters.size())
+                .log();
+
+        if (reconcileOnStartup) {
+            reconcile(year);
+        }
+    }
+
+    /**
+     * Raises counters that are behind the number of verification requests actually stored for the year.
+     * Counters only move forward, so a reconcile can never hand out extra quota.
+     */
+    public void reconcile(int year) {
+        LocalDateTime from = LocalDate.ofYearDay(year, 1).atStartOfDay();
+        LocalDateTime to = from.plusYears(1);
+        int[] adjusted = {0};
+
+        jdbcTemplate.query(COUNT_REQUESTS_FOR_YEAR_SQL, rs -> {
+            UUID customerId = rs.getObject("customer_id", UUID.class);
+            UUID requestorId = rs.getObject("requestor_id", UUID.class);
+            int actualTotal = rs.getInt("request_total");
+
+            QuotaCounter counter = getOrLoad(customerId, requestorId, year);
+            int missing = actualTotal - counter.totalRequests();
+            if (missing > 0) {
+                counter.add(missing);
+                dirtyKeys.add(new QuotaKey(customerId, requestorId, year));
+                adjusted[0]++;
+            }
+        }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        logger.info("Request limit quota cache reconciled")
+                .attr("year", year)
+                .attr("adjustedEntries", adjusted[0])
+                .log();
+    }
+
+    @Scheduled(fixedDelayString = "${quota.cache.flush-interval-ms}")
+    public void flush() {
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+
+        List<QuotaKey> batchKeys = new ArrayList<>(flushBatchSize);
+        List<Object[]> batchArgs = new ArrayList<>(flushBatchSize);
+        Iterator<QuotaKey> iterator = dirtyKeys.iterator();
+
+        while (iterator.hasNext()) {
+            QuotaKey key = iterator.next();
+            // Removing before reading means an increment racing with the flush re-marks the key.
+            iterator.remove();
+            QuotaCounter counter = counters.get(key);
+            if (counter == null) {
+                continue;
+            }
+            batchKeys.add(key);
+            batchArgs.add(toUpsertArgs(key, counter));
+
+            if (batchArgs.size() >= flushBatchSize) {
+                writeBatch(batchKeys, batchArgs);
+                batchKeys = new ArrayList<>(flushBatchSize);
+                batchArgs = new ArrayList<>(flushBatchSize);
+            }
+        }
+
+        if (!batchArgs.isEmpty()) {
+            writeBatch(batchKeys, batchArgs);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    int pendingWrites() {
+        return dirtyKeys.size();
+    }
+
+    private void writeBatch(List<QuotaKey> keys, List<Object[]> args) {
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_LIMIT_SQL, args);
+
+            logger.info("Flushed request limit counters")
+                    .attr("batchSize", args.size())
+                    .log();
+        } catch (Exception e) {
+            dirtyKeys.addAll(keys);
+
+            logger.error("Failed to flush request limit counters")
+                    .attr("batchSize", args.size())
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    private Object[] toUpsertArgs(QuotaKey key, QuotaCounter counter) {
+        return new Object[]{
+                UUID.randomUUID(),
+                key.customerId(),
+                key.requestorId(),
+                key.year(),
+                counter.requestCount(),
+                counter.totalRequests(),
+                counter.maxAllowedRequests(),
+                Timestamp.valueOf(LocalDateTime.now())
+        };
+    }
+
+    private QuotaCounter loadCounter(QuotaKey key) {
+        List<QuotaCounter> rows = jdbcTemplate.query(SELECT_LIMIT_SQL,
+                (rs, rowNum) -> new QuotaCounter(
+                        rs.getInt("request_count_by_requestor"),
+                        rs.getInt("total_requests"),
+                        rs.getInt("max_allowed_requests")),
+                key.customerId(), key.requestorId(), key.year());
+
+        return rows.isEmpty()
+                ? new QuotaCounter(0, 0, maxVerificationRequestsToEachCustomer)
+                : rows.get(0);
+    }
+
+    record QuotaKey(UUID customerId, UUID requestorId, int year) {
+    }
+
+    /**
+     * Request count (high 32 bits) and total requests (low 32 bits) packed into one {@link AtomicLong}
+     * so both move together in a single lock-free update.
+     */
+    public static final class QuotaCounter {
+
+        private final AtomicLong state;
+        private final int maxAllowedRequests;
+
+        public QuotaCounter(int requestCount, int totalRequests, int maxAllowedRequests) {
+            this.state = new AtomicLong(pack(requestCount, totalRequests));
+            this.maxAllowedRequests = maxAllowedRequests;
+        }
+
+        public int requestCount() {
+            return (int) (state.get() >>> 32);
+        }
+
+        public int totalRequests() {
+            return (int) state.get();
+        }
+
+        public int maxAllowedRequests() {
+            return maxAllowedRequests;
+        }
+
+        void increment(int requestCountCeiling) {
+            state.updateAndGet(current -> {
+                int requestCount = (int) (current >>> 32);
+                int totalRequests = (int) current;
+                int nextCount = requestCount <= requestCountCeiling ? requestCount + 1 : 1;
+                return pack(nextCount, totalRequests + 1);
+            });
+        }
+
+        boolean tryAcquire(int permits, int requestCountLimit) {
+            while (true) {
+                long current = state.get();
+                int requestCount = (int) (current >>> 32);
+                int totalRequests = (int) current;
+                if (requestCount + permits > requestCountLimit || totalRequests + permits > maxAllowedRequests) {
+                    return false;
+                }
+                if (state.compareAndSet(current, pack(requestCount + permits, totalRequests + permits))) {
+                    return true;
+                }
+            }
+        }
+
+        void release(int permits) {
+            state.updateAndGet(current -> pack(
+                    Math.max(0, (int) (current >>> 32) - permits),
+                    Math.max(0, (int) current - permits)));
+        }
+
+        void add(int delta) {
+            state.updateAndGet(current -> pack((int) (current >>> 32) + delta, (int) current + delta));
+        }
+
+        private static long pack(int requestCount, int totalRequests) {
+            return ((long) requestCount << 32) | (totalRequests & 0xFFFFFFFFL);
+        }
+    }
+}
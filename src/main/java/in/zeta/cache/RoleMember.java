@@ -0,0 +1,11 @@
+package in.zeta.cache;
+
+import in.zeta.enums.Role;
+
+import java.util.UUID;
+
+/**
+ * Password-free view of a user as held by {@link RoleRegistry}.
+ */
+public record RoleMember(UUID id, String username, String email, Role role) {
+}
@@ -0,0 +1,99 @@
+package in.zeta.cache;
+
+import in.zeta.entity.Users;
+import in.zeta.enums.Role;
+import in.zeta.repository.UserRepository;
+import in.zeta.spectra.capture.SpectraLogger;
+import olympus.trace.OlympusSpectra;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of users partitioned by {@link Role}.
+ * <p>
+ * Readers get an immutable per-role snapshot without locking; writers (registration, role changes and the
+ * periodic refresh) build a new snapshot under a lock and publish it with a volatile write. Writes are rare,
+ * so copy-on-write keeps the assignment path free of database round trips. The periodic refresh picks up
+ * changes made by other replicas.
+ * <p>
+ * Only {@link #TRACKED_ROLES} are held; customers make up almost all users and nothing looks them up by role,
+ * so {@link #members(Role)} returns an empty list for {@link Role#CUSTOMER}.
+ */
+@Component
+public class RoleRegistry {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(RoleRegistry.class);
+
+    static final Set<Role> TRACKED_ROLES = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(Role.CUSTOMER)));
+
+    private final UserRepository userRepository;
+    private volatile Map<Role, List<RoleMember>> membersByRole = Collections.emptyMap();
+
+    public RoleRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns an immutable snapshot of the users currently holding {@code role}.
+     */
+    public List<RoleMember> members(Role role) {
+        return membersByRole.getOrDefault(role, List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${role.registry.refresh-interval-ms}",
+            fixedDelayString = "${role.registry.refresh-interval-ms}")
+    public synchronized void refresh() {
+        Map<Role, List<RoleMember>> loaded = userRepository.findRoleMembersByRoleIn(TRACKED_ROLES).stream()
+                .collect(Collectors.groupingBy(RoleMember::role, () -> new EnumMap<>(Role.class), Collectors.toList()));
+        membersByRole = freeze(loaded);
+
+        logger.info("Role registry refreshed")
+                .attr("roles", membersByRole.size())
+                .log();
+    }
+
+    /**
+     * Records a newly registered user or a role change; the user is removed from any role it held before, and is
+     * not re-added when the new role is not tracked.
+     * <p>
+     * This only updates the local replica. Other replicas keep assigning from their old snapshot until their
+     * next {@link #refresh()}, i.e. for up to {@code role.registry.refresh-interval-ms} (five minutes by default).
+     */
+    public synchronized void upsert(Users user) {
+        Map<Role, List<RoleMember>> updated = withoutMember(user.getId());
+        if (TRACKED_ROLES.contains(user.getRole())) {
+            RoleMember member = new RoleMember(user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+            updated.computeIfAbsent(member.role(), role -> new ArrayList<>()).add(member);
+        }
+        membersByRole = freeze(updated);
+    }
+
+    private Map<Role, List<RoleMember>> withoutMember(UUID userId) {
+        Map<Role, List<RoleMember>> copy = new EnumMap<>(Role.class);
+        membersByRole.forEach((role, members) -> {
+            List<RoleMember> remaining = new ArrayList<>(members);
+            remaining.removeIf(member -> member.id().equals(userId));
+            copy.put(role, remaining);
+        });
+        return copy;
+    }
+
+    private static Map<Role, List<RoleMember>> freeze(Map<Role, List<RoleMember>> members) {
+        Map<Role, List<RoleMember>> frozen = new EnumMap<>(Role.class);
+        members.forEach((role, list) -> frozen.put(role, List.copyOf(list)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
@@ -0,0 +1,153 @@
+package in.zeta.cache;
+
+import in.zeta.spectra.capture.SpectraLogger;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-user unread notification counters, kept in memory and moved on write.
+ * <p>
+ * Once {@link #reconcile()} has loaded every user's count, a user without a counter has nothing unread, so badge
+ * reads never touch the database. Until then a miss is loaded through the caller's loader. A reconcile, an
+ * index-only scan of {@code idx_notifications_unread_only}, does not overwrite counters with its snapshot:
+ * every counter also records the writes applied since the reconcile started, and the result is the snapshot
+ * plus those writes. Only a write whose row commits between that start and the scan's snapshot is counted twice,
+ * until the next reconcile. Like {@link RequestLimitQuotaCache}, it assumes it sees every write to
+ * {@code notifications} (single replica).
+ */
+@Component
+public class UnreadNotificationCountCache {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(UnreadNotificationCountCache.class);
+
+    private static final String COUNT_UNREAD_SQL =
+            "SELECT user_id, COUNT(*) AS unread_count FROM notifications WHERE is_read = FALSE GROUP BY user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    // Counters are only changed inside compute calls, which serialize writers per user
+    private final Map<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+    private volatile boolean complete;
+    private volatile boolean reconciling;
+
+    public UnreadNotificationCountCache(JdbcTemplate jdbcTemplate,
+                                        @Value("${notification.unread-cache.enabled}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the user's unread count. {@code loader} is only called while the cache is disabled or before the
+     * first reconcile.
+     */
+    public long get(UUID userId, Function<UUID, Long> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        Counter counter = counters.get(userId);
+        if (counter != null) {
+            return counter.value;
+        }
+        if (complete) {
+            return 0L;
+        }
+        return counters.computeIfAbsent(userId, id -> new Counter(loader.apply(id))).value;
+    }
+
+    public void increment(UUID userId) {
+        apply(userId, 1);
+    }
+
+    public void decrement(UUID userId) {
+        decrement(userId, 1);
+    }
+
+    public void decrement(UUID userId, long amount) {
+        apply(userId, -amount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${notification.unread-cache.reconcile-interval-ms}",
+            initialDelayString = "${notification.unread-cache.reconcile-interval-ms}")
+    public synchronized void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        reconciling = true;
+        counters.keySet().forEach(userId -> counters.computeIfPresent(userId, (id, counter) -> {
+            counter.sinceReconcile = 0;
+            return counter;
+        }));
+
+        Map<UUID, Long> actual = new HashMap<>();
+        jdbcTemplate.query(COUNT_UNREAD_SQL, rs -> {
+            actual.put(rs.getObject("user_id", UUID.class), rs.getLong("unread_count"));
+        });
+
+        Set<UUID> userIds = new HashSet<>(actual.keySet());
+        userIds.addAll(counters.keySet());
+        int[] adjusted = {0};
+        userIds.forEach(userId -> counters.compute(userId, (id, counter) -> {
+            long writes = counter != null ? counter.sinceReconcile : 0;
+            long count = Math.max(actual.getOrDefault(id, 0L) + writes, 0);
+            if (counter == null || counter.value != count) {
+                adjusted[0]++;
+            }
+            return count == 0 ? null : new Counter(count);
+        }));
+        complete = true;
+        reconciling = false;
+
+        logger.info("Unread notification counters reconciled")
+                .attr("users", actual.size())
+                .attr("adjustedEntries", adjusted[0])
+                .log();
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    private void apply(UUID userId, long delta) {
+        if (!enabled) {
+            return;
+        }
+        counters.compute(userId, (id, counter) -> {
+            if (counter == null) {
+                if (!reconciling && !(complete && delta > 0)) {
+                    // Not loaded yet, the loader or the next reconcile counts the change; or already at zero
+                    return null;
+                }
+                counter = new Counter(0);
+            }
+            counter.value = Math.max(counter.value + delta, 0);
+            counter.sinceReconcile += delta;
+            return counter.value == 0 && complete && !reconciling ? null : counter;
+        });
+    }
+
+    private static final class Counter {
+
+        private volatile long value;
+        private long sinceReconcile;
+
+        private Counter(long value) {
+            this.value = value;
+        }
+    }
+}
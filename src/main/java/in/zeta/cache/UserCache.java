@@ -0,0 +1,69 @@
+package in.zeta.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of users keyed by ID.
+ * <p>
+ * Entries are {@link CachedUser} snapshots rather than entities, so the password hash is never held and a
+ * caller mutating the entity it was handed cannot change what the next reader gets.
+ * <p>
+ * Entries are evicted by size and by age, so a role change made outside this service is picked up
+ * after at most one TTL. Writes going through {@code UserService} invalidate the entry right away.
+ * Hit, miss and eviction counts are exported under the {@code users} cache name.
+ */
+@Component
+public class UserCache {
+
+    static final String CACHE_NAME = "users";
+
+    private final Cache<UUID, CachedUser> cache;
+
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${user.cache.maximum-size}") long maximumSize,
+                     @Value("${user.cache.expire-after-write-seconds}") long expireAfterWriteSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached user, calling {@code loader} on a miss. A {@code null} from the loader is not cached.
+     */
+    public CachedUser get(UUID userId, Function<UUID, CachedUser> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * Returns the users found for {@code userIds}; IDs missing from the cache are loaded with one call to
+     * {@code loader}. IDs the loader does not return are left out of the result.
+     */
+    public Map<UUID, CachedUser> getAll(Collection<UUID> userIds,
+                                        Function<Set<? extends UUID>, Map<UUID, CachedUser>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
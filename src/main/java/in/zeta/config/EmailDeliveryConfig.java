@@ -0,0 +1,36 @@
+package in.zeta.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class EmailDeliveryConfig {
+
+    @Value("${email.delivery.connections}")
+    private int connections;
+
+    @Value("${email.delivery.queue-capacity}")
+    private int queueCapacity;
+
+    /**
+     * One thread per concurrent SMTP connection. Batches rejected by a full queue stay in the outbox and are
+     * claimed again on the next poll.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor emailDeliveryExecutor() {
+        return new ThreadPoolExecutor(
+                connections,
+                connections,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("email-delivery-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
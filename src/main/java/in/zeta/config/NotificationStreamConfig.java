@@ -0,0 +1,36 @@
+package in.zeta.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class NotificationStreamConfig {
+
+    @Value("${notification.stream.dispatch-threads}")
+    private int dispatchThreads;
+
+    @Value("${notification.stream.dispatch-queue-capacity}")
+    private int dispatchQueueCapacity;
+
+    /**
+     * Writes server-sent events off the caller's thread, so a slow client never holds up event processing.
+     * Sends rejected by a full queue are dropped; clients resync through the unread endpoints on reconnect.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor notificationStreamExecutor() {
+        return new ThreadPoolExecutor(
+                dispatchThreads,
+                dispatchThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(dispatchQueueCapacity),
+                new CustomizableThreadFactory("notification-stream-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -111,11 +111,16 @@ public class Messages {
         public static final String FETCH_SUCCESSFULLY = "Notifications fetched successfully";
         public static final String MARKING_AS_READ = "Marking notification as read:";
         public static final String MARKED_AS_READ_SUCCESSFULLY = "Notification marked as read successfully";
+        public static final String MARKING_MANY_AS_READ = "Marking notifications as read:";
+        public static final String MARKED_MANY_AS_READ_SUCCESSFULLY = "Notifications marked as read successfully";
         public static final String UNREAD_COUNT_FETCHED = "Unread notification count fetched successfully";
         public static final String FETCHING_NOTIFICATIONS_FOR_USER = "Fetching notifications for user:";
         public static final String FETCHED_NOTIFICATIONS_FOR_USER = "Fetched notifications for user:";
         public static final String FETCHING_UNREAD_COUNT_FOR_USER = "Fetching unread notification count for user:";
         public static final String UNREAD_COUNT_FOR_USER_FETCHED = "Unread notification count for user fetched:";
+        public static final String OPENING_NOTIFICATION_STREAM = "Opening notification stream for user:";
+        public static final String STREAM_DISPATCH_QUEUE_FULL = "Notification stream dispatch queue full, dropping pending events";
+        public static final String STREAM_CONNECTION_BACKLOG_FULL = "Notification stream connection backlog full, dropping event";
         public static final String DOCUMENT_UPLOADED = "A new document has been uploaded.";
         public static final String DOCUMENT_UPDATED = "A document has been updated.";
         public static final String STATUS_CHANGED = "The status of your verification request has changed.";
@@ -125,6 +130,17 @@ public class Messages {
         public static final String VERIFICATION_REJECTED = "Your verification request has been rejected.";
         public static final String SENT_BACK_FOR_DETAILS = "Your verification request has been sent back for more details.";
         public static final String COMMENT_ADDED = "A new comment has been added to your verification request.";
+        public static final String REVIEW_OVERDUE = "A verification request assigned to you is overdue for review.";
+        public static final String DETAILS_OVERDUE = "Your verification request is still waiting for the details it was sent back for.";
+        public static final String DIGEST_SUMMARY = "%d updates on your verification request: %s";
+        public static final String DIGEST_OMITTED = "(and %d more)";
+        public static final String DIGEST_RELEASE_FAILED = "Failed to persist notification digest, keeping it for the next flush";
+    }
+
+    public static class Email {
+        public static final String SUBJECT_TEMPLATE = "KYC verification update: {{notificationType}}";
+        public static final String BODY_TEMPLATE = "Hello {{username}},\n\n{{message}}\n\n"
+                + "Verification request: {{verificationRequestId}}\nSent at: {{sentAt}}\n";
     }
 
     public static class Audit {
@@ -133,11 +149,22 @@ public class Messages {
         public static final String FETCHED_ALL_LOGS = "Fetched all audit logs successfully";
         public static final String FETCHING_AUDIT_TRAIL = "Fetching audit trail";
         public static final String FETCHING_ALL_AUDIT_LOGS = "Fetching all audit logs";
+        public static final String EXPORTING_AUDIT_LOGS = "Exporting audit logs";
+        public static final String SEARCHING_AUDIT_LOGS = "Searching audit logs";
+        public static final String SEARCHED_AUDIT_LOGS = "Searched audit logs successfully";
+    }
+
+    public static class Analytics {
+        public static final String FETCHING_SLA_REPORT = "Fetching SLA report";
+        public static final String FETCHED_SLA_REPORT = "Fetched SLA report successfully";
     }
 
     public static class Keys {
         public static final String LOG_COUNT = "logCount";
+        public static final String FORMAT = "format";
+        public static final String QUERY = "query";
         public static final String USER_ID = "userId";
+        public static final String USER_COUNT = "userCount";
         public static final String YEAR = "year";
         public static final String VERIFICATION_ID = "verificationId";
         public static final String CUSTOMER_ID = "customerId";
@@ -162,11 +189,20 @@ public class Messages {
         public static final String COMMENT_COUNT = "commentCount";
         public static final String NOTIFICATION_COUNT = "notificationCount";
         public static final String NOTIFICATION_ID = "notificationId";
+        public static final String NOTIFICATION_IDS = "notificationIds";
+        public static final String READ_CUTOFF = "readCutoff";
         public static final String HISTORY_COUNT = "historyCount";
         public static final String NEW_ROLE = "newRole";
         public static final String FILE_NAME = "fileName";
         public static final String FILE_SIZE = "fileSize";
         public static final String VERIFICATION_REQUEST_COUNT = "verificationRequestCount";
+        public static final String NOTIFICATION_TYPE = "notificationType";
+        public static final String IS_READ = "isRead";
+        public static final String DIMENSION = "dimension";
+        public static final String DIMENSION_ID = "dimensionId";
+        public static final String FROM = "from";
+        public static final String TO = "to";
+        public static final String METRIC_COUNT = "metricCount";
     }
 
     public static class Errors {
@@ -1,19 +1,29 @@
 package in.zeta.controller;
 
 import in.zeta.constants.Messages;
+import in.zeta.enums.AuditExportFormat;
 import in.zeta.enums.EntityType;
 import in.zeta.enums.AuditAction;
 import in.zeta.providers.AuditLogsProvider;
+import in.zeta.dto.requests.AuditLogPageRequest;
 import in.zeta.dto.response.ApiResponse;
-import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.dto.response.AuditLogPageResponse;
+import in.zeta.dto.response.AuditSearchResponse;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.service.AuditExportService;
+import in.zeta.service.AuditSearchService;
 import in.zeta.service.AuditService;
 import in.zeta.spectra.capture.SpectraLogger;
 import in.zeta.springframework.boot.commons.authorization.sandboxAccessControl.SandboxAuthorizedSync;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static in.zeta.constants.Messages.Audit.*;
@@ -25,26 +35,33 @@ import static in.zeta.constants.Messages.Keys.*;
 public class AuditController {
 
     private final AuditService auditService;
+    private final AuditExportService auditExportService;
+    private final AuditSearchService auditSearchService;
 
     private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditController.class);
 
     @GetMapping("/entityType/{entityType}/entityId/{entityId}")
     @SandboxAuthorizedSync(action = "audit.read", object = "$$entityId$$@" + AuditLogsProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
-    public ResponseEntity<ApiResponse<List<AuditLogsResponse>>> getAuditTrail(
+    public ResponseEntity<ApiResponse<AuditLogPageResponse>> getAuditTrail(
             @PathVariable("entityType") EntityType entityType,
-            @PathVariable("entityId") UUID entityId) {
+            @PathVariable("entityId") UUID entityId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
         logger.info(FETCHING_AUDIT_TRAIL)
                 .attr(ENTITY_TYPE, entityType)
                 .attr(Messages.Keys.ENTITY_ID, entityId)
                 .log();
 
-        List<AuditLogsResponse> auditLogs = auditService.getAuditTrail(entityType, entityId);
+        AuditLogPageResponse auditLogs = auditService.getAuditTrail(entityType, entityId,
+                toPageRequest(from, to, cursor, limit));
 
         logger.info(Messages.Audit.FETCHED_TRAIL_SUCCESSFULLY)
                 .attr(ENTITY_TYPE, entityType)
                 .attr(ENTITY_ID, entityId)
-                .attr(Messages.Keys.LOG_COUNT, auditLogs.size())
+                .attr(Messages.Keys.LOG_COUNT, auditLogs.getAuditLogs().size())
                 .log();
 
         return ResponseEntity.ok(ApiResponse.success(Messages.Audit.FETCHED_TRAIL_SUCCESSFULLY, auditLogs));
@@ -52,18 +69,23 @@ public class AuditController {
 
     @GetMapping("/action/{action}")
     @SandboxAuthorizedSync(action = "audit.read", object = "$$action$$@" + AuditLogsProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
-    public ResponseEntity<ApiResponse<List<AuditLogsResponse>>> getAuditLogsByAction(
-            @PathVariable("action") AuditAction action) {
+    public ResponseEntity<ApiResponse<AuditLogPageResponse>> getAuditLogsByAction(
+            @PathVariable("action") AuditAction action,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
         logger.info(FETCHING_AUDIT_TRAIL)
                 .attr(ACTION, action)
                 .log();
 
-        List<AuditLogsResponse> auditLogs = auditService.getAuditLogsByAction(action);
+        AuditLogPageResponse auditLogs = auditService.getAuditLogsByAction(action,
+                toPageRequest(from, to, cursor, limit));
 
         logger.info(Messages.Audit.FETCHED_TRAIL_SUCCESSFULLY)
                 .attr(ACTION, action)
-                .attr(Messages.Keys.LOG_COUNT, auditLogs.size())
+                .attr(Messages.Keys.LOG_COUNT, auditLogs.getAuditLogs().size())
                 .log();
 
         return ResponseEntity.ok(ApiResponse.success(Messages.Audit.FETCHED_TRAIL_SUCCESSFULLY, auditLogs));
@@ -71,18 +93,23 @@ public class AuditController {
 
     @GetMapping("/user/{userId}")
     @SandboxAuthorizedSync(action = "audit.read", object = "$$userId$$@" + AuditLogsProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
-    public ResponseEntity<ApiResponse<List<AuditLogsResponse>>> getAuditLogsByUser(
-            @PathVariable("userId") UUID userId) {
+    public ResponseEntity<ApiResponse<AuditLogPageResponse>> getAuditLogsByUser(
+            @PathVariable("userId") UUID userId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
         logger.info(FETCHING_AUDIT_TRAIL)
                 .attr(USER_ID, userId)
                 .log();
 
-        List<AuditLogsResponse> auditLogs = auditService.getAuditLogsByUser(userId);
+        AuditLogPageResponse auditLogs = auditService.getAuditLogsByUser(userId,
+                toPageRequest(from, to, cursor, limit));
 
         logger.info(Messages.Audit.FETCHED_LOGS_FOR_USER)
                 .attr(USER_ID, userId)
-                .attr(Messages.Keys.LOG_COUNT, auditLogs.size())
+                .attr(Messages.Keys.LOG_COUNT, auditLogs.getAuditLogs().size())
                 .log();
 
         return ResponseEntity.ok(ApiResponse.success(Messages.Audit.FETCHED_LOGS_FOR_USER, auditLogs));
@@ -90,17 +117,91 @@ public class AuditController {
 
     @GetMapping("/all")
     @SandboxAuthorizedSync(action = "audit.read", object = "$$tenants$$@" + AuditLogsProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
-    public ResponseEntity<ApiResponse<List<AuditLogsResponse>>> getAllAuditLogs() {
+    public ResponseEntity<ApiResponse<AuditLogPageResponse>> getAllAuditLogs(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
         logger.info(FETCHING_ALL_AUDIT_LOGS)
                 .log();
 
-        List<AuditLogsResponse> auditLogs = auditService.getAllAuditLogs();
+        AuditLogPageResponse auditLogs = auditService.getAllAuditLogs(toPageRequest(from, to, cursor, limit));
 
         logger.info(Messages.Audit.FETCHED_ALL_LOGS)
-                .attr(LOG_COUNT, auditLogs.size())
+                .attr(LOG_COUNT, auditLogs.getAuditLogs().size())
                 .log();
 
         return ResponseEntity.ok(ApiResponse.success(Messages.Audit.FETCHED_ALL_LOGS, auditLogs));
     }
+
+    @GetMapping("/search")
+    @SandboxAuthorizedSync(action = "audit.read", object = "$$tenants$$@" + AuditLogsProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
+    public ResponseEntity<ApiResponse<AuditSearchResponse>> searchAuditLogs(
+            @RequestParam("q") String query,
+            @RequestParam(value = "entityType", required = false) EntityType entityType,
+            @RequestParam(value = "entityId", required = false) UUID entityId,
+            @RequestParam(value = "action", required = false) AuditAction action,
+            @RequestParam(value = "userId", required = false) UUID userId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+
+        logger.info(SEARCHING_AUDIT_LOGS)
+                .attr(QUERY, query)
+                .attr(ENTITY_TYPE, entityType)
+                .attr(ACTION, action)
+                .attr(USER_ID, userId)
+                .log();
+
+        AuditSearchResponse result = auditSearchService.search(query,
+                new AuditLogFilter(entityType, entityId, action, userId, from, to),
+                toPageRequest(null, null, cursor, limit));
+
+        logger.info(SEARCHED_AUDIT_LOGS)
+                .attr(QUERY, query)
+                .attr(LOG_COUNT, result.getAuditLogs().size())
+                .log();
+
+        return ResponseEntity.ok(ApiResponse.success(SEARCHED_AUDIT_LOGS, result));
+    }
+
+    @GetMapping("/export")
+    @SandboxAuthorizedSync(action = "audit.read", object = "$$tenants$$@" + AuditLogsProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(value = "format", defaultValue = "CSV") AuditExportFormat format,
+            @RequestParam(value = "entityType", required = false) EntityType entityType,
+            @RequestParam(value = "entityId", required = false) UUID entityId,
+            @RequestParam(value = "action", required = false) AuditAction action,
+            @RequestParam(value = "userId", required = false) UUID userId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        AuditLogFilter filter = new AuditLogFilter(entityType, entityId, action, userId, from, to);
+
+        logger.info(EXPORTING_AUDIT_LOGS)
+                .attr(FORMAT, format)
+                .attr(ENTITY_TYPE, entityType)
+                .attr(ENTITY_ID, entityId)
+                .attr(ACTION, action)
+                .attr(USER_ID, userId)
+                .log();
+
+        StreamingResponseBody body = outputStream -> auditExportService.exportAuditLogs(filter, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audit-logs." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    private static AuditLogPageRequest toPageRequest(LocalDateTime from, LocalDateTime to, String cursor, Integer limit) {
+        return AuditLogPageRequest.builder()
+                .from(from)
+                .to(to)
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+    }
 }
\ No newline at end of file
@@ -3,14 +3,17 @@ package in.zeta.controller;
 import in.zeta.constants.Messages;
 import in.zeta.providers.NotificationProvider;
 import in.zeta.dto.response.ApiResponse;
-import in.zeta.dto.response.NotificationResponse;
+import in.zeta.dto.requests.NotificationPageRequest;
+import in.zeta.dto.response.NotificationPageResponse;
 import in.zeta.service.NotificationService;
 import in.zeta.spectra.capture.SpectraLogger;
 import in.zeta.springframework.boot.commons.authorization.sandboxAccessControl.SandboxAuthorizedSync;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,18 +33,21 @@ public class NotificationController {
 
     @GetMapping("/user/{userId}")
     @SandboxAuthorizedSync(action = "notification.read", object = "$$userId$$@" + NotificationProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
-    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getUserNotifications(
-            @PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<NotificationPageResponse>> getUserNotifications(
+            @PathVariable UUID userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
         logger.info(Messages.Notification.FETCHING_NOTIFICATIONS_FOR_USER)
                     .attr(Messages.Keys.USER_ID, userId)
                     .log();
 
-        List<NotificationResponse> notifications = notificationService.getUserNotifications(userId);
+        NotificationPageResponse notifications = notificationService.getUserNotifications(userId,
+                toPageRequest(cursor, limit));
 
         logger.info(FETCHED_NOTIFICATIONS_FOR_USER)
                         .attr(Messages.Keys.USER_ID, userId)
-                        .attr(NOTIFICATION_COUNT, notifications.size())
+                        .attr(NOTIFICATION_COUNT, notifications.getNotifications().size())
                         .log();
 
         return ResponseEntity.ok(ApiResponse.success(FETCHED_NOTIFICATIONS_FOR_USER, notifications));
@@ -49,18 +55,21 @@ public class NotificationController {
 
     @GetMapping("/unread/user/{userId}")
     @SandboxAuthorizedSync(action = "notification.read", object = "$$userId$$@" + NotificationProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
-    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getUnreadNotifications(
-            @PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<NotificationPageResponse>> getUnreadNotifications(
+            @PathVariable UUID userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
 
         logger.info(FETCHING_UNREAD_COUNT_FOR_USER)
                     .attr(Messages.Keys.USER_ID, userId)
                     .log();
 
-        List<NotificationResponse> notifications = notificationService.getUnreadNotifications(userId);
+        NotificationPageResponse notifications = notificationService.getUnreadNotifications(userId,
+                toPageRequest(cursor, limit));
 
         logger.info(UNREAD_COUNT_FOR_USER_FETCHED)
                         .attr(Messages.Keys.USER_ID, userId)
-                        .attr(NOTIFICATION_COUNT, notifications.size())
+                        .attr(NOTIFICATION_COUNT, notifications.getNotifications().size())
                         .log();
 
         return ResponseEntity.ok(ApiResponse.success(notifications));
@@ -85,6 +94,17 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(NOTIFICATION_COUNT,count));
     }
 
+    @GetMapping(value = "/stream/user/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @SandboxAuthorizedSync(action = "notification.read", object = "$$userId$$@" + NotificationProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
+    public SseEmitter streamNotifications(@PathVariable UUID userId) {
+
+        logger.info(OPENING_NOTIFICATION_STREAM)
+                    .attr(Messages.Keys.USER_ID, userId)
+                    .log();
+
+        return notificationService.streamNotifications(userId);
+    }
+
     @PutMapping("/{notificationId}/user/{userId}/read")
     @SandboxAuthorizedSync(action = "notification.read", object = "$$userId$$@" + NotificationProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
     public ResponseEntity<ApiResponse<Void>> markAsRead(
@@ -104,4 +124,50 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(MARKED_AS_READ_SUCCESSFULLY, null));
     }
 
-}
\ No newline at end of file
+    @PutMapping("/user/{userId}/read")
+    @SandboxAuthorizedSync(action = "notification.read", object = "$$userId$$@" + NotificationProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
+    public ResponseEntity<ApiResponse<List<UUID>>> markManyAsRead(
+            @PathVariable UUID userId,
+            @RequestBody List<UUID> notificationIds) {
+
+        logger.info(MARKING_MANY_AS_READ)
+                    .attr(Messages.Keys.USER_ID, userId)
+                    .attr(NOTIFICATION_COUNT, notificationIds.size())
+                    .log();
+
+        List<UUID> marked = notificationService.markAsRead(userId, notificationIds);
+
+        logger.info(MARKED_MANY_AS_READ_SUCCESSFULLY)
+                    .attr(Messages.Keys.USER_ID, userId)
+                    .attr(NOTIFICATION_COUNT, marked.size())
+                    .log();
+
+        return ResponseEntity.ok(ApiResponse.success(MARKED_MANY_AS_READ_SUCCESSFULLY, marked));
+    }
+
+    @PutMapping("/user/{userId}/read-all")
+    @SandboxAuthorizedSync(action = "notification.read", object = "$$userId$$@" + NotificationProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
+    public ResponseEntity<ApiResponse<List<UUID>>> markAllAsRead(
+            @PathVariable UUID userId) {
+
+        logger.info(MARKING_MANY_AS_READ)
+                    .attr(Messages.Keys.USER_ID, userId)
+                    .log();
+
+        List<UUID> marked = notificationService.markAllAsRead(userId);
+
+        logger.info(MARKED_MANY_AS_READ_SUCCESSFULLY)
+                    .attr(Messages.Keys.USER_ID, userId)
+                    .attr(NOTIFICATION_COUNT, marked.size())
+                    .log();
+
+        return ResponseEntity.ok(ApiResponse.success(MARKED_MANY_AS_READ_SUCCESSFULLY, marked));
+    }
+
+    private static NotificationPageRequest toPageRequest(String cursor, Integer limit) {
+        return NotificationPageRequest.builder()
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package in.zeta.controller;
+
+import in.zeta.dto.response.ApiResponse;
+import in.zeta.dto.response.SlaReportResponse;
+import in.zeta.enums.SlaDimension;
+import in.zeta.providers.StatusHistoryProvider;
+import in.zeta.service.SlaAnalyticsService;
+import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.springframework.boot.commons.authorization.sandboxAccessControl.SandboxAuthorizedSync;
+import lombok.RequiredArgsConstructor;
+import olympus.trace.OlympusSpectra;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static in.zeta.constants.Messages.Analytics.*;
+import static in.zeta.constants.Messages.Keys.*;
+
+@RestController
+@RequestMapping("tenants/{tenantId}/analytics/sla")
+@RequiredArgsConstructor
+public class SlaAnalyticsController {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(SlaAnalyticsController.class);
+    private final SlaAnalyticsService slaAnalyticsService;
+
+    @GetMapping("/{dimension}")
+    @SandboxAuthorizedSync(action = "status.read", object = "$$tenants$$@" + StatusHistoryProvider.OBJECT_TYPE + ".cipher.app", tenantID = "$$tenants$$")
+    public ResponseEntity<ApiResponse<SlaReportResponse>> getSlaReport(
+            @PathVariable SlaDimension dimension,
+            @RequestParam(value = "dimensionId", required = false) UUID dimensionId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        logger.info(FETCHING_SLA_REPORT)
+                .attr(DIMENSION, dimension)
+                .attr(DIMENSION_ID, dimensionId)
+                .attr(FROM, from)
+                .attr(TO, to)
+                .log();
+
+        SlaReportResponse report = slaAnalyticsService.getSlaReport(dimension, dimensionId, from, to);
+
+        logger.info(FETCHED_SLA_REPORT)
+                .attr(DIMENSION, dimension)
+                .attr(METRIC_COUNT, report.getMetrics().size())
+                .log();
+
+        return ResponseEntity.ok(ApiResponse.success(FETCHED_SLA_REPORT, report));
+    }
+}
@@ -66,10 +66,8 @@ public class VerificationRequestController {
                 .attr(VERIFICATION_REQUEST_COUNT, createVerificationRequests.size())
                 .log();
 
-        List<CreateVerificationResponse> responses = createVerificationRequests.stream()
-                .map(request -> verificationRequestService
-                        .createVerificationRequest(request, requestorId))
-                .toList();
+        List<CreateVerificationResponse> responses = verificationRequestService
+                .createVerificationRequests(createVerificationRequests, requestorId);
 
         logger.info(MULTIPLE_VERIFICATION_REQUESTS_CREATED)
                 .attr(VERIFICATION_REQUEST_COUNT, responses.size())
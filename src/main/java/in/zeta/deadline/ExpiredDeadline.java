@@ -0,0 +1,13 @@
+package in.zeta.deadline;
+
+import in.zeta.enums.VerificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A claimed deadline; {@code escalations} already counts the escalation being handled.
+ */
+public record ExpiredDeadline(UUID verificationRequestId, VerificationStatus status, LocalDateTime statusSince,
+                              int escalations) {
+}
@@ -0,0 +1,122 @@
+package in.zeta.deadline;
+
+import in.zeta.entity.StatusHistory;
+import in.zeta.enums.VerificationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@code request_deadlines} table: one due time per request waiting in {@code IN_REVIEW} or {@code SENT_BACK}.
+ * <p>
+ * {@link #track} follows status transitions: entering a waiting status (re)starts its deadline, any other status
+ * clears it. Both statements only act for the request's latest transition, so a late or redelivered event cannot
+ * revive or reset a deadline. {@link #claimExpired} hands out due rows oldest first and pushes their deadline to the
+ * next escalation time, skipping rows another replica has locked.
+ */
+@Component
+public class RequestDeadlineQueue {
+
+    static final String TRACK_SQL =
+            "INSERT INTO request_deadlines (verification_request_id, status, status_since, due_at, escalations) " +
+            "SELECT vr.id, ?, ?, ?, 0 FROM verification_requests vr WHERE vr.id = ? AND vr.latest_status_at <= ? " +
+            "ON CONFLICT (verification_request_id) DO UPDATE SET status = EXCLUDED.status, " +
+            "status_since = EXCLUDED.status_since, due_at = EXCLUDED.due_at, escalations = 0 " +
+            "WHERE request_deadlines.status_since < EXCLUDED.status_since";
+
+    static final String CLEAR_SQL =
+            "DELETE FROM request_deadlines WHERE verification_request_id = ? AND status_since <= ?";
+
+    static final String CLAIM_EXPIRED_SQL =
+            "UPDATE request_deadlines SET due_at = ?, escalations = escalations + 1 WHERE verification_request_id IN (" +
+            "SELECT verification_request_id FROM request_deadlines WHERE due_at <= ? " +
+            "ORDER BY due_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING verification_request_id, status, status_since, escalations";
+
+    static final String RESTART_SQL =
+            "UPDATE request_deadlines SET due_at = ?, escalations = 0 WHERE verification_request_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration inReviewAllowance;
+    private final Duration sentBackAllowance;
+
+    public RequestDeadlineQueue(JdbcTemplate jdbcTemplate,
+                                @Value("${stale.in-review-hours}") long inReviewHours,
+                                @Value("${stale.sent-back-hours}") long sentBackHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.inReviewAllowance = Duration.ofHours(inReviewHours);
+        this.sentBackAllowance = Duration.ofHours(sentBackHours);
+    }
+
+    /**
+     * Starts or clears deadlines for saved transitions. Must run after the transitions have moved the requests'
+     * latest status.
+     */
+    public void track(List<StatusHistory> statusHistories) {
+        List<Object[]> tracked = new ArrayList<>();
+        List<Object[]> cleared = new ArrayList<>();
+        for (StatusHistory statusHistory : statusHistories) {
+            UUID verificationRequestId = statusHistory.getVerificationRequest().getId();
+            Timestamp changedAt = Timestamp.valueOf(statusHistory.getChangedAt());
+            Duration allowance = allowanceFor(statusHistory.getToStatus());
+            if (allowance == null) {
+                cleared.add(new Object[]{verificationRequestId, changedAt});
+            } else {
+                tracked.add(new Object[]{
+                        statusHistory.getToStatus().name(),
+                        changedAt,
+                        Timestamp.valueOf(statusHistory.getChangedAt().plus(allowance)),
+                        verificationRequestId,
+                        changedAt
+                });
+            }
+        }
+        if (!tracked.isEmpty()) {
+            jdbcTemplate.batchUpdate(TRACK_SQL, tracked);
+        }
+        if (!cleared.isEmpty()) {
+            jdbcTemplate.batchUpdate(CLEAR_SQL, cleared);
+        }
+    }
+
+    /**
+     * Claims up to {@code limit} deadlines due at {@code now}, oldest first, and moves them to {@code nextDueAt}.
+     */
+    public List<ExpiredDeadline> claimExpired(LocalDateTime now, LocalDateTime nextDueAt, int limit) {
+        return jdbcTemplate.query(CLAIM_EXPIRED_SQL,
+                (rs, rowNum) -> new ExpiredDeadline(
+                        rs.getObject("verification_request_id", UUID.class),
+                        VerificationStatus.valueOf(rs.getString("status")),
+                        rs.getTimestamp("status_since").toLocalDateTime(),
+                        rs.getInt("escalations")),
+                Timestamp.valueOf(nextDueAt), Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * Gives the requests a full allowance in their current status again, e.g. after handing them to another officer.
+     */
+    public void restart(Collection<UUID> verificationRequestIds, VerificationStatus status, LocalDateTime now) {
+        Timestamp dueAt = Timestamp.valueOf(now.plus(allowanceFor(status)));
+        jdbcTemplate.batchUpdate(RESTART_SQL, verificationRequestIds.stream().map(id -> new Object[]{dueAt, id}).toList());
+    }
+
+    /**
+     * Time a request may wait in {@code status} before it is escalated, or {@code null} for statuses nobody waits
+     * on.
+     */
+    Duration allowanceFor(VerificationStatus status) {
+        return switch (status) {
+            case IN_REVIEW -> inReviewAllowance;
+            case SENT_BACK -> sentBackAllowance;
+            default -> null;
+        };
+    }
+}
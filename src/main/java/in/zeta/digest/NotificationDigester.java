@@ -0,0 +1,287 @@
+package in.zeta.digest;
+
+import in.zeta.constants.Messages;
+import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.enums.NotificationType;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Merges notification events per (recipient, verification request) before they are persisted.
+ * <p>
+ * Open digests are rows of {@code notification_digests}. The first event for a key inserts the row; events arriving
+ * within {@code notification.digest.window-ms} are merged into it by the same upsert, which ignores an event it has
+ * already merged. A digest is released once its window has passed and the recipient still has budget: at most
+ * {@code notification.digest.max-per-recipient} notifications per {@code notification.digest.rate-window-ms}.
+ * A recipient over budget keeps accumulating into the open digest instead of losing events. Releasing persists the
+ * notification and deletes the row in one transaction, so a failed release leaves the digest to the next flush.
+ * Budgets are counted per instance.
+ */
+@Component
+public class NotificationDigester {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(NotificationDigester.class);
+
+    static final String UPSERT_SQL =
+            "INSERT INTO notification_digests (user_id, verification_request_id, notification_id, notification_type, " +
+            "messages, omitted_messages, event_count, event_ids, first_created_at, latest_sent_at, opened_at) " +
+            "VALUES (?, ?, ?, ?, ARRAY[CAST(? AS TEXT)], 0, 1, ARRAY[CAST(? AS UUID)], ?, ?, ?) " +
+            "ON CONFLICT (user_id, verification_request_id) DO UPDATE SET " +
+            "notification_type = EXCLUDED.notification_type, " +
+            "latest_sent_at = EXCLUDED.latest_sent_at, " +
+            "event_count = notification_digests.event_count + 1, " +
+            "event_ids = notification_digests.event_ids || EXCLUDED.event_ids, " +
+            "messages = CASE WHEN EXCLUDED.messages[1] = ANY(notification_digests.messages) " +
+            "OR cardinality(notification_digests.messages) >= ? THEN notification_digests.messages " +
+            "ELSE notification_digests.messages || EXCLUDED.messages END, " +
+            "omitted_messages = notification_digests.omitted_messages + " +
+            "CASE WHEN EXCLUDED.messages[1] = ANY(notification_digests.messages) " +
+            "OR cardinality(notification_digests.messages) < ? THEN 0 ELSE 1 END " +
+            "WHERE NOT (EXCLUDED.event_ids[1] = ANY(notification_digests.event_ids))";
+
+    static final String SELECT_DUE_SQL =
+            "SELECT user_id, verification_request_id FROM notification_digests WHERE opened_at <= ? " +
+            "ORDER BY opened_at LIMIT ?";
+
+    static final String LOCK_SQL =
+            "SELECT notification_id, user_id, verification_request_id, notification_type, messages, " +
+            "omitted_messages, event_count, first_created_at, latest_sent_at FROM notification_digests " +
+            "WHERE user_id = ? AND verification_request_id = ? FOR UPDATE SKIP LOCKED";
+
+    static final String DELETE_SQL =
+            "DELETE FROM notification_digests WHERE user_id = ? AND verification_request_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxPerRecipient;
+    private final long rateWindowMs;
+    private final int maxMessages;
+    private final int flushBatchSize;
+    private final Map<UUID, RecipientBudget> budgets = new ConcurrentHashMap<>();
+    private final Counter addedCounter;
+    private final Counter duplicateCounter;
+    private final Counter releasedCounter;
+    private final Counter throttledCounter;
+    private final Counter failedCounter;
+
+    public NotificationDigester(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${notification.digest.enabled}") boolean enabled,
+                                @Value("${notification.digest.window-ms}") long windowMs,
+                                @Value("${notification.digest.max-per-recipient}") int maxPerRecipient,
+                                @Value("${notification.digest.rate-window-ms}") long rateWindowMs,
+                                @Value("${notification.digest.max-messages}") int maxMessages,
+                                @Value("${notification.digest.flush-batch-size}") int flushBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxPerRecipient = maxPerRecipient;
+        this.rateWindowMs = rateWindowMs;
+        this.maxMessages = maxMessages;
+        this.flushBatchSize = flushBatchSize;
+        this.addedCounter = Counter.builder("notification.digest.added").register(meterRegistry);
+        this.duplicateCounter = Counter.builder("notification.digest.duplicate").register(meterRegistry);
+        this.releasedCounter = Counter.builder("notification.digest.released").register(meterRegistry);
+        this.throttledCounter = Counter.builder("notification.digest.throttled").register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.digest.failed").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a digest for the event's key or merges the event into the open one. Failures propagate, so the consumer
+     * does not acknowledge an event that was not stored.
+     */
+    public void add(NotificationCreatedEvent event) {
+        add(event, LocalDateTime.now());
+    }
+
+    void add(NotificationCreatedEvent event, LocalDateTime now) {
+        int changed = jdbcTemplate.update(UPSERT_SQL,
+                event.getUserId(),
+                event.getVerificationRequestId(),
+                event.getNotificationId(),
+                event.getNotificationType().name(),
+                event.getMessage(),
+                event.getNotificationId(),
+                toTimestamp(event.getCreatedAt()),
+                toTimestamp(event.getSentAt()),
+                Timestamp.valueOf(now),
+                maxMessages,
+                maxMessages);
+        if (changed > 0) {
+            addedCounter.increment();
+        } else {
+            duplicateCounter.increment();
+        }
+    }
+
+    /**
+     * Hands each digest whose window has passed, within its recipient's budget, to {@code persist} and deletes it in
+     * the same transaction. A digest that fails stays for the next call. Returns the number released.
+     */
+    public int releaseDue(Consumer<NotificationCreatedEvent> persist) {
+        return releaseDue(persist, LocalDateTime.now());
+    }
+
+    int releaseDue(Consumer<NotificationCreatedEvent> persist, LocalDateTime now) {
+        long nowMs = Timestamp.valueOf(now).getTime();
+        List<DigestKey> due = jdbcTemplate.query(SELECT_DUE_SQL,
+                (rs, rowNum) -> new DigestKey(
+                        rs.getObject("user_id", UUID.class),
+                        rs.getObject("verification_request_id", UUID.class)),
+                Timestamp.valueOf(now.minusNanos(windowMs * 1_000_000)), flushBatchSize);
+
+        int released = 0;
+        for (DigestKey key : due) {
+            RecipientBudget budget = budgets.computeIfAbsent(key.userId(), id -> new RecipientBudget(nowMs));
+            if (!budget.tryAcquire(nowMs)) {
+                throttledCounter.increment();
+                continue;
+            }
+            try {
+                Boolean persisted = transaction.execute(status -> release(key, persist));
+                if (Boolean.TRUE.equals(persisted)) {
+                    released++;
+                    releasedCounter.increment();
+                } else {
+                    budget.release();
+                }
+            } catch (RuntimeException e) {
+                budget.release();
+                failedCounter.increment();
+                logger.error(Messages.Notification.DIGEST_RELEASE_FAILED)
+                        .attr(Messages.Keys.USER_ID, key.userId())
+                        .attr(Messages.Keys.VERIFICATION_ID, key.verificationRequestId())
+                        .attr("error", e.getMessage())
+                        .log();
+            }
+        }
+        budgets.values().removeIf(budget -> budget.isExpired(nowMs));
+        return released;
+    }
+
+    private boolean release(DigestKey key, Consumer<NotificationCreatedEvent> persist) {
+        List<PendingDigest> locked = jdbcTemplate.query(LOCK_SQL, NotificationDigester::mapDigest,
+                key.userId(), key.verificationRequestId());
+        if (locked.isEmpty()) {
+            // Released by another instance, or being released right now
+            return false;
+        }
+        persist.accept(locked.get(0).toEvent());
+        jdbcTemplate.update(DELETE_SQL, key.userId(), key.verificationRequestId());
+        return true;
+    }
+
+    private static PendingDigest mapDigest(ResultSet rs, int rowNum) throws SQLException {
+        return new PendingDigest(
+                rs.getObject("notification_id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("verification_request_id", UUID.class),
+                NotificationType.valueOf(rs.getString("notification_type")),
+                Arrays.asList((String[]) rs.getArray("messages").getArray()),
+                rs.getInt("omitted_messages"),
+                rs.getInt("event_count"),
+                toLocalDateTime(rs.getTimestamp("first_created_at")),
+                toLocalDateTime(rs.getTimestamp("latest_sent_at")));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    record DigestKey(UUID userId, UUID verificationRequestId) {
+    }
+
+    /**
+     * One row of {@code notification_digests}: the first event's ID and creation time, the latest type and send
+     * time, and up to {@code notification.digest.max-messages} distinct messages.
+     */
+    record PendingDigest(UUID notificationId, UUID userId, UUID verificationRequestId,
+                         NotificationType notificationType, List<String> messages, int omittedMessages,
+                         int eventCount, LocalDateTime createdAt, LocalDateTime sentAt) {
+
+        NotificationCreatedEvent toEvent() {
+            String message;
+            if (eventCount == 1) {
+                message = messages.get(0);
+            } else {
+                String summary = String.join(" ", messages);
+                if (omittedMessages > 0) {
+                    summary += " " + String.format(Messages.Notification.DIGEST_OMITTED, omittedMessages);
+                }
+                message = String.format(Messages.Notification.DIGEST_SUMMARY, eventCount, summary);
+            }
+            return NotificationCreatedEvent.builder()
+                    .notificationId(notificationId)
+                    .userId(userId)
+                    .verificationRequestId(verificationRequestId)
+                    .notificationType(notificationType)
+                    .message(message)
+                    .createdAt(createdAt)
+                    .sentAt(sentAt)
+                    .build();
+        }
+    }
+
+    /**
+     * Fixed-window count of notifications released to one recipient.
+     */
+    private final class RecipientBudget {
+
+        private long windowStartMs;
+        private int used;
+
+        private RecipientBudget(long nowMs) {
+            this.windowStartMs = nowMs;
+        }
+
+        private synchronized boolean tryAcquire(long nowMs) {
+            if (nowMs - windowStartMs >= rateWindowMs) {
+                windowStartMs = nowMs;
+                used = 0;
+            }
+            if (used >= maxPerRecipient) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+
+        private synchronized void release() {
+            used = Math.max(used - 1, 0);
+        }
+
+        private synchronized boolean isExpired(long nowMs) {
+            return nowMs - windowStartMs >= rateWindowMs;
+        }
+    }
+}
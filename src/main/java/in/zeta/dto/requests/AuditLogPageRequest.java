@@ -0,0 +1,19 @@
+package in.zeta.dto.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogPageRequest {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String cursor;
+    private Integer limit;
+}
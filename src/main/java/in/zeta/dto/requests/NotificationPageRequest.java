@@ -0,0 +1,15 @@
+package in.zeta.dto.requests;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPageRequest {
+    private String cursor;
+    private Integer limit;
+}
@@ -0,0 +1,18 @@
+package in.zeta.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogPageResponse {
+    private List<AuditLogsResponse> auditLogs;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Data
@@ -23,5 +24,9 @@ public class AuditLogsResponse {
     private String username;
     private String oldValue;
     private String newValue;
+    /** {@link #oldValue} decoded into its changed fields; see {@code AuditDiff}. */
+    private Map<String, String> oldFields;
+    /** {@link #newValue} decoded into its changed fields; see {@code AuditDiff}. */
+    private Map<String, String> newFields;
     private LocalDateTime timestamp;
 }
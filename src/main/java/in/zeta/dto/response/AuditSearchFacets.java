@@ -0,0 +1,25 @@
+package in.zeta.dto.response;
+
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditSearchFacets {
+    private Map<AuditAction, Long> actions;
+    private Map<EntityType, Long> entityTypes;
+    private Map<UUID, Long> users;
+    // Most matches the counts are taken from
+    private int sampleSize;
+    // True when there were more matches than the sample, so the counts cover only part of them
+    private boolean estimated;
+}
@@ -0,0 +1,20 @@
+package in.zeta.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditSearchResponse {
+    private List<AuditLogsResponse> auditLogs;
+    private String nextCursor;
+    private boolean hasMore;
+    // Only computed for the first page
+    private AuditSearchFacets facets;
+}
@@ -0,0 +1,18 @@
+package in.zeta.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPageResponse {
+    private List<NotificationResponse> notifications;
+    private String nextCursor;
+    private boolean hasMore;
+}
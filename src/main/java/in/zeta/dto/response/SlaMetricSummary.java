@@ -0,0 +1,23 @@
+package in.zeta.dto.response;
+
+import in.zeta.enums.SlaMetric;
+import in.zeta.enums.VerificationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlaMetricSummary {
+    private SlaMetric metric;
+    private VerificationStatus status;
+    private long count;
+    private double meanSeconds;
+    private long p50Seconds;
+    private long p90Seconds;
+    private long p99Seconds;
+    private long maxSeconds;
+}
@@ -0,0 +1,23 @@
+package in.zeta.dto.response;
+
+import in.zeta.enums.SlaDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlaReportResponse {
+    private SlaDimension dimension;
+    private UUID dimensionId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<SlaMetricSummary> metrics;
+}
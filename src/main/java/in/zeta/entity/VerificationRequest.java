@@ -52,6 +52,21 @@ public class VerificationRequest {
     @Column(name = "rejected_at")
     private LocalDateTime rejectedAt;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    // Latest status_history transition; written only by StatusHistoryRepository#saveTransition
+    @Enumerated(EnumType.STRING)
+    @Column(name = "latest_status", insertable = false, updatable = false)
+    private VerificationStatus latestStatus;
+
+    @Column(name = "latest_status_at", insertable = false, updatable = false)
+    private LocalDateTime latestStatusAt;
+
+    @Column(name = "latest_status_by", insertable = false, updatable = false)
+    private UUID latestStatusBy;
+
     @OneToMany(mappedBy = "verificationRequest", cascade = CascadeType.ALL)
     private List<Document> documents = new ArrayList<>();
 
@@ -9,5 +9,7 @@ public enum NotificationType {
     VERIFICATION_REJECTED,
     SENT_BACK_FOR_DETAILS,
     COMMENT_ADDED,
-    COMMENT_UPDATED
+    COMMENT_UPDATED,
+    REVIEW_OVERDUE,
+    DETAILS_OVERDUE
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package in.zeta.enums;
+
+public enum SlaDimension {
+    OFFICER,
+    REQUESTOR
+}
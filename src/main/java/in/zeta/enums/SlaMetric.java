@@ -0,0 +1,6 @@
+package in.zeta.enums;
+
+public enum SlaMetric {
+    TIME_IN_STATUS,
+    TURNAROUND
+}
@@ -0,0 +1,13 @@
+package in.zeta.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ConcurrentUpdateException extends BaseException {
+
+    private static final String ERROR_CODE = "CONCURRENT_UPDATE";
+    private static final HttpStatus STATUS = HttpStatus.CONFLICT;
+
+    public ConcurrentUpdateException(String message) {
+        super(message, STATUS, ERROR_CODE);
+    }
+}
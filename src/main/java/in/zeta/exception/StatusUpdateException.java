@@ -0,0 +1,17 @@
+package in.zeta.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class StatusUpdateException extends BaseException {
+
+    private static final String ERROR_CODE = "STATUS_UPDATE_FAILED";
+    private static final HttpStatus STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+
+    public StatusUpdateException(String message) {
+        super(message, STATUS, ERROR_CODE);
+    }
+
+    public StatusUpdateException(String message, Throwable cause) {
+        super(message, cause, STATUS, ERROR_CODE);
+    }
+}
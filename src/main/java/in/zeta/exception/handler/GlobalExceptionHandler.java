@@ -1,12 +1,14 @@
 package in.zeta.exception.handler;
 
 import in.zeta.exception.BaseException;
+import in.zeta.exception.ConcurrentUpdateException;
 import in.zeta.dto.response.ErrorResponse;
 import in.zeta.spectra.capture.SpectraLogger;
 import jakarta.servlet.http.HttpServletRequest;
 import olympus.trace.OlympusSpectra;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -41,6 +43,18 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    /**
+     * A versioned entity saved after another writer changed it: answered like any other concurrent update.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        return handleBaseException(new ConcurrentUpdateException(
+                "The resource was modified concurrently, please retry"), request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(
             MethodArgumentNotValidException ex,
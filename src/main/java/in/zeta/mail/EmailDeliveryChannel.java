@@ -0,0 +1,299 @@
+package in.zeta.mail;
+
+import in.zeta.constants.Messages;
+import in.zeta.entity.Notification;
+import in.zeta.entity.Users;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Email delivery for notifications, decoupled from event handling by the {@code email_outbox} table.
+ * <p>
+ * {@link #deliver} renders the precompiled templates and inserts one outbox row, so the webhook thread never talks
+ * to SMTP. {@link #dispatch} claims due rows, holds back anything over {@code email.delivery.per-domain-per-minute}
+ * for a recipient domain, and hands the rest to the bounded {@code emailDeliveryExecutor} in batches of
+ * {@code email.delivery.messages-per-connection}, each sent over one connection. Failed messages are retried with
+ * exponential backoff up to {@code email.delivery.max-attempts}, then marked {@code FAILED}. Delivery is at least
+ * once: a message whose result could not be recorded is sent again after its lease runs out. Sent rows are deleted
+ * once older than {@code email.delivery.sent-retention-hours}.
+ * <p>
+ * Domain budgets are kept per instance, so the effective limit for a domain is {@code per-domain-per-minute} times
+ * the number of replicas.
+ */
+@Component
+public class EmailDeliveryChannel {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(EmailDeliveryChannel.class);
+
+    private static final Duration DOMAIN_WINDOW = Duration.ofMinutes(1);
+
+    private final EmailOutboxStore emailOutboxStore;
+    private final EmailSender emailSender;
+    private final Executor executor;
+    private final EmailTemplate subjectTemplate = EmailTemplate.compile(Messages.Email.SUBJECT_TEMPLATE);
+    private final EmailTemplate bodyTemplate = EmailTemplate.compile(Messages.Email.BODY_TEMPLATE);
+    private final Map<String, DomainBudget> domainBudgets = new HashMap<>();
+    private final Counter queuedCounter;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter throttledCounter;
+    private final Timer batchTimer;
+
+    @Value("${email.delivery.enabled}")
+    private boolean enabled;
+
+    @Value("${email.delivery.claim-batch-size}")
+    private int claimBatchSize;
+
+    @Value("${email.delivery.lease-ms}")
+    private long leaseMs;
+
+    @Value("${email.delivery.messages-per-connection}")
+    private int messagesPerConnection;
+
+    @Value("${email.delivery.per-domain-per-minute}")
+    private int perDomainPerMinute;
+
+    @Value("${email.delivery.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${email.delivery.backoff-base-ms}")
+    private long backoffBaseMs;
+
+    @Value("${email.delivery.backoff-max-ms}")
+    private long backoffMaxMs;
+
+    @Value("${email.delivery.sent-retention-hours}")
+    private long sentRetentionHours;
+
+    @Value("${email.delivery.purge-batch-size}")
+    private int purgeBatchSize;
+
+    public EmailDeliveryChannel(EmailOutboxStore emailOutboxStore,
+                                EmailSender emailSender,
+                                @Qualifier("emailDeliveryExecutor") Executor executor,
+                                MeterRegistry meterRegistry) {
+        this.emailOutboxStore = emailOutboxStore;
+        this.emailSender = emailSender;
+        this.executor = executor;
+        this.queuedCounter = Counter.builder("email.delivery.queued").register(meterRegistry);
+        this.sentCounter = Counter.builder("email.delivery.sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("email.delivery.retried").register(meterRegistry);
+        this.failedCounter = Counter.builder("email.delivery.failed").register(meterRegistry);
+        this.throttledCounter = Counter.builder("email.delivery.throttled").register(meterRegistry);
+        this.batchTimer = Timer.builder("email.delivery.batch.duration").register(meterRegistry);
+    }
+
+    /**
+     * Queues the email for {@code notification}. Runs in the caller's transaction, so the outbox row commits or rolls
+     * back with the notification; failures propagate.
+     */
+    public void deliver(Users recipient, Notification notification) {
+        if (!enabled || recipient.getEmail() == null || recipient.getEmail().isBlank()) {
+            return;
+        }
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("username", recipient.getUsername());
+        values.put("notificationType", describe(notification));
+        values.put("message", notification.getMessage());
+        values.put("verificationRequestId", notification.getVerificationRequest().getId());
+        values.put("sentAt", notification.getSentAt());
+        emailOutboxStore.enqueue(notification.getId(), recipient.getEmail(),
+                subjectTemplate.render(values), bodyTemplate.render(values), LocalDateTime.now());
+        queuedCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${email.delivery.poll-interval-ms}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch(LocalDateTime.now());
+        } catch (Exception e) {
+            logger.error("Email dispatch failed")
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    /**
+     * Deletes sent rows older than {@code email.delivery.sent-retention-hours}, in batches so no statement holds
+     * many row locks at once.
+     */
+    @Scheduled(fixedDelayString = "${email.delivery.purge-interval-ms}")
+    public void purgeSent() {
+        try {
+            int purged = purgeSent(LocalDateTime.now().minusHours(sentRetentionHours));
+            if (purged > 0) {
+                logger.info("Purged sent notification emails")
+                        .attr("count", purged)
+                        .log();
+            }
+        } catch (Exception e) {
+            logger.error("Email outbox purge failed")
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    int purgeSent(LocalDateTime sentBefore) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = emailOutboxStore.deleteSentBefore(sentBefore, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        return purged;
+    }
+
+    void dispatch(LocalDateTime now) {
+        List<EmailMessage> due = emailOutboxStore.claimDue(now, now.plus(Duration.ofMillis(leaseMs)), claimBatchSize);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<EmailMessage>> byDomain = due.stream()
+                .collect(Collectors.groupingBy(EmailMessage::domain, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<String, List<EmailMessage>> domain : byDomain.entrySet()) {
+            List<EmailMessage> messages = domain.getValue();
+            int allowed = messages.size();
+            if (perDomainPerMinute > 0) {
+                DomainBudget budget = domainBudgets.computeIfAbsent(domain.getKey(), key -> new DomainBudget());
+                allowed = budget.take(messages.size(), perDomainPerMinute, now);
+                if (allowed < messages.size()) {
+                    List<EmailMessage> throttled = messages.subList(allowed, messages.size());
+                    emailOutboxStore.defer(ids(throttled), budget.windowEnd());
+                    throttledCounter.increment(throttled.size());
+                }
+            }
+            for (int from = 0; from < allowed; from += messagesPerConnection) {
+                submit(List.copyOf(messages.subList(from, Math.min(allowed, from + messagesPerConnection))));
+            }
+        }
+        domainBudgets.values().removeIf(budget -> budget.isOver(now));
+    }
+
+    private void submit(List<EmailMessage> batch) {
+        try {
+            executor.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            // every connection is busy: give the lease back so the next poll picks the batch up again
+            emailOutboxStore.defer(ids(batch), LocalDateTime.now());
+        }
+    }
+
+    void send(List<EmailMessage> batch) {
+        Timer.Sample sample = Timer.start();
+        Map<UUID, String> failures;
+        try {
+            failures = emailSender.send(batch);
+        } catch (Exception e) {
+            String error = String.valueOf(e.getMessage());
+            failures = batch.stream().collect(Collectors.toMap(EmailMessage::id, message -> error));
+        } finally {
+            sample.stop(batchTimer);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Map<UUID, String> rejected = failures;
+            List<UUID> sent = batch.stream().map(EmailMessage::id).filter(id -> !rejected.containsKey(id)).toList();
+            if (!sent.isEmpty()) {
+                emailOutboxStore.markSent(sent, now);
+                sentCounter.increment(sent.size());
+            }
+            batch.stream()
+                    .filter(message -> rejected.containsKey(message.id()))
+                    .forEach(message -> recordFailure(message, rejected.get(message.id()), now));
+        } catch (Exception e) {
+            logger.error("Failed to record email delivery results, messages will be resent after their lease")
+                    .attr("batchSize", batch.size())
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    private void recordFailure(EmailMessage message, String error, LocalDateTime now) {
+        int attempt = message.attempts() + 1;
+        if (attempt >= maxAttempts) {
+            emailOutboxStore.markFailed(message.id(), error);
+            failedCounter.increment();
+            logger.error("Giving up on notification email")
+                    .attr("emailId", message.id())
+                    .attr("domain", message.domain())
+                    .attr("attempts", attempt)
+                    .attr("error", error)
+                    .log();
+            return;
+        }
+        emailOutboxStore.scheduleRetry(message.id(), now.plus(backoff(attempt)), error);
+        retriedCounter.increment();
+    }
+
+    /**
+     * {@code email.delivery.backoff-base-ms} doubled per attempt made, capped at {@code email.delivery.backoff-max-ms}.
+     */
+    Duration backoff(int attempt) {
+        long delay = backoffBaseMs * (1L << Math.min(attempt - 1, 30));
+        return Duration.ofMillis(Math.min(delay, backoffMaxMs));
+    }
+
+    private static List<UUID> ids(List<EmailMessage> messages) {
+        return messages.stream().map(EmailMessage::id).toList();
+    }
+
+    private static String describe(Notification notification) {
+        return notification.getNotificationType() == null
+                ? ""
+                : notification.getNotificationType().name().replace('_', ' ').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fixed one-minute send window per recipient domain. Only touched from the dispatch thread.
+     */
+    private static final class DomainBudget {
+
+        private LocalDateTime windowStart;
+        private int used;
+
+        int take(int wanted, int limit, LocalDateTime now) {
+            if (windowStart == null || isOver(now)) {
+                windowStart = now;
+                used = 0;
+            }
+            int granted = Math.min(wanted, Math.max(0, limit - used));
+            used += granted;
+            return granted;
+        }
+
+        LocalDateTime windowEnd() {
+            return windowStart.plus(DOMAIN_WINDOW);
+        }
+
+        boolean isOver(LocalDateTime now) {
+            return !now.isBefore(windowEnd());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package in.zeta.mail;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * One claimed row of the email outbox. {@code attempts} counts the delivery attempts made before this one.
+ */
+public record EmailMessage(UUID id, String recipient, String subject, String body, int attempts) {
+
+    public String domain() {
+        int at = recipient.lastIndexOf('@');
+        return (at < 0 ? recipient : recipient.substring(at + 1)).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+package in.zeta.mail;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@code email_outbox} table: the persistent send queue behind {@link EmailDeliveryChannel}.
+ * <p>
+ * Claiming does not flip a status; it pushes {@code next_attempt_at} out to a lease deadline, so rows held by a
+ * sender that died become due again on their own. Concurrent claimers skip each other's locked rows.
+ */
+@Component
+public class EmailOutboxStore {
+
+    static final String INSERT_SQL =
+            "INSERT INTO email_outbox " +
+            "(id, notification_id, recipient, subject, body, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    static final String CLAIM_DUE_SQL =
+            "UPDATE email_outbox SET next_attempt_at = ? WHERE id IN (" +
+            "SELECT id FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+            "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, recipient, subject, body, attempts";
+
+    static final String MARK_SENT_SQL =
+            "UPDATE email_outbox SET status = 'SENT', attempts = attempts + 1, sent_at = ?, last_error = NULL " +
+            "WHERE id = ?";
+
+    static final String SCHEDULE_RETRY_SQL =
+            "UPDATE email_outbox SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    static final String MARK_FAILED_SQL =
+            "UPDATE email_outbox SET status = 'FAILED', attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    static final String DEFER_SQL = "UPDATE email_outbox SET next_attempt_at = ? WHERE id = ?";
+
+    static final String DELETE_SENT_SQL =
+            "DELETE FROM email_outbox WHERE id IN (" +
+            "SELECT id FROM email_outbox WHERE status = 'SENT' AND sent_at < ? LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmailOutboxStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void enqueue(UUID notificationId, String recipient, String subject, String body, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        jdbcTemplate.update(INSERT_SQL, UUID.randomUUID(), notificationId, recipient, subject, body, createdAt, createdAt);
+    }
+
+    /**
+     * Claims up to {@code limit} due messages, oldest first, and leases them until {@code leaseUntil}.
+     */
+    public List<EmailMessage> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        return jdbcTemplate.query(CLAIM_DUE_SQL,
+                (rs, rowNum) -> new EmailMessage(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("recipient"),
+                        rs.getString("subject"),
+                        rs.getString("body"),
+                        rs.getInt("attempts")),
+                Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), limit);
+    }
+
+    public void markSent(Collection<UUID> ids, LocalDateTime sentAt) {
+        Timestamp timestamp = Timestamp.valueOf(sentAt);
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, ids.stream().map(id -> new Object[]{timestamp, id}).toList());
+    }
+
+    public void scheduleRetry(UUID id, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update(SCHEDULE_RETRY_SQL, Timestamp.valueOf(nextAttemptAt), error, id);
+    }
+
+    public void markFailed(UUID id, String error) {
+        jdbcTemplate.update(MARK_FAILED_SQL, error, id);
+    }
+
+    /**
+     * Moves the lease of {@code ids} to {@code nextAttemptAt} without counting an attempt.
+     */
+    public void defer(Collection<UUID> ids, LocalDateTime nextAttemptAt) {
+        Timestamp timestamp = Timestamp.valueOf(nextAttemptAt);
+        jdbcTemplate.batchUpdate(DEFER_SQL, ids.stream().map(id -> new Object[]{timestamp, id}).toList());
+    }
+
+    /**
+     * Deletes up to {@code limit} rows sent before {@code sentBefore} and returns how many were deleted.
+     */
+    public int deleteSentBefore(LocalDateTime sentBefore, int limit) {
+        return jdbcTemplate.update(DELETE_SENT_SQL, Timestamp.valueOf(sentBefore), limit);
+    }
+}
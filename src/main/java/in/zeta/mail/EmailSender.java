@@ -0,0 +1,17 @@
+package in.zeta.mail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transport used by {@link EmailDeliveryChannel}. Implementations may reuse one connection for the whole batch.
+ */
+public interface EmailSender {
+
+    /**
+     * Sends {@code messages} and returns the failure reason of every message that was not accepted, keyed by
+     * message ID. An empty map means the whole batch was accepted.
+     */
+    Map<UUID, String> send(List<EmailMessage> messages);
+}
@@ -0,0 +1,55 @@
+package in.zeta.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text with {@code {{name}}} placeholders, split into literal parts once at compile time so rendering is a single
+ * append pass. Placeholders without a value render as empty text.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<String> literals;
+    private final List<String> placeholders;
+    private final int literalLength;
+
+    private EmailTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at index " + open + " in email template");
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(List.copyOf(literals), List.copyOf(placeholders));
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder text = new StringBuilder(literalLength + 16 * placeholders.size());
+        for (int i = 0; i < placeholders.size(); i++) {
+            text.append(literals.get(i));
+            Object value = values.get(placeholders.get(i));
+            if (value != null) {
+                text.append(value);
+            }
+        }
+        return text.append(literals.get(literals.size() - 1)).toString();
+    }
+}
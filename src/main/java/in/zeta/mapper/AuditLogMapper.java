@@ -7,8 +7,13 @@ import in.zeta.enums.AuditAction;
 import in.zeta.enums.EntityType;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.util.AuditDiff;
+import in.zeta.writer.AuditLogRecord;
 
 import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -37,6 +42,16 @@ public class AuditLogMapper {
                 .timestamp(LocalDateTime.now())
                 .build();
     }
+    public static AuditLogCreatedEvent createAuditLogEvent(
+            EntityType entityType,
+            UUID entityId,
+            AuditAction action,
+            Users user,
+            AuditDiff diff
+    ) {
+        return createAuditLogEvent(entityType, entityId, action, user, diff.encodeOld(), diff.encodeNew());
+    }
+
     public static AuditLogsResponse toResponse(AuditLogs log) {
         return AuditLogsResponse.builder()
                 .id(log.getId())
@@ -47,18 +62,70 @@ public class AuditLogMapper {
                 .username(log.getUser() != null ? log.getUser().getUsername() : null)
                 .oldValue(log.getOldValue())
                 .newValue(log.getNewValue())
+                .oldFields(AuditDiff.decode(log.getOldValue()))
+                .newFields(AuditDiff.decode(log.getNewValue()))
                 .timestamp(log.getTimestamp())
                 .build();
     };
+    public static AuditLogsResponse toResponse(AuditLogRecord record) {
+        return AuditLogsResponse.builder()
+                .id(record.id())
+                .entityType(record.entityType())
+                .entityId(record.entityId())
+                .action(record.action())
+                .userId(record.userId())
+                .username(record.username())
+                .oldValue(record.oldValue())
+                .newValue(record.newValue())
+                .oldFields(AuditDiff.decode(record.oldValue()))
+                .newFields(AuditDiff.decode(record.newValue()))
+                .timestamp(record.timestamp())
+                .build();
+    }
+
+    /**
+     * Maps a JDBC row with the {@code audit_logs} columns plus {@code username}.
+     */
+    public static AuditLogsResponse toResponse(ResultSet rs) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        return AuditLogsResponse.builder()
+                .id(rs.getObject("audit_log_id", UUID.class))
+                .entityType(EntityType.valueOf(rs.getString("entity_type")))
+                .entityId(rs.getObject("entity_id", UUID.class))
+                .action(AuditAction.valueOf(rs.getString("audit_action")))
+                .userId(rs.getObject("user_id", UUID.class))
+                .username(rs.getString("username"))
+                .oldValue(rs.getString("old_value"))
+                .newValue(rs.getString("new_value"))
+                .oldFields(AuditDiff.decode(rs.getString("old_value")))
+                .newFields(AuditDiff.decode(rs.getString("new_value")))
+                .timestamp(timestamp != null ? timestamp.toLocalDateTime() : null)
+                .build();
+    }
+
     public static AuditLogs toEntity(AuditLogCreatedEvent event, Users user) {
         AuditLogs auditLog = new AuditLogs();
         auditLog.setEntityType(event.getEntityType());
         auditLog.setEntityId(event.getEntityId());
         auditLog.setAction(event.getAction());
         auditLog.setUser(user);
-        auditLog.setOldValue(event.getOldValue());
-        auditLog.setNewValue(event.getNewValue());
+        auditLog.setOldValue(AuditDiff.normalize(event.getOldValue()));
+        auditLog.setNewValue(AuditDiff.normalize(event.getNewValue()));
         auditLog.setTimestamp(event.getTimestamp());
         return auditLog;
     }
+
+    public static AuditLogRecord toRecord(AuditLogCreatedEvent event) {
+        return new AuditLogRecord(
+                UUID.randomUUID(),
+                event.getEntityType(),
+                event.getEntityId(),
+                event.getAction(),
+                event.getUserId(),
+                event.getUsername(),
+                AuditDiff.normalize(event.getOldValue()),
+                AuditDiff.normalize(event.getNewValue()),
+                event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now()
+        );
+    }
 }
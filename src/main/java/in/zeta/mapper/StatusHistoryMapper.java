@@ -32,6 +32,7 @@ public class StatusHistoryMapper {
                 .toStatus(event.getToStatus())
                 .changedBy(user)
                 .reason(event.getReason())
+                .changedAt(event.getChangedAt() != null ? event.getChangedAt() : LocalDateTime.now())
                 .build();
     }
 
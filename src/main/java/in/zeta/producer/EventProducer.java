@@ -15,7 +15,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -25,6 +27,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class EventProducer {
 
     private static final SpectraLogger logger = OlympusSpectra.getLogger(EventProducer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     private final PublishMode publishMode;
     private final AtroposPublisherClient atroposPublisherClient;
     private final Gson gson;
@@ -60,10 +65,6 @@ public class EventProducer {
                 .attr("topic", topic)
                 .log();
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
         Map<String, Object> eventDataMap = objectMapper.convertValue(
                 eventData,
                 new TypeReference<Map<String, Object>>() {}
@@ -85,6 +86,33 @@ public class EventProducer {
 
     }
 
+    public <T> CompletionStage<Void> publishEvents(
+            String eventType,
+            String topic,
+            List<T> events,
+            Function<T, String> objectIdExtractor
+    ) {
+        logger.info("Publishing event batch:")
+                .attr("eventType", eventType)
+                .attr("topic", topic)
+                .attr("batchSize", events.size())
+                .log();
+
+        CompletableFuture<?>[] published = events.stream()
+                .map(event -> {
+                    Map<String, Object> eventDataMap = objectMapper.convertValue(
+                            event,
+                            new TypeReference<Map<String, Object>>() {}
+                    );
+                    PubSubEvent.Builder builder = newEventBuilder(
+                            objectIdExtractor.apply(event), topic, TopicScope.SYSTEM, eventDataMap);
+                    return atroposPublisherClient.publish(builder, publishMode).toCompletableFuture();
+                })
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(published);
+    }
+
 
     private PubSubEvent.Builder buildEvent(String objectId,
                                            String topic,
@@ -102,6 +130,13 @@ public class EventProducer {
                 .attr("eventData", gson.toJsonTree(eventData))
                 .log();
 
+        return newEventBuilder(objectId, topic, topicScope, eventData);
+    }
+
+    private PubSubEvent.Builder newEventBuilder(String objectId,
+                                                String topic,
+                                                TopicScope topicScope,
+                                                Map<String, Object> eventData) {
         return new PubSubEvent.Builder()
                 .tenant("0")
                 .topicScope(topicScope)
@@ -0,0 +1,66 @@
+package in.zeta.repository;
+
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Optional equality and time-range conditions for {@link AuditLogRepositoryCustom#findPage}; {@code null} means unfiltered.
+ */
+public record AuditLogFilter(EntityType entityType,
+                             UUID entityId,
+                             AuditAction action,
+                             UUID userId,
+                             LocalDateTime from,
+                             LocalDateTime to) {
+
+    public static AuditLogFilter forEntity(EntityType entityType, UUID entityId, LocalDateTime from, LocalDateTime to) {
+        return new AuditLogFilter(entityType, entityId, null, null, from, to);
+    }
+
+    public static AuditLogFilter forAction(AuditAction action, LocalDateTime from, LocalDateTime to) {
+        return new AuditLogFilter(null, null, action, null, from, to);
+    }
+
+    public static AuditLogFilter forUser(UUID userId, LocalDateTime from, LocalDateTime to) {
+        return new AuditLogFilter(null, null, null, userId, from, to);
+    }
+
+    public static AuditLogFilter all(LocalDateTime from, LocalDateTime to) {
+        return new AuditLogFilter(null, null, null, null, from, to);
+    }
+
+    /**
+     * Adds the set conditions as JDBC predicates on {@code audit_logs} aliased {@code a}, with their bind values.
+     */
+    public void appendSqlConditions(List<String> conditions, List<Object> args) {
+        if (entityType != null) {
+            conditions.add("a.entity_type = ?");
+            args.add(entityType.name());
+        }
+        if (entityId != null) {
+            conditions.add("a.entity_id = ?");
+            args.add(entityId);
+        }
+        if (action != null) {
+            conditions.add("a.audit_action = ?");
+            args.add(action.name());
+        }
+        if (userId != null) {
+            conditions.add("a.user_id = ?");
+            args.add(userId);
+        }
+        if (from != null) {
+            conditions.add("a.timestamp >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("a.timestamp < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+    }
+}
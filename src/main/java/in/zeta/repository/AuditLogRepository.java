@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLogs, UUID> {
+public interface AuditLogRepository extends JpaRepository<AuditLogs, UUID>, AuditLogRepositoryCustom {
 
     @Query("SELECT a FROM AuditLogs a WHERE a.entityType = :entityType AND a.entityId = :entityId ORDER BY a.timestamp DESC")
     List<AuditLogs> findByEntityTypeAndEntityIdOrderByTimestampDesc(
@@ -0,0 +1,15 @@
+package in.zeta.repository;
+
+import in.zeta.entity.AuditLogs;
+import in.zeta.util.KeysetCursor;
+
+import java.util.List;
+
+public interface AuditLogRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} audit logs matching {@code filter}, ordered by (timestamp, id) descending and
+     * starting strictly after {@code after} when it is not {@code null}. The user is fetched in the same query.
+     */
+    List<AuditLogs> findPage(AuditLogFilter filter, KeysetCursor after, int limit);
+}
@@ -0,0 +1,66 @@
+package in.zeta.repository;
+
+import in.zeta.entity.AuditLogs;
+import in.zeta.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AuditLogRepositoryCustomImpl implements AuditLogRepositoryCustom {
+
+    private static final String SELECT_PAGE_HQL = "SELECT a FROM AuditLogs a LEFT JOIN FETCH a.user";
+    private static final String ORDER_PAGE_HQL = " ORDER BY a.timestamp DESC, a.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuditLogs> findPage(AuditLogFilter filter, KeysetCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (filter.entityType() != null) {
+            conditions.add("a.entityType = :entityType");
+            params.put("entityType", filter.entityType());
+        }
+        if (filter.entityId() != null) {
+            conditions.add("a.entityId = :entityId");
+            params.put("entityId", filter.entityId());
+        }
+        if (filter.action() != null) {
+            conditions.add("a.action = :action");
+            params.put("action", filter.action());
+        }
+        if (filter.userId() != null) {
+            conditions.add("a.user.id = :userId");
+            params.put("userId", filter.userId());
+        }
+        if (filter.from() != null) {
+            conditions.add("a.timestamp >= :from");
+            params.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            conditions.add("a.timestamp < :to");
+            params.put("to", filter.to());
+        }
+        if (after != null) {
+            // Row-value form so the (timestamp, id) index is range-scanned from the cursor
+            conditions.add("(a.timestamp, a.id) < (:afterTimestamp, :afterId)");
+            params.put("afterTimestamp", after.timestamp());
+            params.put("afterId", after.id());
+        }
+
+        String hql = SELECT_PAGE_HQL
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + ORDER_PAGE_HQL;
+        TypedQuery<AuditLogs> query = entityManager.createQuery(hql, AuditLogs.class);
+        params.forEach(query::setParameter);
+
+        return query.setMaxResults(limit).getResultList();
+    }
+}
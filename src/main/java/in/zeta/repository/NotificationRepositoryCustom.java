@@ -0,0 +1,35 @@
+package in.zeta.repository;
+
+import in.zeta.dto.response.NotificationResponse;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Marks the user's unread notifications among {@code notificationIds} as read in one statement and returns the
+     * IDs that changed. IDs that are already read or belong to another user are left out.
+     */
+    List<UUID> markAsRead(UUID userId, Collection<UUID> notificationIds);
+
+    /**
+     * Marks every unread notification of the user created up to {@code cutoff} as read in one statement and returns
+     * the IDs that changed. Notifications arriving while the statement runs stay unread.
+     */
+    List<UUID> markAllAsRead(UUID userId, LocalDateTime cutoff);
+
+    /**
+     * The user's feed page after the {@code (createdAt, id)} keyset position, newest first. The position is compared
+     * as a row value so {@code idx_notifications_user_feed} bounds the scan.
+     */
+    List<NotificationResponse> findFeedAfter(UUID userId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    /**
+     * Same as {@link #findFeedAfter} for unread notifications only.
+     */
+    List<NotificationResponse> findUnreadFeedAfter(UUID userId, LocalDateTime createdAt, UUID id, Limit limit);
+}
@@ -0,0 +1,86 @@
+package in.zeta.repository;
+
+import in.zeta.dto.response.NotificationResponse;
+import in.zeta.entity.Notification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    private static final String MARK_AS_READ_SQL =
+            "UPDATE notifications SET is_read = TRUE, read_at = now() " +
+            "WHERE user_id = :userId AND id IN (:ids) AND is_read = FALSE RETURNING id";
+
+    private static final String MARK_ALL_AS_READ_SQL =
+            "UPDATE notifications SET is_read = TRUE, read_at = now() " +
+            "WHERE user_id = :userId AND is_read = FALSE AND created_at <= :cutoff RETURNING id";
+
+    private static final String FEED_AFTER_SQL =
+            "SELECT * FROM notifications WHERE user_id = :userId AND (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private static final String UNREAD_FEED_AFTER_SQL =
+            "SELECT * FROM notifications WHERE user_id = :userId AND is_read = FALSE " +
+            "AND (created_at, id) < (:createdAt, :id) ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<UUID> markAsRead(UUID userId, Collection<UUID> notificationIds) {
+        return entityManager.createNativeQuery(MARK_AS_READ_SQL, UUID.class)
+                .setParameter("userId", userId)
+                .setParameter("ids", notificationIds)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<UUID> markAllAsRead(UUID userId, LocalDateTime cutoff) {
+        return entityManager.createNativeQuery(MARK_ALL_AS_READ_SQL, UUID.class)
+                .setParameter("userId", userId)
+                .setParameter("cutoff", cutoff)
+                .getResultList();
+    }
+
+    @Override
+    public List<NotificationResponse> findFeedAfter(UUID userId, LocalDateTime createdAt, UUID id, Limit limit) {
+        return feedPage(FEED_AFTER_SQL, userId, createdAt, id, limit);
+    }
+
+    @Override
+    public List<NotificationResponse> findUnreadFeedAfter(UUID userId, LocalDateTime createdAt, UUID id, Limit limit) {
+        return feedPage(UNREAD_FEED_AFTER_SQL, userId, createdAt, id, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationResponse> feedPage(String sql, UUID userId, LocalDateTime createdAt, UUID id, Limit limit) {
+        List<Notification> notifications = entityManager.createNativeQuery(sql, Notification.class)
+                .setParameter("userId", userId)
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", id)
+                .setParameter("limit", limit.max())
+                .getResultList();
+        return notifications.stream()
+                .map(notification -> new NotificationResponse(
+                        notification.getId(),
+                        notification.getUser().getId(),
+                        notification.getVerificationRequest().getId(),
+                        notification.getNotificationType(),
+                        notification.getMessage(),
+                        notification.getCreatedAt(),
+                        Boolean.TRUE.equals(notification.getIsRead()),
+                        notification.getReadAt()))
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package in.zeta.repository;
 
 import in.zeta.entity.StatusHistory;
 import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.VerificationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,9 +12,13 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface StatusHistoryRepository extends JpaRepository<StatusHistory, UUID> {
+public interface StatusHistoryRepository extends JpaRepository<StatusHistory, UUID>, StatusHistoryRepositoryCustom {
     @Query("SELECT sh FROM StatusHistory sh WHERE sh.verificationRequest = :verificationRequest ORDER BY sh.changedAt DESC")
     List<StatusHistory> findByVerificationRequestOrderByChangedAtDesc(@Param("verificationRequest") VerificationRequest verificationRequest);
-    @Query("SELECT sh FROM StatusHistory sh WHERE sh.verificationRequest = :verificationRequest ORDER BY sh.changedAt DESC")
-    Optional<StatusHistory> findLatestStatusHistory(@Param("verificationRequest") VerificationRequest verificationRequest);
+
+    /**
+     * Latest status recorded by {@link #saveTransition}; empty when the request is unknown or has no history.
+     */
+    @Query("SELECT vr.latestStatus FROM VerificationRequest vr WHERE vr.id = :verificationRequestId")
+    Optional<VerificationStatus> findLatestStatus(@Param("verificationRequestId") UUID verificationRequestId);
 }
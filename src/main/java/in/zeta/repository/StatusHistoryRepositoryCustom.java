@@ -0,0 +1,23 @@
+package in.zeta.repository;
+
+import in.zeta.entity.StatusHistory;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StatusHistoryRepositoryCustom {
+
+    /**
+     * Inserts the history row and, in the same transaction, makes it the request's latest status. A transition
+     * older than the one already recorded (a late redelivery) is stored in the history but does not move the
+     * latest status back. Empty when a row with the same ID is already stored (a redelivered event).
+     */
+    Optional<StatusHistory> saveTransition(StatusHistory statusHistory);
+
+    /**
+     * Batch form of {@link #saveTransition}: the history rows and the latest-status updates each go out as one
+     * JDBC batch. A row whose ID is already stored (a redelivered event) is skipped and left out of the returned
+     * list, so callers only act on the transitions this call recorded.
+     */
+    List<StatusHistory> saveTransitions(List<StatusHistory> statusHistories);
+}
@@ -0,0 +1,97 @@
+package in.zeta.repository;
+
+import in.zeta.entity.StatusHistory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class StatusHistoryRepositoryCustomImpl implements StatusHistoryRepositoryCustom {
+
+    static final String INSERT_STATUS_HISTORY_SQL =
+            "INSERT INTO status_history " +
+            "(id, verification_request_id, from_status, to_status, changed_by, reason, changed_at) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM status_history WHERE id = ?)";
+
+    static final String UPDATE_LATEST_STATUS_SQL =
+            "UPDATE verification_requests " +
+            "SET latest_status = ?, latest_status_at = ?, latest_status_by = ? " +
+            "WHERE id = ? AND (latest_status_at IS NULL OR latest_status_at <= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Optional<StatusHistory> saveTransition(StatusHistory statusHistory) {
+        return saveTransitions(List.of(statusHistory)).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<StatusHistory> saveTransitions(List<StatusHistory> statusHistories) {
+        if (statusHistories.isEmpty()) {
+            return statusHistories;
+        }
+        for (StatusHistory statusHistory : statusHistories) {
+            if (statusHistory.getId() == null) {
+                statusHistory.setId(UUID.randomUUID());
+            }
+            if (statusHistory.getChangedAt() == null) {
+                statusHistory.setChangedAt(LocalDateTime.now());
+            }
+        }
+
+        // pending entity writes (e.g. the request itself) must reach the database before these plain JDBC rows
+        entityManager.flush();
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_STATUS_HISTORY_SQL,
+                statusHistories.stream().map(StatusHistoryRepositoryCustomImpl::toInsertArgs).toList());
+        List<StatusHistory> saved = new ArrayList<>(statusHistories.size());
+        for (int i = 0; i < statusHistories.size(); i++) {
+            if (inserted[i] > 0 || inserted[i] == Statement.SUCCESS_NO_INFO) {
+                saved.add(statusHistories.get(i));
+            }
+        }
+        if (!saved.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LATEST_STATUS_SQL,
+                    saved.stream().map(StatusHistoryRepositoryCustomImpl::toLatestStatusArgs).toList());
+        }
+        return saved;
+    }
+
+    private static Object[] toInsertArgs(StatusHistory statusHistory) {
+        return new Object[]{
+                statusHistory.getId(),
+                statusHistory.getVerificationRequest().getId(),
+                statusHistory.getFromStatus() == null ? null : statusHistory.getFromStatus().name(),
+                statusHistory.getToStatus().name(),
+                statusHistory.getChangedBy().getId(),
+                statusHistory.getReason(),
+                Timestamp.valueOf(statusHistory.getChangedAt()),
+                statusHistory.getId()
+        };
+    }
+
+    private static Object[] toLatestStatusArgs(StatusHistory statusHistory) {
+        Timestamp changedAt = Timestamp.valueOf(statusHistory.getChangedAt());
+        return new Object[]{
+                statusHistory.getToStatus().name(),
+                changedAt,
+                statusHistory.getChangedBy().getId(),
+                statusHistory.getVerificationRequest().getId(),
+                changedAt
+        };
+    }
+}
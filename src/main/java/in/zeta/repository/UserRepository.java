@@ -1,10 +1,14 @@
 package in.zeta.repository;
 
 
+import in.zeta.cache.RoleMember;
 import in.zeta.entity.Users;
 import in.zeta.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
@@ -17,4 +21,7 @@ public interface UserRepository extends JpaRepository<Users, UUID> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<Users> findById(UUID userId);
+
+    @Query("SELECT new in.zeta.cache.RoleMember(u.id, u.username, u.email, u.role) FROM Users u WHERE u.role IN :roles")
+    List<RoleMember> findRoleMembersByRoleIn(@Param("roles") Collection<Role> roles);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +17,6 @@ public interface VerificationRequestLimitRepository extends JpaRepository<Verifi
             "WHERE vrl.customer.id = :customerId AND vrl.year = :year")
     Integer getTotalRequestsForCustomerInYear(@Param("customerId") UUID customerId, @Param("year") Integer year);
     List<VerificationRequestLimit> findByCustomerIdAndYear(UUID customerId, Integer year);
+    List<VerificationRequestLimit> findByVerificationRequestorIdAndYearAndCustomerIdIn(
+            UUID requestorId, Integer year, Collection<UUID> customerIds);
 }
\ No newline at end of file
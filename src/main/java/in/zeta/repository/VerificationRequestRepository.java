@@ -4,11 +4,17 @@ package in.zeta.repository;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
 import in.zeta.enums.VerificationStatus;
+import in.zeta.service.OfficerWorkload;
+import in.zeta.statemachine.StatusSnapshot;
 import org.apache.catalina.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,4 +42,43 @@ public interface VerificationRequestRepository extends JpaRepository<Verificatio
     List<VerificationRequest> findByAssignedOfficerId(UUID officerId);
 
     List<VerificationRequest> findByAssignedOfficerAndStatus(Users assignedOfficer, VerificationStatus status);
+
+    /**
+     * Counts each officer's requests in {@code status} with their active documents in one grouped query. Officers
+     * without such requests are not returned.
+     */
+    @Query("SELECT new in.zeta.service.OfficerWorkload(vr.assignedOfficer.id, COUNT(DISTINCT vr.id), COUNT(d.id), SUM(d.fileSize)) " +
+            "FROM VerificationRequest vr LEFT JOIN Document d ON d.verificationRequest = vr AND d.isActive = true " +
+            "WHERE vr.status = :status AND vr.assignedOfficer.id IN :officerIds GROUP BY vr.assignedOfficer.id")
+    List<OfficerWorkload> findOfficerWorkloads(@Param("officerIds") Collection<UUID> officerIds,
+                                               @Param("status") VerificationStatus status);
+
+    /**
+     * Loads the requests with customer, requestor and assigned officer in one query, so routing notifications for
+     * a batch of status updates does not lazily load each participant.
+     */
+    @Query("SELECT DISTINCT vr FROM VerificationRequest vr JOIN FETCH vr.customer JOIN FETCH vr.requestor " +
+            "LEFT JOIN FETCH vr.assignedOfficer WHERE vr.id IN :ids")
+    List<VerificationRequest> findAllWithParticipantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new in.zeta.statemachine.StatusSnapshot(vr.status, vr.version) FROM VerificationRequest vr WHERE vr.id = :id")
+    Optional<StatusSnapshot> findStatusSnapshot(@Param("id") UUID id);
+
+    /**
+     * Moves the request from {@code fromStatus} to {@code toStatus} only if neither status nor version changed since
+     * they were read. Returns the number of rows updated: 0 means a concurrent update won.
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE VerificationRequest vr SET vr.status = :toStatus, vr.version = vr.version + 1, vr.updatedAt = :now, " +
+            "vr.approvedAt = CASE WHEN :approve = TRUE THEN :now ELSE vr.approvedAt END, " +
+            "vr.rejectedAt = CASE WHEN :reject = TRUE THEN :now ELSE vr.rejectedAt END " +
+            "WHERE vr.id = :id AND vr.status = :fromStatus AND vr.version = :version")
+    int transitionStatus(@Param("id") UUID id,
+                         @Param("fromStatus") VerificationStatus fromStatus,
+                         @Param("version") Long version,
+                         @Param("toStatus") VerificationStatus toStatus,
+                         @Param("now") LocalDateTime now,
+                         @Param("approve") boolean approve,
+                         @Param("reject") boolean reject);
 }
@@ -0,0 +1,176 @@
+package in.zeta.scheduler;
+
+import in.zeta.archive.AuditArchiveStore;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.AuditLogException;
+import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.writer.AuditLogRecord;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves monthly {@code audit_logs} partitions older than {@code audit.archive.after-months} into the
+ * {@link AuditArchiveStore}.
+ * <p>
+ * A partition is streamed into its bucket file first, and the file is then read back in full and checked against
+ * the number of rows written. Only then are the bucket, its index rows and the partition drop committed in one
+ * transaction, which first locks the partition and re-counts it so rows that arrived after the export are never
+ * dropped. A failed run leaves the partition in place and is simply retried.
+ * Archiving should happen well before {@code audit.partition.retention-months}, which drops partitions outright.
+ * Off by default; see {@link AuditArchiveStore} for the storage it needs.
+ */
+@Component
+public class AuditLogArchiver {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditLogArchiver.class);
+
+    private static final String SELECT_PARTITION_SQL =
+            "SELECT a.audit_log_id, a.entity_type, a.entity_id, a.audit_action, a.user_id, u.username, " +
+            "a.old_value, a.new_value, a.timestamp " +
+            "FROM %s a LEFT JOIN users u ON u.id = a.user_id " +
+            "ORDER BY a.entity_type, a.entity_id, a.timestamp DESC, a.audit_log_id DESC";
+
+    private static final String INSERT_BUCKET_SQL =
+            "INSERT INTO audit_archive_buckets (bucket_month, location, row_count) VALUES (?, ?, ?)";
+
+    private static final String INSERT_BLOCK_SQL =
+            "INSERT INTO audit_archive_blocks (bucket_month, entity_type, entity_id, byte_offset) VALUES (?, ?, ?, ?)";
+
+    private static final String INDEX_ENTITIES_SQL =
+            "INSERT INTO audit_archive_entities (entity_type, entity_id, bucket_month) " +
+            "SELECT DISTINCT entity_type, entity_id, ? FROM %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogPartitionManager partitionManager;
+    private final AuditArchiveStore archiveStore;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${audit.archive.after-months}")
+    private int afterMonths;
+
+    @Value("${audit.archive.fetch-size}")
+    private int fetchSize;
+
+    public AuditLogArchiver(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            AuditLogPartitionManager partitionManager,
+                            AuditArchiveStore archiveStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionManager = partitionManager;
+        this.archiveStore = archiveStore;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Scheduled(cron = "${audit.archive.cron}")
+    public void archive() {
+        if (!archiveStore.isEnabled()) {
+            return;
+        }
+        if (!partitionManager.isPartitioned()) {
+            logger.warn("audit_logs is not partitioned, skipping audit archival").log();
+            return;
+        }
+
+        try {
+            archive(YearMonth.now());
+        } catch (Exception e) {
+            logger.error("Audit log archival failed")
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    void archive(YearMonth currentMonth) throws IOException {
+        YearMonth oldestHot = currentMonth.minusMonths(afterMonths);
+        for (String partition : partitionManager.listPartitions()) {
+            YearMonth month = AuditLogPartitionManager.monthOf(partition);
+            if (month != null && month.isBefore(oldestHot)) {
+                archivePartition(partition, month);
+            }
+        }
+    }
+
+    private void archivePartition(String partition, YearMonth month) throws IOException {
+        String location;
+        long rowCount;
+        List<AuditArchiveStore.Block> blocks;
+        try (AuditArchiveStore.BucketWriter writer = archiveStore.openBucket(month)) {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(statementFor(partition), rs -> {
+                        writer.write(toRecord(rs));
+                    }));
+            location = writer.commit();
+            rowCount = writer.rowCount();
+            blocks = writer.blocks();
+        }
+
+        archiveStore.verifyBucket(location, rowCount);
+
+        Date bucketMonth = Date.valueOf(month.atDay(1));
+        transaction.executeWithoutResult(status -> {
+            // Late events can still insert into an old month; hold them off and make sure none arrived since the export
+            jdbcTemplate.execute(String.format("LOCK TABLE %s IN SHARE MODE", partition));
+            Long liveRows = jdbcTemplate.queryForObject(String.format("SELECT COUNT(*) FROM %s", partition), Long.class);
+            if (liveRows == null || liveRows != rowCount) {
+                throw new AuditLogException(String.format(
+                        "Partition %s has %s rows but %d were archived, keeping it", partition, liveRows, rowCount));
+            }
+
+            jdbcTemplate.update(INSERT_BUCKET_SQL, bucketMonth, location, rowCount);
+            jdbcTemplate.batchUpdate(INSERT_BLOCK_SQL, blocks.stream()
+                    .map(block -> new Object[]{bucketMonth, block.entityType().name(), block.entityId(), block.offset()})
+                    .toList());
+            jdbcTemplate.update(String.format(INDEX_ENTITIES_SQL, partition), bucketMonth);
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s",
+                    AuditLogPartitionManager.PARENT_TABLE, partition));
+            jdbcTemplate.execute(String.format("DROP TABLE %s", partition));
+        });
+
+        logger.info("Archived audit log partition")
+                .attr("partition", partition)
+                .attr("location", location)
+                .attr("rowCount", rowCount)
+                .log();
+    }
+
+    private PreparedStatementCreator statementFor(String partition) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    String.format(SELECT_PARTITION_SQL, partition), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        };
+    }
+
+    private static AuditLogRecord toRecord(ResultSet rs) throws SQLException {
+        return new AuditLogRecord(
+                rs.getObject("audit_log_id", UUID.class),
+                EntityType.valueOf(rs.getString("entity_type")),
+                rs.getObject("entity_id", UUID.class),
+                AuditAction.valueOf(rs.getString("audit_action")),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("username"),
+                rs.getString("old_value"),
+                rs.getString("new_value"),
+                rs.getTimestamp("timestamp").toLocalDateTime());
+    }
+}
@@ -0,0 +1,161 @@
+package in.zeta.scheduler;
+
+import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.writer.AuditLogBatchWriter;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly range partitions of {@code audit_logs}.
+ * <p>
+ * Each run makes sure partitions exist for the current month and {@code audit.partition.premake-months} ahead,
+ * since there is no default partition to catch rows outside them; {@link AuditLogBatchWriter} stores those in
+ * {@code audit_logs_overflow}. When {@code audit.partition.retention-months} is set, partitions older than that are
+ * detached with {@code DETACH PARTITION ... CONCURRENTLY}, so readers and writers of {@code audit_logs} are not
+ * blocked. Retention is off by default, and detached partitions are only
+ * dropped when {@code audit.partition.drop-detached} is on; otherwise they stay around as standalone tables.
+ * <p>
+ * A concurrent detach runs outside any transaction and can be interrupted half way; such partitions are
+ * finalized on the next run.
+ */
+@Component
+public class AuditLogPartitionManager {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditLogPartitionManager.class);
+
+    static final String PARENT_TABLE = "audit_logs";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{4})_(\\d{2})");
+
+    private static final String IS_PARTITIONED_SQL =
+            "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?";
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ?";
+
+    private static final String LIST_PENDING_DETACH_SQL = LIST_PARTITIONS_SQL + " AND i.inhdetachpending";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${audit.partition.enabled}")
+    private boolean enabled;
+
+    @Value("${audit.partition.premake-months}")
+    private int premakeMonths;
+
+    @Value("${audit.partition.retention-months}")
+    private int retentionMonths;
+
+    @Value("${audit.partition.drop-detached}")
+    private boolean dropDetached;
+
+    public AuditLogPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit.partition.cron}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        if (!isPartitioned()) {
+            logger.warn("audit_logs is not partitioned, skipping partition maintenance").log();
+            return;
+        }
+
+        try {
+            maintainPartitions(YearMonth.now());
+        } catch (Exception e) {
+            logger.error("Audit log partition maintenance failed")
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    void maintainPartitions(YearMonth currentMonth) {
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            createPartition(currentMonth.plusMonths(offset));
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        for (String partition : jdbcTemplate.queryForList(LIST_PENDING_DETACH_SQL, String.class, PARENT_TABLE)) {
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s FINALIZE", PARENT_TABLE, partition));
+            finishDetach(partition);
+        }
+
+        YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths);
+        for (String partition : listPartitions()) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(oldestRetained)) {
+                detachPartition(partition);
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Integer.class, PARENT_TABLE);
+        return count != null && count > 0;
+    }
+
+    List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, PARENT_TABLE);
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                name, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+
+        logger.info("Ensured audit log partition")
+                .attr("partition", name)
+                .log();
+    }
+
+    private void detachPartition(String name) {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY", PARENT_TABLE, name));
+        finishDetach(name);
+    }
+
+    private void finishDetach(String name) {
+        if (dropDetached) {
+            jdbcTemplate.execute(String.format("DROP TABLE %s", name));
+        }
+
+        logger.info("Detached expired audit log partition")
+                .attr("partition", name)
+                .attr("dropped", dropDetached)
+                .log();
+    }
+}
@@ -0,0 +1,190 @@
+package in.zeta.scheduler;
+
+import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.KeysetCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Deletes read notifications whose {@code read_at} is older than {@code notification.retention.read-ttl-days}.
+ * <p>
+ * Rows go in keyset batches of {@code notification.retention.batch-size} along {@code (read_at, id)}, each batch its
+ * own short statement, with {@code notification.retention.pause-ms} between batches so foreground queries keep the
+ * I/O. A run stops after {@code notification.retention.max-batches} and picks up where it left off next time.
+ * Only one replica purges at a time: the run holds a session-level Postgres advisory lock on its connection and
+ * skips when another replica has it. Unread notifications are never touched, and every read is already in the
+ * audit log as {@code NOTIFICATION_READ}.
+ */
+@Component
+public class NotificationRetentionJob {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(NotificationRetentionJob.class);
+
+    static final long LOCK_KEY = 0x6b79632d6e6f7469L;
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+    private static final String PURGE_FIRST_BATCH_SQL =
+            "WITH batch AS (SELECT id FROM notifications WHERE is_read = TRUE AND read_at < ? " +
+            "ORDER BY read_at, id LIMIT ?) " +
+            "DELETE FROM notifications n USING batch b WHERE n.id = b.id RETURNING n.read_at, n.id";
+
+    private static final String PURGE_NEXT_BATCH_SQL =
+            "WITH batch AS (SELECT id FROM notifications WHERE is_read = TRUE AND read_at < ? " +
+            "AND (read_at, id) > (?, ?) ORDER BY read_at, id LIMIT ?) " +
+            "DELETE FROM notifications n USING batch b WHERE n.id = b.id RETURNING n.read_at, n.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
+
+    @Value("${notification.retention.enabled}")
+    private boolean enabled;
+
+    @Value("${notification.retention.read-ttl-days}")
+    private int readTtlDays;
+
+    @Value("${notification.retention.batch-size}")
+    private int batchSize;
+
+    @Value("${notification.retention.max-batches}")
+    private int maxBatches;
+
+    @Value("${notification.retention.pause-ms}")
+    private long pauseMs;
+
+    public NotificationRetentionJob(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgedCounter = Counter.builder("notification.retention.purged").register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.retention.batch.duration").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(readTtlDays);
+        try {
+            Long purged = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> purgeLocked(connection, cutoff));
+            logger.info("Notification retention run finished")
+                    .attr("cutoff", cutoff)
+                    .attr("purged", purged)
+                    .log();
+        } catch (Exception e) {
+            logger.error("Notification retention run failed")
+                    .attr("cutoff", cutoff)
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    /**
+     * Purges under the advisory lock and returns the number of rows deleted, or {@code -1} when another replica
+     * holds the lock.
+     */
+    long purgeLocked(Connection connection, LocalDateTime cutoff) throws SQLException {
+        if (!advisoryLock(connection, TRY_LOCK_SQL)) {
+            logger.info("Notification retention already running on another replica, skipping").log();
+            return -1;
+        }
+        try {
+            return purgeBatches(connection, cutoff);
+        } finally {
+            advisoryLock(connection, UNLOCK_SQL);
+        }
+    }
+
+    private long purgeBatches(Connection connection, LocalDateTime cutoff) throws SQLException {
+        long purged = 0;
+        KeysetCursor after = null;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Timer.Sample sample = Timer.start();
+            BatchResult result = deleteBatch(connection, cutoff, after);
+            sample.stop(batchTimer);
+
+            purged += result.deleted();
+            purgedCounter.increment(result.deleted());
+            if (result.deleted() < batchSize) {
+                break;
+            }
+            after = result.last();
+
+            if (!pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private BatchResult deleteBatch(Connection connection, LocalDateTime cutoff, KeysetCursor after) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                after == null ? PURGE_FIRST_BATCH_SQL : PURGE_NEXT_BATCH_SQL)) {
+            int index = 1;
+            statement.setTimestamp(index++, Timestamp.valueOf(cutoff));
+            if (after != null) {
+                statement.setTimestamp(index++, Timestamp.valueOf(after.timestamp()));
+                statement.setObject(index++, after.id());
+            }
+            statement.setInt(index, batchSize);
+
+            int deleted = 0;
+            KeysetCursor last = after;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    deleted++;
+                    // RETURNING has no order; keep the greatest (read_at, id) as the next start
+                    LocalDateTime readAt = rs.getTimestamp("read_at").toLocalDateTime();
+                    UUID id = rs.getObject("id", UUID.class);
+                    if (last == null || !last.isFollowedBy(readAt, id)) {
+                        last = new KeysetCursor(readAt, id);
+                    }
+                }
+            }
+            return new BatchResult(deleted, last);
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record BatchResult(int deleted, KeysetCursor last) {
+    }
+}
@@ -0,0 +1,179 @@
+package in.zeta.scheduler;
+
+import in.zeta.constants.Messages;
+import in.zeta.deadline.ExpiredDeadline;
+import in.zeta.deadline.RequestDeadlineQueue;
+import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.NotificationType;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.service.NotificationService;
+import in.zeta.service.OfficerAssignmentService;
+import in.zeta.service.VerificationRequestService;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static in.zeta.mapper.NotificationMapper.createNotificationEvent;
+
+/**
+ * Escalates requests that waited too long in {@code IN_REVIEW} or {@code SENT_BACK}.
+ * <p>
+ * Each poll claims expired deadlines from the {@link RequestDeadlineQueue} in batches of {@code stale.batch-size}
+ * (at most {@code stale.max-batches} per poll), loads the requests with their participants in one query and
+ * publishes the escalation notifications in bulk. An overdue review notifies the assigned officer; once it has been
+ * escalated {@code stale.reassign-after-escalations} times it is handed to the least loaded other officer and its
+ * deadline starts over. An overdue send-back reminds the requestor and the customer. A claimed deadline comes due
+ * again {@code stale.re-escalate-hours} later unless the request moves on.
+ */
+@Component
+public class StaleRequestEscalator {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(StaleRequestEscalator.class);
+
+    private final RequestDeadlineQueue requestDeadlineQueue;
+    private final VerificationRequestService verificationRequestService;
+    private final NotificationService notificationService;
+    private final OfficerAssignmentService officerAssignmentService;
+    private final Counter escalatedCounter;
+    private final Counter reassignedCounter;
+
+    @Value("${stale.enabled}")
+    private boolean enabled;
+
+    @Value("${stale.re-escalate-hours}")
+    private long reEscalateHours;
+
+    @Value("${stale.reassign-after-escalations}")
+    private int reassignAfterEscalations;
+
+    @Value("${stale.batch-size}")
+    private int batchSize;
+
+    @Value("${stale.max-batches}")
+    private int maxBatches;
+
+    public StaleRequestEscalator(RequestDeadlineQueue requestDeadlineQueue,
+                                 VerificationRequestService verificationRequestService,
+                                 NotificationService notificationService,
+                                 OfficerAssignmentService officerAssignmentService,
+                                 MeterRegistry meterRegistry) {
+        this.requestDeadlineQueue = requestDeadlineQueue;
+        this.verificationRequestService = verificationRequestService;
+        this.notificationService = notificationService;
+        this.officerAssignmentService = officerAssignmentService;
+        this.escalatedCounter = Counter.builder("stale.requests.escalated").register(meterRegistry);
+        this.reassignedCounter = Counter.builder("stale.requests.reassigned").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${stale.poll-interval-ms}")
+    public void escalate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int handled = escalate(LocalDateTime.now());
+            if (handled > 0) {
+                logger.info("Escalated stale verification requests")
+                        .attr("handled", handled)
+                        .log();
+            }
+        } catch (Exception e) {
+            logger.error("Stale request escalation failed")
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    /**
+     * Handles deadlines expired at {@code now} and returns how many were claimed.
+     */
+    int escalate(LocalDateTime now) {
+        int handled = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<ExpiredDeadline> expired = requestDeadlineQueue.claimExpired(
+                    now, now.plusHours(reEscalateHours), batchSize);
+            if (!expired.isEmpty()) {
+                handleBatch(expired, now);
+                handled += expired.size();
+            }
+            if (expired.size() < batchSize) {
+                break;
+            }
+        }
+        return handled;
+    }
+
+    private void handleBatch(List<ExpiredDeadline> expired, LocalDateTime now) {
+        Map<UUID, VerificationRequest> verificationRequests = verificationRequestService
+                .getAllWithParticipants(expired.stream().map(ExpiredDeadline::verificationRequestId).toList())
+                .stream()
+                .collect(Collectors.toMap(VerificationRequest::getId, Function.identity()));
+
+        List<NotificationCreatedEvent> notifications = new ArrayList<>();
+        List<UUID> reassigned = new ArrayList<>();
+        for (ExpiredDeadline deadline : expired) {
+            VerificationRequest verificationRequest = verificationRequests.get(deadline.verificationRequestId());
+            if (verificationRequest == null) {
+                continue;
+            }
+            if (deadline.status() == VerificationStatus.SENT_BACK) {
+                notifications.add(createNotificationEvent(verificationRequest.getRequestor().getId(),
+                        verificationRequest.getId(), NotificationType.DETAILS_OVERDUE, Messages.Notification.DETAILS_OVERDUE));
+                notifications.add(createNotificationEvent(verificationRequest.getCustomer().getId(),
+                        verificationRequest.getId(), NotificationType.DETAILS_OVERDUE, Messages.Notification.DETAILS_OVERDUE));
+            } else if (shouldReassign(deadline, verificationRequest) && reassign(verificationRequest)) {
+                reassigned.add(verificationRequest.getId());
+            } else if (verificationRequest.getAssignedOfficer() != null) {
+                notifications.add(createNotificationEvent(verificationRequest.getAssignedOfficer().getId(),
+                        verificationRequest.getId(), NotificationType.REVIEW_OVERDUE, Messages.Notification.REVIEW_OVERDUE));
+            }
+        }
+
+        if (!reassigned.isEmpty()) {
+            requestDeadlineQueue.restart(reassigned, VerificationStatus.IN_REVIEW, now);
+            reassignedCounter.increment(reassigned.size());
+        }
+        if (!notifications.isEmpty()) {
+            notificationService.publishNotificationEvents(notifications);
+        }
+        escalatedCounter.increment(expired.size() - reassigned.size());
+    }
+
+    private boolean shouldReassign(ExpiredDeadline deadline, VerificationRequest verificationRequest) {
+        if (verificationRequest.getAssignedOfficer() == null) {
+            return true;
+        }
+        return reassignAfterEscalations > 0 && deadline.escalations() > reassignAfterEscalations;
+    }
+
+    private boolean reassign(VerificationRequest verificationRequest) {
+        try {
+            Optional<UUID> officerId = officerAssignmentService.reassignOfficer(verificationRequest.getId());
+            officerId.ifPresent(id -> logger.info("Reassigned overdue verification request")
+                    .attr("verificationRequestId", verificationRequest.getId())
+                    .attr("officerId", id)
+                    .log());
+            return officerId.isPresent();
+        } catch (Exception e) {
+            logger.error("Failed to reassign overdue verification request")
+                    .attr("verificationRequestId", verificationRequest.getId())
+                    .attr("error", e.getMessage())
+                    .log();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package in.zeta.security;
+
+import in.zeta.exception.LimitExceededException;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import olympus.trace.OlympusSpectra;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder} on a dedicated bounded executor instead of the request thread.
+ * <p>
+ * When the executor queue is full the call is rejected straight away with {@link LimitExceededException},
+ * so a login spike degrades into 429s on the auth endpoints rather than starving every other endpoint.
+ * Per-call latency, including queue wait, is exported as {@code password.hashing.duration}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(BoundedPasswordEncoder.class);
+
+    static final String DURATION_METRIC = "password.hashing.duration";
+    static final String REJECTED_METRIC = "password.hashing.rejected";
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  ExecutorService executor,
+                                  MeterRegistry meterRegistry,
+                                  long timeoutMs) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.encodeTimer = Timer.builder(DURATION_METRIC).tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(DURATION_METRIC).tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        Timer.Sample sample = Timer.start();
+        try {
+            Future<T> future = submit(task);
+            return await(future);
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            logger.error("Password hashing executor saturated, rejecting request").log();
+            throw new LimitExceededException("Too many concurrent authentication requests, please retry", e);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            logger.error("Password hashing timed out")
+                    .attr("timeoutMs", timeoutMs)
+                    .log();
+            throw new LimitExceededException("Authentication request timed out, please retry", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
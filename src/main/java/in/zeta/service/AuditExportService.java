@@ -0,0 +1,10 @@
+package in.zeta.service;
+
+import in.zeta.enums.AuditExportFormat;
+import in.zeta.repository.AuditLogFilter;
+
+import java.io.OutputStream;
+
+public interface AuditExportService {
+    long exportAuditLogs(AuditLogFilter filter, AuditExportFormat format, OutputStream outputStream);
+}
@@ -0,0 +1,9 @@
+package in.zeta.service;
+
+import in.zeta.dto.requests.AuditLogPageRequest;
+import in.zeta.dto.response.AuditSearchResponse;
+import in.zeta.repository.AuditLogFilter;
+
+public interface AuditSearchService {
+    AuditSearchResponse search(String query, AuditLogFilter filter, AuditLogPageRequest pageRequest);
+}
@@ -3,20 +3,23 @@ package in.zeta.service;
 import in.zeta.entity.Users;
 import in.zeta.enums.EntityType;
 import in.zeta.enums.AuditAction;
+import in.zeta.dto.requests.AuditLogPageRequest;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
+import in.zeta.dto.response.AuditLogPageResponse;
 import in.zeta.dto.response.AuditLogsResponse;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface AuditService {
-    List<AuditLogsResponse> getAuditTrail(EntityType entityType, UUID entityId);
+    AuditLogPageResponse getAuditTrail(EntityType entityType, UUID entityId, AuditLogPageRequest pageRequest);
     void createAuditLog(EntityType entityType, UUID entityId, AuditAction action,
                         Users user, String oldValue, String newValue);
-    List<AuditLogsResponse> getAuditLogsByAction(AuditAction action);
-    List<AuditLogsResponse> getAuditLogsByUser(UUID userId);
-    List<AuditLogsResponse> getAllAuditLogs();
+    AuditLogPageResponse getAuditLogsByAction(AuditAction action, AuditLogPageRequest pageRequest);
+    AuditLogPageResponse getAuditLogsByUser(UUID userId, AuditLogPageRequest pageRequest);
+    AuditLogPageResponse getAllAuditLogs(AuditLogPageRequest pageRequest);
     void publishAuditLogEvent(AuditLogCreatedEvent auditLogCreatedEvent);
+    void publishAuditLogEvents(List<AuditLogCreatedEvent> auditLogCreatedEvents);
     AuditLogsResponse getAuditLogById(UUID auditLogId);
     void processAuditLogEvent(String eventPayload);
 }
\ No newline at end of file
@@ -1,18 +1,25 @@
 package in.zeta.service;
 
 import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.dto.requests.NotificationPageRequest;
+import in.zeta.dto.response.NotificationPageResponse;
 import in.zeta.dto.response.NotificationResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface NotificationService {
-    List<NotificationResponse> getUserNotifications(UUID userId);
-    List<NotificationResponse> getUnreadNotifications(UUID userId);
+    NotificationPageResponse getUserNotifications(UUID userId, NotificationPageRequest pageRequest);
+    NotificationPageResponse getUnreadNotifications(UUID userId, NotificationPageRequest pageRequest);
     Long getUnreadCount(UUID userId);
+    SseEmitter streamNotifications(UUID userId);
     void markAsRead(UUID notificationId, UUID userId);
+    List<UUID> markAsRead(UUID userId, List<UUID> notificationIds);
+    List<UUID> markAllAsRead(UUID userId);
     NotificationResponse getNotificationById(UUID notificationId);
     void publishNotificationEvent(NotificationCreatedEvent notificationCreatedEvent);
+    void publishNotificationEvents(List<NotificationCreatedEvent> events);
     void createNotificationFromEvent(NotificationCreatedEvent createNotificationRequests);
     void createNotificationFromEventPayload(String eventPayload);
 }
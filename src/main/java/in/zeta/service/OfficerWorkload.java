@@ -0,0 +1,25 @@
+package in.zeta.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Requests an officer has in review and their active documents, aggregated in one query for all candidate officers.
+ */
+public record OfficerWorkload(UUID officerId, Long requestCount, Long documentCount, BigDecimal documentSize) {
+
+    private static final BigDecimal BYTES_PER_MB = BigDecimal.valueOf(1024L * 1024);
+
+    /**
+     * Ten points per request, two per document and one per MB of documents.
+     */
+    public BigDecimal score() {
+        BigDecimal sizeInMB = documentSize == null
+                ? BigDecimal.ZERO
+                : documentSize.divide(BYTES_PER_MB, 0, RoundingMode.DOWN);
+        return BigDecimal.valueOf(requestCount).multiply(BigDecimal.valueOf(10))
+                .add(BigDecimal.valueOf(documentCount).multiply(BigDecimal.valueOf(2)))
+                .add(sizeInMB);
+    }
+}
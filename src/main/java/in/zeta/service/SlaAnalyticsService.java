@@ -0,0 +1,11 @@
+package in.zeta.service;
+
+import in.zeta.dto.response.SlaReportResponse;
+import in.zeta.enums.SlaDimension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface SlaAnalyticsService {
+    SlaReportResponse getSlaReport(SlaDimension dimension, UUID dimensionId, LocalDate from, LocalDate to);
+}
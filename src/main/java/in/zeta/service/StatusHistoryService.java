@@ -11,6 +11,8 @@ public interface StatusHistoryService {
     VerificationStatus getLatestStatus(UUID verificationRequestId);
     List<StatusHistoryResponse> getStatusHistoryByVerificationId(UUID verificationId);
     void updateStatusHistory(StatusUpdateEvent statusUpdateEvent);
+    List<StatusUpdateEvent> updateStatusHistories(List<StatusUpdateEvent> statusUpdateEvents);
     void publishStatusUpdateEvent(StatusUpdateEvent event);
+    void publishStatusUpdateEvents(List<StatusUpdateEvent> events);
     void updateStatusHistoryFromEvent(String event);
 }
@@ -6,6 +6,7 @@ import in.zeta.dto.requests.UserRegistrationRequest;
 import in.zeta.dto.response.UserResponse;
 import jakarta.validation.Valid;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,7 @@ public interface UserService {
     UserResponse authenticateUser(String email, String password);
     UserResponse updateUserRole(String email, Role role);
     Users getByIdOrThrow(UUID userId, String notFoundMessage);
+    List<Users> getByIds(Collection<UUID> userIds);
     List<Users> findByRole(Role role);
     UserResponse getUserById(UUID userId);
 }
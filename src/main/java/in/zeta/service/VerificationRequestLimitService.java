@@ -4,11 +4,28 @@ import in.zeta.dto.response.RequestCountResponse;
 import in.zeta.dto.response.RequestorCountListResponse;
 import in.zeta.entity.Users;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface VerificationRequestLimitService {
     boolean canCreateVerificationRequest(Users customer, Users requestor);
+
+    /**
+     * Checks the limit and counts the request in one step. Returns {@code false}, counting nothing, when the limit
+     * is reached. The count is given back if the surrounding transaction rolls back.
+     */
+    boolean tryAcquireRequest(Users customer, Users requestor);
+
     void incrementRequestCount(Users customer, Users requestor);
+    List<UUID> findCustomersOverLimit(Users requestor, Map<UUID, Long> requestsPerCustomer);
+    void incrementRequestCounts(Users requestor, List<Users> customers);
+
+    /**
+     * Batch form of {@link #tryAcquireRequest}: {@code customers} holds one entry per request. Returns the customers
+     * over their limit, in which case nothing is counted; otherwise every request is counted and given back if the
+     * surrounding transaction rolls back.
+     */
+    List<UUID> tryAcquireRequests(Users requestor, List<Users> customers);
 
     RequestCountResponse getRequestorRequestsToCustomerCurrentYear(UUID requestorId, UUID customerId, int year);
     RequestCountResponse getTotalRequestsToCustomerCurrentYear(UUID customerId);
@@ -8,12 +8,15 @@ import in.zeta.dto.requests.UpdateVerificationStatusRequest;
 import in.zeta.dto.response.CreateVerificationResponse;
 import in.zeta.dto.response.VerificationRequestResponse;
 import jakarta.validation.Valid;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface VerificationRequestService {
     CreateVerificationResponse createVerificationRequest(@Valid CreateVerificationRequest createVerificationRequest, UUID requestorId);
 
+    List<CreateVerificationResponse> createVerificationRequests(List<CreateVerificationRequest> createVerificationRequests, UUID requestorId);
+
     VerificationRequestResponse getVerificationRequest(UUID verificationId);
 
     List<VerificationRequestResponse> getCustomerVerifications(UUID customerId);
@@ -36,10 +39,14 @@ public interface VerificationRequestService {
 
     VerificationRequest getByIdOrThrow(UUID verificationId);
 
+    List<VerificationRequest> getAllWithParticipants(Collection<UUID> verificationIds);
+
     void saveVerificationRequest(VerificationRequest verificationRequest);
 
     List<VerificationRequest> findByAssignedOfficerAndStatus(Users officer, VerificationStatus status);
 
+    List<OfficerWorkload> findOfficerWorkloads(Collection<UUID> officerIds, VerificationStatus status);
+
     void save(VerificationRequest verificationRequest);
 
 
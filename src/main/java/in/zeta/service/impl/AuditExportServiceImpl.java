@@ -0,0 +1,223 @@
+package in.zeta.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.opencsv.CSVWriter;
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.enums.AuditExportFormat;
+import in.zeta.exception.AuditLogException;
+import in.zeta.exception.InvalidOperationException;
+import in.zeta.mapper.AuditLogMapper;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.service.AuditExportService;
+import in.zeta.spectra.capture.SpectraLogger;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams audit logs straight from a server-side cursor to the response.
+ * <p>
+ * Rows are read with a JDBC fetch size inside a read-only transaction (required for Postgres to keep the
+ * cursor open) and written one at a time, so memory use does not depend on the size of the export.
+ */
+@Service
+public class AuditExportServiceImpl implements AuditExportService {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditExportServiceImpl.class);
+
+    private static final String SELECT_AUDIT_LOGS_SQL =
+            "SELECT a.audit_log_id, a.entity_type, a.entity_id, a.audit_action, a.user_id, u.username, " +
+            "a.old_value, a.new_value, a.timestamp " +
+            "FROM audit_logs a LEFT JOIN users u ON u.id = a.user_id";
+
+    private static final String ORDER_BY_SQL = " ORDER BY a.timestamp DESC, a.audit_log_id DESC";
+
+    private static final String[] CSV_HEADER = {
+            "id", "entityType", "entityId", "action", "userId", "username", "oldValue", "newValue", "timestamp"
+    };
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${audit.export.fetch-size}")
+    private int fetchSize;
+
+    public AuditExportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public long exportAuditLogs(AuditLogFilter filter, AuditExportFormat format, OutputStream outputStream) {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new InvalidOperationException("'from' must be before 'to' for audit log export");
+        }
+
+        logger.info("Starting audit log export")
+                .attr("format", format)
+                .attr("filter", filter)
+                .log();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == AuditExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        long[] rowCount = {0};
+
+        try {
+            rowWriter.writeHeader();
+            readOnlyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(statementFor(filter), rs -> {
+                        rowWriter.write(AuditLogMapper.toResponse(rs));
+                        rowCount[0]++;
+                    }));
+            rowWriter.finish();
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Audit log export aborted")
+                    .attr("rowsWritten", rowCount[0])
+                    .attr("error", e.getMessage())
+                    .log();
+            throw new AuditLogException("Failed to write audit log export", e);
+        }
+
+        logger.info("Completed audit log export")
+                .attr("format", format)
+                .attr("rowsWritten", rowCount[0])
+                .log();
+
+        return rowCount[0];
+    }
+
+    private PreparedStatementCreator statementFor(AuditLogFilter filter) {
+        StringBuilder sql = new StringBuilder(SELECT_AUDIT_LOGS_SQL);
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+
+        filter.appendSqlConditions(conditions, args);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(ORDER_BY_SQL);
+
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        };
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void write(AuditLogsResponse auditLog);
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        // CSVWriter swallows IO errors; checkError() flushes, so only poll it periodically.
+        private static final int ERROR_CHECK_INTERVAL = 1000;
+
+        private final CSVWriter csvWriter;
+        private long rowsWritten;
+
+        private CsvRowWriter(Writer writer) {
+            this.csvWriter = new CSVWriter(writer);
+        }
+
+        @Override
+        public void writeHeader() {
+            csvWriter.writeNext(CSV_HEADER);
+        }
+
+        @Override
+        public void write(AuditLogsResponse auditLog) {
+            csvWriter.writeNext(new String[]{
+                    toText(auditLog.getId()),
+                    toText(auditLog.getEntityType()),
+                    toText(auditLog.getEntityId()),
+                    toText(auditLog.getAction()),
+                    toText(auditLog.getUserId()),
+                    auditLog.getUsername(),
+                    auditLog.getOldValue(),
+                    auditLog.getNewValue(),
+                    toText(auditLog.getTimestamp())
+            });
+            if (++rowsWritten % ERROR_CHECK_INTERVAL == 0) {
+                failOnError();
+            }
+        }
+
+        @Override
+        public void finish() {
+            failOnError();
+        }
+
+        private void failOnError() {
+            if (csvWriter.checkError()) {
+                throw new UncheckedIOException(new IOException("Client stopped reading the CSV export"));
+            }
+        }
+
+        private static String toText(Object value) {
+            return value != null ? value.toString() : null;
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader() {
+            // NDJSON has no header line
+        }
+
+        @Override
+        public void write(AuditLogsResponse auditLog) {
+            try {
+                objectMapper.writeValue(writer, auditLog);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package in.zeta.service.impl;
+
+import in.zeta.dto.requests.AuditLogPageRequest;
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.dto.response.AuditSearchFacets;
+import in.zeta.dto.response.AuditSearchResponse;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.BadRequestException;
+import in.zeta.exception.InvalidOperationException;
+import in.zeta.mapper.AuditLogMapper;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.service.AuditSearchService;
+import in.zeta.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Full-text search over audit diff values backed by the {@code idx_audit_search_vector} GIN expression index.
+ * <p>
+ * Hits are paged by keyset on (timestamp, ID) like the other audit queries. Facet counts for action, entity type
+ * and user come from a single {@code GROUPING SETS} query and are only computed for the first page. They count at
+ * most {@code audit.search.facet-sample-size} matches, so a broad query does not aggregate the whole table; when
+ * the sample is full the facets are flagged as estimates.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditSearchServiceImpl implements AuditSearchService {
+
+    // Must stay identical to the expression of idx_audit_search_vector (V1.0.7) for the index to be used
+    static final String MATCH_CONDITION =
+            "to_tsvector('simple', COALESCE(a.old_value, '') || ' ' || COALESCE(a.new_value, '')) " +
+            "@@ websearch_to_tsquery('simple', ?)";
+
+    private static final String SELECT_HITS_SQL =
+            "SELECT a.audit_log_id, a.entity_type, a.entity_id, a.audit_action, a.user_id, u.username, " +
+            "a.old_value, a.new_value, a.timestamp " +
+            "FROM audit_logs a LEFT JOIN users u ON u.id = a.user_id WHERE ";
+
+    // The inner LIMIT caps how many matches are read for facets; without ORDER BY the scan stops at the cap
+    private static final String SELECT_FACETS_SQL =
+            "SELECT s.audit_action, s.entity_type, s.user_id, " +
+            "GROUPING(s.audit_action, s.entity_type, s.user_id) AS grouping_set, COUNT(*) AS hits " +
+            "FROM (SELECT a.audit_action, a.entity_type, a.user_id FROM audit_logs a WHERE ";
+
+    private static final String GROUP_BY_FACETS_SQL =
+            " LIMIT ?) s GROUP BY GROUPING SETS ((s.audit_action), (s.entity_type), (s.user_id)) ORDER BY hits DESC";
+
+    // GROUPING() sets a bit for each column that is not grouped, first argument highest
+    private static final int ACTION_SET = 0b011;
+    private static final int ENTITY_TYPE_SET = 0b101;
+    private static final int USER_SET = 0b110;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${audit.page.default-size}")
+    private int defaultPageSize;
+
+    @Value("${audit.page.max-size}")
+    private int maxPageSize;
+
+    @Value("${audit.search.user-facet-size}")
+    private int userFacetSize;
+
+    @Value("${audit.search.facet-sample-size}")
+    private int facetSampleSize;
+
+    @Override
+    public AuditSearchResponse search(String query, AuditLogFilter filter, AuditLogPageRequest pageRequest) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query cannot be empty");
+        }
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new InvalidOperationException("'from' must be before 'to' for audit log search");
+        }
+
+        int limit = resolvePageSize(pageRequest.getLimit());
+        KeysetCursor after = pageRequest.getCursor() != null ? KeysetCursor.decode(pageRequest.getCursor()) : null;
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        conditions.add(MATCH_CONDITION);
+        args.add(query);
+        filter.appendSqlConditions(conditions, args);
+
+        AuditSearchFacets facets = after == null ? findFacets(conditions, args) : null;
+        List<AuditLogsResponse> rows = findHits(conditions, args, after, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<AuditLogsResponse> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLogsResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getTimestamp(), last.getId()).encode();
+        }
+
+        return AuditSearchResponse.builder()
+                .auditLogs(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .facets(facets)
+                .build();
+    }
+
+    private List<AuditLogsResponse> findHits(List<String> conditions, List<Object> args, KeysetCursor after, int limit) {
+        List<String> hitConditions = new ArrayList<>(conditions);
+        List<Object> hitArgs = new ArrayList<>(args);
+        if (after != null) {
+            hitConditions.add("(a.timestamp, a.audit_log_id) < (?, ?)");
+            hitArgs.add(Timestamp.valueOf(after.timestamp()));
+            hitArgs.add(after.id());
+        }
+        hitArgs.add(limit);
+
+        String sql = SELECT_HITS_SQL + String.join(" AND ", hitConditions)
+                + " ORDER BY a.timestamp DESC, a.audit_log_id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> AuditLogMapper.toResponse(rs), hitArgs.toArray());
+    }
+
+    private AuditSearchFacets findFacets(List<String> conditions, List<Object> args) {
+        Map<AuditAction, Long> actions = new EnumMap<>(AuditAction.class);
+        Map<EntityType, Long> entityTypes = new EnumMap<>(EntityType.class);
+        Map<UUID, Long> users = new LinkedHashMap<>();
+
+        List<Object> facetArgs = new ArrayList<>(args);
+        facetArgs.add(facetSampleSize);
+
+        String sql = SELECT_FACETS_SQL + String.join(" AND ", conditions) + GROUP_BY_FACETS_SQL;
+        jdbcTemplate.query(sql, rs -> {
+            long hits = rs.getLong("hits");
+            switch (rs.getInt("grouping_set")) {
+                case ACTION_SET -> actions.put(AuditAction.valueOf(rs.getString("audit_action")), hits);
+                case ENTITY_TYPE_SET -> entityTypes.put(EntityType.valueOf(rs.getString("entity_type")), hits);
+                case USER_SET -> {
+                    UUID userId = rs.getObject("user_id", UUID.class);
+                    // Rows are ordered by count, so the first ones are the top users
+                    if (userId != null && users.size() < userFacetSize) {
+                        users.put(userId, hits);
+                    }
+                }
+                default -> {
+                }
+            }
+        }, facetArgs.toArray());
+
+        // Every sampled row has an action, so the action counts add up to the sample size
+        long sampled = actions.values().stream().mapToLong(Long::longValue).sum();
+        return AuditSearchFacets.builder()
+                .actions(actions)
+                .entityTypes(entityTypes)
+                .users(users)
+                .sampleSize(facetSampleSize)
+                .estimated(sampled >= facetSampleSize)
+                .build();
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested < 1) {
+            throw new InvalidOperationException("Page size must be positive for audit log search");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
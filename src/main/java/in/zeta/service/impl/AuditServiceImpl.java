@@ -1,25 +1,34 @@
 package in.zeta.service.impl;
 
+import in.zeta.archive.AuditArchiveStore;
+import in.zeta.cache.AuditTimelineCache;
 import in.zeta.entity.AuditLogs;
 import in.zeta.entity.Users;
 import in.zeta.enums.EntityType;
 import in.zeta.enums.AuditAction;
 import in.zeta.exception.JsonParsingException;
 import in.zeta.mapper.AuditLogMapper;
+import in.zeta.dto.requests.AuditLogPageRequest;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.exception.AuditLogException;
 import in.zeta.exception.InvalidOperationException;
 import in.zeta.producer.EventProducer;
+import in.zeta.repository.AuditLogFilter;
 import in.zeta.repository.AuditLogRepository;
+import in.zeta.dto.response.AuditLogPageResponse;
 import in.zeta.dto.response.AuditLogsResponse;
 import in.zeta.service.AuditService;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.AuditDiff;
 import in.zeta.util.JsonUtil;
+import in.zeta.util.KeysetCursor;
+import in.zeta.writer.AuditLogBatchWriter;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import in.zeta.service.UserService;
@@ -33,14 +42,23 @@ public class AuditServiceImpl implements AuditService {
     @Value("${atropos.audit.topic}")
     private String auditLogTopic;
 
+    @Value("${audit.page.default-size}")
+    private int defaultPageSize;
+
+    @Value("${audit.page.max-size}")
+    private int maxPageSize;
+
     private final AuditLogRepository auditLogRepository;
     private final EventProducer eventProducer;
     private final UserService userService;
+    private final AuditLogBatchWriter auditLogBatchWriter;
+    private final AuditTimelineCache auditTimelineCache;
+    private final AuditArchiveStore auditArchiveStore;
 
     private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditServiceImpl.class);
 
     @Override
-    public List<AuditLogsResponse> getAuditTrail(EntityType entityType, UUID entityId) {
+    public AuditLogPageResponse getAuditTrail(EntityType entityType, UUID entityId, AuditLogPageRequest pageRequest) {
         if (entityType == null || entityId == null) {
             throw new InvalidOperationException("EntityType and EntityId cannot be null for audit trail");
         }
@@ -50,11 +68,15 @@ public class AuditServiceImpl implements AuditService {
                 .attr("entityId", entityId)
                 .log();
 
-        List<AuditLogs> auditLogs = auditLogRepository.findByEntityTypeAndEntityIdOrderByTimestampDesc(entityType, entityId);
+        if (isTimelineCacheable(pageRequest)) {
+            int limit = resolvePageSize(pageRequest.getLimit());
+            List<AuditLogsResponse> timeline = auditTimelineCache.get(entityType, entityId,
+                    () -> findRows(AuditLogFilter.forEntity(entityType, entityId, null, null),
+                            null, auditTimelineCache.capacity() + 1));
+            return toPageResponse(timeline, limit);
+        }
 
-        return auditLogs.stream()
-                .map(AuditLogMapper::toResponse)
-                .toList();
+        return findPage(AuditLogFilter.forEntity(entityType, entityId, pageRequest.getFrom(), pageRequest.getTo()), pageRequest);
     }
 
 
@@ -66,18 +88,25 @@ public class AuditServiceImpl implements AuditService {
             throw new InvalidOperationException("EntityType, EntityId, and Action are required for audit log");
         }
 
+        if (auditLogBatchWriter.isEnabled()) {
+            auditLogBatchWriter.write(AuditLogMapper.toRecord(
+                    AuditLogMapper.createAuditLogEvent(entityType, entityId, action, user, oldValue, newValue)));
+            return;
+        }
+
         try {
             AuditLogs auditLog = AuditLogs.builder()
                     .entityType(entityType)
                     .entityId(entityId)
                     .action(action)
                     .user(user)
-                    .oldValue(oldValue)
-                    .newValue(newValue)
+                    .oldValue(AuditDiff.normalize(oldValue))
+                    .newValue(AuditDiff.normalize(newValue))
                     .timestamp(LocalDateTime.now())
                     .build();
 
             auditLogRepository.save(auditLog);
+            auditTimelineCache.append(toResponse(auditLog));
 
             logger.info("Audit log created successfully")
                     .attr("entityType", entityType)
@@ -105,7 +134,7 @@ public class AuditServiceImpl implements AuditService {
     }
 
     @Override
-    public List<AuditLogsResponse> getAuditLogsByAction(AuditAction action) {
+    public AuditLogPageResponse getAuditLogsByAction(AuditAction action, AuditLogPageRequest pageRequest) {
         if (action == null) {
             throw new InvalidOperationException("Action cannot be null for audit logs query");
         }
@@ -114,15 +143,11 @@ public class AuditServiceImpl implements AuditService {
                 .attr("action", action)
                 .log();
 
-        List<AuditLogs> auditLogs = auditLogRepository.findByActionOrderByTimestampDesc(action);
-
-        return auditLogs.stream()
-                .map(AuditLogMapper::toResponse)
-                .toList();
+        return findPage(AuditLogFilter.forAction(action, pageRequest.getFrom(), pageRequest.getTo()), pageRequest);
     }
 
     @Override
-    public List<AuditLogsResponse> getAuditLogsByUser(UUID userId) {
+    public AuditLogPageResponse getAuditLogsByUser(UUID userId, AuditLogPageRequest pageRequest) {
         if (userId == null) {
             throw new InvalidOperationException("User ID cannot be null for audit logs query");
         }
@@ -131,23 +156,16 @@ public class AuditServiceImpl implements AuditService {
                 .attr("userId", userId)
                 .log();
 
-        List<AuditLogs> auditLogs = auditLogRepository.findByUserIdOrderByTimestampDesc(userId);
-        return auditLogs.stream()
-                .map(AuditLogMapper::toResponse)
-                .toList();
+        return findPage(AuditLogFilter.forUser(userId, pageRequest.getFrom(), pageRequest.getTo()), pageRequest);
     }
 
     @Override
-    public List<AuditLogsResponse> getAllAuditLogs() {
+    public AuditLogPageResponse getAllAuditLogs(AuditLogPageRequest pageRequest) {
 
         logger.info("Retrieving all audit logs")
                 .log();
 
-        List<AuditLogs> auditLogs = auditLogRepository.findAllByOrderByTimestampDesc();
-
-        return auditLogs.stream()
-                .map(AuditLogMapper::toResponse)
-                .toList();
+        return findPage(AuditLogFilter.all(pageRequest.getFrom(), pageRequest.getTo()), pageRequest);
     }
 
     @Override
@@ -160,6 +178,18 @@ public class AuditServiceImpl implements AuditService {
         );
     }
 
+    @Override
+    public void publishAuditLogEvents(List<AuditLogCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        eventProducer.publishEvents(
+                EntityType.AUDIT_LOG.toString(),
+                auditLogTopic,
+                events,
+                event -> event.getEntityId().toString()
+        );
+    }
 
     @Override
     public AuditLogsResponse getAuditLogById(UUID auditLogId) {
@@ -188,7 +218,17 @@ public class AuditServiceImpl implements AuditService {
     public void processAuditLogEvent(String eventPayload) {
         try {
             AuditLogCreatedEvent event = JsonUtil.parseAuditLogCreatedEvent(eventPayload);
-            Users user = userService.getByIdOrThrow(event.getUserId(), "User not found for audit log event");
+
+            if (auditLogBatchWriter.isEnabled()) {
+                // The writer references the user by ID, so no user lookup is needed on this path. Waits for the
+                // batch so a failed write fails the webhook and the event is redelivered.
+                auditLogBatchWriter.write(AuditLogMapper.toRecord(event));
+            } else {
+                Users user = userService.getByIdOrThrow(event.getUserId(), "User not found for audit log event");
+                AuditLogs auditLog = AuditLogMapper.toEntity(event, user);
+                auditLogRepository.save(auditLog);
+                auditTimelineCache.append(toResponse(auditLog));
+            }
 
             logger.info("Processed audit log event successfully")
                     .attr("entityType", event.getEntityType())
@@ -196,8 +236,6 @@ public class AuditServiceImpl implements AuditService {
                     .attr("action", event.getAction())
                     .log();
 
-            auditLogRepository.save(AuditLogMapper.toEntity(event,user));
-
         } catch (JsonParsingException e) {
             logger.error("Failed to parse audit log event")
                     .attr("event", eventPayload)
@@ -213,4 +251,76 @@ public class AuditServiceImpl implements AuditService {
             throw new AuditLogException("Failed to process audit log event", e);
         }
     }
-}
\ No newline at end of file
+
+    private AuditLogPageResponse findPage(AuditLogFilter filter, AuditLogPageRequest pageRequest) {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new InvalidOperationException("'from' must be before 'to' for audit logs query");
+        }
+
+        int limit = resolvePageSize(pageRequest.getLimit());
+        KeysetCursor after = pageRequest.getCursor() != null ? KeysetCursor.decode(pageRequest.getCursor()) : null;
+
+        // One extra row tells us whether another page exists without a count query.
+        return toPageResponse(findRows(filter, after, limit + 1), limit);
+    }
+
+    /**
+     * Reads hot rows first; an entity trail that runs out of them continues into the archive, whose rows are all
+     * older than any hot row.
+     */
+    private List<AuditLogsResponse> findRows(AuditLogFilter filter, KeysetCursor after, int limit) {
+        List<AuditLogsResponse> rows = auditLogRepository.findPage(filter, after, limit).stream()
+                .map(AuditLogMapper::toResponse)
+                .toList();
+        if (rows.size() >= limit || filter.entityId() == null || !auditArchiveStore.isEnabled()) {
+            return rows;
+        }
+
+        KeysetCursor archiveAfter = after;
+        if (!rows.isEmpty()) {
+            AuditLogsResponse last = rows.get(rows.size() - 1);
+            archiveAfter = new KeysetCursor(last.getTimestamp(), last.getId());
+        }
+        List<AuditLogsResponse> merged = new ArrayList<>(rows);
+        merged.addAll(auditArchiveStore.findEntityLogs(filter, archiveAfter, limit - rows.size()));
+        return merged;
+    }
+
+    private AuditLogPageResponse toPageResponse(List<AuditLogsResponse> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<AuditLogsResponse> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLogsResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getTimestamp(), last.getId()).encode();
+        }
+
+        return AuditLogPageResponse.builder()
+                .auditLogs(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Only an unbounded first page fits in a cached timeline; cursors and time ranges go to the database.
+     */
+    private boolean isTimelineCacheable(AuditLogPageRequest pageRequest) {
+        return auditTimelineCache.isEnabled()
+                && pageRequest.getCursor() == null
+                && pageRequest.getFrom() == null
+                && pageRequest.getTo() == null
+                && resolvePageSize(pageRequest.getLimit()) <= auditTimelineCache.capacity();
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested < 1) {
+            throw new InvalidOperationException("Page size must be positive for audit logs query");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
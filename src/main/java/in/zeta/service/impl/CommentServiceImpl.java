@@ -17,6 +17,7 @@ import in.zeta.dto.requests.AddCommentRequest;
 import in.zeta.dto.response.CommentResponse;
 import in.zeta.service.*;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.AuditDiff;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
@@ -155,8 +156,7 @@ public class CommentServiceImpl implements CommentService {
                 comment.getId(),
                 AuditAction.COMMENT_VIEWED,
                 user,
-                null,
-                String.format("Comment Read successfully: %s", comment.getId())
+                AuditDiff.create()
         );
 
         auditService.publishAuditLogEvent(event);
@@ -7,6 +7,7 @@ import in.zeta.entity.VerificationRequest;
 import in.zeta.enums.*;
 import static in.zeta.mapper.DocumentMapper.*;
 import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.dto.requests.events.StatusUpdateEvent;
 import in.zeta.exception.DataNotFoundException;
 import in.zeta.exception.InvalidOperationException;
 import in.zeta.repository.DocumentRepository;
@@ -15,10 +16,13 @@ import in.zeta.dto.response.DocumentMetadataResponse;
 import in.zeta.dto.response.DocumentResponse;
 import in.zeta.service.*;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.statemachine.VerificationStateMachine;
 import olympus.trace.OlympusSpectra;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -33,6 +37,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import static in.zeta.mapper.NotificationMapper.createNotificationEvent;
+import static in.zeta.mapper.StatusHistoryMapper.createEvent;
 
 @Service
 //@RequiredArgsConstructor
@@ -51,19 +56,25 @@ public class DocumentServiceImpl implements DocumentService {
     private final NotificationService notificationService;
     private final OfficerAssignmentService officerAssignmentService;
     private final AuditService auditService;
+    private final VerificationStateMachine verificationStateMachine;
+    private final StatusHistoryService statusHistoryService;
 
     public DocumentServiceImpl(DocumentRepository documentRepository,
                                UserService userService,
                                VerificationRequestService verificationRequestService,
                                NotificationService notificationService,
                                OfficerAssignmentService officerAssignmentService,
-                               AuditService auditService) {
+                               AuditService auditService,
+                               VerificationStateMachine verificationStateMachine,
+                               StatusHistoryService statusHistoryService) {
         this.documentRepository = documentRepository;
         this.userService = userService;
         this.verificationRequestService = verificationRequestService;
         this.notificationService = notificationService;
         this.officerAssignmentService = officerAssignmentService;
         this.auditService = auditService;
+        this.verificationStateMachine = verificationStateMachine;
+        this.statusHistoryService = statusHistoryService;
     }
 
     @Override
@@ -92,36 +103,14 @@ public class DocumentServiceImpl implements DocumentService {
                     .isActive(true)
                     .build();
 
-            verificationRequest.setStatus(VerificationStatus.DOCUMENT_UPLOADED);
-            //here document has been uploaded so status is changed to DOCUMENT_UPLOADED
-            //Create StatusUpdateEvent and publish it
-
-            verificationRequestService.save(verificationRequest);
+            // The state machine rejects uploads to a closed request and never overwrites a concurrent status change
+            VerificationStateMachine.Transition transition =
+                    verificationStateMachine.transition(verificationId, VerificationStatus.DOCUMENT_UPLOADED);
 
             Document savedDocument = documentRepository.save(document);
+            publishUploadTransition(verificationId, userId, transition);
 
-            logger.info("Creating notification for document upload")
-                    .attr("for requestor", verificationRequest.getRequestor().getId())
-                    .attr("documentId", savedDocument.getId())
-                    .attr("verificationId", verificationId)
-                    .attr("uploadedBy", userId)
-                    .log();
-
-            NotificationCreatedEvent requestorNotification = createNotificationEvent(
-                    verificationRequest.getRequestor().getId(),
-                    verificationRequest.getId(),
-                    NotificationType.DOCUMENT_UPLOADED,
-                    Messages.Notification.DOCUMENT_UPLOADED
-            );
-            notificationService.publishNotificationEvent(requestorNotification);
-
-            logger.info("Notification created for requestor")
-                    .attr("for requestor", verificationRequest.getRequestor().getId())
-                    .attr("documentId", savedDocument.getId())
-                    .attr("verificationId", verificationId)
-                    .attr("uploadedBy", userId)
-                    .log();
-
+            // the requestor's DOCUMENT_UPLOADED notification is sent when the status history records the transition
             if (verificationRequest.getAssignedOfficer() != null) {
 
                 logger.info("Notification event created for assigned officer")
@@ -161,6 +150,9 @@ public class DocumentServiceImpl implements DocumentService {
         Users user = getUser(userId);
         List<DocumentResponse> responses = new ArrayList<>();
 
+        VerificationStateMachine.Transition transition =
+                verificationStateMachine.transition(verificationId, VerificationStatus.DOCUMENT_UPLOADED);
+
         for (int i = 0; i < files.length; i++) {
             MultipartFile file = files[i];
             DocumentType docType = documentTypes[i];
@@ -184,9 +176,6 @@ public class DocumentServiceImpl implements DocumentService {
                         .uploadedBy(user)
                         .build();
 
-                verificationRequest.setStatus(VerificationStatus.DOCUMENT_UPLOADED);
-                verificationRequestService.save(verificationRequest);
-
                 Document savedDocument = documentRepository.save(document);
                 responses.add(convertToResponse(savedDocument, false));
 
@@ -196,10 +185,27 @@ public class DocumentServiceImpl implements DocumentService {
             }
         }
 
+        publishUploadTransition(verificationId, userId, transition);
+
 //        log.info("Successfully uploaded {} documents for verification: {}", responses.size(), verificationId);
         return responses;
     }
 
+    /**
+     * Records the upload's transition in the status history, which also clears a SENT_BACK deadline. Published only
+     * once the upload commits, so a rolled back upload leaves no history row behind.
+     */
+    private void publishUploadTransition(UUID verificationId, UUID userId, VerificationStateMachine.Transition transition) {
+        StatusUpdateEvent statusUpdateEvent = createEvent(
+                verificationId,
+                userId,
+                transition.from(),
+                transition.to(),
+                null
+        );
+        runAfterCommit(() -> statusHistoryService.publishStatusUpdateEvent(statusUpdateEvent));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<DocumentResponse> getDocuments(UUID verificationId, UUID customerId) {
@@ -563,4 +569,17 @@ public class DocumentServiceImpl implements DocumentService {
         Document document = getDocument(documentId);
         return convertToResponse(document, false);
     }
-}
\ No newline at end of file
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
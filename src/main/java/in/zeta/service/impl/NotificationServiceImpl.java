@@ -1,5 +1,7 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.UnreadNotificationCountCache;
+import in.zeta.digest.NotificationDigester;
 import in.zeta.entity.Notification;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
@@ -7,25 +9,46 @@ import in.zeta.enums.AuditAction;
 import in.zeta.enums.EntityType;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.exception.BadRequestException;
 import in.zeta.exception.InvalidOperationException;
 import in.zeta.exception.ResourceNotFoundException;
+import in.zeta.mail.EmailDeliveryChannel;
 import in.zeta.producer.EventProducer;
 import in.zeta.repository.NotificationRepository;
+import in.zeta.dto.requests.NotificationPageRequest;
+import in.zeta.dto.response.NotificationPageResponse;
 import in.zeta.dto.response.NotificationResponse;
 import in.zeta.service.AuditService;
 import in.zeta.service.NotificationService;
 import in.zeta.service.UserService;
 import in.zeta.service.VerificationRequestService;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.stream.NotificationStreamRegistry;
 import in.zeta.util.JsonUtil;
+import in.zeta.util.AuditDiff;
+import in.zeta.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
+import static in.zeta.constants.Messages.Keys.IS_READ;
+import static in.zeta.constants.Messages.Keys.NOTIFICATION_COUNT;
+import static in.zeta.constants.Messages.Keys.NOTIFICATION_IDS;
+import static in.zeta.constants.Messages.Keys.NOTIFICATION_TYPE;
+import static in.zeta.constants.Messages.Keys.READ_CUTOFF;
+import static in.zeta.constants.Messages.Keys.USER_ID;
+import static in.zeta.constants.Messages.Notification.OPENING_NOTIFICATION_STREAM;
 import static in.zeta.mapper.AuditLogMapper.createAuditLogEvent;
 import static in.zeta.mapper.NotificationMapper.toNotificationEntity;
 import static in.zeta.mapper.NotificationMapper.toNotificationResponse;
@@ -38,31 +61,59 @@ public class NotificationServiceImpl implements NotificationService {
     @Value("${atropos.notification.topic}")
     private String notificationTopic;
 
+    @Value("${notification.bulk-read.max-ids}")
+    private int maxBulkReadIds;
+
+    @Value("${notification.page.default-size}")
+    private int defaultPageSize;
+
+    @Value("${notification.page.max-size}")
+    private int maxPageSize;
+
     private final NotificationRepository notificationRepository;
     private final UserService userService;
     private final VerificationRequestService verificationRequestService;
     private final AuditService auditService;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final UnreadNotificationCountCache unreadNotificationCountCache;
+    private final NotificationDigester notificationDigester;
+    private final EmailDeliveryChannel emailDeliveryChannel;
     private static final SpectraLogger logger = OlympusSpectra.getLogger(NotificationServiceImpl.class);
     private final EventProducer eventProducer;
 
     @Override
-    public List<NotificationResponse> getUserNotifications(UUID userId) {
+    public NotificationPageResponse getUserNotifications(UUID userId, NotificationPageRequest pageRequest) {
 
         logger.info("Fetching notifications for userId:")
                 .attr("userId", userId)
+                .attr("cursor", pageRequest.getCursor())
                 .log();
 
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        int limit = resolvePageSize(pageRequest.getLimit());
+        KeysetCursor after = decodeCursor(pageRequest.getCursor());
+
+        // One extra row tells us whether another page exists without a count query.
+        List<NotificationResponse> rows = after == null
+                ? notificationRepository.findFeed(userId, Limit.of(limit + 1))
+                : notificationRepository.findFeedAfter(userId, after.timestamp(), after.id(), Limit.of(limit + 1));
+        return toPageResponse(rows, limit);
     }
 
     @Override
-    public List<NotificationResponse> getUnreadNotifications(UUID userId) {
+    public NotificationPageResponse getUnreadNotifications(UUID userId, NotificationPageRequest pageRequest) {
 
         logger.info("Fetching unread notifications for userId:")
                 .attr("userId", userId)
+                .attr("cursor", pageRequest.getCursor())
                 .log();
 
-        return notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
+        int limit = resolvePageSize(pageRequest.getLimit());
+        KeysetCursor after = decodeCursor(pageRequest.getCursor());
+
+        List<NotificationResponse> rows = after == null
+                ? notificationRepository.findUnreadFeed(userId, Limit.of(limit + 1))
+                : notificationRepository.findUnreadFeedAfter(userId, after.timestamp(), after.id(), Limit.of(limit + 1));
+        return toPageResponse(rows, limit);
     }
 
     @Override
@@ -72,7 +123,17 @@ public class NotificationServiceImpl implements NotificationService {
                 .attr("userId", userId)
                 .log();
 
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadNotificationCountCache.get(userId, notificationRepository::countByUserIdAndIsReadFalse);
+    }
+
+    @Override
+    public SseEmitter streamNotifications(UUID userId) {
+
+        logger.info(OPENING_NOTIFICATION_STREAM)
+                .attr(USER_ID, userId)
+                .log();
+
+        return notificationStreamRegistry.register(userId);
     }
 
     @Override
@@ -90,18 +151,17 @@ public class NotificationServiceImpl implements NotificationService {
                 .log();
 
         if (!notification.getIsRead()) {
-            String oldValue = "unread";
             notification.setIsRead(true);
             notification.setReadAt(LocalDateTime.now());
             notificationRepository.save(notification);
+            unreadNotificationCountCache.decrement(userId);
 
             AuditLogCreatedEvent event = createAuditLogEvent(
                     EntityType.NOTIFICATION,
                     notificationId,
                     AuditAction.NOTIFICATION_READ,
                     notification.getUser(),
-                    oldValue,
-                    String.format("Notification read successfully: %s", notification.getId())
+                    AuditDiff.create().changed(IS_READ, false, true)
             );
 
             auditService.publishAuditLogEvent(event);
@@ -112,11 +172,80 @@ public class NotificationServiceImpl implements NotificationService {
                 .attr("status", notification.getIsRead())
                 .attr("readAt", notification.getReadAt())
                 .log();
+    }
+
+    @Override
+    public List<UUID> markAsRead(UUID userId, List<UUID> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new BadRequestException("At least one notification ID is required");
+        }
+        if (notificationIds.size() > maxBulkReadIds) {
+            throw new BadRequestException("Cannot mark more than " + maxBulkReadIds + " notifications as read at once");
+        }
 
-        notificationRepository.save(notification);
+        logger.info("Marking notifications as read:")
+                .attr("userId", userId)
+                .attr("requested", notificationIds.size())
+                .log();
+
+        List<UUID> markedIds = notificationRepository.markAsRead(userId, new HashSet<>(notificationIds));
+        return afterMarkedAsRead(userId, markedIds, AuditDiff.create()
+                .changed(IS_READ, false, true)
+                .added(NOTIFICATION_COUNT, markedIds.size())
+                .added(NOTIFICATION_IDS, markedIds));
     }
 
     @Override
+    public List<UUID> markAllAsRead(UUID userId) {
+
+        logger.info("Marking all notifications as read:")
+                .attr("userId", userId)
+                .log();
+
+        // The audit event records the cutoff rather than every ID, which has no upper bound here
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<UUID> markedIds = notificationRepository.markAllAsRead(userId, cutoff);
+        return afterMarkedAsRead(userId, markedIds, AuditDiff.create()
+                .changed(IS_READ, false, true)
+                .added(NOTIFICATION_COUNT, markedIds.size())
+                .added(READ_CUTOFF, cutoff));
+    }
+
+    /**
+     * Settles the unread counter and records one audit event for the whole batch.
+     */
+    private List<UUID> afterMarkedAsRead(UUID userId, List<UUID> markedIds, AuditDiff diff) {
+        if (markedIds.isEmpty()) {
+            return markedIds;
+        }
+
+        unreadNotificationCountCache.decrement(userId, markedIds.size());
+
+        Users user = userService.getByIdOrThrow(userId, "User not found with ID: " + userId);
+        AuditLogCreatedEvent event = createAuditLogEvent(
+                EntityType.USER,
+                userId,
+                AuditAction.NOTIFICATION_READ,
+                user,
+                diff
+        );
+
+        auditService.publishAuditLogEvent(event);
+
+        logger.info("Notifications marked as read:")
+                .attr("userId", userId)
+                .attr("marked", markedIds.size())
+                .log();
+
+        return markedIds;
+    }
+
+    /**
+     * Stores the notification and queues its email in one transaction, so a notification is never kept without its
+     * email or the other way round. The feed stream and the unread counter only see it once committed.
+     */
+    @Override
+    @Transactional
     public void createNotificationFromEvent(NotificationCreatedEvent notificationCreatedEvent) {
         Users user = userService.getByIdOrThrow(notificationCreatedEvent.getUserId(), "User not found with ID: " + notificationCreatedEvent.getUserId());
         VerificationRequest verificationRequest = verificationRequestService.getByIdOrThrow(notificationCreatedEvent.getVerificationRequestId());
@@ -138,15 +267,20 @@ public class NotificationServiceImpl implements NotificationService {
 
             Notification savedNotification = notificationRepository.save(notification);
 
-            // here i want you to write logic for sending email to the recepient using email service later on implementation
+            emailDeliveryChannel.deliver(user, savedNotification);
+
+            NotificationResponse response = toNotificationResponse(savedNotification);
+            runAfterCommit(() -> {
+                unreadNotificationCountCache.increment(user.getId());
+                notificationStreamRegistry.publish(response);
+            });
 
             AuditLogCreatedEvent event = createAuditLogEvent(
                     EntityType.NOTIFICATION,
                     savedNotification.getId(),
                     AuditAction.NOTIFICATION_SENT,
                     notification.getUser(),
-                    "",
-                    String.format("Notification created successfully: %s", notification.getId())
+                    AuditDiff.create().added(NOTIFICATION_TYPE, notification.getNotificationType())
             );
 
             auditService.publishAuditLogEvent(event);
@@ -202,6 +336,24 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    public void publishNotificationEvents(List<NotificationCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        logger.info("Creating notification events")
+                .attr("count", events.size())
+                .log();
+
+        eventProducer.publishEvents(
+                EntityType.NOTIFICATION.toString(),
+                notificationTopic,
+                events,
+                event -> event.getNotificationId().toString()
+        );
+    }
+
+    @Override
+    @Transactional
     public void createNotificationFromEventPayload(String eventPayload) {
         try {
             logger.info("Processing notification event from payload")
@@ -210,7 +362,11 @@ public class NotificationServiceImpl implements NotificationService {
 
             NotificationCreatedEvent notificationCreatedEvent = JsonUtil.parseNotificationCreatedEvent(eventPayload);
 
-            createNotificationFromEvent(notificationCreatedEvent);
+            if (notificationDigester.isEnabled()) {
+                notificationDigester.add(notificationCreatedEvent);
+            } else {
+                createNotificationFromEvent(notificationCreatedEvent);
+            }
 
             logger.info("Successfully processed notification event from payload")
                     .attr("notificationId", notificationCreatedEvent.getNotificationId())
@@ -226,4 +382,56 @@ public class NotificationServiceImpl implements NotificationService {
             throw new RuntimeException("Failed to process notification event from payload", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Persists the digests whose window has passed. A digest that fails stays stored and is retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval-ms}")
+    public void flushDigests() {
+        notificationDigester.releaseDue(this::createNotificationFromEvent);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private NotificationPageResponse toPageResponse(List<NotificationResponse> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<NotificationResponse> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            NotificationResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return NotificationPageResponse.builder()
+                .notifications(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static KeysetCursor decodeCursor(String cursor) {
+        return cursor != null ? KeysetCursor.decode(cursor) : null;
+    }
+
+    private int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested < 1) {
+            throw new InvalidOperationException("Page size must be positive for notifications query");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
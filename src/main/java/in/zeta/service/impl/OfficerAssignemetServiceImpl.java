@@ -1,26 +1,34 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.RoleMember;
+import in.zeta.cache.RoleRegistry;
 import in.zeta.constants.Messages;
-import in.zeta.entity.Document;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
 import in.zeta.enums.*;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.dto.requests.events.StatusUpdateEvent;
 import in.zeta.service.*;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.statemachine.VerificationStateMachine;
+import in.zeta.util.AuditDiff;
 import olympus.trace.OlympusSpectra;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static in.zeta.mapper.AuditLogMapper.createAuditLogEvent;
 import static in.zeta.mapper.NotificationMapper.createNotificationEvent;
+import static in.zeta.mapper.StatusHistoryMapper.createEvent;
 
 @Service
 @Transactional
@@ -29,81 +37,132 @@ public class OfficerAssignemetServiceImpl implements OfficerAssignmentService {
     public static final SpectraLogger logger = OlympusSpectra.getLogger(OfficerAssignemetServiceImpl.class);
     private final AuditService auditService;
     private final VerificationRequestService verificationRequestService;
-    private final DocumentService documentService;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final RoleRegistry roleRegistry;
+    private final VerificationStateMachine verificationStateMachine;
+    private final StatusHistoryService statusHistoryService;
 
     public OfficerAssignemetServiceImpl(AuditService auditService,
                                        VerificationRequestService verificationRequestService,
-                                       @Lazy DocumentService documentService,
                                        UserService userService,
-                                       NotificationService notificationService) {
+                                       NotificationService notificationService,
+                                       RoleRegistry roleRegistry,
+                                       VerificationStateMachine verificationStateMachine,
+                                       StatusHistoryService statusHistoryService) {
         this.auditService = auditService;
         this.verificationRequestService = verificationRequestService;
-        this.documentService = documentService;
         this.userService = userService;
         this.notificationService = notificationService;
+        this.roleRegistry = roleRegistry;
+        this.verificationStateMachine = verificationStateMachine;
+        this.statusHistoryService = statusHistoryService;
     }
 
 
     @Override
     public BigDecimal getOfficerWorkload(UUID officerId) {
-        Users officer = userService.getByIdOrThrow(officerId, "Officer not found " + officerId) ;
-
-        List<VerificationRequest> activeRequests = verificationRequestService
-                .findByAssignedOfficerAndStatus(officer, VerificationStatus.DOCUMENT_UPLOADED);
-
-        BigDecimal requestCount = BigDecimal.valueOf(activeRequests.size());
-        BigDecimal totalDocuments = BigDecimal.ZERO;
-        BigDecimal totalDocumentSize = BigDecimal.ZERO;
-
-        for (VerificationRequest request : activeRequests) {
-
-            List<Document> documents = documentService.findByVerificationRequestId(request.getId());
-            totalDocuments = totalDocuments.add(BigDecimal.valueOf(documents.size()));
-
-            BigDecimal documentSizeSum = documents.stream()
-                    .map(Document::getFileSize)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            totalDocumentSize = totalDocumentSize.add(documentSizeSum);
-        }
-
-        BigDecimal sizeInMB = totalDocumentSize.divide(BigDecimal.valueOf(1024L * 1024), 0, RoundingMode.DOWN);
-
-        BigDecimal workloadScore = requestCount.multiply(BigDecimal.valueOf(10))
-                .add(totalDocuments.multiply(BigDecimal.valueOf(2)))
-                .add(sizeInMB);
-
-        return workloadScore;
+        userService.getByIdOrThrow(officerId, "Officer not found " + officerId);
+        return workloads(List.of(officerId)).getOrDefault(officerId, BigDecimal.ZERO);
     }
 
     @Override
     @Transactional
     public void assignOfficerToVerification(UUID verificationId) {
         VerificationRequest verificationRequest = verificationRequestService.getByIdOrThrow(verificationId);
-        List<Users> availableOfficers = userService.findByRole(Role.VERIFICATION_OFFICER);
+        List<RoleMember> availableOfficers = roleRegistry.members(Role.VERIFICATION_OFFICER);
 
         if (availableOfficers.isEmpty()) {
             throw new RuntimeException("No verification officers available");
         }
 
-        Users selectedOfficer = availableOfficers.stream()
-                .min(Comparator.comparing(officer -> getOfficerWorkload(officer.getId())))
+        UUID selectedOfficerId = leastLoaded(availableOfficers.stream().map(RoleMember::id).toList())
                 .orElseThrow(() -> new RuntimeException("Unable to assign officer"));
+        assign(verificationRequest, selectedOfficerId);
+    }
+
+    /**
+     * Hands the request to the least loaded other officer. Returns the new officer, or empty when there is no other
+     * officer to hand it to.
+     */
+    @Override
+    @Transactional
+    public Optional<UUID> reassignOfficer(UUID verificationId) {
+        VerificationRequest verificationRequest = verificationRequestService.getByIdOrThrow(verificationId);
+        UUID currentOfficerId = verificationRequest.getAssignedOfficer() != null
+                ? verificationRequest.getAssignedOfficer().getId()
+                : null;
+
+        Optional<UUID> selectedOfficerId = leastLoaded(roleRegistry.members(Role.VERIFICATION_OFFICER).stream()
+                .map(RoleMember::id)
+                .filter(officerId -> !officerId.equals(currentOfficerId))
+                .toList());
+        if (selectedOfficerId.isEmpty()) {
+            logger.info("No other verification officer to reassign to")
+                    .attr("verificationRequestId", verificationId)
+                    .attr("currentOfficerId", currentOfficerId)
+                    .log();
+            return Optional.empty();
+        }
+
+        if (currentOfficerId == null) {
+            assign(verificationRequest, selectedOfficerId.get());
+        } else {
+            verificationRequestService.assignToOfficer(verificationId, selectedOfficerId.get());
+        }
+        return selectedOfficerId;
+    }
+
+    /**
+     * Picks the officer with the lowest workload, scoring all of them with one query. Ties go to the officer listed
+     * first.
+     */
+    private Optional<UUID> leastLoaded(List<UUID> officerIds) {
+        Map<UUID, BigDecimal> workloads = workloads(officerIds);
+        return officerIds.stream()
+                .min(Comparator.comparing(officerId -> workloads.getOrDefault(officerId, BigDecimal.ZERO)));
+    }
+
+    /**
+     * Scores the officers by the requests they have in review, which is where {@link #assign} puts them. Officers
+     * without any are left out of the map.
+     */
+    private Map<UUID, BigDecimal> workloads(List<UUID> officerIds) {
+        return verificationRequestService.findOfficerWorkloads(officerIds, VerificationStatus.IN_REVIEW).stream()
+                .collect(Collectors.toMap(OfficerWorkload::officerId, OfficerWorkload::score));
+    }
+
+    /**
+     * Assigns the officer and moves the request to IN_REVIEW through the state machine. The transition is published
+     * to the status history like an officer's status change, so it starts the request's review deadline.
+     */
+    private void assign(VerificationRequest verificationRequest, UUID selectedOfficerId) {
+        UUID verificationId = verificationRequest.getId();
+        Users selectedOfficer = userService.getByIdOrThrow(selectedOfficerId, "Officer not found " + selectedOfficerId);
 
         verificationRequest.setAssignedOfficer(selectedOfficer);
-        verificationRequest.setStatus(VerificationStatus.IN_REVIEW);
         verificationRequestService.saveVerificationRequest(verificationRequest);
+        if (verificationRequest.getStatus() != VerificationStatus.IN_REVIEW) {
+            // Flushes the assignment first, then moves the status with the state machine's version check
+            VerificationStateMachine.Transition transition =
+                    verificationStateMachine.transition(verificationId, VerificationStatus.IN_REVIEW);
+            StatusUpdateEvent statusUpdateEvent = createEvent(
+                    verificationId,
+                    selectedOfficer.getId(),
+                    transition.from(),
+                    transition.to(),
+                    null
+            );
+            // Consumers read the request's officer, so the event must not leave before the assignment commits
+            runAfterCommit(() -> statusHistoryService.publishStatusUpdateEvent(statusUpdateEvent));
+        }
 
         AuditLogCreatedEvent event = createAuditLogEvent(
                 EntityType.VERIFICATION_REQUEST,
                 verificationRequest.getId(),
                 AuditAction.VERIFICATION_REQUEST_ASSIGNED,
                 selectedOfficer,
-                String.format("Officer not yet assigned"),
-                String.format("Officer assigned from verification: %s, to role: %s",
-                        verificationId, selectedOfficer.getId())
+                AuditDiff.create().added(Messages.Keys.OFFICER_ID, selectedOfficer.getId())
         );
 
         logger.info("Creating audit log event for officer assignment")
@@ -138,5 +197,16 @@ public class OfficerAssignemetServiceImpl implements OfficerAssignmentService {
         notificationService.publishNotificationEvent(notificationCreatedEvent);
     }
 
-
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
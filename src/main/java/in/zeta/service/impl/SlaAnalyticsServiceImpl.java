@@ -0,0 +1,120 @@
+package in.zeta.service.impl;
+
+import in.zeta.analytics.DurationSketch;
+import in.zeta.dto.response.SlaMetricSummary;
+import in.zeta.dto.response.SlaReportResponse;
+import in.zeta.enums.SlaDimension;
+import in.zeta.enums.SlaMetric;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.exception.BadRequestException;
+import in.zeta.exception.InvalidOperationException;
+import in.zeta.service.SlaAnalyticsService;
+import in.zeta.spectra.capture.SpectraLogger;
+import lombok.RequiredArgsConstructor;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SLA dashboard reads over {@code sla_daily_aggregates}.
+ * <p>
+ * A report sums the daily duration buckets of one officer or requestor (or all of them) over a date range, so its
+ * cost depends on the number of days and buckets, never on the size of {@code status_history}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlaAnalyticsServiceImpl implements SlaAnalyticsService {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(SlaAnalyticsServiceImpl.class);
+
+    private static final String SELECT_BUCKETS_SQL =
+            "SELECT metric, status, bucket, SUM(sample_count) AS sample_count, " +
+            "SUM(total_seconds) AS total_seconds, MAX(max_seconds) AS max_seconds " +
+            "FROM sla_daily_aggregates WHERE dimension = ? AND day >= ? AND day <= ?";
+
+    private static final String DIMENSION_ID_CONDITION = " AND dimension_id = ?";
+
+    private static final String GROUP_BY_BUCKET_SQL = " GROUP BY metric, status, bucket ORDER BY metric, status, bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${sla.analytics.max-range-days}")
+    private int maxRangeDays;
+
+    @Override
+    public SlaReportResponse getSlaReport(SlaDimension dimension, UUID dimensionId, LocalDate from, LocalDate to) {
+        if (dimension == null || from == null || to == null) {
+            throw new BadRequestException("Dimension, 'from' and 'to' are required for an SLA report");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidOperationException("'from' must not be after 'to' for an SLA report");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BadRequestException("SLA report range cannot exceed " + maxRangeDays + " days");
+        }
+
+        String sql = SELECT_BUCKETS_SQL + (dimensionId != null ? DIMENSION_ID_CONDITION : "") + GROUP_BY_BUCKET_SQL;
+        List<Object> args = new ArrayList<>(List.of(dimension.name(), Date.valueOf(from), Date.valueOf(to)));
+        if (dimensionId != null) {
+            args.add(dimensionId);
+        }
+
+        Map<MetricKey, DurationSketch> sketches = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            MetricKey key = new MetricKey(
+                    SlaMetric.valueOf(rs.getString("metric")),
+                    VerificationStatus.valueOf(rs.getString("status")));
+            sketches.computeIfAbsent(key, k -> new DurationSketch()).add(
+                    rs.getInt("bucket"),
+                    rs.getLong("sample_count"),
+                    rs.getLong("total_seconds"),
+                    rs.getLong("max_seconds"));
+        }, args.toArray());
+
+        List<SlaMetricSummary> metrics = sketches.entrySet().stream()
+                .map(entry -> toSummary(entry.getKey(), entry.getValue()))
+                .toList();
+
+        logger.info("Built SLA report")
+                .attr("dimension", dimension)
+                .attr("dimensionId", dimensionId)
+                .attr("from", from)
+                .attr("to", to)
+                .attr("metrics", metrics.size())
+                .log();
+
+        return SlaReportResponse.builder()
+                .dimension(dimension)
+                .dimensionId(dimensionId)
+                .from(from)
+                .to(to)
+                .metrics(metrics)
+                .build();
+    }
+
+    private static SlaMetricSummary toSummary(MetricKey key, DurationSketch sketch) {
+        return SlaMetricSummary.builder()
+                .metric(key.metric())
+                .status(key.status())
+                .count(sketch.count())
+                .meanSeconds(sketch.meanSeconds())
+                .p50Seconds(sketch.quantile(0.5))
+                .p90Seconds(sketch.quantile(0.9))
+                .p99Seconds(sketch.quantile(0.99))
+                .maxSeconds(sketch.maxSeconds())
+                .build();
+    }
+
+    private record MetricKey(SlaMetric metric, VerificationStatus status) {
+    }
+}
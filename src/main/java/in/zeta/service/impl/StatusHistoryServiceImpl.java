@@ -1,6 +1,8 @@
 package in.zeta.service.impl;
 
+import in.zeta.analytics.SlaAggregator;
 import in.zeta.constants.Messages;
+import in.zeta.deadline.RequestDeadlineQueue;
 import in.zeta.entity.StatusHistory;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
@@ -18,12 +20,23 @@ import in.zeta.service.*;
 import in.zeta.repository.StatusHistoryRepository;
 import in.zeta.spectra.capture.SpectraLogger;
 import in.zeta.util.JsonUtil;
+import in.zeta.util.AuditDiff;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static in.zeta.mapper.AuditLogMapper.createAuditLogEvent;
@@ -44,6 +57,12 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
     private final AuditService auditService;
     private final NotificationService notificationService;
     private final EventProducer eventProducer;
+    private final SlaAggregator slaAggregator;
+    private final RequestDeadlineQueue requestDeadlineQueue;
+
+    private static final String AUDIT = "audit";
+    private static final String NOTIFICATIONS = "notifications";
+
     private final SpectraLogger logger = OlympusSpectra.getLogger(StatusHistoryServiceImpl.class);
 
     @Override
@@ -83,12 +102,14 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
                     .attr("verificationRequestId", verificationRequestId.toString())
                     .log();
 
-            VerificationRequest verificationRequest = verificationRequestService.getByIdOrThrow(verificationRequestId);
-            StatusHistory statusHistory = statusHistoryRepository
-                    .findLatestStatusHistory(verificationRequest)
-                    .orElseThrow(() -> new DataNotFoundException("status_history not found", "verification_request_id", verificationRequestId));
+            Optional<VerificationStatus> latestStatus = statusHistoryRepository.findLatestStatus(verificationRequestId);
+            if (latestStatus.isEmpty()) {
+                // an unknown request fails here; a known one simply has no history yet
+                verificationRequestService.getByIdOrThrow(verificationRequestId);
+                throw new DataNotFoundException("status_history not found", "verification_request_id", verificationRequestId);
+            }
 
-            return statusHistory.getToStatus();
+            return latestStatus.get();
         } catch (DataNotFoundException e) {
             logger.error("Latest status not found")
                     .attr("tableName", e.getTableName())
@@ -152,85 +173,114 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
         );
     }
 
+    @Override
+    public void publishStatusUpdateEvents(List<StatusUpdateEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        eventProducer.publishEvents(
+                EntityType.STATUS_HISTORY.toString(),
+                statusUpdateTopic,
+                events,
+                event -> event.getId().toString()
+        );
+    }
+
     @Override
     public void updateStatusHistory(StatusUpdateEvent statusUpdateEvent) {
         VerificationRequest verificationRequest = verificationRequestService.getByIdOrThrow(statusUpdateEvent.getVerificationRequestId());
         Users user = userService.getByIdOrThrow(statusUpdateEvent.getChangedBy(), "User not found with ID: " + statusUpdateEvent.getChangedBy());
 
         StatusHistory statusHistory = toStatusHistory(statusUpdateEvent, verificationRequest, user);
-        StatusHistory savedStatusHistory = statusHistoryRepository.save(statusHistory);
+        Optional<StatusHistory> saved = statusHistoryRepository.saveTransition(statusHistory);
+        if (saved.isEmpty()) {
+            // a redelivery: the side effects ran when the transition was first saved
+            logger.info("Status update event already recorded")
+                    .attr("statusUpdateEventId", statusUpdateEvent.getId())
+                    .attr("verificationRequestId", statusUpdateEvent.getVerificationRequestId())
+                    .log();
+            return;
+        }
+        StatusHistory savedStatusHistory = saved.get();
+        recordSla(List.of(savedStatusHistory));
+        trackDeadlines(List.of(savedStatusHistory));
 
-        AuditLogCreatedEvent event = createAuditLogEvent(
-                EntityType.STATUS_HISTORY,
-                savedStatusHistory.getId(),
-                AuditAction.STATUS_HISTORY_UPDATED,
-                user,
-                statusUpdateEvent.getFromStatus().toString(),
-                String.format("Status updated from %s to %s", statusUpdateEvent.getFromStatus(), statusUpdateEvent.getToStatus())
-        );
+        runSideEffect(AUDIT, statusUpdateEvent.getId(), 1, () ->
+                auditService.publishAuditLogEvent(statusAuditEvent(savedStatusHistory, statusUpdateEvent, user)));
+        runSideEffect(NOTIFICATIONS, statusUpdateEvent.getId(), 1, () ->
+                routeNotifications(statusUpdateEvent, verificationRequest, savedStatusHistory.getChangedAt())
+                        .forEach(notificationService::publishNotificationEvent));
+    }
 
-        auditService.publishAuditLogEvent(event);
+    /**
+     * Ingests a batch with one reference lookup and one JDBC batch. Events whose verification request or user is
+     * unknown are not saved and are returned so the caller can fail them; redelivered events that are already stored
+     * are neither saved again nor audited or notified twice.
+     */
+    @Override
+    public List<StatusUpdateEvent> updateStatusHistories(List<StatusUpdateEvent> statusUpdateEvents) {
+        if (statusUpdateEvents.isEmpty()) {
+            return List.of();
+        }
 
-        NotificationType status = null;
-        String message = "";
-        UUID customerId = null;
+        Set<UUID> verificationRequestIds = new HashSet<>();
+        Set<UUID> userIds = new HashSet<>();
+        for (StatusUpdateEvent statusUpdateEvent : statusUpdateEvents) {
+            verificationRequestIds.add(statusUpdateEvent.getVerificationRequestId());
+            userIds.add(statusUpdateEvent.getChangedBy());
+        }
+        Map<UUID, VerificationRequest> verificationRequests = verificationRequestService.getAllWithParticipants(verificationRequestIds)
+                .stream()
+                .collect(Collectors.toMap(VerificationRequest::getId, Function.identity()));
+        Map<UUID, Users> users = userService.getByIds(userIds).stream()
+                .collect(Collectors.toMap(Users::getId, Function.identity()));
 
-        switch (statusUpdateEvent.getToStatus()) {
-            case PENDING:
-                verificationRequest.setUpdatedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.VERIFICATION_REQUESTED;
-                status = NotificationType.VERIFICATION_REQUESTED;
-                customerId = verificationRequest.getCustomer().getId();
-                break;
-            case DOCUMENT_UPDATED:
-                verificationRequest.setUpdatedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.DOCUMENT_UPDATED;
-                status = NotificationType.DOCUMENT_UPDATED;
-                customerId = verificationRequest.getAssignedOfficer().getId();
-                sendNotificationToRequestorIfNeeded(status, message, verificationRequest);
-                break;
-            case DOCUMENT_UPLOADED:
-                verificationRequest.setUpdatedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.DOCUMENT_UPLOADED;
-                status = NotificationType.DOCUMENT_UPLOADED;
-                customerId = verificationRequest.getAssignedOfficer().getId();
-                sendNotificationToRequestorIfNeeded(status, message, verificationRequest);
-                break;
-            case APPROVED:
-                verificationRequest.setApprovedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.VERIFICATION_APPROVED;
-                status = NotificationType.VERIFICATION_APPROVED;
-                customerId = verificationRequest.getCustomer().getId();
-                break;
-            case REJECTED:
-                verificationRequest.setRejectedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.VERIFICATION_REJECTED;
-                status = NotificationType.VERIFICATION_REJECTED;
-                customerId = verificationRequest.getCustomer().getId();
-                break;
-            case SENT_BACK:
-                verificationRequest.setUpdatedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.SENT_BACK_FOR_DETAILS;
-                status = NotificationType.SENT_BACK_FOR_DETAILS;
-                customerId = verificationRequest.getCustomer().getId();
-                break;
-            case IN_REVIEW:
-                verificationRequest.setUpdatedAt(savedStatusHistory.getChangedAt());
-                message = Messages.Notification.ASSIGNED_TO_OFFICER;
-                status = NotificationType.ASSIGNED_TO_OFFICER;
-                customerId = verificationRequest.getCustomer().getId();
-                break;
-            default:
-                break;
+        List<StatusUpdateEvent> rejectedEvents = new ArrayList<>();
+        Map<StatusHistory, StatusUpdateEvent> eventsByHistory = new IdentityHashMap<>();
+        List<StatusHistory> statusHistories = new ArrayList<>(statusUpdateEvents.size());
+        for (StatusUpdateEvent statusUpdateEvent : statusUpdateEvents) {
+            VerificationRequest verificationRequest = verificationRequests.get(statusUpdateEvent.getVerificationRequestId());
+            Users user = users.get(statusUpdateEvent.getChangedBy());
+            if (verificationRequest == null || user == null) {
+                // the single-event path would reject these; one bad event must not hold back the rest of the batch
+                logger.error("Rejecting status update event with unknown reference")
+                        .attr("statusUpdateEventId", statusUpdateEvent.getId())
+                        .attr("verificationRequestId", statusUpdateEvent.getVerificationRequestId())
+                        .attr("changedBy", statusUpdateEvent.getChangedBy())
+                        .log();
+                rejectedEvents.add(statusUpdateEvent);
+                continue;
+            }
+            StatusHistory statusHistory = toStatusHistory(statusUpdateEvent, verificationRequest, user);
+            eventsByHistory.put(statusHistory, statusUpdateEvent);
+            statusHistories.add(statusHistory);
         }
 
-        NotificationCreatedEvent customerNotification = createNotificationEvent(
-                customerId,
-                verificationRequest.getId(),
-                status,
-                message
-        );
-        notificationService.publishNotificationEvent(customerNotification);
+        List<StatusHistory> savedStatusHistories = statusHistoryRepository.saveTransitions(statusHistories);
+        recordSla(savedStatusHistories);
+        trackDeadlines(savedStatusHistories);
+
+        List<AuditLogCreatedEvent> auditEvents = new ArrayList<>(savedStatusHistories.size());
+        List<NotificationCreatedEvent> notificationEvents = new ArrayList<>();
+        for (StatusHistory statusHistory : savedStatusHistories) {
+            StatusUpdateEvent statusUpdateEvent = eventsByHistory.get(statusHistory);
+            runSideEffect(AUDIT, statusUpdateEvent.getId(), 1, () ->
+                    auditEvents.add(statusAuditEvent(statusHistory, statusUpdateEvent, statusHistory.getChangedBy())));
+            runSideEffect(NOTIFICATIONS, statusUpdateEvent.getId(), 1, () ->
+                    notificationEvents.addAll(routeNotifications(
+                            statusUpdateEvent, statusHistory.getVerificationRequest(), statusHistory.getChangedAt())));
+        }
+        runSideEffect(AUDIT, null, auditEvents.size(), () -> auditService.publishAuditLogEvents(auditEvents));
+        runSideEffect(NOTIFICATIONS, null, notificationEvents.size(),
+                () -> notificationService.publishNotificationEvents(notificationEvents));
+
+        logger.info("Status update batch ingested")
+                .attr("received", statusUpdateEvents.size())
+                .attr("saved", savedStatusHistories.size())
+                .attr("rejected", rejectedEvents.size())
+                .attr("notifications", notificationEvents.size())
+                .log();
+        return rejectedEvents;
     }
 
     @Override
@@ -244,20 +294,124 @@ public class StatusHistoryServiceImpl implements StatusHistoryService {
         }
 
     }
-    private void sendNotificationToRequestorIfNeeded(NotificationType status, String message, VerificationRequest request) {
-        logger.info("Checking if notification to requestor is needed")
-                .attr("verificationRequestId", request.getId().toString())
-                .attr("status", status.toString())
-                .log();
+    /**
+     * Feeds the SLA aggregates in transition order. The request's latest transition time was read before these
+     * rows were saved, so it is the start of the first one; each later transition of the same request in the batch
+     * starts where the previous one ended.
+     */
+    private void recordSla(List<StatusHistory> statusHistories) {
+        Map<UUID, LocalDateTime> previousTransitions = new HashMap<>();
+        statusHistories.stream()
+                .sorted(Comparator.comparing(StatusHistory::getChangedAt))
+                .forEach(statusHistory -> {
+                    VerificationRequest verificationRequest = statusHistory.getVerificationRequest();
+                    LocalDateTime previousAt = previousTransitions.getOrDefault(verificationRequest.getId(),
+                            verificationRequest.getLatestStatusAt() != null
+                                    ? verificationRequest.getLatestStatusAt()
+                                    : verificationRequest.getCreatedAt());
+                    if (slaAggregator.record(statusHistory, previousAt)) {
+                        previousTransitions.put(verificationRequest.getId(), statusHistory.getChangedAt());
+                    }
+                });
+    }
+
+    /**
+     * Starts or clears the stale-request deadlines. The transitions are already saved, so a failure here only
+     * delays escalation and is logged rather than rethrown.
+     */
+    private void trackDeadlines(List<StatusHistory> statusHistories) {
+        try {
+            requestDeadlineQueue.track(statusHistories);
+        } catch (Exception e) {
+            logger.error("Failed to track request deadlines")
+                    .attr("transitions", statusHistories.size())
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
 
-            NotificationCreatedEvent requestorNotification = createNotificationEvent(
-                    request.getRequestor().getId(),
-                    request.getId(),
-                    status,
-                    message
-            );
+    /**
+     * Builds or publishes one side effect of transitions that are already committed. Failing the ingest here would
+     * only get the event redelivered, and a redelivery is skipped as already recorded, so the failure is logged and
+     * the remaining side effects still run.
+     */
+    private void runSideEffect(String sideEffect, UUID statusUpdateEventId, int count, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            logger.error("Failed to run status update side effect")
+                    .attr("sideEffect", sideEffect)
+                    .attr("statusUpdateEventId", statusUpdateEventId)
+                    .attr("count", count)
+                    .attr("error", e.getMessage())
+                    .log();
+        }
+    }
 
-            notificationService.publishNotificationEvent(requestorNotification);
+    private static AuditLogCreatedEvent statusAuditEvent(StatusHistory statusHistory, StatusUpdateEvent statusUpdateEvent, Users user) {
+        return createAuditLogEvent(
+                EntityType.STATUS_HISTORY,
+                statusHistory.getId(),
+                AuditAction.STATUS_HISTORY_UPDATED,
+                user,
+                AuditDiff.create().changed(Messages.Keys.STATUS,
+                        statusUpdateEvent.getFromStatus(), statusUpdateEvent.getToStatus())
+        );
+    }
+
+    /**
+     * Stamps the transition time on the request and returns the notifications the new status triggers. Document
+     * changes go to the requestor and the assigned officer, everything else to the customer.
+     */
+    private static List<NotificationCreatedEvent> routeNotifications(StatusUpdateEvent statusUpdateEvent,
+                                                                     VerificationRequest verificationRequest,
+                                                                     LocalDateTime changedAt) {
+        UUID verificationRequestId = verificationRequest.getId();
+        switch (statusUpdateEvent.getToStatus()) {
+            case PENDING:
+                verificationRequest.setUpdatedAt(changedAt);
+                return List.of(createNotificationEvent(verificationRequest.getCustomer().getId(), verificationRequestId,
+                        NotificationType.VERIFICATION_REQUESTED, Messages.Notification.VERIFICATION_REQUESTED));
+            case DOCUMENT_UPDATED:
+                verificationRequest.setUpdatedAt(changedAt);
+                return documentNotifications(verificationRequest,
+                        NotificationType.DOCUMENT_UPDATED, Messages.Notification.DOCUMENT_UPDATED);
+            case DOCUMENT_UPLOADED:
+                verificationRequest.setUpdatedAt(changedAt);
+                return documentNotifications(verificationRequest,
+                        NotificationType.DOCUMENT_UPLOADED, Messages.Notification.DOCUMENT_UPLOADED);
+            case APPROVED:
+                verificationRequest.setApprovedAt(changedAt);
+                return List.of(createNotificationEvent(verificationRequest.getCustomer().getId(), verificationRequestId,
+                        NotificationType.VERIFICATION_APPROVED, Messages.Notification.VERIFICATION_APPROVED));
+            case REJECTED:
+                verificationRequest.setRejectedAt(changedAt);
+                return List.of(createNotificationEvent(verificationRequest.getCustomer().getId(), verificationRequestId,
+                        NotificationType.VERIFICATION_REJECTED, Messages.Notification.VERIFICATION_REJECTED));
+            case SENT_BACK:
+                verificationRequest.setUpdatedAt(changedAt);
+                return List.of(createNotificationEvent(verificationRequest.getCustomer().getId(), verificationRequestId,
+                        NotificationType.SENT_BACK_FOR_DETAILS, Messages.Notification.SENT_BACK_FOR_DETAILS));
+            case IN_REVIEW:
+                verificationRequest.setUpdatedAt(changedAt);
+                return List.of(createNotificationEvent(verificationRequest.getCustomer().getId(), verificationRequestId,
+                        NotificationType.ASSIGNED_TO_OFFICER, Messages.Notification.ASSIGNED_TO_OFFICER));
+            default:
+                return List.of();
+        }
+    }
+
+    private static List<NotificationCreatedEvent> documentNotifications(VerificationRequest verificationRequest,
+                                                                        NotificationType type, String message) {
+        List<NotificationCreatedEvent> notifications = new ArrayList<>(2);
+        notifications.add(createNotificationEvent(
+                verificationRequest.getRequestor().getId(), verificationRequest.getId(), type, message));
+        // an upload can arrive before an officer is assigned
+        if (verificationRequest.getAssignedOfficer() != null) {
+            notifications.add(createNotificationEvent(
+                    verificationRequest.getAssignedOfficer().getId(), verificationRequest.getId(), type, message));
+        }
+        return notifications;
     }
 
-}
\ No newline at end of file
+}
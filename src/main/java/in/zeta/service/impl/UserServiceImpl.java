@@ -1,5 +1,8 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.CachedUser;
+import in.zeta.cache.RoleRegistry;
+import in.zeta.cache.UserCache;
 import in.zeta.constants.Messages;
 import in.zeta.entity.Users;
 import in.zeta.enums.AuditAction;
@@ -16,6 +19,7 @@ import in.zeta.dto.response.UserResponse;
 import in.zeta.service.AuditService;
 import in.zeta.service.UserService;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.AuditDiff;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
@@ -24,8 +28,12 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static in.zeta.constants.Messages.Errors.FAILED_LOGIN_ATTEMPT;
 import static in.zeta.constants.Messages.Keys.*;
@@ -42,13 +50,22 @@ public class UserServiceImpl implements UserService {
     private final UserRepository usersRepository;
     private final AuditService auditService;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final RoleRegistry roleRegistry;
+
+    @Value("${user.cache.enabled}")
+    private boolean userCacheEnabled;
 
     public UserServiceImpl(UserRepository usersRepository,
                            @Lazy AuditService auditService,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordEncoder passwordEncoder,
+                           UserCache userCache,
+                           RoleRegistry roleRegistry) {
         this.usersRepository = usersRepository;
         this.auditService = auditService;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.roleRegistry = roleRegistry;
     }
 
     @Override
@@ -76,6 +93,8 @@ public class UserServiceImpl implements UserService {
                 userRole);
 
         Users savedUser = usersRepository.save(user);
+        evictFromCache(savedUser.getId());
+        roleRegistry.upsert(savedUser);
 
         logger.info(Messages.Auth.USER_REGISTERED_SUCCESSFULLY)
                 .attr(USER_ID, savedUser.getId())
@@ -89,9 +108,9 @@ public class UserServiceImpl implements UserService {
                 savedUser.getId(),
                 AuditAction.USER_CREATED,
                 savedUser,
-                null,
-                String.format( USER_CREATED_WITH_ROLE+ ": %s, email: %s",
-                        savedUser.getRole(), savedUser.getEmail())
+                AuditDiff.create()
+                        .added(ROLE, savedUser.getRole())
+                        .added(EMAIL, savedUser.getEmail())
         );
 
         auditService.publishAuditLogEvent(event);
@@ -117,8 +136,7 @@ public class UserServiceImpl implements UserService {
                     user.getId(),
                     AuditAction.ACCESS_DENIED,
                     user,
-                    null,
-                    String.format(FAILED_LOGIN_ATTEMPT + ": %s - Password mismatch", email)
+                    AuditDiff.create().added(REASON, FAILED_LOGIN_ATTEMPT)
             );
 
             auditService.publishAuditLogEvent(event);
@@ -136,10 +154,9 @@ public class UserServiceImpl implements UserService {
         AuditLogCreatedEvent event = createAuditLogEvent(
                 EntityType.USER,
                 user.getId(),
-                AuditAction.USER_ROLE_CHANGED,
+                AuditAction.USER_LOGIN,
                 user,
-                null,
-                String.format(Messages.Auth.LOGIN_SUCCESSFUL + ": %s", user.getUsername())
+                AuditDiff.create()
         );
 
         auditService.publishAuditLogEvent(event);
@@ -162,6 +179,8 @@ public class UserServiceImpl implements UserService {
         user.setRole(role);
         user.setUpdatedAt(LocalDateTime.now());
         Users updatedUser = usersRepository.save(user);
+        evictFromCache(updatedUser.getId());
+        roleRegistry.upsert(updatedUser);
 
         logger.info(Messages.User.USER_ROLE_UPDATED_SUCCESSFULLY)
                 .attr(EMAIL, updatedUser.getEmail())
@@ -174,9 +193,7 @@ public class UserServiceImpl implements UserService {
                 updatedUser.getId(),
                 AuditAction.USER_ROLE_CHANGED,
                 updatedUser,
-                null,
-                String.format(UPDATING_USER_DETAILS + ": %s, to role: %s",
-                        oldRole, updatedUser.getRole())
+                AuditDiff.create().changed(ROLE, oldRole, updatedUser.getRole())
         );
 
         auditService.publishAuditLogEvent(event);
@@ -191,10 +208,29 @@ public class UserServiceImpl implements UserService {
                 .attr(USER_ID, userId)
                 .log();
 
-        return usersRepository.findById(userId)
+        return findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(notFoundMessage));
     }
 
+    @Override
+    public List<Users> getByIds(Collection<UUID> userIds) {
+
+        logger.info(FETCHING_USER_DETAILS)
+                .attr(Messages.Keys.USER_COUNT, userIds.size())
+                .log();
+
+        if (!userCacheEnabled) {
+            return usersRepository.findAllById(userIds);
+        }
+
+        Map<UUID, CachedUser> users = userCache.getAll(userIds, missingIds ->
+                usersRepository.findAllById(List.copyOf(missingIds)).stream()
+                        .collect(Collectors.toMap(Users::getId, CachedUser::from)));
+        return users.values().stream()
+                .map(CachedUser::toUsers)
+                .toList();
+    }
+
     @Override
     public List<Users> findByRole(Role role) {
         logger.info(FETCHING_USER_BY_ROLE)
@@ -215,9 +251,23 @@ public class UserServiceImpl implements UserService {
                 .attr(USER_ID, userId)
                 .log();
 
-        Users user = usersRepository.findById(userId)
+        Users user = findById(userId)
                 .orElseThrow(() -> new DataNotFoundException("users", "id", userId));
 
         return toUserResponse(user);
     }
+
+    private Optional<Users> findById(UUID userId) {
+        if (!userCacheEnabled) {
+            return usersRepository.findById(userId);
+        }
+        return Optional.ofNullable(userCache.get(userId, id -> usersRepository.findById(id).map(CachedUser::from).orElse(null)))
+                .map(CachedUser::toUsers);
+    }
+
+    private void evictFromCache(UUID userId) {
+        if (userCacheEnabled) {
+            userCache.invalidate(userId);
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.RequestLimitQuotaCache;
 import in.zeta.dto.response.VerificationRequestResponse;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
@@ -17,11 +18,17 @@ import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +37,7 @@ public class VerificationRequestLimitServiceImpl implements VerificationRequestL
 
     private final VerificationRequestLimitRepository verificationRequestLimitRepository;
     private final UserService userService;
-
+    private final RequestLimitQuotaCache quotaCache;
 
     private static final SpectraLogger logger = OlympusSpectra.getLogger(VerificationRequestLimitServiceImpl.class);
 
@@ -40,10 +47,20 @@ public class VerificationRequestLimitServiceImpl implements VerificationRequestL
     @Value("${max.verification.request.to.each.customer}")
     private Integer maxVerificationRequestsToEachCustomer;
 
+    @Value("${quota.cache.enabled}")
+    private boolean quotaCacheEnabled;
+
     @Override
     public boolean canCreateVerificationRequest(Users customer, Users requestor) {
         int currentYear = LocalDate.now().getYear();
 
+        if (quotaCacheEnabled) {
+            RequestLimitQuotaCache.QuotaCounter counter =
+                    quotaCache.getOrLoad(customer.getId(), requestor.getId(), currentYear);
+            return counter.requestCount() < defaultMaxAllowedRequests
+                    && counter.totalRequests() < counter.maxAllowedRequests();
+        }
+
         Optional<VerificationRequestLimit> record =
                 verificationRequestLimitRepository.findByCustomerIdAndVerificationRequestorIdAndYear(
                         customer.getId(), requestor.getId(), currentYear);
@@ -70,10 +87,34 @@ public class VerificationRequestLimitServiceImpl implements VerificationRequestL
         return canCreate;
     }
 
+    @Override
+    public boolean tryAcquireRequest(Users customer, Users requestor) {
+        if (!quotaCacheEnabled) {
+            // The row update joins the caller's transaction, so a rollback undoes it.
+            if (!canCreateVerificationRequest(customer, requestor)) {
+                return false;
+            }
+            incrementRequestCount(customer, requestor);
+            return true;
+        }
+
+        int currentYear = LocalDate.now().getYear();
+        if (!quotaCache.tryAcquire(customer.getId(), requestor.getId(), currentYear, 1, defaultMaxAllowedRequests)) {
+            return false;
+        }
+        releaseOnRollback(() -> quotaCache.release(customer.getId(), requestor.getId(), currentYear, 1));
+        return true;
+    }
+
     @Override
     public void incrementRequestCount(Users customer, Users requestor) {
         int currentYear = LocalDate.now().getYear();
 
+        if (quotaCacheEnabled) {
+            quotaCache.increment(customer.getId(), requestor.getId(), currentYear, defaultMaxAllowedRequests);
+            return;
+        }
+
         // Find existing record
         Optional<VerificationRequestLimit> existingRecord =
                 verificationRequestLimitRepository.findByCustomerIdAndVerificationRequestorIdAndYear(
@@ -127,6 +168,150 @@ public class VerificationRequestLimitServiceImpl implements VerificationRequestL
                 .log();
     }
 
+    @Override
+    public List<UUID> findCustomersOverLimit(Users requestor, Map<UUID, Long> requestsPerCustomer) {
+        int currentYear = LocalDate.now().getYear();
+        List<UUID> overLimit = new ArrayList<>();
+
+        if (quotaCacheEnabled) {
+            requestsPerCustomer.forEach((customerId, requested) -> {
+                RequestLimitQuotaCache.QuotaCounter counter =
+                        quotaCache.getOrLoad(customerId, requestor.getId(), currentYear);
+                if (exceedsLimit(counter.requestCount(), counter.totalRequests(), counter.maxAllowedRequests(), requested)) {
+                    overLimit.add(customerId);
+                }
+            });
+        } else {
+            Map<UUID, VerificationRequestLimit> limits = verificationRequestLimitRepository
+                    .findByVerificationRequestorIdAndYearAndCustomerIdIn(requestor.getId(), currentYear, requestsPerCustomer.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(limit -> limit.getCustomer().getId(), Function.identity()));
+
+            requestsPerCustomer.forEach((customerId, requested) -> {
+                VerificationRequestLimit limit = limits.get(customerId);
+                int currentCount = limit != null && limit.getRequestCount() != null ? limit.getRequestCount() : 0;
+                int totalRequests = limit != null && limit.getTotalRequests() != null ? limit.getTotalRequests() : 0;
+                int maxAllowed = limit != null && limit.getMaxAllowedRequests() != null
+                        ? limit.getMaxAllowedRequests() : maxVerificationRequestsToEachCustomer;
+                if (exceedsLimit(currentCount, totalRequests, maxAllowed, requested)) {
+                    overLimit.add(customerId);
+                }
+            });
+        }
+
+        logger.info("Checked verification request limits for batch")
+                .attr("requestorId", requestor.getId())
+                .attr("customerCount", requestsPerCustomer.size())
+                .attr("overLimitCount", overLimit.size())
+                .log();
+
+        return overLimit;
+    }
+
+    @Override
+    public void incrementRequestCounts(Users requestor, List<Users> customers) {
+        int currentYear = LocalDate.now().getYear();
+
+        if (quotaCacheEnabled) {
+            customers.forEach(customer ->
+                    quotaCache.increment(customer.getId(), requestor.getId(), currentYear, defaultMaxAllowedRequests));
+            return;
+        }
+
+        List<UUID> customerIds = customers.stream().map(Users::getId).distinct().toList();
+        Map<UUID, VerificationRequestLimit> records = verificationRequestLimitRepository
+                .findByVerificationRequestorIdAndYearAndCustomerIdIn(requestor.getId(), currentYear, customerIds)
+                .stream()
+                .collect(Collectors.toMap(limit -> limit.getCustomer().getId(), Function.identity()));
+
+        for (Users customer : customers) {
+            VerificationRequestLimit record = records.computeIfAbsent(customer.getId(), id ->
+                    VerificationRequestLimit.builder()
+                            .customer(customer)
+                            .verificationRequestor(requestor)
+                            .year(currentYear)
+                            .requestCount(0)
+                            .totalRequests(0)
+                            .maxAllowedRequests(maxVerificationRequestsToEachCustomer)
+                            .createdAt(LocalDateTime.now())
+                            .build());
+            int currentCount = record.getRequestCount() != null ? record.getRequestCount() : 0;
+            int currentTotal = record.getTotalRequests() != null ? record.getTotalRequests() : 0;
+            record.setRequestCount(currentCount <= defaultMaxAllowedRequests ? currentCount + 1 : 1);
+            record.setTotalRequests(currentTotal + 1);
+        }
+
+        verificationRequestLimitRepository.saveAll(records.values());
+
+        logger.info("Request counts updated for batch")
+                .attr("requestorId", requestor.getId())
+                .attr("recordCount", records.size())
+                .log();
+    }
+
+    /**
+     * The in-memory counters are not part of the transaction, so a rollback has to hand taken quota back itself.
+     */
+    private static void releaseOnRollback(Runnable release) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release.run();
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<UUID> tryAcquireRequests(Users requestor, List<Users> customers) {
+        Map<UUID, Long> requestsPerCustomer = new LinkedHashMap<>();
+        customers.forEach(customer -> requestsPerCustomer.merge(customer.getId(), 1L, Long::sum));
+
+        if (!quotaCacheEnabled) {
+            List<UUID> overLimit = findCustomersOverLimit(requestor, requestsPerCustomer);
+            if (overLimit.isEmpty()) {
+                incrementRequestCounts(requestor, customers);
+            }
+            return overLimit;
+        }
+
+        int currentYear = LocalDate.now().getYear();
+        Map<UUID, Integer> acquired = new LinkedHashMap<>();
+        List<UUID> overLimit = new ArrayList<>();
+        requestsPerCustomer.forEach((customerId, requested) -> {
+            if (quotaCache.tryAcquire(customerId, requestor.getId(), currentYear, requested.intValue(), defaultMaxAllowedRequests)) {
+                acquired.put(customerId, requested.intValue());
+            } else {
+                overLimit.add(customerId);
+            }
+        });
+
+        Runnable release = () -> acquired.forEach((customerId, permits) ->
+                quotaCache.release(customerId, requestor.getId(), currentYear, permits));
+        if (!overLimit.isEmpty()) {
+            release.run();
+        } else {
+            releaseOnRollback(release);
+        }
+
+        logger.info("Acquired verification request quota for batch")
+                .attr("requestorId", requestor.getId())
+                .attr("customerCount", requestsPerCustomer.size())
+                .attr("overLimitCount", overLimit.size())
+                .log();
+
+        return overLimit;
+    }
+
+    // Each of the requested creations must pass the single-request check against the count it would see.
+    private boolean exceedsLimit(int currentCount, int totalRequests, int maxAllowed, long requested) {
+        return currentCount + requested > defaultMaxAllowedRequests || totalRequests + requested > maxAllowed;
+    }
+
     @Override
     public RequestCountResponse getRequestorRequestsToCustomerCurrentYear(UUID requestorId, UUID customerId, int year) {
         try {
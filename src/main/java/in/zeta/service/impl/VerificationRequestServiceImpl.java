@@ -17,13 +17,23 @@ import in.zeta.dto.response.CreateVerificationResponse;
 import in.zeta.dto.response.VerificationRequestResponse;
 import in.zeta.service.*;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.statemachine.VerificationStateMachine;
+import in.zeta.util.AuditDiff;
 import jakarta.validation.Valid;
 import olympus.trace.OlympusSpectra;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import static in.zeta.mapper.AuditLogMapper.createAuditLogEvent;
 import static in.zeta.mapper.NotificationMapper.createNotificationEvent;
@@ -40,6 +50,7 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
     private final UserService userService;
     private final StatusHistoryService statusHistoryService;
     private final VerificationRequestLimitService verificationRequestLimitService;
+    private final VerificationStateMachine verificationStateMachine;
 
     public VerificationRequestServiceImpl(
             VerificationRequestRepository verificationRequestRepository,
@@ -47,7 +58,8 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
             AuditService auditService,
             UserService userService,
             @Lazy StatusHistoryService statusHistoryService,
-            VerificationRequestLimitService verificationRequestLimitService
+            VerificationRequestLimitService verificationRequestLimitService,
+            VerificationStateMachine verificationStateMachine
     ) {
         this.verificationRequestRepository = verificationRequestRepository;
         this.notificationService = notificationService;
@@ -55,18 +67,21 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
         this.userService = userService;
         this.statusHistoryService = statusHistoryService;
         this.verificationRequestLimitService = verificationRequestLimitService;
+        this.verificationStateMachine = verificationStateMachine;
     }
     private static final SpectraLogger logger = OlympusSpectra.getLogger(VerificationRequestServiceImpl.class);
 
     @Override
+    @Transactional
     public CreateVerificationResponse createVerificationRequest(@Valid CreateVerificationRequest createVerificationRequest, UUID requestorId) {
 
         Users requestor = userService.getByIdOrThrow(requestorId, "Requestor not found " + requestorId);
         Users customer = userService.getByIdOrThrow(createVerificationRequest.getCustomerId(), "Customer not found " + createVerificationRequest.getCustomerId());
 
-        boolean canCreate = verificationRequestLimitService.canCreateVerificationRequest(customer, requestor);
+        // Counts the request up front; the count is given back if the save below rolls back.
+        boolean acquired = verificationRequestLimitService.tryAcquireRequest(customer, requestor);
 
-        if (!canCreate) {
+        if (!acquired) {
             logger.error("Verification request limit exceeded")
                     .attr("customerId", customer.getId())
                     .attr("requestorId", requestor.getId())
@@ -87,23 +102,6 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
 
         VerificationRequest saved = verificationRequestRepository.save(verificationRequest);
 
-        try {
-            verificationRequestLimitService.incrementRequestCount(customer, requestor);
-
-            logger.info("Request count incremented successfully")
-                    .attr("customerId", customer.getId())
-                    .attr("requestorId", requestor.getId())
-                    .attr("verificationRequestId", saved.getId())
-                    .log();
-        } catch (Exception e) {
-            logger.error("Failed to increment request count")
-                    .attr("customerId", customer.getId())
-                    .attr("requestorId", requestor.getId())
-                    .attr("verificationRequestId", saved.getId())
-                    .attr("error", e.getMessage())
-                    .log();
-        }
-
         StatusUpdateEvent statusUpdateEvent = createEvent(
                 saved.getId(),
                 requestorId,
@@ -112,22 +110,103 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
                 saved.getRequestReason()
         );
 
-        statusHistoryService.publishStatusUpdateEvent(statusUpdateEvent);
-
         AuditLogCreatedEvent event = createAuditLogEvent(
                 EntityType.VERIFICATION_REQUEST,
                 verificationRequest.getId(),
                 AuditAction.VERIFICATION_REQUEST_CREATED,
                 requestor,
-                String.format(""),
-                String.format("Verification request Created successfully: %s", verificationRequest.getId())
+                AuditDiff.create()
+                        .added(Messages.Keys.STATUS, saved.getStatus())
+                        .added(Messages.Keys.CUSTOMER_ID, customer.getId())
         );
 
-        auditService.publishAuditLogEvent(event);
+        runAfterCommit(() -> {
+            statusHistoryService.publishStatusUpdateEvent(statusUpdateEvent);
+            auditService.publishAuditLogEvent(event);
+        });
 
         return convertToCreateResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public List<CreateVerificationResponse> createVerificationRequests(List<CreateVerificationRequest> createVerificationRequests, UUID requestorId) {
+        if (createVerificationRequests.isEmpty()) {
+            return List.of();
+        }
+
+        Users requestor = userService.getByIdOrThrow(requestorId, "Requestor not found " + requestorId);
+
+        Set<UUID> customerIds = createVerificationRequests.stream()
+                .map(CreateVerificationRequest::getCustomerId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<UUID, Users> customers = userService.getByIds(customerIds).stream()
+                .collect(Collectors.toMap(Users::getId, Function.identity()));
+
+        List<UUID> missingCustomers = customerIds.stream()
+                .filter(customerId -> !customers.containsKey(customerId))
+                .toList();
+        if (!missingCustomers.isEmpty()) {
+            throw new ResourceNotFoundException("Customers not found " + missingCustomers);
+        }
+
+        // Counts the whole batch up front; the counts are given back if the transaction rolls back.
+        List<UUID> overLimit = verificationRequestLimitService.tryAcquireRequests(
+                requestor,
+                createVerificationRequests.stream().map(request -> customers.get(request.getCustomerId())).toList());
+
+        if (!overLimit.isEmpty()) {
+            logger.error("Verification request limit exceeded")
+                    .attr("requestorId", requestor.getId())
+                    .attr("customerIds", overLimit)
+                    .log();
+            throw new InvalidOperationException("Verification request limit exceeded for customers " + overLimit);
+        }
+
+        logger.info("Creating verification requests in batch")
+                .attr("requestorId", requestor.getId())
+                .attr("requestCount", createVerificationRequests.size())
+                .log();
+
+        List<VerificationRequest> saved = verificationRequestRepository.saveAll(
+                createVerificationRequests.stream()
+                        .map(request -> createrequest(
+                                customers.get(request.getCustomerId()),
+                                requestor,
+                                request.getRequestReason()))
+                        .toList());
+
+        List<StatusUpdateEvent> statusUpdateEvents = saved.stream()
+                .map(request -> createEvent(
+                        request.getId(),
+                        requestorId,
+                        null,
+                        request.getStatus(),
+                        request.getRequestReason()))
+                .toList();
+
+        List<AuditLogCreatedEvent> auditEvents = saved.stream()
+                .map(request -> createAuditLogEvent(
+                        EntityType.VERIFICATION_REQUEST,
+                        request.getId(),
+                        AuditAction.VERIFICATION_REQUEST_CREATED,
+                        requestor,
+                        AuditDiff.create()
+                                .added(Messages.Keys.STATUS, request.getStatus())
+                                .added(Messages.Keys.CUSTOMER_ID, request.getCustomer().getId())))
+                .toList();
+
+        // Consumers look the new rows up by ID, so the events must not leave before the batch is committed.
+        runAfterCommit(() -> {
+            statusHistoryService.publishStatusUpdateEvents(statusUpdateEvents);
+            auditService.publishAuditLogEvents(auditEvents);
+        });
+
+        return saved.stream()
+                .map(VerificationRequestMapper::convertToCreateResponse)
+                .toList();
+    }
+
     @Override
     public List<VerificationRequestResponse> getRequestorVerifications(UUID requestorId) {
         Users user = userService.getByIdOrThrow(requestorId, "Requestor not found with ID: " + requestorId);
@@ -182,23 +261,14 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
             throw new RuntimeException("Cannot update status. Officer not assigned to this request.");
         }
 
-        VerificationStatus currentStatus = verificationRequest.getStatus();
-        verificationRequest.setStatus(updateVerificationStatusRequest.getStatus());
-        verificationRequest.setUpdatedAt(LocalDateTime.now());
-
-        if (updateVerificationStatusRequest.getStatus() == VerificationStatus.APPROVED) {
-            verificationRequest.setApprovedAt(LocalDateTime.now());
-        } else if (updateVerificationStatusRequest.getStatus() == VerificationStatus.REJECTED) {
-            verificationRequest.setRejectedAt(LocalDateTime.now());
-        }
-
-        VerificationRequest updated = verificationRequestRepository.save(verificationRequest);
+        VerificationStateMachine.Transition transition =
+                verificationStateMachine.transition(verificationId, updateVerificationStatusRequest.getStatus());
 
         StatusUpdateEvent statusUpdateEvent = createEvent(
                 verificationId,
                 officerId,
-                currentStatus,
-                updated.getStatus(),
+                transition.from(),
+                transition.to(),
                 updateVerificationStatusRequest.getReason()
         );
 
@@ -209,13 +279,29 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
                 verificationRequest.getId(),
                 AuditAction.VERIFICATION_STATUS_CHANGED,
                 verificationRequest.getAssignedOfficer(),
-                String.format("Old verification request status, %s", currentStatus),
-                String.format("Updated Verification request status, ", updated.getStatus())
+                AuditDiff.create().changed(Messages.Keys.STATUS, transition.from(), transition.to())
         );
 
         auditService.publishAuditLogEvent(event);
 
-        return convertToResponse(updated);
+        return toTransitionedResponse(verificationRequest, transition);
+    }
+
+    /**
+     * The response for a request read before {@code transition} was applied in the database; the entity itself is
+     * left untouched so it is never written back.
+     */
+    private static VerificationRequestResponse toTransitionedResponse(VerificationRequest verificationRequest,
+                                                                      VerificationStateMachine.Transition transition) {
+        VerificationRequestResponse response = convertToResponse(verificationRequest);
+        response.setStatus(transition.to());
+        response.setUpdatedAt(transition.at());
+        if (transition.to() == VerificationStatus.APPROVED) {
+            response.setApprovedAt(transition.at());
+        } else if (transition.to() == VerificationStatus.REJECTED) {
+            response.setRejectedAt(transition.at());
+        }
+        return response;
     }
 
     @Override
@@ -250,8 +336,8 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
                 verificationRequest.getId(),
                 AuditAction.VERIFICATION_REQUEST_REASSIGNED,
                 verificationRequest.getRequestor(),
-                String.format("Old assigned officer: %s", currentOfficer.getId()),
-                String.format("New assigned officer: %s", updated.getAssignedOfficer().getId())
+                AuditDiff.create().changed(Messages.Keys.OFFICER_ID,
+                        currentOfficer.getId(), updated.getAssignedOfficer().getId())
         );
         auditService.publishAuditLogEvent(event);
 
@@ -287,6 +373,14 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
                         "Verification Request not found with ID: " + verificationId));
     }
 
+    @Override
+    public List<VerificationRequest> getAllWithParticipants(Collection<UUID> verificationIds) {
+        if (verificationIds.isEmpty()) {
+            return List.of();
+        }
+        return verificationRequestRepository.findAllWithParticipantsByIdIn(verificationIds);
+    }
+
     @Override
     public void saveVerificationRequest(VerificationRequest verificationRequest) {
         verificationRequestRepository.save(verificationRequest);
@@ -297,8 +391,29 @@ public class VerificationRequestServiceImpl implements VerificationRequestServic
         return verificationRequestRepository.findByAssignedOfficerAndStatus(officer, status);
     }
 
+    @Override
+    public List<OfficerWorkload> findOfficerWorkloads(Collection<UUID> officerIds, VerificationStatus status) {
+        if (officerIds.isEmpty()) {
+            return List.of();
+        }
+        return verificationRequestRepository.findOfficerWorkloads(officerIds, status);
+    }
+
     @Override
     public void save(VerificationRequest verificationRequest) {
         verificationRequestRepository.save(verificationRequest);
     }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package in.zeta.statemachine;
+
+import in.zeta.enums.VerificationStatus;
+
+/**
+ * Status and version of a verification request, read without loading the entity.
+ */
+public record StatusSnapshot(VerificationStatus status, Long version) {
+}
@@ -0,0 +1,112 @@
+package in.zeta.statemachine;
+
+import in.zeta.enums.VerificationStatus;
+import in.zeta.exception.ConcurrentUpdateException;
+import in.zeta.exception.InvalidStatusTransitionException;
+import in.zeta.exception.ResourceNotFoundException;
+import in.zeta.repository.VerificationRequestRepository;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static in.zeta.enums.VerificationStatus.*;
+
+/**
+ * Allowed status transitions of a verification request, and the only writer of officer-driven status changes.
+ * <p>
+ * The transition table is compiled once into an {@link EnumMap} of {@link EnumSet}s, so a check is an array index
+ * and a bit test. A transition reads the current status and version, then applies the change with one
+ * conditional UPDATE that matches both; when another writer got there first the UPDATE matches nothing and the
+ * transition is re-checked against the new status, up to {@code verification.transition.max-attempts} times.
+ * APPROVED and REJECTED are terminal.
+ */
+@Component
+public class VerificationStateMachine {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(VerificationStateMachine.class);
+
+    private final VerificationRequestRepository verificationRequestRepository;
+    private final Map<VerificationStatus, Set<VerificationStatus>> transitions;
+    private final Counter conflictCounter;
+    private final int maxAttempts;
+
+    public VerificationStateMachine(VerificationRequestRepository verificationRequestRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${verification.transition.max-attempts}") int maxAttempts) {
+        this.verificationRequestRepository = verificationRequestRepository;
+        this.transitions = compileTransitions();
+        this.conflictCounter = Counter.builder("verification.transition.conflicts").register(meterRegistry);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public boolean canTransition(VerificationStatus from, VerificationStatus to) {
+        return from != null && transitions.get(from).contains(to);
+    }
+
+    /**
+     * Moves the request to {@code target} and returns the transition applied.
+     *
+     * @throws InvalidStatusTransitionException when the current status does not allow {@code target}
+     * @throws ConcurrentUpdateException        when every attempt lost to a concurrent update
+     */
+    public Transition transition(UUID verificationId, VerificationStatus target) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            StatusSnapshot current = verificationRequestRepository.findStatusSnapshot(verificationId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Verification Request not found with ID: " + verificationId));
+            if (!canTransition(current.status(), target)) {
+                throw new InvalidStatusTransitionException("Cannot move verification request " + verificationId
+                        + " from " + current.status() + " to " + target);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            int updated = verificationRequestRepository.transitionStatus(verificationId, current.status(),
+                    current.version(), target, now, target == APPROVED, target == REJECTED);
+            if (updated == 1) {
+                return new Transition(current.status(), target, now);
+            }
+
+            conflictCounter.increment();
+            logger.info("Verification request changed concurrently, retrying transition")
+                    .attr("verificationId", verificationId)
+                    .attr("targetStatus", target)
+                    .attr("attempt", attempt)
+                    .log();
+        }
+        throw new ConcurrentUpdateException("Verification request " + verificationId
+                + " is being updated concurrently, please retry");
+    }
+
+    private static Map<VerificationStatus, Set<VerificationStatus>> compileTransitions() {
+        Map<VerificationStatus, Set<VerificationStatus>> table = new EnumMap<>(VerificationStatus.class);
+        table.put(PENDING, EnumSet.of(DOCUMENT_UPLOADED, IN_REVIEW, REJECTED));
+        table.put(DOCUMENT_UPLOADED, EnumSet.of(DOCUMENT_UPLOADED, DOCUMENT_UPDATED, IN_REVIEW, SENT_BACK, APPROVED, REJECTED));
+        table.put(DOCUMENT_UPDATED, EnumSet.of(DOCUMENT_UPLOADED, DOCUMENT_UPDATED, IN_REVIEW, SENT_BACK, APPROVED, REJECTED));
+        table.put(IN_REVIEW, EnumSet.of(DOCUMENT_UPLOADED, DOCUMENT_UPDATED, SENT_BACK, APPROVED, REJECTED));
+        table.put(SENT_BACK, EnumSet.of(DOCUMENT_UPLOADED, DOCUMENT_UPDATED, IN_REVIEW, REJECTED));
+        table.put(APPROVED, EnumSet.noneOf(VerificationStatus.class));
+        table.put(REJECTED, EnumSet.noneOf(VerificationStatus.class));
+
+        for (VerificationStatus status : VerificationStatus.values()) {
+            if (!table.containsKey(status)) {
+                throw new IllegalStateException("No transitions defined for verification status " + status);
+            }
+            table.put(status, Collections.unmodifiableSet(table.get(status)));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    public record Transition(VerificationStatus from, VerificationStatus to, LocalDateTime at) {
+    }
+}
@@ -0,0 +1,216 @@
+package in.zeta.stream;
+
+import in.zeta.constants.Messages;
+import in.zeta.dto.response.NotificationResponse;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user fan-out of new notifications over server-sent events.
+ * <p>
+ * Each open stream is an async servlet response ({@link SseEmitter}), so an idle connection holds no request
+ * thread. Sends run on the {@code notificationStreamExecutor} pool and a failed send drops that connection.
+ * Every connection has its own bounded queue of pending events, drained by at most one pool task at a time, so
+ * a client sees events in publish order; an event that does not fit in {@code
+ * notification.stream.max-pending-per-connection} is dropped for that connection only.
+ * A user may keep up to {@code notification.stream.max-connections-per-user} streams open; opening one more
+ * closes the oldest. Connections are local to this instance, so only notifications processed here reach them.
+ */
+@Component
+public class NotificationStreamRegistry {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(NotificationStreamRegistry.class);
+
+    static final String NOTIFICATION_EVENT = "notification";
+
+    private final Map<UUID, List<Connection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Executor executor;
+    private final long timeoutMs;
+    private final int maxConnectionsPerUser;
+    private final int maxPendingPerConnection;
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+
+    public NotificationStreamRegistry(@Qualifier("notificationStreamExecutor") Executor executor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${notification.stream.timeout-ms}") long timeoutMs,
+                                      @Value("${notification.stream.max-connections-per-user}") int maxConnectionsPerUser,
+                                      @Value("${notification.stream.max-pending-per-connection}") int maxPendingPerConnection) {
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxPendingPerConnection = maxPendingPerConnection;
+        this.sentCounter = Counter.builder("notification.stream.sent").register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.stream.dropped").register(meterRegistry);
+        Gauge.builder("notification.stream.connections", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the user. The emitter completes after {@code notification.stream.timeout-ms}; clients
+     * are expected to reconnect.
+     */
+    public SseEmitter register(UUID userId) {
+        return register(userId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter register(UUID userId, SseEmitter emitter) {
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        Connection connection = new Connection(userId, emitter, maxPendingPerConnection);
+        Connection[] evicted = new Connection[1];
+        emitters.compute(userId, (id, userConnections) -> {
+            List<Connection> current = userConnections != null ? userConnections : new CopyOnWriteArrayList<>();
+            if (current.size() >= maxConnectionsPerUser) {
+                evicted[0] = current.remove(0);
+                connections.decrementAndGet();
+            }
+            current.add(connection);
+            connections.incrementAndGet();
+            return current;
+        });
+        if (evicted[0] != null) {
+            evicted[0].emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * Pushes the notification to every open stream of its recipient. Never blocks on the network.
+     */
+    public void publish(NotificationResponse notification) {
+        List<Connection> userConnections = emitters.get(notification.getUserId());
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            dispatch(connection, SseEmitter.event()
+                    .name(NOTIFICATION_EVENT)
+                    .id(String.valueOf(notification.getId()))
+                    .data(notification));
+        }
+    }
+
+    /**
+     * Keeps idle streams from being closed by proxies and finds connections that went away silently.
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms}")
+    public void heartbeat() {
+        emitters.values().forEach(userConnections -> userConnections.forEach(connection ->
+                dispatch(connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    private void dispatch(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (!connection.pending.offer(event)) {
+            droppedCounter.increment();
+            logger.warn(Messages.Notification.STREAM_CONNECTION_BACKLOG_FULL)
+                    .attr(Messages.Keys.USER_ID, connection.userId)
+                    .log();
+            return;
+        }
+        schedule(connection);
+    }
+
+    private void schedule(Connection connection) {
+        if (!connection.draining.compareAndSet(false, true)) {
+            // The running drain picks the event up, keeping this connection's events in order
+            return;
+        }
+        try {
+            executor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.draining.set(false);
+            int dropped = connection.discardPending();
+            droppedCounter.increment(dropped);
+            logger.warn(Messages.Notification.STREAM_DISPATCH_QUEUE_FULL)
+                    .attr(Messages.Keys.USER_ID, connection.userId)
+                    .attr(Messages.Keys.NOTIFICATION_COUNT, dropped)
+                    .log();
+        }
+    }
+
+    private void drain(Connection connection) {
+        SseEmitter.SseEventBuilder event;
+        while ((event = connection.pending.poll()) != null) {
+            if (!send(connection, event)) {
+                droppedCounter.increment(connection.discardPending());
+                break;
+            }
+        }
+        connection.draining.set(false);
+        // An event offered after the last poll but before the flag was cleared would otherwise wait for the next one
+        if (!connection.pending.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    private boolean send(Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter.send(event);
+            sentCounter.increment();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client is gone; the container reports the error to the emitter, we only forget it
+            droppedCounter.increment();
+            remove(connection.userId, connection.emitter);
+            return false;
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userConnections) -> {
+            if (userConnections.removeIf(connection -> connection.emitter == emitter)) {
+                connections.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static final class Connection {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final LinkedBlockingQueue<SseEmitter.SseEventBuilder> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(UUID userId, SseEmitter emitter, int maxPending) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.pending = new LinkedBlockingQueue<>(maxPending);
+        }
+
+        private int discardPending() {
+            int dropped = 0;
+            while (pending.poll() != null) {
+                dropped++;
+            }
+            return dropped;
+        }
+    }
+}
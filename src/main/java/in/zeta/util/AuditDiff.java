@@ -0,0 +1,110 @@
+package in.zeta.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Field-level diff stored in {@code audit_logs.old_value} / {@code new_value}.
+ * <p>
+ * Only keys whose value changed are kept, and each side is encoded as a flat compact JSON object
+ * ({@code {"status":"APPROVED"}}), or {@code null} when nothing is recorded on that side. Stored values stay
+ * queryable in Postgres with {@code new_value::jsonb ->> 'status'}. Free text written before this encoding
+ * decodes to a single {@value #MESSAGE} entry.
+ */
+public final class AuditDiff {
+
+    public static final String MESSAGE = "message";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> FIELDS = new TypeReference<>() {};
+
+    private final Map<String, String> oldValues = new LinkedHashMap<>();
+    private final Map<String, String> newValues = new LinkedHashMap<>();
+
+    private AuditDiff() {
+    }
+
+    public static AuditDiff create() {
+        return new AuditDiff();
+    }
+
+    /**
+     * Records {@code field} when the two values differ; equal values are skipped.
+     */
+    public AuditDiff changed(String field, Object oldValue, Object newValue) {
+        String before = oldValue != null ? oldValue.toString() : null;
+        String after = newValue != null ? newValue.toString() : null;
+        if (Objects.equals(before, after)) {
+            return this;
+        }
+        if (before != null) {
+            oldValues.put(field, before);
+        }
+        if (after != null) {
+            newValues.put(field, after);
+        }
+        return this;
+    }
+
+    public AuditDiff added(String field, Object value) {
+        return changed(field, null, value);
+    }
+
+    public String encodeOld() {
+        return encode(oldValues);
+    }
+
+    public String encodeNew() {
+        return encode(newValues);
+    }
+
+    public static String encode(Map<String, String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode audit diff", e);
+        }
+    }
+
+    /**
+     * Decodes a stored value. {@code null} or blank gives an empty map; anything that is not an encoded diff is
+     * returned as a {@value #MESSAGE} entry.
+     */
+    public static Map<String, String> decode(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptyMap();
+        }
+        if (isEncoded(value)) {
+            try {
+                return Collections.unmodifiableMap(MAPPER.readValue(value, FIELDS));
+            } catch (JsonProcessingException e) {
+                // Free text that happens to start with a brace; fall through.
+            }
+        }
+        return Map.of(MESSAGE, value);
+    }
+
+    /**
+     * Brings a value from an older producer into the stored encoding: blank becomes {@code null} and free text
+     * is wrapped as a {@value #MESSAGE} entry.
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return encode(decode(value));
+    }
+
+    private static boolean isEncoded(String value) {
+        return value.startsWith("{") && value.endsWith("}");
+    }
+}
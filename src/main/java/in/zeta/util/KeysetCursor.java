@@ -0,0 +1,51 @@
+package in.zeta.util;
+
+import in.zeta.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a {@code (timestamp DESC, id DESC)} ordered listing. The next page starts strictly
+ * after the row the cursor points at, so every page costs one index range scan regardless of depth.
+ */
+public record KeysetCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether a row at {@code (rowTimestamp, rowId)} comes after this cursor, i.e. belongs to a later page.
+     */
+    public boolean isFollowedBy(LocalDateTime rowTimestamp, UUID rowId) {
+        int byTimestamp = rowTimestamp.compareTo(timestamp);
+        return byTimestamp < 0 || (byTimestamp == 0 && compareIds(rowId, id) < 0);
+    }
+
+    /**
+     * Orders UUIDs the way Postgres does, as unsigned bytes; {@link UUID#compareTo} compares signed longs.
+     */
+    public static int compareIds(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package in.zeta.webhook;
 
 import in.zeta.dto.requests.events.StatusUpdateEvent;
 import in.zeta.dto.response.ApiResponse;
+import in.zeta.exception.BaseException;
 import in.zeta.service.StatusHistoryService;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.JsonUtil;
+import in.zeta.writer.StatusHistoryBatchWriter;
 import lombok.RequiredArgsConstructor;
 import olympus.trace.OlympusSpectra;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatusHistoryEventWebhookController {
     private final SpectraLogger logger = OlympusSpectra.getLogger(StatusHistoryEventWebhookController.class);
     private final StatusHistoryService statusHistoryService;
+    private final StatusHistoryBatchWriter statusHistoryBatchWriter;
 
     @PostMapping("/events/webhook")
     public ResponseEntity<ApiResponse<String>> consumeStatusUpdateEvent(@RequestBody String eventPayload) {
@@ -27,6 +31,16 @@ public class StatusHistoryEventWebhookController {
                     .attr("event", eventPayload)
                     .log();
 
+            if (statusHistoryBatchWriter.isEnabled()) {
+                StatusUpdateEvent statusUpdateEvent = JsonUtil.parseStatusUpdateEvent(eventPayload);
+                // blocks until the event's batch is in the database, so only stored events are acknowledged
+                statusHistoryBatchWriter.write(statusUpdateEvent);
+                return ResponseEntity.ok(ApiResponse.<String>builder()
+                        .success(true)
+                        .message("Event consumed")
+                        .build());
+            }
+
             statusHistoryService.updateStatusHistoryFromEvent(eventPayload);
 
             logger.info("Status history updated successfully for event")
@@ -37,6 +51,14 @@ public class StatusHistoryEventWebhookController {
                     .message("Event consumed")
                     .build());
 
+        } catch (BaseException e) {
+            logger.error("Failed to ingest status update event", e)
+                    .attr("eventPayload", eventPayload)
+                    .log();
+            return ResponseEntity.status(e.getHttpStatus()).body(ApiResponse.<String>builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
         } catch (Exception e) {
             logger.error("Failed to parse event payload", e)
                     .attr("eventPayload", eventPayload)
@@ -0,0 +1,163 @@
+package in.zeta.writer;
+
+import in.zeta.cache.AuditTimelineCache;
+import in.zeta.exception.AuditLogException;
+import in.zeta.mapper.AuditLogMapper;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import olympus.trace.OlympusSpectra;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write-behind sink for audit logs.
+ * <p>
+ * Records are buffered by a {@link BatchWriter} and written with JDBC batch inserts (collapsed into multi-row INSERTs
+ * by the driver), sized by {@code audit.writer.batch-size} and {@code audit.writer.flush-interval-ms}. A batch that
+ * fails is retried row by row. Written rows are appended to the {@link AuditTimelineCache}. A row whose month has no
+ * {@code audit_logs} partition (archived, past retention or not premade yet) goes to {@code audit_logs_overflow}
+ * instead and is counted in {@code audit.writer.overflow}.
+ * <p>
+ * {@link #write} blocks until the record is in the database, so the webhook only acknowledges stored events and
+ * everything else is redelivered.
+ */
+@Component
+public class AuditLogBatchWriter {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(AuditLogBatchWriter.class);
+
+    static final String INSERT_AUDIT_LOG_SQL =
+            "INSERT INTO audit_logs " +
+            "(audit_log_id, entity_type, entity_id, audit_action, user_id, old_value, new_value, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_OVERFLOW_SQL =
+            "INSERT INTO audit_logs_overflow " +
+            "(audit_log_id, entity_type, entity_id, audit_action, user_id, old_value, new_value, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String CHECK_VIOLATION = "23514";
+    private static final String NO_PARTITION = "no partition of relation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditTimelineCache auditTimelineCache;
+    private final BatchWriter<AuditLogRecord> writer;
+    private final Counter overflowCounter;
+
+    public AuditLogBatchWriter(JdbcTemplate jdbcTemplate,
+                               AuditTimelineCache auditTimelineCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${audit.writer.enabled}") boolean enabled,
+                               @Value("${audit.writer.buffer-capacity}") int bufferCapacity,
+                               @Value("${audit.writer.batch-size}") int batchSize,
+                               @Value("${audit.writer.flush-interval-ms}") long flushIntervalMs,
+                               @Value("${audit.writer.ack-timeout-ms}") long ackTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditTimelineCache = auditTimelineCache;
+        this.writer = BatchWriter.<AuditLogRecord>builder()
+                .name("audit.writer")
+                .meterRegistry(meterRegistry)
+                .enabled(enabled)
+                .bufferCapacity(bufferCapacity)
+                .batchSize(batchSize)
+                .flushIntervalMs(flushIntervalMs)
+                .ackTimeoutMs(ackTimeoutMs)
+                .batchHandler(this::writeBatch)
+                .singleHandler(this::writeSingle)
+                .describe(record -> String.format("audit log %s (%s:%s %s)",
+                        record.id(), record.entityType(), record.entityId(), record.action()))
+                .failure(AuditLogException::new)
+                .build();
+        this.overflowCounter = Counter.builder("audit.writer.overflow").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return writer.isEnabled();
+    }
+
+    /**
+     * Queues a record and waits until it has been written.
+     *
+     * @throws AuditLogException when the record was rejected, failed to insert or was not written in time
+     */
+    public void write(AuditLogRecord record) {
+        writer.write(record);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writer.stop();
+    }
+
+    Map<Integer, RuntimeException> writeBatch(List<AuditLogRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG_SQL, records.stream().map(AuditLogBatchWriter::toArgs).toList());
+        records.forEach(this::appendToTimeline);
+        return Map.of();
+    }
+
+    void writeSingle(AuditLogRecord record) {
+        try {
+            jdbcTemplate.update(INSERT_AUDIT_LOG_SQL, toArgs(record));
+        } catch (DataAccessException e) {
+            if (!isOutsidePartitions(e)) {
+                throw e;
+            }
+            writeOverflow(record);
+            return;
+        }
+        appendToTimeline(record);
+    }
+
+    /**
+     * Stores a record whose month has no partition, so the event is acknowledged instead of redelivered forever.
+     * It is not appended to the timeline, which only shows rows in {@code audit_logs}.
+     */
+    private void writeOverflow(AuditLogRecord record) {
+        jdbcTemplate.update(INSERT_OVERFLOW_SQL, toArgs(record));
+        overflowCounter.increment();
+        logger.warn("No audit log partition for record, stored in overflow table")
+                .attr("auditLogId", record.id())
+                .attr("timestamp", record.timestamp())
+                .log();
+    }
+
+    private static boolean isOutsidePartitions(DataAccessException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+                && CHECK_VIOLATION.equals(sqlException.getSQLState())
+                && sqlException.getMessage() != null
+                && sqlException.getMessage().contains(NO_PARTITION);
+    }
+
+    private void appendToTimeline(AuditLogRecord record) {
+        auditTimelineCache.append(AuditLogMapper.toResponse(record));
+    }
+
+    private static Object[] toArgs(AuditLogRecord record) {
+        return new Object[]{
+                record.id(),
+                record.entityType().name(),
+                record.entityId(),
+                record.action().name(),
+                record.userId(),
+                record.oldValue(),
+                record.newValue(),
+                Timestamp.valueOf(record.timestamp())
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package in.zeta.writer;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit row queued for {@link AuditLogBatchWriter}. The user is referenced by ID only; {@code username} is carried
+ * along for the audit timeline cache and is not written.
+ * <p>
+ * Also the line format of audit archive buckets; the entity key is serialized first so readers can skip
+ * other entities' lines without parsing them.
+ */
+@JsonPropertyOrder({"entityType", "entityId"})
+public record AuditLogRecord(UUID id,
+                             EntityType entityType,
+                             UUID entityId,
+                             AuditAction action,
+                             UUID userId,
+                             String username,
+                             String oldValue,
+                             String newValue,
+                             LocalDateTime timestamp) {
+}
@@ -0,0 +1,262 @@
+package in.zeta.writer;
+
+import in.zeta.exception.BaseException;
+import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import olympus.trace.OlympusSpectra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Write-behind batching shared by the writers in this package.
+ * <p>
+ * Items are buffered in a bounded queue and handed by a single background thread to the {@link BatchHandler}. A batch
+ * is flushed once it holds {@code batchSize} items or {@code flushIntervalMs} after its first item, whichever comes
+ * first. A batch whose handler throws is retried item by item with the single-item handler, so one bad item does not
+ * lose the rest of the batch.
+ * <p>
+ * {@link #write} blocks until the item's batch has been handled and throws when the buffer is full, the item could
+ * not be written or the write took longer than {@code ackTimeoutMs}, so a caller only acknowledges items that are
+ * stored. Meters are registered under {@code name}: {@code .written}, {@code .dropped}, {@code .failed},
+ * {@code .buffered} and {@code .flush.duration}.
+ */
+public class BatchWriter<T> {
+
+    private static final SpectraLogger logger = OlympusSpectra.getLogger(BatchWriter.class);
+
+    /**
+     * Writes a whole batch.
+     */
+    @FunctionalInterface
+    public interface BatchHandler<T> {
+
+        /**
+         * Returns the failure of each item that was not written, keyed by its position in the batch. Throwing fails
+         * the batch as a whole and retries it item by item.
+         */
+        Map<Integer, RuntimeException> write(List<T> batch);
+    }
+
+    private final String name;
+    private final BlockingQueue<Pending<T>> buffer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long ackTimeoutMs;
+    private final BatchHandler<T> batchHandler;
+    private final Consumer<T> singleHandler;
+    private final Function<T, String> describe;
+    private final BiFunction<String, Throwable, ? extends BaseException> failure;
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * @param describe names an item in logs and error messages
+     * @param failure  builds the exception thrown by {@link #write} from a message and an optional cause
+     */
+    @Builder
+    BatchWriter(String name,
+                MeterRegistry meterRegistry,
+                boolean enabled,
+                int bufferCapacity,
+                int batchSize,
+                long flushIntervalMs,
+                long ackTimeoutMs,
+                BatchHandler<T> batchHandler,
+                Consumer<T> singleHandler,
+                Function<T, String> describe,
+                BiFunction<String, Throwable, ? extends BaseException> failure) {
+        this.name = name;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.ackTimeoutMs = ackTimeoutMs;
+        this.batchHandler = batchHandler;
+        this.singleHandler = singleHandler;
+        this.describe = describe;
+        this.failure = failure;
+        this.flushTimer = Timer.builder(name + ".flush.duration").register(meterRegistry);
+        this.writtenCounter = Counter.builder(name + ".written").register(meterRegistry);
+        this.droppedCounter = Counter.builder(name + ".dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder(name + ".failed").register(meterRegistry);
+        Gauge.builder(name + ".buffered", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues an item and waits until it has been written.
+     *
+     * @throws BaseException when the item was rejected, failed to write or was not written in time
+     */
+    public void write(T item) {
+        try {
+            enqueue(item).get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseException baseException) {
+                throw baseException;
+            }
+            throw failure.apply("Failed to write " + describe.apply(item), e.getCause());
+        } catch (TimeoutException e) {
+            throw failure.apply("Timed out waiting for " + describe.apply(item) + " to be written", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure.apply("Interrupted while waiting for " + describe.apply(item) + " to be written", e);
+        }
+    }
+
+    /**
+     * Queues an item without blocking. The returned future completes once the item is written, or fails when the
+     * buffer is full (counted as a drop) or the item cannot be written.
+     */
+    CompletableFuture<Void> enqueue(T item) {
+        Pending<T> pending = new Pending<>(item, new CompletableFuture<>());
+        if (buffer.offer(pending)) {
+            return pending.written();
+        }
+        droppedCounter.increment();
+        logger.error("Write buffer full, rejecting item")
+                .attr("writer", name)
+                .attr("item", describe.apply(item))
+                .log();
+        pending.written().completeExceptionally(failure.apply(
+                "Write buffer full, rejected " + describe.apply(item), null));
+        return pending.written();
+    }
+
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, name.replace('.', '-'));
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        // Anything still buffered was never written; fail it so it is redelivered
+        Pending<T> pending;
+        while ((pending = buffer.poll()) != null) {
+            pending.written().completeExceptionally(failure.apply(
+                    "Writer stopped before writing " + describe.apply(pending.item()), null));
+        }
+    }
+
+    int buffered() {
+        return buffer.size();
+    }
+
+    private void drainLoop() {
+        List<Pending<T>> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for a first item, then keeps collecting until the batch is full or the flush interval has passed.
+     */
+    private void fillBatch(List<Pending<T>> batch) throws InterruptedException {
+        Pending<T> first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Pending<T> next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void flush(List<Pending<T>> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            Map<Integer, RuntimeException> failures = batchHandler.write(batch.stream().map(Pending::item).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                RuntimeException itemFailure = failures.get(i);
+                if (itemFailure == null) {
+                    writtenCounter.increment();
+                    batch.get(i).written().complete(null);
+                } else {
+                    failedCounter.increment();
+                    batch.get(i).written().completeExceptionally(itemFailure);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Batch write failed, retrying item by item")
+                    .attr("writer", name)
+                    .attr("batchSize", batch.size())
+                    .attr("error", e.getMessage())
+                    .log();
+            batch.forEach(this::writeSingle);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void writeSingle(Pending<T> pending) {
+        try {
+            singleHandler.accept(pending.item());
+            writtenCounter.increment();
+            pending.written().complete(null);
+        } catch (Exception e) {
+            failedCounter.increment();
+            logger.error("Failed to write item")
+                    .attr("writer", name)
+                    .attr("item", describe.apply(pending.item()))
+                    .attr("error", e.getMessage())
+                    .log();
+            pending.written().completeExceptionally(e);
+        }
+    }
+
+    record Pending<T>(T item, CompletableFuture<Void> written) {
+    }
+}
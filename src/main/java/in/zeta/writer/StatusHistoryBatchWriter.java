@@ -0,0 +1,104 @@
+package in.zeta.writer;
+
+import in.zeta.dto.requests.events.StatusUpdateEvent;
+import in.zeta.exception.BaseException;
+import in.zeta.exception.ResourceNotFoundException;
+import in.zeta.exception.StatusUpdateException;
+import in.zeta.service.StatusHistoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Write-behind ingestion of status update events.
+ * <p>
+ * Events delivered to the status webhook are buffered by a {@link BatchWriter} and handed to
+ * {@link StatusHistoryService#updateStatusHistories} in batches sized by {@code status.writer.batch-size} and
+ * {@code status.writer.flush-interval-ms}: one fetch-join query resolves the verification requests and their
+ * participants, the history rows go out as one JDBC batch and the resulting audit and notification events are
+ * published in bulk. A batch that fails is retried event by event; rows the batch already stored are skipped by the
+ * retry, so their audit and notification events are not published twice.
+ * <p>
+ * {@link #write} blocks until the event's batch has been ingested and throws when the buffer is full, the event's
+ * references are unknown, it could not be saved or it took longer than {@code status.writer.ack-timeout-ms}, so the
+ * webhook only acknowledges events that are in the database and everything else is redelivered.
+ */
+@Component
+public class StatusHistoryBatchWriter {
+
+    private final StatusHistoryService statusHistoryService;
+    private final BatchWriter<StatusUpdateEvent> writer;
+
+    public StatusHistoryBatchWriter(StatusHistoryService statusHistoryService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${status.writer.enabled}") boolean enabled,
+                                    @Value("${status.writer.buffer-capacity}") int bufferCapacity,
+                                    @Value("${status.writer.batch-size}") int batchSize,
+                                    @Value("${status.writer.flush-interval-ms}") long flushIntervalMs,
+                                    @Value("${status.writer.ack-timeout-ms}") long ackTimeoutMs) {
+        this.statusHistoryService = statusHistoryService;
+        this.writer = BatchWriter.<StatusUpdateEvent>builder()
+                .name("status.writer")
+                .meterRegistry(meterRegistry)
+                .enabled(enabled)
+                .bufferCapacity(bufferCapacity)
+                .batchSize(batchSize)
+                .flushIntervalMs(flushIntervalMs)
+                .ackTimeoutMs(ackTimeoutMs)
+                .batchHandler(this::writeBatch)
+                .singleHandler(statusHistoryService::updateStatusHistory)
+                .describe(event -> String.format("status update event %s (%s to %s)",
+                        event.getId(), event.getVerificationRequestId(), event.getToStatus()))
+                .failure(StatusUpdateException::new)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return writer.isEnabled();
+    }
+
+    /**
+     * Queues an event and waits until its batch has been ingested.
+     *
+     * @throws BaseException when the event was rejected, could not be saved or was not ingested in time
+     */
+    public void write(StatusUpdateEvent event) {
+        writer.write(event);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writer.stop();
+    }
+
+    /**
+     * Ingests the batch and fails the events the service rejected for unknown references.
+     */
+    Map<Integer, RuntimeException> writeBatch(List<StatusUpdateEvent> events) {
+        Set<StatusUpdateEvent> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        rejected.addAll(statusHistoryService.updateStatusHistories(events));
+
+        Map<Integer, RuntimeException> failures = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (rejected.contains(events.get(i))) {
+                failures.put(i, new ResourceNotFoundException(
+                        "Verification request or user not found for status update event " + events.get(i).getId()));
+            }
+        }
+        return failures;
+    }
+}
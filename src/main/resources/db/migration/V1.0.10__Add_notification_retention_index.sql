@@ -0,0 +1,2 @@
+-- Retention purges read notifications oldest-read first: WHERE is_read AND read_at < ? ORDER BY read_at, id.
+CREATE INDEX IF NOT EXISTS idx_notifications_read_retention ON notifications(read_at, id) WHERE is_read = TRUE;
@@ -0,0 +1,17 @@
+-- Latest status_history transition of each request, kept in step with every history insert
+-- (StatusHistoryRepositoryCustom#saveTransition) so the latest status is a primary-key read.
+ALTER TABLE verification_requests
+    ADD COLUMN IF NOT EXISTS latest_status VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS latest_status_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS latest_status_by UUID;
+
+UPDATE verification_requests v
+SET latest_status = h.to_status,
+    latest_status_at = h.changed_at,
+    latest_status_by = h.changed_by
+FROM (
+    SELECT DISTINCT ON (verification_request_id) verification_request_id, to_status, changed_at, changed_by
+    FROM status_history
+    ORDER BY verification_request_id, changed_at DESC, id DESC
+) h
+WHERE v.id = h.verification_request_id;
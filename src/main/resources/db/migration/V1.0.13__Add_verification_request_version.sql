@@ -0,0 +1,2 @@
+-- Optimistic locking for verification_requests (VerificationRequest#version, VerificationStateMachine).
+ALTER TABLE verification_requests ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,22 @@
+-- Running SLA aggregates per requestor / officer and day (see SlaAggregator).
+-- One row per duration bucket of a DurationSketch, so percentiles for any date range come from summing buckets
+-- instead of scanning status_history. metric is TIME_IN_STATUS (status = the status left) or TURNAROUND
+-- (status = APPROVED or REJECTED).
+CREATE TABLE IF NOT EXISTS sla_daily_aggregates (
+    dimension VARCHAR(20) NOT NULL,
+    dimension_id UUID NOT NULL,
+    day DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    bucket SMALLINT NOT NULL,
+    sample_count BIGINT NOT NULL,
+    total_seconds BIGINT NOT NULL,
+    max_seconds BIGINT NOT NULL,
+
+    CONSTRAINT pk_sla_daily_aggregates PRIMARY KEY (dimension, dimension_id, day, metric, status, bucket),
+    CONSTRAINT chk_sla_daily_aggregates_dimension CHECK (dimension IN ('OFFICER', 'REQUESTOR')),
+    CONSTRAINT chk_sla_daily_aggregates_metric CHECK (metric IN ('TIME_IN_STATUS', 'TURNAROUND'))
+);
+
+-- dashboard totals across every officer or requestor of a dimension
+CREATE INDEX IF NOT EXISTS idx_sla_daily_aggregates_dimension_day ON sla_daily_aggregates(dimension, day);
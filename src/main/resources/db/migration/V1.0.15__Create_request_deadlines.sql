@@ -0,0 +1,30 @@
+-- Due-time queue for requests waiting on an officer (IN_REVIEW) or on the requestor (SENT_BACK); see
+-- RequestDeadlineQueue. Only open requests in those statuses have a row, and expiry polling walks idx_request_deadlines_due
+-- from the oldest deadline, so its cost follows the number of expirations rather than the number of requests.
+CREATE TABLE IF NOT EXISTS request_deadlines (
+    verification_request_id UUID PRIMARY KEY,
+    status VARCHAR(50) NOT NULL,
+    status_since TIMESTAMP NOT NULL,
+    due_at TIMESTAMP NOT NULL,
+    escalations INT NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_request_deadlines_verification_request
+        FOREIGN KEY (verification_request_id)
+        REFERENCES verification_requests(id)
+        ON DELETE CASCADE,
+    CONSTRAINT chk_request_deadlines_status CHECK (status IN ('IN_REVIEW', 'SENT_BACK'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_request_deadlines_due ON request_deadlines(due_at);
+
+-- Seed the queue with requests already waiting, using the default allowances
+-- (stale.in-review-hours=48, stale.sent-back-hours=120).
+INSERT INTO request_deadlines (verification_request_id, status, status_since, due_at, escalations)
+SELECT id,
+       latest_status,
+       latest_status_at,
+       latest_status_at + CASE latest_status WHEN 'IN_REVIEW' THEN INTERVAL '48 hours' ELSE INTERVAL '120 hours' END,
+       0
+FROM verification_requests
+WHERE latest_status IN ('IN_REVIEW', 'SENT_BACK') AND latest_status_at IS NOT NULL
+ON CONFLICT (verification_request_id) DO NOTHING;
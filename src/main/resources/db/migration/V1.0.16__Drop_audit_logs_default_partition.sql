@@ -0,0 +1,30 @@
+-- DETACH PARTITION ... CONCURRENTLY is refused while the parent has a default partition, so AuditLogPartitionManager
+-- could only detach expired months under an ACCESS EXCLUSIVE lock on audit_logs. The default partition was only a
+-- safety net (partitions are pre-made three months ahead), so move anything that landed in it into monthly
+-- partitions and drop it.
+
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    IF to_regclass('audit_logs_default') IS NULL THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE audit_logs DETACH PARTITION audit_logs_default;
+
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', timestamp)::DATE FROM audit_logs_default
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_p' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE);
+    END LOOP;
+
+    INSERT INTO audit_logs (audit_log_id, entity_type, entity_id, audit_action, user_id, old_value, new_value, timestamp)
+    SELECT audit_log_id, entity_type, entity_id, audit_action, user_id, old_value, new_value, timestamp
+    FROM audit_logs_default;
+    DROP TABLE audit_logs_default;
+END $$;
@@ -0,0 +1,11 @@
+-- Seek index into archive buckets: each bucket file is a chain of gzip members, and every member gets a row with
+-- the first entity written to it and its byte offset, so a trail lookup decompresses from the member holding the
+-- entity instead of from the start of the file (see AuditArchiveStore). Buckets without rows here are read from 0.
+CREATE TABLE IF NOT EXISTS audit_archive_blocks (
+    bucket_month DATE NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id UUID NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    CONSTRAINT pk_audit_archive_blocks PRIMARY KEY (bucket_month, entity_type, entity_id),
+    CONSTRAINT fk_audit_archive_blocks_bucket FOREIGN KEY (bucket_month) REFERENCES audit_archive_buckets(bucket_month)
+);
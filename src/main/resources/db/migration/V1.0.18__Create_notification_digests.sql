@@ -0,0 +1,20 @@
+-- Open notification digests, one per (recipient, verification request); see NotificationDigester. Events are merged
+-- into the row by an upsert when consumed, and the row is deleted in the same transaction that persists its
+-- notification, so pending digests survive restarts. event_ids makes a redelivered event a no-op.
+CREATE TABLE IF NOT EXISTS notification_digests (
+    user_id UUID NOT NULL,
+    verification_request_id UUID NOT NULL,
+    notification_id UUID NOT NULL,
+    notification_type VARCHAR(50) NOT NULL,
+    messages TEXT[] NOT NULL,
+    omitted_messages INT NOT NULL DEFAULT 0,
+    event_count INT NOT NULL DEFAULT 1,
+    event_ids UUID[] NOT NULL,
+    first_created_at TIMESTAMP,
+    latest_sent_at TIMESTAMP,
+    opened_at TIMESTAMP NOT NULL,
+
+    PRIMARY KEY (user_id, verification_request_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_digests_opened_at ON notification_digests(opened_at);
@@ -0,0 +1,2 @@
+-- Lets the outbox purge (EmailDeliveryChannel.purgeSent) find old SENT rows without scanning the pending ones.
+CREATE INDEX IF NOT EXISTS idx_email_outbox_sent ON email_outbox(sent_at) WHERE status = 'SENT';
@@ -0,0 +1,17 @@
+-- Landing table for audit rows whose month has no audit_logs partition: months already archived or past retention,
+-- months before the first partition, and timestamps beyond the premade ones. audit_logs has no default partition
+-- (see V1.0.16), so such inserts fail; AuditLogBatchWriter stores them here instead of failing the event forever.
+-- A plain table rather than a partition, so it never blocks DETACH PARTITION ... CONCURRENTLY.
+CREATE TABLE IF NOT EXISTS audit_logs_overflow (
+    audit_log_id UUID NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id UUID NOT NULL,
+    audit_action VARCHAR(50) NOT NULL,
+    user_id UUID,
+    old_value TEXT,
+    new_value TEXT,
+    timestamp TIMESTAMP NOT NULL,
+    CONSTRAINT pk_audit_logs_overflow PRIMARY KEY (audit_log_id, timestamp)
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_overflow_timestamp ON audit_logs_overflow(timestamp);
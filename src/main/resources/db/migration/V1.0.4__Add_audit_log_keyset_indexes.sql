@@ -0,0 +1,5 @@
+-- Composite indexes backing keyset pagination of audit logs on (timestamp, audit_log_id)
+CREATE INDEX IF NOT EXISTS idx_audit_timestamp_id ON audit_logs(timestamp DESC, audit_log_id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_entity_timestamp_id ON audit_logs(entity_type, entity_id, timestamp DESC, audit_log_id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_action_timestamp_id ON audit_logs(audit_action, timestamp DESC, audit_log_id DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_user_timestamp_id ON audit_logs(user_id, timestamp DESC, audit_log_id DESC);
@@ -0,0 +1,55 @@
+-- Convert audit_logs into a table range-partitioned by month on timestamp.
+-- Partitions are named audit_logs_pYYYY_MM; AuditLogPartitionManager keeps future ones created
+-- and detaches expired ones, so retention is a partition drop instead of a DELETE.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER TABLE audit_logs_legacy RENAME CONSTRAINT fk_audit_user TO fk_audit_legacy_user;
+DROP INDEX IF EXISTS idx_audit_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_entity_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_action_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_user_timestamp_id;
+
+CREATE TABLE audit_logs (
+    audit_log_id UUID NOT NULL DEFAULT gen_random_uuid(),
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id UUID NOT NULL,
+    audit_action VARCHAR(50) NOT NULL,
+    user_id UUID,
+    old_value TEXT,
+    new_value TEXT,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- The partition key has to be part of the primary key
+    CONSTRAINT pk_audit_logs PRIMARY KEY (audit_log_id, timestamp),
+    CONSTRAINT fk_audit_user FOREIGN KEY (user_id) REFERENCES users(id)
+) PARTITION BY RANGE (timestamp);
+
+-- Safety net for rows outside every monthly partition; it should stay empty
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Indexes on the parent are created on every partition
+CREATE INDEX idx_audit_timestamp_id ON audit_logs(timestamp DESC, audit_log_id DESC);
+CREATE INDEX idx_audit_entity_timestamp_id ON audit_logs(entity_type, entity_id, timestamp DESC, audit_log_id DESC);
+CREATE INDEX idx_audit_action_timestamp_id ON audit_logs(audit_action, timestamp DESC, audit_log_id DESC);
+CREATE INDEX idx_audit_user_timestamp_id ON audit_logs(user_id, timestamp DESC, audit_log_id DESC);
+
+-- Monthly partitions from the oldest existing row up to three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(timestamp) FROM audit_logs_legacy), CURRENT_DATE))::DATE;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_p' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (audit_log_id, entity_type, entity_id, audit_action, user_id, old_value, new_value, timestamp)
+SELECT audit_log_id, entity_type, entity_id, audit_action, user_id, old_value, new_value, timestamp
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
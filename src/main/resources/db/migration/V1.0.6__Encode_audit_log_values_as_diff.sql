@@ -0,0 +1,22 @@
+-- old_value/new_value now hold a compact JSON object of changed fields (see AuditDiff).
+-- Bring existing free-text rows into the same shape so every stored value can be cast to jsonb.
+-- A value only counts as already encoded when it actually parses as a JSON object; free text that merely
+-- starts and ends with a brace is wrapped like any other, so no row is left that would fail a later cast.
+CREATE FUNCTION pg_temp.is_json_object(value TEXT) RETURNS BOOLEAN AS $$
+BEGIN
+    RETURN jsonb_typeof(value::jsonb) = 'object';
+EXCEPTION WHEN others THEN
+    RETURN FALSE;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+UPDATE audit_logs SET old_value = NULL WHERE btrim(old_value) = '';
+UPDATE audit_logs SET new_value = NULL WHERE btrim(new_value) = '';
+
+UPDATE audit_logs
+SET old_value = jsonb_build_object('message', old_value)::text
+WHERE old_value IS NOT NULL AND NOT pg_temp.is_json_object(old_value);
+
+UPDATE audit_logs
+SET new_value = jsonb_build_object('message', new_value)::text
+WHERE new_value IS NOT NULL AND NOT pg_temp.is_json_object(new_value);
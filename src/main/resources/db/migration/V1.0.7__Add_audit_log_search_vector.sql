@@ -0,0 +1,5 @@
+-- Full-text search over the audit diff values. An expression index rather than a stored generated column:
+-- adding a STORED column to the partitioned parent would rewrite every partition, while the index only reads
+-- them. AuditSearchServiceImpl matches on the identical expression so the planner can use the index.
+CREATE INDEX idx_audit_search_vector ON audit_logs
+    USING GIN (to_tsvector('simple', COALESCE(old_value, '') || ' ' || COALESCE(new_value, '')));
@@ -0,0 +1,16 @@
+-- Cold tier of audit_logs: one compressed file per archived month (see AuditArchiveStore).
+CREATE TABLE IF NOT EXISTS audit_archive_buckets (
+    bucket_month DATE PRIMARY KEY,
+    location TEXT NOT NULL,
+    row_count BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Which buckets hold rows of an entity, so a trail lookup only opens those files
+CREATE TABLE IF NOT EXISTS audit_archive_entities (
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id UUID NOT NULL,
+    bucket_month DATE NOT NULL,
+    CONSTRAINT pk_audit_archive_entities PRIMARY KEY (entity_type, entity_id, bucket_month),
+    CONSTRAINT fk_audit_archive_bucket FOREIGN KEY (bucket_month) REFERENCES audit_archive_buckets(bucket_month)
+);
@@ -0,0 +1,3 @@
+-- Keyset-paginated notification feed: WHERE user_id = ? ORDER BY created_at DESC, id DESC.
+-- idx_notifications_user_unread leads with is_read, so the full feed could not read it in order.
+CREATE INDEX IF NOT EXISTS idx_notifications_user_feed ON notifications(user_id, created_at DESC, id DESC);
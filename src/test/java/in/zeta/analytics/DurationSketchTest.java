@@ -0,0 +1,96 @@
+package in.zeta.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationSketchTest {
+
+    @Test
+    void quantile_StaysWithinRelativeAccuracy() {
+        // Given
+        Random random = new Random(42);
+        DurationSketch sketch = new DurationSketch();
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            // log-uniform between one second and about four months
+            long value = Math.round(Math.exp(random.nextDouble() * 16));
+            values.add(value);
+            sketch.add(value);
+        }
+        values.sort(Long::compare);
+
+        // When & Then
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            long exact = values.get((int) Math.floor(q * (values.size() - 1)));
+            long estimate = sketch.quantile(q);
+            assertEquals(exact, estimate, exact * DurationSketch.RELATIVE_ACCURACY + 1,
+                    "quantile " + q);
+        }
+        assertEquals(values.get(values.size() - 1), sketch.maxSeconds());
+        assertEquals(values.size(), sketch.count());
+    }
+
+    @Test
+    void merge_MatchesSketchOfAllValues() {
+        // Given
+        DurationSketch first = new DurationSketch();
+        DurationSketch second = new DurationSketch();
+        DurationSketch all = new DurationSketch();
+        for (long value = 0; value < 500; value++) {
+            (value % 2 == 0 ? first : second).add(value * 60);
+            all.add(value * 60);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertEquals(all.count(), first.count());
+        assertEquals(all.totalSeconds(), first.totalSeconds());
+        assertEquals(all.maxSeconds(), first.maxSeconds());
+        assertEquals(all.quantile(0.5), first.quantile(0.5));
+        assertEquals(all.quantile(0.99), first.quantile(0.99));
+    }
+
+    @Test
+    void add_PreAggregatedBucketsRebuildSketch() {
+        // Given
+        DurationSketch source = new DurationSketch();
+        source.add(30);
+        source.add(30);
+        source.add(3_600);
+        DurationSketch rebuilt = new DurationSketch();
+
+        // When
+        source.forEachBucket((bucket, totals) ->
+                rebuilt.add(bucket, totals.count(), totals.totalSeconds(), totals.maxSeconds()));
+
+        // Then
+        assertEquals(3, rebuilt.count());
+        assertEquals(3_660, rebuilt.totalSeconds());
+        assertEquals(1_220.0, rebuilt.meanSeconds());
+        assertEquals(3_600, rebuilt.maxSeconds());
+        assertEquals(source.quantile(0.5), rebuilt.quantile(0.5));
+    }
+
+    @Test
+    void quantile_ZeroAndEmpty() {
+        // Given
+        DurationSketch empty = new DurationSketch();
+        DurationSketch zeros = new DurationSketch();
+        zeros.add(0);
+        zeros.add(-5);
+
+        // When & Then
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.quantile(0.5));
+        assertEquals(0, zeros.quantile(0.99));
+        assertEquals(0, DurationSketch.bucketOf(0));
+        assertEquals(1, DurationSketch.bucketOf(1));
+    }
+}
@@ -0,0 +1,154 @@
+package in.zeta.analytics;
+
+import in.zeta.entity.StatusHistory;
+import in.zeta.entity.Users;
+import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.VerificationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlaAggregatorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SlaAggregator aggregator;
+    private Users requestor;
+    private Users officer;
+    private VerificationRequest verificationRequest;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new SlaAggregator(jdbcTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "enabled", true);
+        requestor = Users.builder().id(UUID.randomUUID()).build();
+        officer = Users.builder().id(UUID.randomUUID()).build();
+        verificationRequest = VerificationRequest.builder()
+                .id(UUID.randomUUID())
+                .requestor(requestor)
+                .assignedOfficer(officer)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    @Test
+    void record_Approval_AddsTimeInStatusAndTurnaroundPerRequestorAndOfficer() {
+        // Given
+        StatusHistory approved = transition(VerificationStatus.IN_REVIEW, VerificationStatus.APPROVED,
+                CREATED_AT.plusHours(5));
+
+        // When
+        boolean recorded = aggregator.record(approved, CREATED_AT.plusHours(2));
+        aggregator.flush();
+
+        // Then
+        assertTrue(recorded);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(SlaAggregator.UPSERT_AGGREGATE_SQL), rows.capture());
+        assertEquals(4, rows.getValue().size());
+        Object[] requestorTimeInStatus = rows.getValue().stream()
+                .filter(row -> row[0].equals("REQUESTOR") && row[3].equals("TIME_IN_STATUS"))
+                .findFirst().orElseThrow();
+        assertEquals(requestor.getId(), requestorTimeInStatus[1]);
+        assertEquals(Date.valueOf(CREATED_AT.toLocalDate()), requestorTimeInStatus[2]);
+        assertEquals("IN_REVIEW", requestorTimeInStatus[4]);
+        assertEquals(DurationSketch.bucketOf(3 * 3_600), requestorTimeInStatus[5]);
+        assertEquals(1L, requestorTimeInStatus[6]);
+        assertEquals(3L * 3_600, requestorTimeInStatus[7]);
+        Object[] officerTurnaround = rows.getValue().stream()
+                .filter(row -> row[0].equals("OFFICER") && row[3].equals("TURNAROUND"))
+                .findFirst().orElseThrow();
+        assertEquals(officer.getId(), officerTurnaround[1]);
+        assertEquals("APPROVED", officerTurnaround[4]);
+        assertEquals(5L * 3_600, officerTurnaround[7]);
+        assertEquals(0, aggregator.pendingKeys());
+    }
+
+    @Test
+    void record_NotNewerThanPrevious_Skips() {
+        // Given
+        LocalDateTime changedAt = CREATED_AT.plusHours(1);
+        StatusHistory redelivered = transition(VerificationStatus.PENDING, VerificationStatus.IN_REVIEW, changedAt);
+
+        // When
+        boolean recorded = aggregator.record(redelivered, changedAt);
+
+        // Then
+        assertFalse(recorded);
+        assertEquals(0, aggregator.pendingKeys());
+    }
+
+    @Test
+    void record_Unassigned_OnlyRequestorDimension() {
+        // Given
+        verificationRequest.setAssignedOfficer(null);
+        StatusHistory inReview = transition(VerificationStatus.PENDING, VerificationStatus.IN_REVIEW,
+                CREATED_AT.plusMinutes(30));
+
+        // When
+        aggregator.record(inReview, CREATED_AT);
+
+        // Then
+        assertEquals(1, aggregator.pendingKeys());
+    }
+
+    @Test
+    void flush_Fails_KeepsSamplesForNextFlush() {
+        // Given
+        aggregator.record(transition(VerificationStatus.PENDING, VerificationStatus.IN_REVIEW,
+                CREATED_AT.plusMinutes(30)), CREATED_AT);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("connection refused"));
+
+        // When
+        aggregator.flush();
+
+        // Then
+        assertEquals(2, aggregator.pendingKeys());
+    }
+
+    @Test
+    void record_Disabled_DoesNothing() {
+        // Given
+        ReflectionTestUtils.setField(aggregator, "enabled", false);
+
+        // When
+        boolean recorded = aggregator.record(transition(VerificationStatus.PENDING, VerificationStatus.IN_REVIEW,
+                CREATED_AT.plusMinutes(30)), CREATED_AT);
+        aggregator.flush();
+
+        // Then
+        assertFalse(recorded);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private StatusHistory transition(VerificationStatus from, VerificationStatus to, LocalDateTime changedAt) {
+        return StatusHistory.builder()
+                .verificationRequest(verificationRequest)
+                .fromStatus(from)
+                .toStatus(to)
+                .changedBy(officer)
+                .changedAt(changedAt)
+                .build();
+    }
+}
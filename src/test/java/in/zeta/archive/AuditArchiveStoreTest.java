@@ -0,0 +1,244 @@
+package in.zeta.archive;
+
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.AuditLogException;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.util.KeysetCursor;
+import in.zeta.writer.AuditLogRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditArchiveStoreTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private AuditArchiveStore archiveStore;
+    private UUID entityId;
+    private UUID otherEntityId;
+
+    @BeforeEach
+    void setUp() {
+        archiveStore = new AuditArchiveStore(jdbcTemplate, true, archiveDirectory.toString());
+        entityId = UUID.randomUUID();
+        otherEntityId = UUID.randomUUID();
+    }
+
+    @Test
+    void commit_PublishesReadOnlyBucket() throws Exception {
+        // When
+        String location;
+        try (AuditArchiveStore.BucketWriter writer = archiveStore.openBucket(JANUARY)) {
+            writer.write(record(entityId, JANUARY, 10));
+            location = writer.commit();
+            assertEquals(1, writer.rowCount());
+        }
+
+        // Then
+        Path file = archiveDirectory.resolve(location);
+        assertEquals(AuditArchiveStore.fileName(JANUARY), location);
+        assertTrue(Files.exists(file));
+        assertFalse(Files.exists(archiveDirectory.resolve(location + ".tmp")));
+    }
+
+    @Test
+    void close_WithoutCommit_DiscardsBucket() throws Exception {
+        // When
+        try (AuditArchiveStore.BucketWriter writer = archiveStore.openBucket(JANUARY)) {
+            writer.write(record(entityId, JANUARY, 10));
+        }
+
+        // Then
+        try (var files = Files.list(archiveDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void findEntityLogs_ReadsOnlyTheEntityNewestBucketFirst() throws Exception {
+        // Given
+        writeBucket(FEBRUARY, record(entityId, FEBRUARY, 20), record(entityId, FEBRUARY, 5), record(otherEntityId, FEBRUARY, 9));
+        writeBucket(JANUARY, record(entityId, JANUARY, 15));
+        stubBuckets(FEBRUARY, JANUARY);
+
+        // When
+        List<AuditLogsResponse> logs = archiveStore.findEntityLogs(filter(), null, 10);
+
+        // Then
+        assertEquals(List.of(FEBRUARY.atDay(20), FEBRUARY.atDay(5), JANUARY.atDay(15)),
+                logs.stream().map(log -> log.getTimestamp().toLocalDate()).toList());
+        assertTrue(logs.stream().allMatch(log -> log.getEntityId().equals(entityId)));
+    }
+
+    @Test
+    void findEntityLogs_StopsAtLimitAndHonoursCursor() throws Exception {
+        // Given
+        AuditLogRecord newest = record(entityId, FEBRUARY, 20);
+        writeBucket(FEBRUARY, newest, record(entityId, FEBRUARY, 5));
+        writeBucket(JANUARY, record(entityId, JANUARY, 15));
+        stubBuckets(FEBRUARY, JANUARY);
+        KeysetCursor after = new KeysetCursor(newest.timestamp(), newest.id());
+
+        // When
+        List<AuditLogsResponse> logs = archiveStore.findEntityLogs(filter(), after, 1);
+
+        // Then
+        assertEquals(1, logs.size());
+        assertEquals(FEBRUARY.atDay(5), logs.get(0).getTimestamp().toLocalDate());
+    }
+
+    @Test
+    void findEntityLogs_SeeksToTheEntityBlock() throws Exception {
+        // Given
+        List<AuditLogRecord> records = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            records.add(record(UUID.randomUUID(), FEBRUARY, 1 + i % 28));
+        }
+        records.add(record(entityId, FEBRUARY, 20));
+        List<AuditArchiveStore.Block> blocks = writeBucket(FEBRUARY, records.toArray(AuditLogRecord[]::new));
+        AuditArchiveStore.Block entityBlock = blocks.stream()
+                .filter(block -> block.entityId().compareTo(entityId) <= 0)
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        stubBuckets(FEBRUARY);
+        when(resultSet.getLong("byte_offset")).thenReturn(entityBlock.offset());
+
+        // When
+        List<AuditLogsResponse> logs = archiveStore.findEntityLogs(filter(), null, 10);
+
+        // Then
+        assertTrue(blocks.size() > 1);
+        assertEquals(0, blocks.get(0).offset());
+        assertEquals(1, logs.size());
+        assertEquals(entityId, logs.get(0).getEntityId());
+    }
+
+    @Test
+    void verifyBucket_MatchingRowCount_Passes() throws Exception {
+        // Given
+        writeBucket(JANUARY, record(entityId, JANUARY, 10), record(otherEntityId, JANUARY, 11));
+
+        // When & Then
+        assertDoesNotThrow(() -> archiveStore.verifyBucket(AuditArchiveStore.fileName(JANUARY), 2));
+        assertThrows(AuditLogException.class, () -> archiveStore.verifyBucket(AuditArchiveStore.fileName(JANUARY), 3));
+    }
+
+    @Test
+    void verifyBucket_EmptyBucket_IsReadable() throws Exception {
+        // Given
+        writeBucket(JANUARY);
+
+        // When & Then
+        assertDoesNotThrow(() -> archiveStore.verifyBucket(AuditArchiveStore.fileName(JANUARY), 0));
+    }
+
+    @Test
+    void verifyBucket_CorruptFile_Throws() throws Exception {
+        // Given
+        Files.write(archiveDirectory.resolve(AuditArchiveStore.fileName(JANUARY)), new byte[]{1, 2, 3});
+
+        // When & Then
+        assertThrows(AuditLogException.class, () -> archiveStore.verifyBucket(AuditArchiveStore.fileName(JANUARY), 0));
+    }
+
+    @Test
+    void checkDirectory_EnabledWithoutDirectory_FailsStartup() {
+        // Given
+        AuditArchiveStore unconfigured = new AuditArchiveStore(jdbcTemplate, true, "");
+        AuditArchiveStore missing = new AuditArchiveStore(jdbcTemplate, true, archiveDirectory.resolve("missing").toString());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, unconfigured::checkDirectory);
+        assertThrows(IllegalStateException.class, missing::checkDirectory);
+        assertDoesNotThrow(archiveStore::checkDirectory);
+        assertDoesNotThrow(new AuditArchiveStore(jdbcTemplate, false, "")::checkDirectory);
+    }
+
+    @Test
+    void findEntityLogs_Disabled_ReturnsEmpty() {
+        // Given
+        AuditArchiveStore disabled = new AuditArchiveStore(jdbcTemplate, false, archiveDirectory.toString());
+
+        // When
+        List<AuditLogsResponse> logs = disabled.findEntityLogs(filter(), null, 10);
+
+        // Then
+        assertTrue(logs.isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private AuditLogFilter filter() {
+        return AuditLogFilter.forEntity(EntityType.VERIFICATION_REQUEST, entityId, null, null);
+    }
+
+    private List<AuditArchiveStore.Block> writeBucket(YearMonth month, AuditLogRecord... records) throws Exception {
+        // Buckets are written in entity order, newest first within an entity
+        List<AuditLogRecord> sorted = new ArrayList<>(List.of(records));
+        sorted.sort((left, right) -> {
+            int byEntity = left.entityId().compareTo(right.entityId());
+            return byEntity != 0 ? byEntity : right.timestamp().compareTo(left.timestamp());
+        });
+        try (AuditArchiveStore.BucketWriter writer = archiveStore.openBucket(month)) {
+            sorted.forEach(writer::write);
+            writer.commit();
+            return writer.blocks();
+        }
+    }
+
+    private void stubBuckets(YearMonth... months) throws Exception {
+        when(resultSet.getDate("bucket_month")).thenReturn(
+                Date.valueOf(months[0].atDay(1)),
+                Arrays.stream(months).skip(1).map(month -> Date.valueOf(month.atDay(1))).toArray(Date[]::new));
+        when(resultSet.getString("location")).thenReturn(
+                AuditArchiveStore.fileName(months[0]),
+                Arrays.stream(months).skip(1).map(AuditArchiveStore::fileName).toArray(String[]::new));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> buckets = new ArrayList<>();
+            for (int i = 0; i < months.length; i++) {
+                buckets.add(mapper.mapRow(resultSet, i));
+            }
+            return buckets;
+        });
+    }
+
+    private AuditLogRecord record(UUID entity, YearMonth month, int day) {
+        return new AuditLogRecord(UUID.randomUUID(), EntityType.VERIFICATION_REQUEST, entity,
+                AuditAction.VERIFICATION_STATUS_CHANGED, UUID.randomUUID(), "officer",
+                "{\"status\":\"PENDING\"}", "{\"status\":\"APPROVED\"}", month.atDay(day).atTime(12, 0));
+    }
+}
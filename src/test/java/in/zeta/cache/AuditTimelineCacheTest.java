@@ -0,0 +1,149 @@
+package in.zeta.cache;
+
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditTimelineCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+    private AuditTimelineCache cache;
+    private UUID entityId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuditTimelineCache(new SimpleMeterRegistry(), 100, 2, 600);
+        entityId = UUID.randomUUID();
+    }
+
+    @Test
+    void get_SecondCall_DoesNotReload() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(EntityType.USER, entityId, () -> {
+            loads.incrementAndGet();
+            return List.of(entry(2), entry(1));
+        });
+        List<AuditLogsResponse> timeline = cache.get(EntityType.USER, entityId, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(2, timeline.size());
+    }
+
+    @Test
+    void get_LoaderReturnsMoreThanCapacity_KeepsOneExtraEntry() {
+        // When
+        List<AuditLogsResponse> timeline = cache.get(EntityType.USER, entityId,
+                () -> List.of(entry(5), entry(4), entry(3), entry(2)));
+
+        // Then
+        assertEquals(3, timeline.size());
+        assertEquals(BASE.plusMinutes(3), timeline.get(2).getTimestamp());
+    }
+
+    @Test
+    void append_CachedTimeline_InsertsInOrder() {
+        // Given
+        cache.get(EntityType.USER, entityId, () -> List.of(entry(3), entry(1)));
+
+        // When
+        cache.append(entry(2));
+        cache.append(entry(4));
+
+        // Then
+        List<AuditLogsResponse> timeline = cache.get(EntityType.USER, entityId, List::of);
+        assertEquals(List.of(BASE.plusMinutes(4), BASE.plusMinutes(3), BASE.plusMinutes(2)),
+                timeline.stream().map(AuditLogsResponse::getTimestamp).toList());
+    }
+
+    @Test
+    void append_OlderThanFullTimeline_Ignored() {
+        // Given
+        List<AuditLogsResponse> loaded = List.of(entry(5), entry(4), entry(3));
+        cache.get(EntityType.USER, entityId, () -> loaded);
+
+        // When
+        cache.append(entry(1));
+
+        // Then
+        assertEquals(loaded, cache.get(EntityType.USER, entityId, List::of));
+    }
+
+    @Test
+    void append_DuplicateId_Ignored() {
+        // Given
+        AuditLogsResponse existing = entry(1);
+        cache.get(EntityType.USER, entityId, () -> List.of(existing));
+
+        // When
+        cache.append(existing);
+
+        // Then
+        assertEquals(1, cache.get(EntityType.USER, entityId, List::of).size());
+    }
+
+    @Test
+    void append_UncachedEntity_DoesNotCreateTimeline() {
+        // When
+        cache.append(entry(1));
+
+        // Then
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void newestFirst_SameTimestamp_OrdersIdsAsUnsignedDescending() {
+        // Given
+        AuditLogsResponse low = entry(1, new UUID(0x7fffffffffffffffL, 0));
+        AuditLogsResponse high = entry(1, new UUID(0x8000000000000000L, 0));
+        List<AuditLogsResponse> entries = new ArrayList<>(List.of(low, high));
+
+        // When
+        entries.sort(AuditTimelineCache.NEWEST_FIRST);
+
+        // Then
+        assertSame(high, entries.get(0));
+    }
+
+    @Test
+    void disabled_WhenHotEntitiesIsZero() {
+        // When
+        AuditTimelineCache disabled = new AuditTimelineCache(new SimpleMeterRegistry(), 0, 2, 600);
+
+        // Then
+        assertFalse(disabled.isEnabled());
+        assertTrue(cache.isEnabled());
+    }
+
+    private AuditLogsResponse entry(int minutes) {
+        return entry(minutes, UUID.randomUUID());
+    }
+
+    private AuditLogsResponse entry(int minutes, UUID id) {
+        return AuditLogsResponse.builder()
+                .id(id)
+                .entityType(EntityType.USER)
+                .entityId(entityId)
+                .action(AuditAction.USER_ROLE_CHANGED)
+                .timestamp(BASE.plusMinutes(minutes))
+                .build();
+    }
+}
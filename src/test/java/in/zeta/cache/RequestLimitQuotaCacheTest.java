@@ -0,0 +1,177 @@
+package in.zeta.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestLimitQuotaCacheTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RequestLimitQuotaCache quotaCache;
+
+    private UUID customerId;
+    private UUID requestorId;
+    private int currentYear;
+
+    @BeforeEach
+    void setUp() {
+        customerId = UUID.randomUUID();
+        requestorId = UUID.randomUUID();
+        currentYear = LocalDate.now().getYear();
+
+        ReflectionTestUtils.setField(quotaCache, "maxVerificationRequestsToEachCustomer", 10);
+        ReflectionTestUtils.setField(quotaCache, "flushBatchSize", 2);
+    }
+
+    @Test
+    void getOrLoad_Miss_NoRow_StartsAtZero() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        RequestLimitQuotaCache.QuotaCounter counter = quotaCache.getOrLoad(customerId, requestorId, currentYear);
+
+        // Then
+        assertEquals(0, counter.requestCount());
+        assertEquals(0, counter.totalRequests());
+        assertEquals(10, counter.maxAllowedRequests());
+    }
+
+    @Test
+    void getOrLoad_Hit_DoesNotQueryAgain() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any()))
+                .thenReturn(List.of(new RequestLimitQuotaCache.QuotaCounter(2, 4, 10)));
+
+        // When
+        quotaCache.getOrLoad(customerId, requestorId, currentYear);
+        RequestLimitQuotaCache.QuotaCounter counter = quotaCache.getOrLoad(customerId, requestorId, currentYear);
+
+        // Then
+        assertEquals(2, counter.requestCount());
+        assertEquals(4, counter.totalRequests());
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), any(), any(), any());
+    }
+
+    @Test
+    void increment_UpdatesCountersAndMarksDirty() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        quotaCache.increment(customerId, requestorId, currentYear, 3);
+        quotaCache.increment(customerId, requestorId, currentYear, 3);
+
+        // Then
+        RequestLimitQuotaCache.QuotaCounter counter = quotaCache.getOrLoad(customerId, requestorId, currentYear);
+        assertEquals(2, counter.requestCount());
+        assertEquals(2, counter.totalRequests());
+        assertEquals(1, quotaCache.pendingWrites());
+    }
+
+    @Test
+    void increment_AboveCeiling_ResetsRequestCount() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any()))
+                .thenReturn(List.of(new RequestLimitQuotaCache.QuotaCounter(5, 7, 10)));
+
+        // When
+        quotaCache.increment(customerId, requestorId, currentYear, 3);
+
+        // Then
+        RequestLimitQuotaCache.QuotaCounter counter = quotaCache.getOrLoad(customerId, requestorId, currentYear);
+        assertEquals(1, counter.requestCount());
+        assertEquals(8, counter.totalRequests());
+    }
+
+    @Test
+    void flush_WritesDirtyKeysInBatches() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+        for (int i = 0; i < 3; i++) {
+            quotaCache.increment(UUID.randomUUID(), requestorId, currentYear, 3);
+        }
+
+        // When
+        quotaCache.flush();
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertEquals(0, quotaCache.pendingWrites());
+    }
+
+    @Test
+    void flush_Failure_KeepsKeysDirty() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+        quotaCache.increment(customerId, requestorId, currentYear, 3);
+
+        // When
+        quotaCache.flush();
+
+        // Then
+        assertEquals(1, quotaCache.pendingWrites());
+    }
+
+    @Test
+    void flush_NothingDirty_DoesNotWrite() {
+        // When
+        quotaCache.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void tryAcquire_TakesQuotaOnlyWithinLimits() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any()))
+                .thenReturn(List.of(new RequestLimitQuotaCache.QuotaCounter(2, 9, 10)));
+
+        // When
+        boolean first = quotaCache.tryAcquire(customerId, requestorId, currentYear, 1, 3);
+        boolean second = quotaCache.tryAcquire(customerId, requestorId, currentYear, 1, 3);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        RequestLimitQuotaCache.QuotaCounter counter = quotaCache.getOrLoad(customerId, requestorId, currentYear);
+        assertEquals(3, counter.requestCount());
+        assertEquals(10, counter.totalRequests());
+        assertEquals(1, quotaCache.pendingWrites());
+    }
+
+    @Test
+    void release_GivesQuotaBack() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(List.of());
+        quotaCache.tryAcquire(customerId, requestorId, currentYear, 2, 3);
+
+        // When
+        quotaCache.release(customerId, requestorId, currentYear, 2);
+
+        // Then
+        RequestLimitQuotaCache.QuotaCounter counter = quotaCache.getOrLoad(customerId, requestorId, currentYear);
+        assertEquals(0, counter.requestCount());
+        assertEquals(0, counter.totalRequests());
+    }
+}
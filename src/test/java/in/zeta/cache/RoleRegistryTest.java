@@ -0,0 +1,116 @@
+package in.zeta.cache;
+
+import in.zeta.entity.Users;
+import in.zeta.enums.Role;
+import in.zeta.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoleRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RoleRegistry roleRegistry;
+
+    private RoleMember officer;
+    private RoleMember customer;
+
+    @BeforeEach
+    void setUp() {
+        officer = new RoleMember(UUID.randomUUID(), "officer123", "officer@test.com", Role.VERIFICATION_OFFICER);
+        customer = new RoleMember(UUID.randomUUID(), "customer123", "customer@test.com", Role.CUSTOMER);
+    }
+
+    @Test
+    void members_BeforeRefresh_IsEmpty() {
+        // When
+        List<RoleMember> members = roleRegistry.members(Role.VERIFICATION_OFFICER);
+
+        // Then
+        assertTrue(members.isEmpty());
+    }
+
+    @Test
+    void refresh_PartitionsByRole() {
+        // Given
+        RoleMember admin = new RoleMember(UUID.randomUUID(), "admin123", "admin@test.com", Role.ADMIN);
+        when(userRepository.findRoleMembersByRoleIn(RoleRegistry.TRACKED_ROLES)).thenReturn(List.of(officer, admin));
+
+        // When
+        roleRegistry.refresh();
+
+        // Then
+        assertEquals(List.of(officer), roleRegistry.members(Role.VERIFICATION_OFFICER));
+        assertEquals(List.of(admin), roleRegistry.members(Role.ADMIN));
+        assertFalse(RoleRegistry.TRACKED_ROLES.contains(Role.CUSTOMER));
+    }
+
+    @Test
+    void members_SnapshotIsImmutable() {
+        // Given
+        when(userRepository.findRoleMembersByRoleIn(RoleRegistry.TRACKED_ROLES)).thenReturn(List.of(officer));
+        roleRegistry.refresh();
+
+        // When & Then
+        List<RoleMember> members = roleRegistry.members(Role.VERIFICATION_OFFICER);
+        assertThrows(UnsupportedOperationException.class, () -> members.add(customer));
+    }
+
+    @Test
+    void upsert_Promotion_AddsUserToRole() {
+        // Given
+        when(userRepository.findRoleMembersByRoleIn(RoleRegistry.TRACKED_ROLES)).thenReturn(List.of());
+        roleRegistry.refresh();
+        List<RoleMember> before = roleRegistry.members(Role.VERIFICATION_OFFICER);
+
+        Users promoted = Users.builder()
+                .id(customer.id())
+                .username(customer.username())
+                .email(customer.email())
+                .role(Role.VERIFICATION_OFFICER)
+                .build();
+
+        // When
+        roleRegistry.upsert(promoted);
+
+        // Then
+        assertEquals(1, roleRegistry.members(Role.VERIFICATION_OFFICER).size());
+        assertEquals(customer.id(), roleRegistry.members(Role.VERIFICATION_OFFICER).get(0).id());
+        assertTrue(before.isEmpty());
+    }
+
+    @Test
+    void upsert_DemotionToCustomer_DropsUser() {
+        // Given
+        when(userRepository.findRoleMembersByRoleIn(RoleRegistry.TRACKED_ROLES)).thenReturn(List.of(officer));
+        roleRegistry.refresh();
+
+        Users demoted = Users.builder()
+                .id(officer.id())
+                .username(officer.username())
+                .email(officer.email())
+                .role(Role.CUSTOMER)
+                .build();
+
+        // When
+        roleRegistry.upsert(demoted);
+
+        // Then
+        assertTrue(roleRegistry.members(Role.VERIFICATION_OFFICER).isEmpty());
+        assertTrue(roleRegistry.members(Role.CUSTOMER).isEmpty());
+        verify(userRepository, times(1)).findRoleMembersByRoleIn(RoleRegistry.TRACKED_ROLES);
+    }
+}
@@ -0,0 +1,156 @@
+package in.zeta.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCountCacheTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private UnreadNotificationCountCache cache;
+    private UUID userId;
+    private AtomicInteger loads;
+    private Function<UUID, Long> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UnreadNotificationCountCache(jdbcTemplate, true);
+        userId = UUID.randomUUID();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return 4L;
+        };
+    }
+
+    @Test
+    void get_BeforeReconcile_LoadsOnceThenCounts() {
+        // When
+        long first = cache.get(userId, loader);
+        cache.increment(userId);
+        cache.decrement(userId);
+        cache.decrement(userId);
+        long second = cache.get(userId, loader);
+
+        // Then
+        assertEquals(4L, first);
+        assertEquals(3L, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AfterReconcile_NeverLoads() throws Exception {
+        // Given
+        UUID otherUserId = UUID.randomUUID();
+        stubUnreadCount(userId, 2L);
+
+        // When
+        cache.reconcile();
+        cache.increment(otherUserId);
+
+        // Then
+        assertEquals(2L, cache.get(userId, loader));
+        assertEquals(1L, cache.get(otherUserId, loader));
+        assertEquals(0L, cache.get(UUID.randomUUID(), loader));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void reconcile_CorrectsDriftAndForgetsReadUsers() throws Exception {
+        // Given
+        UUID readAllUserId = UUID.randomUUID();
+        cache.get(userId, loader);
+        cache.get(readAllUserId, loader);
+        stubUnreadCount(userId, 7L);
+
+        // When
+        cache.reconcile();
+
+        // Then
+        assertEquals(7L, cache.get(userId, loader));
+        assertEquals(0L, cache.get(readAllUserId, loader));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void reconcile_KeepsWritesAppliedDuringScan() throws Exception {
+        // Given
+        UUID newUnreadUserId = UUID.randomUUID();
+        stubUnreadCount(userId, 2L);
+        cache.reconcile();
+        when(resultSet.getObject("user_id", UUID.class)).thenReturn(userId);
+        when(resultSet.getLong("unread_count")).thenReturn(2L);
+        doAnswer(invocation -> {
+            // Rows committed after the scan's snapshot
+            cache.increment(userId);
+            cache.increment(newUnreadUserId);
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        cache.reconcile();
+
+        // Then
+        assertEquals(3L, cache.get(userId, loader));
+        assertEquals(1L, cache.get(newUnreadUserId, loader));
+    }
+
+    @Test
+    void decrement_NeverGoesBelowZero() throws Exception {
+        // Given
+        stubUnreadCount(userId, 1L);
+        cache.reconcile();
+
+        // When
+        cache.decrement(userId);
+        cache.decrement(userId);
+
+        // Then
+        assertEquals(0L, cache.get(userId, loader));
+    }
+
+    @Test
+    void disabled_AlwaysUsesLoader() {
+        // Given
+        UnreadNotificationCountCache disabled = new UnreadNotificationCountCache(jdbcTemplate, false);
+
+        // When
+        disabled.increment(userId);
+        disabled.get(userId, loader);
+        disabled.get(userId, loader);
+        disabled.reconcile();
+
+        // Then
+        assertEquals(2, loads.get());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void stubUnreadCount(UUID unreadUserId, long unreadCount) throws Exception {
+        when(resultSet.getObject("user_id", UUID.class)).thenReturn(unreadUserId);
+        when(resultSet.getLong("unread_count")).thenReturn(unreadCount);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+}
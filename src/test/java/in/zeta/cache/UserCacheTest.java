@@ -0,0 +1,139 @@
+package in.zeta.cache;
+
+import in.zeta.entity.Users;
+import in.zeta.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+    private CachedUser testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(meterRegistry, 2, 60);
+        testUser = user();
+    }
+
+    @Test
+    void get_Hit_DoesNotCallLoader() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        userCache.get(testUser.id(), id -> {
+            loads.incrementAndGet();
+            return testUser;
+        });
+        CachedUser result = userCache.get(testUser.id(), id -> {
+            loads.incrementAndGet();
+            return testUser;
+        });
+
+        // Then
+        assertSame(testUser, result);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", UserCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", UserCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_LoaderReturnsNull_NotCached() {
+        // When
+        CachedUser result = userCache.get(testUser.id(), id -> null);
+
+        // Then
+        assertNull(result);
+        assertEquals(0, userCache.estimatedSize());
+    }
+
+    @Test
+    void invalidate_RemovesEntry() {
+        // Given
+        userCache.get(testUser.id(), id -> testUser);
+
+        // When
+        userCache.invalidate(testUser.id());
+
+        // Then
+        assertEquals(0, userCache.estimatedSize());
+    }
+
+    @Test
+    void getAll_LoadsMissingIdsInOneCall() {
+        // Given
+        CachedUser otherUser = user();
+        userCache.get(testUser.id(), id -> testUser);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        Map<UUID, CachedUser> result = userCache.getAll(List.of(testUser.id(), otherUser.id()), missing -> {
+            loads.incrementAndGet();
+            assertEquals(1, missing.size());
+            return Map.of(otherUser.id(), otherUser);
+        });
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void sizeBound_EvictsEntries() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            CachedUser user = user();
+            userCache.get(user.id(), id -> user);
+        }
+
+        // Then
+        assertTrue(userCache.estimatedSize() <= 2);
+    }
+
+    @Test
+    void cachedUser_ToUsers_ReturnsFreshEntityWithoutPassword() {
+        // Given
+        Users entity = Users.builder()
+                .id(UUID.randomUUID())
+                .username("cacheduser")
+                .email("cached@example.com")
+                .password("encodedPassword")
+                .role(Role.CUSTOMER)
+                .build();
+        CachedUser cached = CachedUser.from(entity);
+
+        // When
+        Users first = cached.toUsers();
+        first.setRole(Role.ADMIN);
+        Users second = cached.toUsers();
+
+        // Then
+        assertNull(second.getPassword());
+        assertEquals(Role.CUSTOMER, second.getRole());
+        assertEquals(entity.getId(), second.getId());
+        assertNotSame(first, second);
+    }
+
+    private static CachedUser user() {
+        return CachedUser.from(Users.builder()
+                .id(UUID.randomUUID())
+                .username("cacheduser")
+                .email("cached@example.com")
+                .password("encodedPassword")
+                .role(Role.CUSTOMER)
+                .build());
+    }
+}
@@ -1,9 +1,17 @@
 package in.zeta.controller;
 
 import in.zeta.constants.Messages;
+import in.zeta.dto.requests.AuditLogPageRequest;
+import in.zeta.dto.response.AuditLogPageResponse;
 import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.dto.response.AuditSearchFacets;
+import in.zeta.dto.response.AuditSearchResponse;
 import in.zeta.enums.AuditAction;
+import in.zeta.enums.AuditExportFormat;
 import in.zeta.enums.EntityType;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.service.AuditExportService;
+import in.zeta.service.AuditSearchService;
 import in.zeta.service.AuditService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,14 +19,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,6 +47,12 @@ class AuditControllerTest {
     @MockitoBean
     private AuditService auditService;
 
+    @MockitoBean
+    private AuditExportService auditExportService;
+
+    @MockitoBean
+    private AuditSearchService auditSearchService;
+
     private final UUID tenantId = UUID.randomUUID();
     private final UUID entityId = UUID.randomUUID();
     private final UUID userId = UUID.randomUUID();
@@ -55,7 +77,7 @@ class AuditControllerTest {
                         .build()
         );
 
-        when(auditService.getAuditTrail(entityType, entityId)).thenReturn(auditLogs);
+        when(auditService.getAuditTrail(eq(entityType), eq(entityId), any(AuditLogPageRequest.class))).thenReturn(page(auditLogs));
 
         mockMvc.perform(get("/tenants/{tenantId}/audit/entityType/{entityType}/entityId/{entityId}",
                         tenantId, entityType, entityId)
@@ -63,12 +85,12 @@ class AuditControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value(Messages.Audit.FETCHED_TRAIL_SUCCESSFULLY))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].entityType").value(entityType.name()))
-                .andExpect(jsonPath("$.data[0].entityId").value(entityId.toString()));
+                .andExpect(jsonPath("$.data.auditLogs").isArray())
+                .andExpect(jsonPath("$.data.auditLogs.length()").value(2))
+                .andExpect(jsonPath("$.data.auditLogs[0].entityType").value(entityType.name()))
+                .andExpect(jsonPath("$.data.auditLogs[0].entityId").value(entityId.toString()));
 
-        verify(auditService).getAuditTrail(entityType, entityId);
+        verify(auditService).getAuditTrail(eq(entityType), eq(entityId), any(AuditLogPageRequest.class));
     }
 
     @Test
@@ -85,18 +107,18 @@ class AuditControllerTest {
                         .build()
         );
 
-        when(auditService.getAuditLogsByAction(action)).thenReturn(auditLogs);
+        when(auditService.getAuditLogsByAction(eq(action), any(AuditLogPageRequest.class))).thenReturn(page(auditLogs));
 
         mockMvc.perform(get("/tenants/{tenantId}/audit/action/{action}", tenantId, action)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value(Messages.Audit.FETCHED_TRAIL_SUCCESSFULLY))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(1))
-                .andExpect(jsonPath("$.data[0].action").value(action.name()));
+                .andExpect(jsonPath("$.data.auditLogs").isArray())
+                .andExpect(jsonPath("$.data.auditLogs.length()").value(1))
+                .andExpect(jsonPath("$.data.auditLogs[0].action").value(action.name()));
 
-        verify(auditService).getAuditLogsByAction(action);
+        verify(auditService).getAuditLogsByAction(eq(action), any(AuditLogPageRequest.class));
     }
 
     @Test
@@ -112,18 +134,18 @@ class AuditControllerTest {
                         .build()
         );
 
-        when(auditService.getAuditLogsByUser(userId)).thenReturn(auditLogs);
+        when(auditService.getAuditLogsByUser(eq(userId), any(AuditLogPageRequest.class))).thenReturn(page(auditLogs));
 
         mockMvc.perform(get("/tenants/{tenantId}/audit/user/{userId}", tenantId, userId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value(Messages.Audit.FETCHED_LOGS_FOR_USER))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(1))
-                .andExpect(jsonPath("$.data[0].userId").value(userId.toString()));
+                .andExpect(jsonPath("$.data.auditLogs").isArray())
+                .andExpect(jsonPath("$.data.auditLogs.length()").value(1))
+                .andExpect(jsonPath("$.data.auditLogs[0].userId").value(userId.toString()));
 
-        verify(auditService).getAuditLogsByUser(userId);
+        verify(auditService).getAuditLogsByUser(eq(userId), any(AuditLogPageRequest.class));
     }
 
     @Test
@@ -147,32 +169,130 @@ class AuditControllerTest {
                         .build()
         );
 
-        when(auditService.getAllAuditLogs()).thenReturn(auditLogs);
+        when(auditService.getAllAuditLogs(any(AuditLogPageRequest.class))).thenReturn(page(auditLogs));
 
         mockMvc.perform(get("/tenants/{tenantId}/audit/all", tenantId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value(Messages.Audit.FETCHED_ALL_LOGS))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2));
+                .andExpect(jsonPath("$.data.auditLogs").isArray())
+                .andExpect(jsonPath("$.data.auditLogs.length()").value(2));
 
-        verify(auditService).getAllAuditLogs();
+        verify(auditService).getAllAuditLogs(any(AuditLogPageRequest.class));
     }
 
     @Test
     void testGetAuditTrail_EmptyResult() throws Exception {
         EntityType entityType = EntityType.VERIFICATION_REQUEST;
-        when(auditService.getAuditTrail(entityType, entityId)).thenReturn(Arrays.asList());
+        when(auditService.getAuditTrail(eq(entityType), eq(entityId), any(AuditLogPageRequest.class))).thenReturn(page(List.of()));
 
         mockMvc.perform(get("/tenants/{tenantId}/audit/entityType/{entityType}/entityId/{entityId}",
                         tenantId, entityType, entityId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.auditLogs").isArray())
+                .andExpect(jsonPath("$.data.auditLogs.length()").value(0));
+
+        verify(auditService).getAuditTrail(eq(entityType), eq(entityId), any(AuditLogPageRequest.class));
+    }
+
+    @Test
+    void testGetAllAuditLogs_PassesRangeAndCursor() throws Exception {
+        AuditLogPageResponse response = AuditLogPageResponse.builder()
+                .auditLogs(List.of())
+                .nextCursor("next")
+                .hasMore(true)
+                .build();
+        when(auditService.getAllAuditLogs(any(AuditLogPageRequest.class))).thenReturn(response);
+
+        mockMvc.perform(get("/tenants/{tenantId}/audit/all", tenantId)
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-02-01T00:00:00")
+                        .param("cursor", "abc")
+                        .param("limit", "20")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+
+        verify(auditService).getAllAuditLogs(argThat(request ->
+                LocalDateTime.of(2025, 1, 1, 0, 0).equals(request.getFrom())
+                        && LocalDateTime.of(2025, 2, 1, 0, 0).equals(request.getTo())
+                        && "abc".equals(request.getCursor())
+                        && Integer.valueOf(20).equals(request.getLimit())));
+    }
+
+    @Test
+    void testExportAuditLogs_StreamsCsv() throws Exception {
+        when(auditExportService.exportAuditLogs(any(AuditLogFilter.class), eq(AuditExportFormat.CSV), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(2);
+                    out.write("\"id\"\n".getBytes(StandardCharsets.UTF_8));
+                    return 0L;
+                });
+
+        MvcResult result = mockMvc.perform(get("/tenants/{tenantId}/audit/export", tenantId)
+                        .param("entityType", EntityType.DOCUMENT.name())
+                        .param("from", "2025-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"audit-logs.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("\"id\"\n"));
+
+        verify(auditExportService).exportAuditLogs(
+                eq(new AuditLogFilter(EntityType.DOCUMENT, null, null, null, LocalDateTime.of(2025, 1, 1, 0, 0), null)),
+                eq(AuditExportFormat.CSV),
+                any(OutputStream.class));
+    }
+
+    @Test
+    void testSearchAuditLogs_ReturnsHitsAndFacets() throws Exception {
+        AuditSearchResponse response = AuditSearchResponse.builder()
+                .auditLogs(List.of(AuditLogsResponse.builder()
+                        .id(UUID.randomUUID())
+                        .action(AuditAction.VERIFICATION_STATUS_CHANGED)
+                        .entityType(EntityType.VERIFICATION_REQUEST)
+                        .entityId(entityId)
+                        .newValue("{\"status\":\"APPROVED\"}")
+                        .newFields(Map.of("status", "APPROVED"))
+                        .timestamp(LocalDateTime.now())
+                        .build()))
+                .hasMore(false)
+                .facets(AuditSearchFacets.builder()
+                        .actions(Map.of(AuditAction.VERIFICATION_STATUS_CHANGED, 1L))
+                        .entityTypes(Map.of(EntityType.VERIFICATION_REQUEST, 1L))
+                        .users(Map.of())
+                        .build())
+                .build();
+        when(auditSearchService.search(eq("approved"), any(AuditLogFilter.class), any(AuditLogPageRequest.class)))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/tenants/{tenantId}/audit/search", tenantId)
+                        .param("q", "approved")
+                        .param("action", AuditAction.VERIFICATION_STATUS_CHANGED.name())
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(Messages.Audit.SEARCHED_AUDIT_LOGS))
+                .andExpect(jsonPath("$.data.auditLogs.length()").value(1))
+                .andExpect(jsonPath("$.data.auditLogs[0].newFields.status").value("APPROVED"))
+                .andExpect(jsonPath("$.data.facets.actions.VERIFICATION_STATUS_CHANGED").value(1));
+
+        verify(auditSearchService).search(
+                eq("approved"),
+                eq(new AuditLogFilter(null, null, AuditAction.VERIFICATION_STATUS_CHANGED, null, null, null)),
+                argThat(request -> Integer.valueOf(10).equals(request.getLimit()) && request.getCursor() == null));
+    }
 
-        verify(auditService).getAuditTrail(entityType, entityId);
+    private static AuditLogPageResponse page(List<AuditLogsResponse> auditLogs) {
+        return AuditLogPageResponse.builder()
+                .auditLogs(auditLogs)
+                .hasMore(false)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package in.zeta.controller;
 
 import in.zeta.constants.Messages;
+import in.zeta.dto.requests.NotificationPageRequest;
+import in.zeta.dto.response.NotificationPageResponse;
 import in.zeta.dto.response.NotificationResponse;
 import in.zeta.service.NotificationService;
 import org.junit.jupiter.api.Test;
@@ -10,12 +12,15 @@ import org.springframework.boot.test.mock.mockito.*;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,17 +56,39 @@ class NotificationControllerTest {
                         .build()
         );
 
-        when(notificationService.getUserNotifications(userId)).thenReturn(notifications);
+        when(notificationService.getUserNotifications(eq(userId), any(NotificationPageRequest.class)))
+                .thenReturn(NotificationPageResponse.builder()
+                        .notifications(notifications)
+                        .nextCursor("next")
+                        .hasMore(true)
+                        .build());
 
         mockMvc.perform(get("/tenants/{tenantId}/notifications/user/{userId}", tenantId, userId)
+                        .param("cursor", "abc")
+                        .param("limit", "2")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value(Messages.Notification.FETCHED_NOTIFICATIONS_FOR_USER))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2));
+                .andExpect(jsonPath("$.data.notifications").isArray())
+                .andExpect(jsonPath("$.data.notifications.length()").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
 
-        verify(notificationService).getUserNotifications(userId);
+        verify(notificationService).getUserNotifications(userId,
+                NotificationPageRequest.builder().cursor("abc").limit(2).build());
+    }
+
+    @Test
+    void testStreamNotifications_StartsAsyncStream() throws Exception {
+        when(notificationService.streamNotifications(userId)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/tenants/{tenantId}/notifications/stream/user/{userId}", tenantId, userId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(notificationService).streamNotifications(userId);
     }
 
     @Test
@@ -92,17 +119,49 @@ class NotificationControllerTest {
         verify(notificationService).markAsRead(notificationId, userId);
     }
 
+    @Test
+    void testMarkManyAsRead_Success() throws Exception {
+        List<UUID> notificationIds = List.of(notificationId, UUID.randomUUID());
+        when(notificationService.markAsRead(userId, notificationIds)).thenReturn(List.of(notificationId));
+
+        mockMvc.perform(put("/tenants/{tenantId}/notifications/user/{userId}/read", tenantId, userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + notificationIds.get(0) + "\",\"" + notificationIds.get(1) + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(Messages.Notification.MARKED_MANY_AS_READ_SUCCESSFULLY))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0]").value(notificationId.toString()));
+
+        verify(notificationService).markAsRead(userId, notificationIds);
+    }
+
+    @Test
+    void testMarkAllAsRead_Success() throws Exception {
+        when(notificationService.markAllAsRead(userId)).thenReturn(List.of(notificationId));
+
+        mockMvc.perform(put("/tenants/{tenantId}/notifications/user/{userId}/read-all", tenantId, userId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        verify(notificationService).markAllAsRead(userId);
+    }
+
     @Test
     void testGetUserNotifications_EmptyList() throws Exception {
-        when(notificationService.getUserNotifications(userId)).thenReturn(Arrays.asList());
+        when(notificationService.getUserNotifications(eq(userId), any(NotificationPageRequest.class)))
+                .thenReturn(NotificationPageResponse.builder().notifications(Arrays.asList()).build());
 
         mockMvc.perform(get("/tenants/{tenantId}/notifications/user/{userId}", tenantId, userId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.notifications").isArray())
+                .andExpect(jsonPath("$.data.notifications.length()").value(0))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
 
-        verify(notificationService).getUserNotifications(userId);
+        verify(notificationService).getUserNotifications(userId, NotificationPageRequest.builder().build());
     }
 }
\ No newline at end of file
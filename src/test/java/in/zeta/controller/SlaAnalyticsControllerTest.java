@@ -0,0 +1,102 @@
+package in.zeta.controller;
+
+import in.zeta.constants.Messages;
+import in.zeta.dto.response.SlaMetricSummary;
+import in.zeta.dto.response.SlaReportResponse;
+import in.zeta.enums.SlaDimension;
+import in.zeta.enums.SlaMetric;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.service.SlaAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SlaAnalyticsController.class)
+@TestPropertySource(properties = {
+        "spring.cloud.sleuth.enabled=false",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration"
+})
+class SlaAnalyticsControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SlaAnalyticsService slaAnalyticsService;
+
+    private UUID tenantId;
+    private UUID officerId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        officerId = UUID.randomUUID();
+    }
+
+    @Test
+    void testGetSlaReport_ForOfficer() throws Exception {
+        SlaReportResponse report = SlaReportResponse.builder()
+                .dimension(SlaDimension.OFFICER)
+                .dimensionId(officerId)
+                .from(FROM)
+                .to(TO)
+                .metrics(List.of(SlaMetricSummary.builder()
+                        .metric(SlaMetric.TURNAROUND)
+                        .status(VerificationStatus.APPROVED)
+                        .count(12)
+                        .meanSeconds(86_400)
+                        .p50Seconds(80_000)
+                        .p90Seconds(150_000)
+                        .p99Seconds(170_000)
+                        .maxSeconds(172_800)
+                        .build()))
+                .build();
+        when(slaAnalyticsService.getSlaReport(SlaDimension.OFFICER, officerId, FROM, TO)).thenReturn(report);
+
+        mockMvc.perform(get("/tenants/{tenantId}/analytics/sla/{dimension}", tenantId, "OFFICER")
+                        .param("dimensionId", officerId.toString())
+                        .param("from", "2025-03-01")
+                        .param("to", "2025-03-31")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(Messages.Analytics.FETCHED_SLA_REPORT))
+                .andExpect(jsonPath("$.data.metrics[0].metric").value("TURNAROUND"))
+                .andExpect(jsonPath("$.data.metrics[0].p90Seconds").value(150_000));
+
+        verify(slaAnalyticsService).getSlaReport(SlaDimension.OFFICER, officerId, FROM, TO);
+    }
+
+    @Test
+    void testGetSlaReport_WholeDimension() throws Exception {
+        when(slaAnalyticsService.getSlaReport(SlaDimension.REQUESTOR, null, FROM, TO))
+                .thenReturn(SlaReportResponse.builder()
+                        .dimension(SlaDimension.REQUESTOR)
+                        .from(FROM)
+                        .to(TO)
+                        .metrics(List.of())
+                        .build());
+
+        mockMvc.perform(get("/tenants/{tenantId}/analytics/sla/{dimension}", tenantId, "REQUESTOR")
+                        .param("from", "2025-03-01")
+                        .param("to", "2025-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.metrics").isEmpty());
+
+        verify(slaAnalyticsService).getSlaReport(SlaDimension.REQUESTOR, null, FROM, TO);
+    }
+}
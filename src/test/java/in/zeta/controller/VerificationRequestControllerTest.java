@@ -23,6 +23,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -110,10 +111,8 @@ class VerificationRequestControllerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(verificationRequestService.createVerificationRequest(eq(requests.get(0)), eq(requestorId)))
-                .thenReturn(response1);
-        when(verificationRequestService.createVerificationRequest(eq(requests.get(1)), eq(requestorId)))
-                .thenReturn(response2);
+        when(verificationRequestService.createVerificationRequests(eq(requests), eq(requestorId)))
+                .thenReturn(Arrays.asList(response1, response2));
 
         mockMvc.perform(post("/tenants/{tenantId}/verification/verification-requests/{requestorId}",
                         tenantId, requestorId)
@@ -125,8 +124,8 @@ class VerificationRequestControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(2));
 
-        verify(verificationRequestService).createVerificationRequest(eq(requests.get(0)), eq(requestorId));
-        verify(verificationRequestService).createVerificationRequest(eq(requests.get(1)), eq(requestorId));
+        verify(verificationRequestService).createVerificationRequests(eq(requests), eq(requestorId));
+        verify(verificationRequestService, never()).createVerificationRequest(any(CreateVerificationRequest.class), eq(requestorId));
     }
 
     @Test
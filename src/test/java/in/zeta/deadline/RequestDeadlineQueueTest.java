@@ -0,0 +1,122 @@
+package in.zeta.deadline;
+
+import in.zeta.entity.StatusHistory;
+import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.VerificationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestDeadlineQueueTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RequestDeadlineQueue deadlineQueue;
+
+    @BeforeEach
+    void setUp() {
+        deadlineQueue = new RequestDeadlineQueue(jdbcTemplate, 48, 120);
+    }
+
+    @Test
+    void track_WaitingStatusesStartDeadlinesAndOthersClearThem() {
+        // Given
+        StatusHistory inReview = transition(VerificationStatus.IN_REVIEW);
+        StatusHistory sentBack = transition(VerificationStatus.SENT_BACK);
+        StatusHistory approved = transition(VerificationStatus.APPROVED);
+
+        // When
+        deadlineQueue.track(List.of(inReview, approved, sentBack));
+
+        // Then
+        ArgumentCaptor<List<Object[]>> tracked = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RequestDeadlineQueue.TRACK_SQL), tracked.capture());
+        assertEquals(2, tracked.getValue().size());
+        assertArrayEquals(new Object[]{"IN_REVIEW", Timestamp.valueOf(NOW), Timestamp.valueOf(NOW.plusHours(48)),
+                inReview.getVerificationRequest().getId(), Timestamp.valueOf(NOW)}, tracked.getValue().get(0));
+        assertEquals(Timestamp.valueOf(NOW.plusHours(120)), tracked.getValue().get(1)[2]);
+
+        ArgumentCaptor<List<Object[]>> cleared = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RequestDeadlineQueue.CLEAR_SQL), cleared.capture());
+        assertEquals(1, cleared.getValue().size());
+        assertArrayEquals(new Object[]{approved.getVerificationRequest().getId(), Timestamp.valueOf(NOW)},
+                cleared.getValue().get(0));
+    }
+
+    @Test
+    void track_OnlyClears_SkipsTrackStatement() {
+        // When
+        deadlineQueue.track(List.of(transition(VerificationStatus.REJECTED)));
+
+        // Then
+        verify(jdbcTemplate, never()).batchUpdate(eq(RequestDeadlineQueue.TRACK_SQL), anyList());
+        verify(jdbcTemplate).batchUpdate(eq(RequestDeadlineQueue.CLEAR_SQL), anyList());
+    }
+
+    @Test
+    void claimExpired_PassesNextDueTimeCutoffAndLimit() {
+        // Given
+        ExpiredDeadline expired = new ExpiredDeadline(UUID.randomUUID(), VerificationStatus.IN_REVIEW,
+                NOW.minusDays(3), 1);
+        when(jdbcTemplate.query(eq(RequestDeadlineQueue.CLAIM_EXPIRED_SQL), any(RowMapper.class),
+                any(), any(), any())).thenReturn(List.of(expired));
+
+        // When
+        List<ExpiredDeadline> claimed = deadlineQueue.claimExpired(NOW, NOW.plusHours(24), 100);
+
+        // Then
+        assertEquals(List.of(expired), claimed);
+        verify(jdbcTemplate).query(eq(RequestDeadlineQueue.CLAIM_EXPIRED_SQL), any(RowMapper.class),
+                eq(Timestamp.valueOf(NOW.plusHours(24))), eq(Timestamp.valueOf(NOW)), eq(100));
+    }
+
+    @Test
+    void restart_GivesAFullAllowanceAgain() {
+        // Given
+        UUID verificationRequestId = UUID.randomUUID();
+
+        // When
+        deadlineQueue.restart(List.of(verificationRequestId), VerificationStatus.IN_REVIEW, NOW);
+
+        // Then
+        ArgumentCaptor<List<Object[]>> restarted = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(RequestDeadlineQueue.RESTART_SQL), restarted.capture());
+        assertArrayEquals(new Object[]{Timestamp.valueOf(NOW.plusHours(48)), verificationRequestId},
+                restarted.getValue().get(0));
+    }
+
+    @Test
+    void allowanceFor_OnlyWaitingStatusesHaveOne() {
+        assertEquals(Duration.ofHours(48), deadlineQueue.allowanceFor(VerificationStatus.IN_REVIEW));
+        assertEquals(Duration.ofHours(120), deadlineQueue.allowanceFor(VerificationStatus.SENT_BACK));
+        assertNull(deadlineQueue.allowanceFor(VerificationStatus.APPROVED));
+    }
+
+    private static StatusHistory transition(VerificationStatus toStatus) {
+        return StatusHistory.builder()
+                .id(UUID.randomUUID())
+                .verificationRequest(VerificationRequest.builder().id(UUID.randomUUID()).build())
+                .toStatus(toStatus)
+                .changedAt(NOW)
+                .build();
+    }
+}
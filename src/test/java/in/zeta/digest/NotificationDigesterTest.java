@@ -0,0 +1,215 @@
+package in.zeta.digest;
+
+import in.zeta.digest.NotificationDigester.DigestKey;
+import in.zeta.digest.NotificationDigester.PendingDigest;
+import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigesterTest {
+
+    private static final long WINDOW_MS = 1_000;
+    private static final long RATE_WINDOW_MS = 10_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDigester digester;
+    private UUID userId;
+    private UUID verificationRequestId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        digester = new NotificationDigester(jdbcTemplate, transactionManager, meterRegistry,
+                true, WINDOW_MS, 2, RATE_WINDOW_MS, 2, 100);
+        userId = UUID.randomUUID();
+        verificationRequestId = UUID.randomUUID();
+    }
+
+    @Test
+    void add_UpsertsEventWithMessageBound() {
+        // Given
+        NotificationCreatedEvent event = event(NotificationType.DOCUMENT_UPLOADED, "Uploaded.");
+        when(jdbcTemplate.update(eq(NotificationDigester.UPSERT_SQL), any(Object[].class))).thenReturn(1);
+
+        // When
+        digester.add(event, NOW);
+
+        // Then
+        verify(jdbcTemplate).update(NotificationDigester.UPSERT_SQL,
+                userId, verificationRequestId, event.getNotificationId(), "DOCUMENT_UPLOADED", "Uploaded.",
+                event.getNotificationId(), Timestamp.valueOf(event.getCreatedAt()),
+                Timestamp.valueOf(event.getSentAt()), Timestamp.valueOf(NOW), 2, 2);
+        assertEquals(1.0, meterRegistry.counter("notification.digest.added").count());
+    }
+
+    @Test
+    void add_RedeliveredEvent_CountsDuplicate() {
+        // Given
+        when(jdbcTemplate.update(eq(NotificationDigester.UPSERT_SQL), any(Object[].class))).thenReturn(0);
+
+        // When
+        digester.add(event(NotificationType.DOCUMENT_UPLOADED, "Uploaded."), NOW);
+
+        // Then
+        assertEquals(1.0, meterRegistry.counter("notification.digest.duplicate").count());
+    }
+
+    @Test
+    void releaseDue_PersistsAndDeletesInOneTransaction() {
+        // Given
+        stubDue(new DigestKey(userId, verificationRequestId));
+        stubLocked(userId, verificationRequestId);
+        List<NotificationCreatedEvent> persisted = new ArrayList<>();
+
+        // When
+        int released = digester.releaseDue(persisted::add, NOW);
+
+        // Then
+        assertEquals(1, released);
+        assertEquals(1, persisted.size());
+        verify(jdbcTemplate).query(eq(NotificationDigester.SELECT_DUE_SQL), any(RowMapper.class),
+                eq(Timestamp.valueOf(NOW.minusSeconds(1))), eq(100));
+        verify(jdbcTemplate).update(NotificationDigester.DELETE_SQL, userId, verificationRequestId);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void releaseDue_PersistFails_KeepsDigestForNextFlush() {
+        // Given
+        stubDue(new DigestKey(userId, verificationRequestId));
+        stubLocked(userId, verificationRequestId);
+
+        // When
+        int released = digester.releaseDue(event -> {
+            throw new IllegalStateException("Database error");
+        }, NOW);
+
+        // Then
+        assertEquals(0, released);
+        verify(jdbcTemplate, never()).update(eq(NotificationDigester.DELETE_SQL), any(Object[].class));
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.counter("notification.digest.failed").count());
+    }
+
+    @Test
+    void releaseDue_LockedByAnotherInstance_Skips() {
+        // Given
+        stubDue(new DigestKey(userId, verificationRequestId));
+        when(jdbcTemplate.query(eq(NotificationDigester.LOCK_SQL), any(RowMapper.class),
+                eq(userId), eq(verificationRequestId))).thenReturn(List.of());
+        List<NotificationCreatedEvent> persisted = new ArrayList<>();
+
+        // When
+        int released = digester.releaseDue(persisted::add, NOW);
+
+        // Then
+        assertEquals(0, released);
+        assertTrue(persisted.isEmpty());
+        verify(jdbcTemplate, never()).update(eq(NotificationDigester.DELETE_SQL), any(Object[].class));
+    }
+
+    @Test
+    void releaseDue_RecipientOverBudget_HoldsDigest() {
+        // Given
+        UUID secondRequestId = UUID.randomUUID();
+        UUID thirdRequestId = UUID.randomUUID();
+        stubDue(new DigestKey(userId, verificationRequestId), new DigestKey(userId, secondRequestId),
+                new DigestKey(userId, thirdRequestId));
+        stubLocked(userId, verificationRequestId);
+        stubLocked(userId, secondRequestId);
+        List<NotificationCreatedEvent> persisted = new ArrayList<>();
+
+        // When
+        int released = digester.releaseDue(persisted::add, NOW);
+
+        // Then
+        assertEquals(2, released);
+        verify(jdbcTemplate, never()).query(eq(NotificationDigester.LOCK_SQL), any(RowMapper.class),
+                eq(userId), eq(thirdRequestId));
+        assertEquals(1.0, meterRegistry.counter("notification.digest.throttled").count());
+    }
+
+    @Test
+    void toEvent_SingleEvent_KeepsMessage() {
+        // Given
+        PendingDigest digest = digest(List.of("Uploaded."), 0, 1);
+
+        // When
+        NotificationCreatedEvent event = digest.toEvent();
+
+        // Then
+        assertEquals("Uploaded.", event.getMessage());
+        assertEquals(digest.notificationId(), event.getNotificationId());
+    }
+
+    @Test
+    void toEvent_MergedEvents_Summarized() {
+        // When
+        NotificationCreatedEvent event = digest(List.of("Uploaded.", "Approved."), 0, 3).toEvent();
+
+        // Then
+        assertEquals("3 updates on your verification request: Uploaded. Approved.", event.getMessage());
+    }
+
+    @Test
+    void toEvent_TooManyDistinctMessages_SummarizesRest() {
+        // When
+        NotificationCreatedEvent event = digest(List.of("One.", "Two."), 1, 3).toEvent();
+
+        // Then
+        assertEquals("3 updates on your verification request: One. Two. (and 1 more)", event.getMessage());
+    }
+
+    private void stubDue(DigestKey... keys) {
+        when(jdbcTemplate.query(eq(NotificationDigester.SELECT_DUE_SQL), any(RowMapper.class), any(), any()))
+                .thenReturn(List.of(keys));
+    }
+
+    private void stubLocked(UUID recipient, UUID requestId) {
+        when(jdbcTemplate.query(eq(NotificationDigester.LOCK_SQL), any(RowMapper.class), eq(recipient), eq(requestId)))
+                .thenReturn(List.of(digest(List.of("Comment."), 0, 1)));
+    }
+
+    private PendingDigest digest(List<String> messages, int omittedMessages, int eventCount) {
+        return new PendingDigest(UUID.randomUUID(), userId, verificationRequestId, NotificationType.COMMENT_ADDED,
+                messages, omittedMessages, eventCount, NOW, NOW);
+    }
+
+    private NotificationCreatedEvent event(NotificationType type, String message) {
+        return NotificationCreatedEvent.builder()
+                .notificationId(UUID.randomUUID())
+                .userId(userId)
+                .verificationRequestId(verificationRequestId)
+                .notificationType(type)
+                .message(message)
+                .createdAt(NOW)
+                .sentAt(NOW)
+                .build();
+    }
+}
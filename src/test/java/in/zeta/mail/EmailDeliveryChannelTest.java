@@ -0,0 +1,242 @@
+package in.zeta.mail;
+
+import in.zeta.entity.Notification;
+import in.zeta.entity.Users;
+import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDeliveryChannelTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private EmailOutboxStore emailOutboxStore;
+
+    @Mock
+    private EmailSender emailSender;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailDeliveryChannel deliveryChannel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deliveryChannel = channelWith(Runnable::run);
+    }
+
+    @Test
+    void deliver_QueuesRenderedEmail() {
+        // Given
+        Users recipient = Users.builder().id(UUID.randomUUID()).username("alice").email("alice@example.com").build();
+        UUID verificationRequestId = UUID.randomUUID();
+        Notification notification = Notification.builder()
+                .id(UUID.randomUUID())
+                .verificationRequest(VerificationRequest.builder().id(verificationRequestId).build())
+                .notificationType(NotificationType.VERIFICATION_APPROVED)
+                .message("Your verification request has been approved.")
+                .build();
+
+        // When
+        deliveryChannel.deliver(recipient, notification);
+
+        // Then
+        verify(emailOutboxStore).enqueue(eq(notification.getId()), eq("alice@example.com"),
+                eq("KYC verification update: verification approved"),
+                argThat(body -> body.startsWith("Hello alice,")
+                        && body.contains("Your verification request has been approved.")
+                        && body.contains(verificationRequestId.toString())),
+                any(LocalDateTime.class));
+        verifyNoInteractions(emailSender);
+    }
+
+    @Test
+    void deliver_NoEmailAddress_Skips() {
+        // Given
+        Users recipient = Users.builder().id(UUID.randomUUID()).username("alice").build();
+
+        // When
+        deliveryChannel.deliver(recipient, Notification.builder().id(UUID.randomUUID()).build());
+
+        // Then
+        verifyNoInteractions(emailOutboxStore);
+    }
+
+    @Test
+    void deliver_OutboxFails_Propagates() {
+        // Given
+        Users recipient = Users.builder().id(UUID.randomUUID()).username("alice").email("alice@example.com").build();
+        Notification notification = Notification.builder()
+                .id(UUID.randomUUID())
+                .verificationRequest(VerificationRequest.builder().id(UUID.randomUUID()).build())
+                .message("message")
+                .build();
+        doThrow(new RuntimeException("Database error")).when(emailOutboxStore)
+                .enqueue(any(), any(), any(), any(), any());
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> deliveryChannel.deliver(recipient, notification));
+        assertEquals(0.0, meterRegistry.counter("email.delivery.queued").count());
+    }
+
+    @Test
+    void purgeSent_DeletesInBatchesUntilShortBatch() {
+        // Given
+        LocalDateTime sentBefore = NOW.minusHours(72);
+        when(emailOutboxStore.deleteSentBefore(sentBefore, 2)).thenReturn(2, 2, 1);
+
+        // When
+        int purged = deliveryChannel.purgeSent(sentBefore);
+
+        // Then
+        assertEquals(5, purged);
+        verify(emailOutboxStore, times(3)).deleteSentBefore(sentBefore, 2);
+    }
+
+    @Test
+    void dispatch_SendsInConnectionSizedBatchesAndMarksSent() {
+        // Given
+        List<EmailMessage> due = List.of(message("a@example.com", 0), message("b@example.com", 0),
+                message("c@example.com", 0));
+        when(emailOutboxStore.claimDue(NOW, NOW.plusMinutes(5), 100)).thenReturn(due);
+        when(emailSender.send(anyList())).thenReturn(Map.of());
+
+        // When
+        deliveryChannel.dispatch(NOW);
+
+        // Then
+        verify(emailSender).send(due.subList(0, 2));
+        verify(emailSender).send(due.subList(2, 3));
+        verify(emailOutboxStore, times(2)).markSent(anyList(), any(LocalDateTime.class));
+        assertEquals(3.0, meterRegistry.counter("email.delivery.sent").count());
+    }
+
+    @Test
+    void dispatch_FailedMessage_RetriesWithBackoff() {
+        // Given
+        EmailMessage ok = message("a@example.com", 0);
+        EmailMessage failing = message("b@example.com", 2);
+        when(emailOutboxStore.claimDue(any(), any(), anyInt())).thenReturn(List.of(ok, failing));
+        when(emailSender.send(anyList())).thenReturn(Map.of(failing.id(), "451 Try again later"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        deliveryChannel.dispatch(NOW);
+
+        // Then
+        verify(emailOutboxStore).markSent(eq(List.of(ok.id())), any(LocalDateTime.class));
+        verify(emailOutboxStore).scheduleRetry(eq(failing.id()),
+                argThat(next -> !next.isBefore(before.plusMinutes(2))), eq("451 Try again later"));
+        verify(emailOutboxStore, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void dispatch_LastAttemptFails_MarksFailed() {
+        // Given
+        EmailMessage failing = message("a@example.com", 3);
+        when(emailOutboxStore.claimDue(any(), any(), anyInt())).thenReturn(List.of(failing));
+        when(emailSender.send(anyList())).thenThrow(new RuntimeException("Connection refused"));
+
+        // When
+        deliveryChannel.dispatch(NOW);
+
+        // Then
+        verify(emailOutboxStore).markFailed(failing.id(), "Connection refused");
+        verify(emailOutboxStore, never()).markSent(anyList(), any());
+        assertEquals(1.0, meterRegistry.counter("email.delivery.failed").count());
+    }
+
+    @Test
+    void dispatch_OverDomainBudget_DefersRest() {
+        // Given
+        ReflectionTestUtils.setField(deliveryChannel, "perDomainPerMinute", 2);
+        List<EmailMessage> due = List.of(message("a@busy.com", 0), message("b@busy.com", 0),
+                message("c@busy.com", 0), message("d@other.com", 0));
+        when(emailOutboxStore.claimDue(any(), any(), anyInt())).thenReturn(due);
+        when(emailSender.send(anyList())).thenReturn(Map.of());
+
+        // When
+        deliveryChannel.dispatch(NOW);
+
+        // Then
+        verify(emailOutboxStore).defer(List.of(due.get(2).id()), NOW.plusMinutes(1));
+        verify(emailSender).send(due.subList(0, 2));
+        verify(emailSender).send(List.of(due.get(3)));
+        assertEquals(1.0, meterRegistry.counter("email.delivery.throttled").count());
+    }
+
+    @Test
+    void dispatch_ExecutorFull_ReleasesLease() {
+        // Given
+        deliveryChannel = channelWith(task -> {
+            throw new RejectedExecutionException("full");
+        });
+        List<EmailMessage> due = List.of(message("a@example.com", 0));
+        when(emailOutboxStore.claimDue(any(), any(), anyInt())).thenReturn(due);
+
+        // When
+        deliveryChannel.dispatch(NOW);
+
+        // Then
+        verify(emailOutboxStore).defer(eq(List.of(due.get(0).id())), any(LocalDateTime.class));
+        verifyNoInteractions(emailSender);
+    }
+
+    @Test
+    void dispatch_Disabled_DoesNothing() {
+        // Given
+        ReflectionTestUtils.setField(deliveryChannel, "enabled", false);
+
+        // When
+        deliveryChannel.dispatch();
+
+        // Then
+        verifyNoInteractions(emailOutboxStore, emailSender);
+    }
+
+    @Test
+    void backoff_DoublesUpToCap() {
+        // When & Then
+        assertEquals(Duration.ofSeconds(30), deliveryChannel.backoff(1));
+        assertEquals(Duration.ofSeconds(120), deliveryChannel.backoff(3));
+        assertEquals(Duration.ofHours(1), deliveryChannel.backoff(20));
+    }
+
+    private EmailDeliveryChannel channelWith(Executor executor) {
+        EmailDeliveryChannel channel = new EmailDeliveryChannel(emailOutboxStore, emailSender, executor, meterRegistry);
+        ReflectionTestUtils.setField(channel, "enabled", true);
+        ReflectionTestUtils.setField(channel, "claimBatchSize", 100);
+        ReflectionTestUtils.setField(channel, "leaseMs", 300_000L);
+        ReflectionTestUtils.setField(channel, "messagesPerConnection", 2);
+        ReflectionTestUtils.setField(channel, "perDomainPerMinute", 0);
+        ReflectionTestUtils.setField(channel, "maxAttempts", 4);
+        ReflectionTestUtils.setField(channel, "backoffBaseMs", 30_000L);
+        ReflectionTestUtils.setField(channel, "backoffMaxMs", 3_600_000L);
+        ReflectionTestUtils.setField(channel, "sentRetentionHours", 72L);
+        ReflectionTestUtils.setField(channel, "purgeBatchSize", 2);
+        return channel;
+    }
+
+    private static EmailMessage message(String recipient, int attempts) {
+        return new EmailMessage(UUID.randomUUID(), recipient, "Subject", "Body", attempts);
+    }
+}
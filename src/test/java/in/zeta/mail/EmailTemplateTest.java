@@ -0,0 +1,49 @@
+package in.zeta.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateTest {
+
+    @Test
+    void render_FillsPlaceholders() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("Hello {{ username }}, request {{id}} is {{status}}.");
+
+        // When
+        String text = template.render(Map.of("username", "alice", "id", 42, "status", "approved"));
+
+        // Then
+        assertEquals("Hello alice, request 42 is approved.", text);
+    }
+
+    @Test
+    void render_MissingValue_RendersEmpty() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("{{greeting}}Dear {{username}}");
+
+        // When
+        String text = template.render(Map.of("username", "bob"));
+
+        // Then
+        assertEquals("Dear bob", text);
+    }
+
+    @Test
+    void render_NoPlaceholders_ReturnsSource() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("Plain text");
+
+        // When & Then
+        assertEquals("Plain text", template.render(Map.of()));
+    }
+
+    @Test
+    void compile_UnclosedPlaceholder_Throws() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Hello {{username"));
+    }
+}
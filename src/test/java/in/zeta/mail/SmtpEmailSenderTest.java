@@ -0,0 +1,79 @@
+package in.zeta.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmtpEmailSenderTest {
+
+    private SmtpStubServer smtpServer;
+    private SmtpEmailSender emailSender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new SmtpStubServer();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(smtpServer.host());
+        mailSender.setPort(smtpServer.port());
+        emailSender = new SmtpEmailSender(mailSender, "no-reply@kyc.test");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    @Test
+    void send_Batch_UsesOneConnection() {
+        // Given
+        List<EmailMessage> batch = List.of(message("alice@example.com"), message("bob@example.com"),
+                message("carol@example.org"));
+
+        // When
+        Map<UUID, String> failures = emailSender.send(batch);
+
+        // Then
+        assertTrue(failures.isEmpty());
+        assertEquals(List.of("alice@example.com", "bob@example.com", "carol@example.org"), smtpServer.deliveredTo());
+        assertEquals(1, smtpServer.connections());
+    }
+
+    @Test
+    void send_RejectedRecipient_FailsOnlyThatMessage() {
+        // Given
+        EmailMessage rejected = message("reject@example.com");
+        List<EmailMessage> batch = List.of(message("alice@example.com"), rejected, message("bob@example.com"));
+
+        // When
+        Map<UUID, String> failures = emailSender.send(batch);
+
+        // Then
+        assertEquals(1, failures.size());
+        assertTrue(failures.containsKey(rejected.id()));
+        assertEquals(List.of("alice@example.com", "bob@example.com"), smtpServer.deliveredTo());
+    }
+
+    @Test
+    void send_ServerDown_FailsWholeBatch() throws Exception {
+        // Given
+        smtpServer.close();
+        List<EmailMessage> batch = List.of(message("alice@example.com"), message("bob@example.com"));
+
+        // When
+        Map<UUID, String> failures = emailSender.send(batch);
+
+        // Then
+        assertEquals(2, failures.size());
+    }
+
+    private static EmailMessage message(String recipient) {
+        return new EmailMessage(UUID.randomUUID(), recipient, "Subject", "Body", 0);
+    }
+}
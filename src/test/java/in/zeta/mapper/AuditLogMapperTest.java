@@ -6,9 +6,11 @@ import in.zeta.enums.AuditAction;
 import in.zeta.enums.EntityType;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.util.AuditDiff;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,8 +45,8 @@ class AuditLogMapperTest {
                 .entityId(UUID.randomUUID())
                 .action(AuditAction.DOCUMENT_UPLOADED)
                 .user(user)
-                .oldValue("old")
-                .newValue("new")
+                .oldValue("{\"status\":\"PENDING\"}")
+                .newValue("{\"status\":\"APPROVED\"}")
                 .timestamp(LocalDateTime.now())
                 .build();
 
@@ -57,8 +59,9 @@ class AuditLogMapperTest {
         assertEquals(log.getAction(), response.getAction());
         assertEquals(user.getId(), response.getUserId());
         assertEquals(user.getUsername(), response.getUsername());
-        assertEquals(log.getOldValue(), response.getOldValue());
-        assertEquals(log.getNewValue(), response.getNewValue());
+        assertEquals("{\"status\":\"PENDING\"}", response.getOldValue());
+        assertEquals(Map.of("status", "PENDING"), response.getOldFields());
+        assertEquals(Map.of("status", "APPROVED"), response.getNewFields());
         assertEquals(log.getTimestamp(), response.getTimestamp());
     }
 
@@ -80,4 +83,70 @@ class AuditLogMapperTest {
         assertNull(response.getUserId());
         assertNull(response.getUsername());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAuditLogEvent_withDiff_keepsChangedFieldsOnly() {
+        Users user = Users.builder().id(UUID.randomUUID()).username("user").build();
+        AuditDiff diff = AuditDiff.create()
+                .changed("status", "PENDING", "APPROVED")
+                .changed("officerId", "same", "same")
+                .added("reason", "verified");
+
+        AuditLogCreatedEvent event = AuditLogMapper.createAuditLogEvent(
+                EntityType.VERIFICATION_REQUEST, UUID.randomUUID(), AuditAction.VERIFICATION_STATUS_CHANGED, user, diff
+        );
+
+        assertEquals("{\"status\":\"PENDING\"}", event.getOldValue());
+        assertEquals("{\"status\":\"APPROVED\",\"reason\":\"verified\"}", event.getNewValue());
+    }
+
+    @Test
+    void createAuditLogEvent_withEmptyDiff_storesNulls() {
+        Users user = Users.builder().id(UUID.randomUUID()).username("user").build();
+
+        AuditLogCreatedEvent event = AuditLogMapper.createAuditLogEvent(
+                EntityType.COMMENT, UUID.randomUUID(), AuditAction.COMMENT_VIEWED, user, AuditDiff.create()
+        );
+
+        assertNull(event.getOldValue());
+        assertNull(event.getNewValue());
+    }
+
+    @Test
+    void toResponse_legacyFreeText_decodesAsMessage() {
+        AuditLogs log = AuditLogs.builder()
+                .id(UUID.randomUUID())
+                .entityType(EntityType.USER)
+                .entityId(UUID.randomUUID())
+                .action(AuditAction.USER_CREATED)
+                .oldValue("")
+                .newValue("User created with role: CUSTOMER")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        AuditLogsResponse response = AuditLogMapper.toResponse(log);
+
+        assertTrue(response.getOldFields().isEmpty());
+        assertEquals("User created with role: CUSTOMER", response.getNewValue());
+        assertEquals(Map.of(AuditDiff.MESSAGE, "User created with role: CUSTOMER"), response.getNewFields());
+    }
+
+    @Test
+    void toEntity_normalizesLegacyValues() {
+        Users user = Users.builder().id(UUID.randomUUID()).username("user").build();
+        AuditLogCreatedEvent event = AuditLogCreatedEvent.builder()
+                .entityType(EntityType.NOTIFICATION)
+                .entityId(UUID.randomUUID())
+                .action(AuditAction.NOTIFICATION_SENT)
+                .userId(user.getId())
+                .oldValue("")
+                .newValue("Notification created")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        AuditLogs log = AuditLogMapper.toEntity(event, user);
+
+        assertNull(log.getOldValue());
+        assertEquals("{\"message\":\"Notification created\"}", log.getNewValue());
+    }
+}
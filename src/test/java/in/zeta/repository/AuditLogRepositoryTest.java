@@ -5,6 +5,7 @@ import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
 import in.zeta.enums.AuditAction;
 import in.zeta.enums.EntityType;
+import in.zeta.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -330,4 +331,66 @@ class AuditLogRepositoryTest {
         assertThat(logs).hasSize(1);
         assertThat(logs.get(0).getTimestamp()).isEqualTo(specificTime);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindPage_WalksPagesWithoutGapsOrDuplicates() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 10, 0);
+        for (int i = 0; i < 5; i++) {
+            AuditLogs log = TestDataBuilder.createAuditLog(
+                    officer, EntityType.VERIFICATION_REQUEST, testEntityId, AuditAction.VERIFICATION_STATUS_CHANGED);
+            // Two rows share each timestamp so the id tie-breaker is exercised
+            log.setTimestamp(base.plusMinutes(i / 2));
+            entityManager.persist(log);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        AuditLogFilter filter = AuditLogFilter.forEntity(EntityType.VERIFICATION_REQUEST, testEntityId, null, null);
+
+        // When
+        List<AuditLogs> firstPage = auditLogRepository.findPage(filter, null, 2);
+        AuditLogs lastOfFirst = firstPage.get(1);
+        List<AuditLogs> secondPage = auditLogRepository.findPage(
+                filter, new KeysetCursor(lastOfFirst.getTimestamp(), lastOfFirst.getId()), 2);
+        AuditLogs lastOfSecond = secondPage.get(1);
+        List<AuditLogs> thirdPage = auditLogRepository.findPage(
+                filter, new KeysetCursor(lastOfSecond.getTimestamp(), lastOfSecond.getId()), 2);
+
+        // Then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(2);
+        assertThat(thirdPage).hasSize(1);
+        assertThat(firstPage.get(0).getTimestamp()).isEqualTo(base.plusMinutes(2));
+        assertThat(thirdPage.get(0).getTimestamp()).isEqualTo(base);
+        assertThat(List.of(firstPage, secondPage, thirdPage).stream().flatMap(List::stream).map(AuditLogs::getId).distinct())
+                .hasSize(5);
+    }
+
+    @Test
+    void testFindPage_FiltersByUserAndTimeRange() {
+        // Given
+        AuditLogs inRange = TestDataBuilder.createAuditLog(
+                officer, EntityType.DOCUMENT, UUID.randomUUID(), AuditAction.DOCUMENT_UPLOADED);
+        inRange.setTimestamp(LocalDateTime.of(2025, 1, 10, 0, 0));
+        AuditLogs beforeRange = TestDataBuilder.createAuditLog(
+                officer, EntityType.DOCUMENT, UUID.randomUUID(), AuditAction.DOCUMENT_UPLOADED);
+        beforeRange.setTimestamp(LocalDateTime.of(2024, 12, 31, 23, 59));
+        AuditLogs otherUser = TestDataBuilder.createAuditLog(
+                customer, EntityType.DOCUMENT, UUID.randomUUID(), AuditAction.DOCUMENT_UPLOADED);
+        otherUser.setTimestamp(LocalDateTime.of(2025, 1, 10, 0, 0));
+
+        entityManager.persist(inRange);
+        entityManager.persist(beforeRange);
+        entityManager.persist(otherUser);
+        entityManager.flush();
+
+        // When
+        List<AuditLogs> logs = auditLogRepository.findPage(
+                AuditLogFilter.forUser(officer.getId(), LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0)),
+                null, 10);
+
+        // Then
+        assertThat(logs).extracting(AuditLogs::getId).containsExactly(inRange.getId());
+        assertThat(logs.get(0).getUser().getUsername()).isEqualTo(officer.getUsername());
+    }
+}
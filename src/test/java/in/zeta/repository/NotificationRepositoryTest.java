@@ -8,7 +8,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -160,4 +162,51 @@ class NotificationRepositoryTest {
         // Then
         assertThat(unreadCount).isEqualTo(0L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindFeed_PagesNewestFirstByKeyset() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Notification newest = persistNotification(now, false);
+        Notification middle = persistNotification(now.minusMinutes(1), true);
+        Notification oldest = persistNotification(now.minusMinutes(2), false);
+        entityManager.flush();
+
+        // When
+        List<NotificationResponse> firstPage = notificationRepository.findFeed(customer.getId(), Limit.of(2));
+        List<NotificationResponse> secondPage = notificationRepository.findFeedAfter(customer.getId(),
+                middle.getCreatedAt(), middle.getId(), Limit.of(2));
+
+        // Then
+        assertThat(firstPage).extracting(NotificationResponse::getId).containsExactly(newest.getId(), middle.getId());
+        assertThat(secondPage).extracting(NotificationResponse::getId).containsExactly(oldest.getId());
+    }
+
+    @Test
+    void testFindUnreadFeed_SkipsReadNotifications() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Notification newest = persistNotification(now, false);
+        persistNotification(now.minusMinutes(1), true);
+        Notification oldest = persistNotification(now.minusMinutes(2), false);
+        entityManager.flush();
+
+        // When
+        List<NotificationResponse> firstPage = notificationRepository.findUnreadFeed(customer.getId(), Limit.of(1));
+        List<NotificationResponse> secondPage = notificationRepository.findUnreadFeedAfter(customer.getId(),
+                newest.getCreatedAt(), newest.getId(), Limit.of(5));
+
+        // Then
+        assertThat(firstPage).extracting(NotificationResponse::getId).containsExactly(newest.getId());
+        assertThat(secondPage).extracting(NotificationResponse::getId).containsExactly(oldest.getId());
+    }
+
+    private Notification persistNotification(LocalDateTime createdAt, boolean read) {
+        Notification notification = read
+                ? TestDataBuilder.createReadNotification(customer, verificationRequest)
+                : TestDataBuilder.createNotification(customer, verificationRequest);
+        notification.setCreatedAt(createdAt);
+        entityManager.persist(notification);
+        return notification;
+    }
+}
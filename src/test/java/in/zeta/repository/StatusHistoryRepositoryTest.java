@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -91,13 +92,90 @@ class StatusHistoryRepositoryTest {
     }
 
     @Test
-    void testFindLatestStatusHistory_NoHistory() {
+    void testFindLatestStatus_NoHistory() {
         // When
-        Optional<StatusHistory> latestHistory =
-                statusHistoryRepository.findLatestStatusHistory(verificationRequest);
+        Optional<VerificationStatus> latestStatus = statusHistoryRepository.findLatestStatus(verificationRequest.getId());
 
         // Then
-        assertThat(latestHistory).isEmpty();
+        assertThat(latestStatus).isEmpty();
+    }
+
+    @Test
+    void testSaveTransition_MovesLatestStatus() {
+        // Given
+        StatusHistory inReview = TestDataBuilder.createStatusHistory(verificationRequest, officer);
+        inReview.setToStatus(VerificationStatus.IN_REVIEW);
+        inReview.setChangedAt(LocalDateTime.now().minusHours(2));
+
+        StatusHistory approved = TestDataBuilder.createStatusHistory(verificationRequest, officer);
+        approved.setFromStatus(VerificationStatus.IN_REVIEW);
+        approved.setToStatus(VerificationStatus.APPROVED);
+        approved.setChangedAt(LocalDateTime.now().minusHours(1));
+
+        // When
+        statusHistoryRepository.saveTransition(inReview);
+        statusHistoryRepository.saveTransition(approved);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(statusHistoryRepository.findLatestStatus(verificationRequest.getId()))
+                .contains(VerificationStatus.APPROVED);
+        VerificationRequest reloaded = entityManager.find(VerificationRequest.class, verificationRequest.getId());
+        assertThat(reloaded.getLatestStatusBy()).isEqualTo(officer.getId());
+        assertThat(statusHistoryRepository.findByVerificationRequestOrderByChangedAtDesc(reloaded)).hasSize(2);
+    }
+
+    @Test
+    void testSaveTransition_OlderTransitionKeepsLatestStatus() {
+        // Given
+        StatusHistory approved = TestDataBuilder.createStatusHistory(verificationRequest, officer);
+        approved.setToStatus(VerificationStatus.APPROVED);
+        approved.setChangedAt(LocalDateTime.now());
+
+        StatusHistory lateInReview = TestDataBuilder.createStatusHistory(verificationRequest, officer);
+        lateInReview.setToStatus(VerificationStatus.IN_REVIEW);
+        lateInReview.setChangedAt(LocalDateTime.now().minusHours(1));
+
+        // When
+        statusHistoryRepository.saveTransition(approved);
+        statusHistoryRepository.saveTransition(lateInReview);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(statusHistoryRepository.findLatestStatus(verificationRequest.getId()))
+                .contains(VerificationStatus.APPROVED);
+    }
+
+    @Test
+    void testSaveTransitions_WritesBatchAndSkipsKnownIds() {
+        // Given
+        StatusHistory inReview = TestDataBuilder.createStatusHistory(verificationRequest, officer);
+        inReview.setId(UUID.randomUUID());
+        inReview.setToStatus(VerificationStatus.IN_REVIEW);
+        inReview.setChangedAt(LocalDateTime.now().minusHours(2));
+
+        StatusHistory approved = TestDataBuilder.createStatusHistory(verificationRequest, officer);
+        approved.setId(UUID.randomUUID());
+        approved.setFromStatus(VerificationStatus.IN_REVIEW);
+        approved.setToStatus(VerificationStatus.APPROVED);
+        approved.setChangedAt(LocalDateTime.now().minusHours(1));
+
+        // When
+        List<StatusHistory> first = statusHistoryRepository.saveTransitions(List.of(inReview, approved));
+        List<StatusHistory> redelivered = statusHistoryRepository.saveTransitions(List.of(approved));
+        entityManager.clear();
+
+        // Then
+        assertThat(first).containsExactly(inReview, approved);
+        assertThat(redelivered).isEmpty();
+        assertThat(statusHistoryRepository.findLatestStatus(verificationRequest.getId()))
+                .contains(VerificationStatus.APPROVED);
+        VerificationRequest reloaded = entityManager.find(VerificationRequest.class, verificationRequest.getId());
+        assertThat(statusHistoryRepository.findByVerificationRequestOrderByChangedAtDesc(reloaded))
+                .extracting(StatusHistory::getId)
+                .containsExactly(approved.getId(), inReview.getId());
     }
 
     @Test
@@ -1,5 +1,6 @@
 package in.zeta.repository;
 
+import in.zeta.cache.RoleMember;
 import in.zeta.entity.Users;
 import in.zeta.enums.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -249,4 +250,15 @@ class UserRepositoryTest {
         assertThat(lowerCase).isPresent();
         assertThat(upperCase).isEmpty(); // Emails are case-sensitive in this implementation
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindRoleMembersByRoleIn() {
+        // When
+        List<RoleMember> members = userRepository.findRoleMembersByRoleIn(List.of(Role.VERIFICATION_OFFICER));
+
+        // Then
+        assertThat(members)
+                .extracting(RoleMember::email)
+                .containsExactly("officer@test.com");
+    }
+}
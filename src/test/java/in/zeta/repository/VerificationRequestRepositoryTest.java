@@ -3,6 +3,9 @@ package in.zeta.repository;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
 import in.zeta.enums.VerificationStatus;
+import in.zeta.service.OfficerWorkload;
+import in.zeta.statemachine.StatusSnapshot;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -364,4 +367,112 @@ class VerificationRequestRepositoryTest {
         assertThat(foundRequest.get().getCreatedAt()).isNotNull();
         assertThat(foundRequest.get().getApprovedAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTransitionStatus_MatchingStatusAndVersion_Updates() {
+        // Given
+        VerificationRequest vr = TestDataBuilder.createVerificationRequest(customer, requestor, officer);
+        vr.setId(null);
+        entityManager.persist(vr);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        int updated = verificationRequestRepository.transitionStatus(vr.getId(), VerificationStatus.PENDING,
+                vr.getVersion(), VerificationStatus.REJECTED, now, false, true);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        VerificationRequest found = verificationRequestRepository.findById(vr.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(VerificationStatus.REJECTED);
+        assertThat(found.getRejectedAt()).isNotNull();
+        assertThat(found.getApprovedAt()).isNull();
+        assertThat(verificationRequestRepository.findStatusSnapshot(vr.getId()))
+                .contains(new StatusSnapshot(VerificationStatus.REJECTED, 1L));
+    }
+
+    @Test
+    void testTransitionStatus_StaleStatusOrVersion_UpdatesNothing() {
+        // Given
+        VerificationRequest vr = TestDataBuilder.createVerificationRequest(customer, requestor, officer);
+        vr.setId(null);
+        entityManager.persist(vr);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        int staleStatus = verificationRequestRepository.transitionStatus(vr.getId(), VerificationStatus.IN_REVIEW,
+                vr.getVersion(), VerificationStatus.APPROVED, now, true, false);
+        int staleVersion = verificationRequestRepository.transitionStatus(vr.getId(), VerificationStatus.PENDING,
+                vr.getVersion() + 1, VerificationStatus.IN_REVIEW, now, false, false);
+
+        // Then
+        assertThat(staleStatus).isZero();
+        assertThat(staleVersion).isZero();
+        assertThat(verificationRequestRepository.findStatusSnapshot(vr.getId()))
+                .contains(new StatusSnapshot(VerificationStatus.PENDING, 0L));
+    }
+
+    @Test
+    void testFindAllWithParticipantsByIdIn_LoadsParticipantsInOneQuery() {
+        // Given
+        VerificationRequest assigned = TestDataBuilder.createVerificationRequest(customer, requestor, officer);
+        assigned.setId(null);
+        VerificationRequest unassigned = TestDataBuilder.createVerificationRequest(customer, requestor, null);
+        unassigned.setId(null);
+        VerificationRequest other = TestDataBuilder.createVerificationRequest(customer, requestor, officer2);
+        other.setId(null);
+        entityManager.persist(assigned);
+        entityManager.persist(unassigned);
+        entityManager.persist(other);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<VerificationRequest> found = verificationRequestRepository.findAllWithParticipantsByIdIn(
+                List.of(assigned.getId(), unassigned.getId()));
+
+        // Then
+        assertThat(found).extracting(VerificationRequest::getId)
+                .containsExactlyInAnyOrder(assigned.getId(), unassigned.getId());
+        assertThat(found).allSatisfy(vr -> {
+            assertThat(Hibernate.isInitialized(vr.getCustomer())).isTrue();
+            assertThat(Hibernate.isInitialized(vr.getRequestor())).isTrue();
+            assertThat(Hibernate.isInitialized(vr.getAssignedOfficer())).isTrue();
+        });
+    }
+
+    @Test
+    void testFindOfficerWorkloads_GroupsRequestsInStatusWithActiveDocuments() {
+        // Given
+        VerificationRequest inReview = TestDataBuilder.createVerificationRequestWithStatus(
+                customer, requestor, officer, VerificationStatus.IN_REVIEW);
+        inReview.setId(null);
+        VerificationRequest inReviewWithoutDocuments = TestDataBuilder.createVerificationRequestWithStatus(
+                customer, requestor, officer, VerificationStatus.IN_REVIEW);
+        inReviewWithoutDocuments.setId(null);
+        VerificationRequest approved = TestDataBuilder.createVerificationRequestWithStatus(
+                customer, requestor, officer2, VerificationStatus.APPROVED);
+        approved.setId(null);
+        entityManager.persist(inReview);
+        entityManager.persist(inReviewWithoutDocuments);
+        entityManager.persist(approved);
+        entityManager.persist(TestDataBuilder.createDocument(inReview, customer));
+        entityManager.persist(TestDataBuilder.createDocument(inReview, customer));
+        entityManager.persist(TestDataBuilder.createInactiveDocument(inReview, customer));
+        entityManager.persist(TestDataBuilder.createDocument(approved, customer));
+        entityManager.flush();
+
+        // When
+        List<OfficerWorkload> workloads = verificationRequestRepository.findOfficerWorkloads(
+                List.of(officer.getId(), officer2.getId()), VerificationStatus.IN_REVIEW);
+
+        // Then
+        assertThat(workloads).hasSize(1);
+        OfficerWorkload workload = workloads.get(0);
+        assertThat(workload.officerId()).isEqualTo(officer.getId());
+        assertThat(workload.requestCount()).isEqualTo(2L);
+        assertThat(workload.documentCount()).isEqualTo(2L);
+        assertThat(workload.documentSize()).isEqualByComparingTo("4097");
+    }
+}
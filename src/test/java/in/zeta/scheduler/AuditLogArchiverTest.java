@@ -0,0 +1,114 @@
+package in.zeta.scheduler;
+
+import in.zeta.archive.AuditArchiveStore;
+import in.zeta.exception.AuditLogException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogArchiverTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AuditLogPartitionManager partitionManager;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private AuditLogArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        AuditArchiveStore archiveStore = new AuditArchiveStore(jdbcTemplate, true, archiveDirectory.toString());
+        archiver = new AuditLogArchiver(jdbcTemplate, transactionManager, partitionManager, archiveStore);
+        ReflectionTestUtils.setField(archiver, "afterMonths", 6);
+        ReflectionTestUtils.setField(archiver, "fetchSize", 100);
+    }
+
+    @Test
+    void archive_OldPartition_WritesBucketIndexesAndDrops() throws Exception {
+        // Given
+        when(partitionManager.listPartitions())
+                .thenReturn(List.of("audit_logs_p2024_12", "audit_logs_p2025_06", "audit_logs_legacy"));
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs_p2024_12", Long.class)).thenReturn(0L);
+
+        // When
+        archiver.archive(YearMonth.of(2025, 7));
+
+        // Then
+        assertTrue(Files.exists(archiveDirectory.resolve("audit-logs-2024-12.ndjson.gz")));
+        assertFalse(Files.exists(archiveDirectory.resolve("audit-logs-2025-06.ndjson.gz")));
+        Date bucketMonth = Date.valueOf(LocalDate.of(2024, 12, 1));
+        verify(jdbcTemplate).execute("LOCK TABLE audit_logs_p2024_12 IN SHARE MODE");
+        verify(jdbcTemplate).update(anyString(), eq(bucketMonth), eq("audit-logs-2024-12.ndjson.gz"), eq(0L));
+        verify(jdbcTemplate).update(contains("FROM audit_logs_p2024_12"), eq(bucketMonth));
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p2024_12");
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_p2024_12");
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_p2025_06");
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_legacy");
+    }
+
+    @Test
+    void archive_RowsArrivedAfterExport_KeepsPartition() {
+        // Given
+        when(partitionManager.listPartitions()).thenReturn(List.of("audit_logs_p2024_12"));
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs_p2024_12", Long.class)).thenReturn(3L);
+
+        // When & Then
+        assertThrows(AuditLogException.class, () -> archiver.archive(YearMonth.of(2025, 7)));
+        verify(jdbcTemplate, never()).update(contains("audit_archive_buckets"), any(), any(), any());
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_p2024_12");
+    }
+
+    @Test
+    void archive_ReadFails_KeepsPartitionAndLeavesNoFile() {
+        // Given
+        when(partitionManager.listPartitions()).thenReturn(List.of("audit_logs_p2024_12"));
+        doThrow(new RuntimeException("connection reset"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> archiver.archive(YearMonth.of(2025, 7)));
+        assertFalse(Files.exists(archiveDirectory.resolve("audit-logs-2024-12.ndjson.gz")));
+        assertFalse(Files.exists(archiveDirectory.resolve("audit-logs-2024-12.ndjson.gz.tmp")));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void archive_NotPartitioned_Skips() {
+        // Given
+        when(partitionManager.isPartitioned()).thenReturn(false);
+
+        // When
+        archiver.archive();
+
+        // Then
+        verify(partitionManager, never()).listPartitions();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,129 @@
+package in.zeta.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AuditLogPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionManager, "enabled", true);
+        ReflectionTestUtils.setField(partitionManager, "premakeMonths", 2);
+        ReflectionTestUtils.setField(partitionManager, "retentionMonths", 12);
+        ReflectionTestUtils.setField(partitionManager, "dropDetached", true);
+    }
+
+    @Test
+    void maintainPartitions_CreatesCurrentAndFutureMonths() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of());
+
+        // When
+        partitionManager.maintainPartitions(YearMonth.of(2025, 11));
+
+        // Then
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS audit_logs_p2025_11 PARTITION OF audit_logs "
+                + "FOR VALUES FROM ('2025-11-01') TO ('2025-12-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS audit_logs_p2025_12 PARTITION OF audit_logs "
+                + "FOR VALUES FROM ('2025-12-01') TO ('2026-01-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS audit_logs_p2026_01 PARTITION OF audit_logs "
+                + "FOR VALUES FROM ('2026-01-01') TO ('2026-02-01')");
+        verify(jdbcTemplate, times(3)).execute(anyString());
+    }
+
+    @Test
+    void maintainPartitions_DetachesAndDropsExpiredPartitions() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of(), List.of("audit_logs_p2024_10", "audit_logs_p2024_11", "audit_logs_legacy"));
+
+        // When
+        partitionManager.maintainPartitions(YearMonth.of(2025, 11));
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p2024_10 CONCURRENTLY");
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_p2024_10");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p2024_11 CONCURRENTLY");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_legacy CONCURRENTLY");
+    }
+
+    @Test
+    void maintainPartitions_KeepDetached_DoesNotDrop() {
+        // Given
+        ReflectionTestUtils.setField(partitionManager, "dropDetached", false);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of(), List.of("audit_logs_p2020_01"));
+
+        // When
+        partitionManager.maintainPartitions(YearMonth.of(2025, 11));
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p2020_01 CONCURRENTLY");
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_p2020_01");
+    }
+
+    @Test
+    void maintainPartitions_InterruptedDetach_IsFinalized() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenReturn(List.of("audit_logs_p2020_01"), List.of());
+
+        // When
+        partitionManager.maintainPartitions(YearMonth.of(2025, 11));
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p2020_01 FINALIZE");
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_p2020_01");
+    }
+
+    @Test
+    void maintainPartitions_NoRetention_NeverDetaches() {
+        // Given
+        ReflectionTestUtils.setField(partitionManager, "retentionMonths", 0);
+
+        // When
+        partitionManager.maintainPartitions(YearMonth.of(2025, 11));
+
+        // Then
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any());
+    }
+
+    @Test
+    void maintainPartitions_TableNotPartitioned_Skips() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any())).thenReturn(0);
+
+        // When
+        partitionManager.maintainPartitions();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void monthOf_ParsesPartitionNames() {
+        assertEquals(YearMonth.of(2025, 3), AuditLogPartitionManager.monthOf("audit_logs_p2025_03"));
+        assertNull(AuditLogPartitionManager.monthOf("audit_logs_default"));
+        assertEquals("audit_logs_p2025_03", AuditLogPartitionManager.partitionName(YearMonth.of(2025, 3)));
+    }
+}
@@ -0,0 +1,179 @@
+package in.zeta.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement lockStatement;
+
+    @Mock
+    private PreparedStatement unlockStatement;
+
+    @Mock
+    private PreparedStatement firstBatchStatement;
+
+    @Mock
+    private PreparedStatement nextBatchStatement;
+
+    @Mock
+    private ResultSet lockResult;
+
+    @Mock
+    private ResultSet unlockResult;
+
+    @Mock
+    private ResultSet firstBatchResult;
+
+    @Mock
+    private ResultSet nextBatchResult;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionJob retentionJob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionJob = new NotificationRetentionJob(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.setField(retentionJob, "enabled", true);
+        ReflectionTestUtils.setField(retentionJob, "readTtlDays", 90);
+        ReflectionTestUtils.setField(retentionJob, "batchSize", 2);
+        ReflectionTestUtils.setField(retentionJob, "maxBatches", 10);
+        ReflectionTestUtils.setField(retentionJob, "pauseMs", 0L);
+    }
+
+    @Test
+    void purgeLocked_LockHeldElsewhere_Skips() throws Exception {
+        // Given
+        routeStatements();
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(false);
+
+        // When
+        long purged = retentionJob.purgeLocked(connection, CUTOFF);
+
+        // Then
+        assertEquals(-1, purged);
+        verify(connection, times(1)).prepareStatement(anyString());
+        verify(lockStatement).setLong(1, NotificationRetentionJob.LOCK_KEY);
+    }
+
+    @Test
+    void purgeLocked_DeletesInKeysetBatchesAndUnlocks() throws Exception {
+        // Given
+        acquireLock();
+        LocalDateTime olderRead = CUTOFF.minusDays(3);
+        LocalDateTime newerRead = CUTOFF.minusDays(2);
+        UUID olderId = UUID.randomUUID();
+        UUID newerId = UUID.randomUUID();
+        when(firstBatchStatement.executeQuery()).thenReturn(firstBatchResult);
+        when(firstBatchResult.next()).thenReturn(true, true, false);
+        // RETURNING order is arbitrary: the newest row comes back first
+        when(firstBatchResult.getTimestamp("read_at"))
+                .thenReturn(Timestamp.valueOf(newerRead), Timestamp.valueOf(olderRead));
+        when(firstBatchResult.getObject("id", UUID.class)).thenReturn(newerId, olderId);
+        when(nextBatchStatement.executeQuery()).thenReturn(nextBatchResult);
+        when(nextBatchResult.next()).thenReturn(true, false);
+        when(nextBatchResult.getTimestamp("read_at")).thenReturn(Timestamp.valueOf(CUTOFF.minusDays(1)));
+        when(nextBatchResult.getObject("id", UUID.class)).thenReturn(UUID.randomUUID());
+
+        // When
+        long purged = retentionJob.purgeLocked(connection, CUTOFF);
+
+        // Then
+        assertEquals(3, purged);
+        verify(firstBatchStatement).setTimestamp(1, Timestamp.valueOf(CUTOFF));
+        verify(firstBatchStatement).setInt(2, 2);
+        verify(nextBatchStatement).setTimestamp(2, Timestamp.valueOf(newerRead));
+        verify(nextBatchStatement).setObject(3, newerId);
+        verify(nextBatchStatement).setInt(4, 2);
+        verify(unlockStatement).setLong(1, NotificationRetentionJob.LOCK_KEY);
+        assertEquals(3.0, meterRegistry.counter("notification.retention.purged").count());
+    }
+
+    @Test
+    void purgeLocked_StopsAtMaxBatches() throws Exception {
+        // Given
+        acquireLock();
+        ReflectionTestUtils.setField(retentionJob, "batchSize", 1);
+        ReflectionTestUtils.setField(retentionJob, "maxBatches", 2);
+        when(firstBatchStatement.executeQuery()).thenReturn(firstBatchResult);
+        when(firstBatchResult.next()).thenReturn(true, false);
+        when(firstBatchResult.getTimestamp("read_at")).thenReturn(Timestamp.valueOf(CUTOFF.minusDays(2)));
+        when(firstBatchResult.getObject("id", UUID.class)).thenReturn(UUID.randomUUID());
+        when(nextBatchStatement.executeQuery()).thenReturn(nextBatchResult);
+        when(nextBatchResult.next()).thenReturn(true, false);
+        when(nextBatchResult.getTimestamp("read_at")).thenReturn(Timestamp.valueOf(CUTOFF.minusDays(1)));
+        when(nextBatchResult.getObject("id", UUID.class)).thenReturn(UUID.randomUUID());
+
+        // When
+        long purged = retentionJob.purgeLocked(connection, CUTOFF);
+
+        // Then
+        assertEquals(2, purged);
+        verify(firstBatchStatement).executeQuery();
+        verify(nextBatchStatement).executeQuery();
+        verify(unlockStatement).executeQuery();
+    }
+
+    @Test
+    void purge_Disabled_DoesNothing() {
+        // Given
+        ReflectionTestUtils.setField(retentionJob, "enabled", false);
+
+        // When
+        retentionJob.purge();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void acquireLock() throws Exception {
+        routeStatements();
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(true);
+        when(unlockStatement.executeQuery()).thenReturn(unlockResult);
+    }
+
+    private void routeStatements() throws Exception {
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.contains("pg_try_advisory_lock")) {
+                return lockStatement;
+            }
+            if (sql.contains("pg_advisory_unlock")) {
+                return unlockStatement;
+            }
+            return sql.contains("(read_at, id) > (?, ?)") ? nextBatchStatement : firstBatchStatement;
+        });
+    }
+}
@@ -0,0 +1,221 @@
+package in.zeta.scheduler;
+
+import in.zeta.deadline.ExpiredDeadline;
+import in.zeta.deadline.RequestDeadlineQueue;
+import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.entity.Users;
+import in.zeta.entity.VerificationRequest;
+import in.zeta.enums.NotificationType;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.service.NotificationService;
+import in.zeta.service.OfficerAssignmentService;
+import in.zeta.service.VerificationRequestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StaleRequestEscalatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private RequestDeadlineQueue requestDeadlineQueue;
+
+    @Mock
+    private VerificationRequestService verificationRequestService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OfficerAssignmentService officerAssignmentService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StaleRequestEscalator escalator;
+
+    private Users officer;
+    private Users requestor;
+    private Users customer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        escalator = new StaleRequestEscalator(requestDeadlineQueue, verificationRequestService,
+                notificationService, officerAssignmentService, meterRegistry);
+        ReflectionTestUtils.setField(escalator, "enabled", true);
+        ReflectionTestUtils.setField(escalator, "reEscalateHours", 24L);
+        ReflectionTestUtils.setField(escalator, "reassignAfterEscalations", 2);
+        ReflectionTestUtils.setField(escalator, "batchSize", 10);
+        ReflectionTestUtils.setField(escalator, "maxBatches", 5);
+
+        officer = Users.builder().id(UUID.randomUUID()).build();
+        requestor = Users.builder().id(UUID.randomUUID()).build();
+        customer = Users.builder().id(UUID.randomUUID()).build();
+    }
+
+    @Test
+    void escalate_OverdueReview_NotifiesAssignedOfficer() {
+        // Given
+        VerificationRequest verificationRequest = request(officer);
+        claim(new ExpiredDeadline(verificationRequest.getId(), VerificationStatus.IN_REVIEW, NOW.minusDays(3), 1));
+        when(verificationRequestService.getAllWithParticipants(List.of(verificationRequest.getId())))
+                .thenReturn(List.of(verificationRequest));
+
+        // When
+        int handled = escalator.escalate(NOW);
+
+        // Then
+        assertEquals(1, handled);
+        verify(requestDeadlineQueue).claimExpired(NOW, NOW.plusHours(24), 10);
+        List<NotificationCreatedEvent> notifications = publishedNotifications();
+        assertEquals(1, notifications.size());
+        assertEquals(officer.getId(), notifications.get(0).getUserId());
+        assertEquals(NotificationType.REVIEW_OVERDUE, notifications.get(0).getNotificationType());
+        verifyNoInteractions(officerAssignmentService);
+        assertEquals(1.0, meterRegistry.counter("stale.requests.escalated").count());
+    }
+
+    @Test
+    void escalate_OverdueSendBack_RemindsRequestorAndCustomer() {
+        // Given
+        VerificationRequest verificationRequest = request(officer);
+        claim(new ExpiredDeadline(verificationRequest.getId(), VerificationStatus.SENT_BACK, NOW.minusDays(6), 1));
+        when(verificationRequestService.getAllWithParticipants(List.of(verificationRequest.getId())))
+                .thenReturn(List.of(verificationRequest));
+
+        // When
+        escalator.escalate(NOW);
+
+        // Then
+        List<NotificationCreatedEvent> notifications = publishedNotifications();
+        assertEquals(List.of(requestor.getId(), customer.getId()),
+                notifications.stream().map(NotificationCreatedEvent::getUserId).toList());
+        assertTrue(notifications.stream()
+                .allMatch(notification -> notification.getNotificationType() == NotificationType.DETAILS_OVERDUE));
+    }
+
+    @Test
+    void escalate_PastReassignThreshold_ReassignsAndRestartsDeadline() {
+        // Given
+        VerificationRequest verificationRequest = request(officer);
+        claim(new ExpiredDeadline(verificationRequest.getId(), VerificationStatus.IN_REVIEW, NOW.minusDays(5), 3));
+        when(verificationRequestService.getAllWithParticipants(List.of(verificationRequest.getId())))
+                .thenReturn(List.of(verificationRequest));
+        when(officerAssignmentService.reassignOfficer(verificationRequest.getId()))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        // When
+        escalator.escalate(NOW);
+
+        // Then
+        verify(requestDeadlineQueue).restart(List.of(verificationRequest.getId()), VerificationStatus.IN_REVIEW, NOW);
+        verify(notificationService, never()).publishNotificationEvents(anyList());
+        assertEquals(1.0, meterRegistry.counter("stale.requests.reassigned").count());
+        assertEquals(0.0, meterRegistry.counter("stale.requests.escalated").count());
+    }
+
+    @Test
+    void escalate_NoOfficerToReassignTo_NotifiesCurrentOfficer() {
+        // Given
+        VerificationRequest verificationRequest = request(officer);
+        claim(new ExpiredDeadline(verificationRequest.getId(), VerificationStatus.IN_REVIEW, NOW.minusDays(5), 3));
+        when(verificationRequestService.getAllWithParticipants(List.of(verificationRequest.getId())))
+                .thenReturn(List.of(verificationRequest));
+        when(officerAssignmentService.reassignOfficer(verificationRequest.getId())).thenReturn(Optional.empty());
+
+        // When
+        escalator.escalate(NOW);
+
+        // Then
+        verify(requestDeadlineQueue, never()).restart(any(), any(), any());
+        List<NotificationCreatedEvent> notifications = publishedNotifications();
+        assertEquals(1, notifications.size());
+        assertEquals(officer.getId(), notifications.get(0).getUserId());
+    }
+
+    @Test
+    void escalate_FullBatches_ContinuesUntilShortBatch() {
+        // Given
+        ReflectionTestUtils.setField(escalator, "batchSize", 1);
+        VerificationRequest first = request(officer);
+        VerificationRequest second = request(officer);
+        when(requestDeadlineQueue.claimExpired(NOW, NOW.plusHours(24), 1)).thenReturn(
+                List.of(new ExpiredDeadline(first.getId(), VerificationStatus.IN_REVIEW, NOW.minusDays(3), 1)),
+                List.of(new ExpiredDeadline(second.getId(), VerificationStatus.IN_REVIEW, NOW.minusDays(3), 1)),
+                List.of());
+        when(verificationRequestService.getAllWithParticipants(anyList()))
+                .thenReturn(List.of(first), List.of(second));
+
+        // When
+        int handled = escalator.escalate(NOW);
+
+        // Then
+        assertEquals(2, handled);
+        verify(requestDeadlineQueue, times(3)).claimExpired(NOW, NOW.plusHours(24), 1);
+        verify(notificationService, times(2)).publishNotificationEvents(anyList());
+    }
+
+    @Test
+    void escalate_StopsAtMaxBatches() {
+        // Given
+        ReflectionTestUtils.setField(escalator, "batchSize", 1);
+        ReflectionTestUtils.setField(escalator, "maxBatches", 2);
+        VerificationRequest verificationRequest = request(officer);
+        when(requestDeadlineQueue.claimExpired(NOW, NOW.plusHours(24), 1)).thenReturn(
+                List.of(new ExpiredDeadline(verificationRequest.getId(), VerificationStatus.IN_REVIEW, NOW.minusDays(3), 1)));
+        when(verificationRequestService.getAllWithParticipants(anyList())).thenReturn(List.of(verificationRequest));
+
+        // When
+        int handled = escalator.escalate(NOW);
+
+        // Then
+        assertEquals(2, handled);
+        verify(requestDeadlineQueue, times(2)).claimExpired(NOW, NOW.plusHours(24), 1);
+    }
+
+    @Test
+    void escalate_Disabled_DoesNothing() {
+        // Given
+        ReflectionTestUtils.setField(escalator, "enabled", false);
+
+        // When
+        escalator.escalate();
+
+        // Then
+        verifyNoInteractions(requestDeadlineQueue, verificationRequestService, notificationService);
+    }
+
+    private void claim(ExpiredDeadline expiredDeadline) {
+        when(requestDeadlineQueue.claimExpired(NOW, NOW.plusHours(24), 10)).thenReturn(List.of(expiredDeadline));
+    }
+
+    private VerificationRequest request(Users assignedOfficer) {
+        return VerificationRequest.builder()
+                .id(UUID.randomUUID())
+                .requestor(requestor)
+                .customer(customer)
+                .assignedOfficer(assignedOfficer)
+                .build();
+    }
+
+    private List<NotificationCreatedEvent> publishedNotifications() {
+        ArgumentCaptor<List<NotificationCreatedEvent>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).publishNotificationEvents(notifications.capture());
+        return notifications.getValue();
+    }
+}
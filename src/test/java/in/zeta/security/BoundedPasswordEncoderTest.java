@@ -0,0 +1,114 @@
+package in.zeta.security;
+
+import in.zeta.exception.LimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor executor;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        passwordEncoder = new BoundedPasswordEncoder(delegate, executor, meterRegistry, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encode_DelegatesAndRecordsLatency() {
+        // Given
+        when(delegate.encode("password123")).thenReturn("encoded");
+
+        // When
+        String result = passwordEncoder.encode("password123");
+
+        // Then
+        assertEquals("encoded", result);
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.DURATION_METRIC)
+                .tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void matches_DelegatesAndRecordsLatency() {
+        // Given
+        when(delegate.matches("password123", "encoded")).thenReturn(true);
+
+        // When
+        boolean result = passwordEncoder.matches("password123", "encoded");
+
+        // Then
+        assertTrue(result);
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.DURATION_METRIC)
+                .tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void encode_QueueFull_RejectsFast() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        // When & Then
+        assertThrows(LimitExceededException.class, () -> passwordEncoder.encode("password123"));
+        assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.REJECTED_METRIC).counter().count());
+        verifyNoInteractions(delegate);
+        release.countDown();
+    }
+
+    @Test
+    void encode_Timeout_ThrowsLimitExceeded() {
+        // Given
+        passwordEncoder = new BoundedPasswordEncoder(delegate, executor, meterRegistry, 10);
+        when(delegate.encode("password123")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return "encoded";
+        });
+
+        // When & Then
+        assertThrows(LimitExceededException.class, () -> passwordEncoder.encode("password123"));
+    }
+
+    @Test
+    void encode_DelegateFailure_Propagates() {
+        // Given
+        when(delegate.encode("password123")).thenThrow(new IllegalArgumentException("bad input"));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> passwordEncoder.encode("password123"));
+        assertEquals("bad input", exception.getMessage());
+    }
+}
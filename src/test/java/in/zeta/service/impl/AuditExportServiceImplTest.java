@@ -0,0 +1,145 @@
+package in.zeta.service.impl;
+
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.AuditExportFormat;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.InvalidOperationException;
+import in.zeta.repository.AuditLogFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditExportServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private AuditExportServiceImpl auditExportService;
+
+    private UUID auditLogId;
+    private UUID entityId;
+    private UUID userId;
+    private LocalDateTime timestamp;
+
+    @BeforeEach
+    void setUp() {
+        auditExportService = new AuditExportServiceImpl(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(auditExportService, "fetchSize", 500);
+
+        auditLogId = UUID.randomUUID();
+        entityId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        timestamp = LocalDateTime.of(2025, 1, 15, 10, 30);
+    }
+
+    @Test
+    void exportAuditLogs_Csv_WritesHeaderAndRows() throws Exception {
+        // Given
+        stubRows(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = auditExportService.exportAuditLogs(AuditLogFilter.all(null, null), AuditExportFormat.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("\"id\",\"entityType\""));
+        assertTrue(lines[1].contains(auditLogId.toString()));
+        assertTrue(lines[1].contains("\"{\"\"status\"\":\"\"PENDING\"\"}\""));
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void exportAuditLogs_Ndjson_WritesOneObjectPerLine() throws Exception {
+        // Given
+        stubRows(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = auditExportService.exportAuditLogs(AuditLogFilter.all(null, null), AuditExportFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, rows);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{"));
+        assertTrue(lines[0].contains("\"timestamp\":\"2025-01-15T10:30:00\""));
+        assertTrue(lines[0].contains("\"action\":\"DOCUMENT_UPLOADED\""));
+        assertTrue(lines[0].contains("\"oldValue\":\"{\\\"status\\\":\\\"PENDING\\\"}\""));
+        assertTrue(lines[0].contains("\"oldFields\":{\"status\":\"PENDING\"}"));
+        assertTrue(lines[0].contains("\"newFields\":{\"message\":\"new\"}"));
+    }
+
+    @Test
+    void exportAuditLogs_EmptyResult_WritesOnlyCsvHeader() {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = auditExportService.exportAuditLogs(AuditLogFilter.all(null, null), AuditExportFormat.CSV, out);
+
+        // Then
+        assertEquals(0, rows);
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    void exportAuditLogs_FromNotBeforeTo_Throws() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+
+        // When & Then
+        assertThrows(InvalidOperationException.class, () -> auditExportService.exportAuditLogs(
+                AuditLogFilter.all(now, now), AuditExportFormat.CSV, new ByteArrayOutputStream()));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void stubRows(int count) throws Exception {
+        when(resultSet.getObject("audit_log_id", UUID.class)).thenReturn(auditLogId);
+        when(resultSet.getString("entity_type")).thenReturn(EntityType.DOCUMENT.name());
+        when(resultSet.getObject("entity_id", UUID.class)).thenReturn(entityId);
+        when(resultSet.getString("audit_action")).thenReturn(AuditAction.DOCUMENT_UPLOADED.name());
+        when(resultSet.getObject("user_id", UUID.class)).thenReturn(userId);
+        when(resultSet.getString("username")).thenReturn("officer123");
+        when(resultSet.getString("old_value")).thenReturn("{\"status\":\"PENDING\"}");
+        when(resultSet.getString("new_value")).thenReturn("new");
+        when(resultSet.getTimestamp("timestamp")).thenReturn(Timestamp.valueOf(timestamp));
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < count; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
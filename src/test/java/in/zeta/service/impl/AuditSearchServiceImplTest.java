@@ -0,0 +1,170 @@
+package in.zeta.service.impl;
+
+import in.zeta.dto.requests.AuditLogPageRequest;
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.dto.response.AuditSearchResponse;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.BadRequestException;
+import in.zeta.exception.InvalidOperationException;
+import in.zeta.repository.AuditLogFilter;
+import in.zeta.util.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditSearchServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private AuditSearchServiceImpl auditSearchService;
+
+    private AuditLogPageRequest firstPage;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auditSearchService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(auditSearchService, "maxPageSize", 500);
+        ReflectionTestUtils.setField(auditSearchService, "userFacetSize", 1);
+        ReflectionTestUtils.setField(auditSearchService, "facetSampleSize", 10);
+        firstPage = AuditLogPageRequest.builder().build();
+    }
+
+    @Test
+    void search_FirstPage_ReturnsHitsCursorAndFacets() throws Exception {
+        // Given
+        List<AuditLogsResponse> hits = List.of(hit(3), hit(2), hit(1));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(hits);
+
+        UUID topUser = UUID.randomUUID();
+        when(resultSet.getLong("hits")).thenReturn(5L, 4L, 3L, 2L);
+        when(resultSet.getInt("grouping_set")).thenReturn(0b011, 0b101, 0b110, 0b110);
+        when(resultSet.getString("audit_action")).thenReturn(AuditAction.VERIFICATION_STATUS_CHANGED.name());
+        when(resultSet.getString("entity_type")).thenReturn(EntityType.VERIFICATION_REQUEST.name());
+        when(resultSet.getObject("user_id", UUID.class)).thenReturn(topUser, UUID.randomUUID());
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 4; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // When
+        AuditSearchResponse response = auditSearchService.search("approved", AuditLogFilter.all(null, null), firstPage);
+
+        // Then
+        assertEquals(2, response.getAuditLogs().size());
+        assertTrue(response.isHasMore());
+        assertEquals(hits.get(1).getId(), KeysetCursor.decode(response.getNextCursor()).id());
+        assertEquals(5L, response.getFacets().getActions().get(AuditAction.VERIFICATION_STATUS_CHANGED));
+        assertEquals(4L, response.getFacets().getEntityTypes().get(EntityType.VERIFICATION_REQUEST));
+        assertEquals(1, response.getFacets().getUsers().size());
+        assertEquals(3L, response.getFacets().getUsers().get(topUser));
+        assertEquals(10, response.getFacets().getSampleSize());
+        assertFalse(response.getFacets().isEstimated());
+    }
+
+    @Test
+    void search_FirstPage_CapsFacetSampleAndFlagsFullSampleAsEstimate() throws Exception {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+        when(resultSet.getLong("hits")).thenReturn(10L);
+        when(resultSet.getInt("grouping_set")).thenReturn(0b011);
+        when(resultSet.getString("audit_action")).thenReturn(AuditAction.VERIFICATION_STATUS_CHANGED.name());
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // When
+        AuditSearchResponse response = auditSearchService.search("approved", AuditLogFilter.all(null, null), firstPage);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowCallbackHandler.class), args.capture());
+        assertTrue(sql.getValue().contains(" LIMIT ?) s GROUP BY GROUPING SETS"));
+        assertEquals(10, args.getValue()[args.getValue().length - 1]);
+        assertTrue(response.getFacets().isEstimated());
+    }
+
+    @Test
+    void search_WithCursorAndFilter_SkipsFacetsAndBindsKeyset() {
+        // Given
+        String cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 15, 10, 0), UUID.randomUUID()).encode();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        // When
+        AuditSearchResponse response = auditSearchService.search("approved",
+                AuditLogFilter.forAction(AuditAction.VERIFICATION_STATUS_CHANGED, null, null),
+                AuditLogPageRequest.builder().cursor(cursor).limit(10).build());
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), args.capture());
+        assertTrue(sql.getValue().contains(AuditSearchServiceImpl.MATCH_CONDITION));
+        assertTrue(sql.getValue().contains("a.audit_action = ?"));
+        assertTrue(sql.getValue().contains("(a.timestamp, a.audit_log_id) < (?, ?)"));
+        assertEquals("approved", args.getValue()[0]);
+        assertEquals(11, args.getValue()[args.getValue().length - 1]);
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        assertNull(response.getFacets());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    void search_BlankQuery_Throws() {
+        // When & Then
+        assertThrows(BadRequestException.class,
+                () -> auditSearchService.search("  ", AuditLogFilter.all(null, null), firstPage));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void search_FromNotBeforeTo_Throws() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+                () -> auditSearchService.search("approved", AuditLogFilter.all(now, now), firstPage));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private AuditLogsResponse hit(int minutes) {
+        return AuditLogsResponse.builder()
+                .id(UUID.randomUUID())
+                .entityType(EntityType.VERIFICATION_REQUEST)
+                .entityId(UUID.randomUUID())
+                .action(AuditAction.VERIFICATION_STATUS_CHANGED)
+                .timestamp(LocalDateTime.of(2025, 1, 15, 10, minutes))
+                .build();
+    }
+}
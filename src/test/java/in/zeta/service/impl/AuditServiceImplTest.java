@@ -1,21 +1,32 @@
 package in.zeta.service.impl;
 
+import in.zeta.archive.AuditArchiveStore;
+import in.zeta.cache.AuditTimelineCache;
 import in.zeta.entity.AuditLogs;
 import in.zeta.entity.Users;
 import in.zeta.enums.AuditAction;
 import in.zeta.enums.EntityType;
+import in.zeta.dto.requests.AuditLogPageRequest;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
+import in.zeta.dto.response.AuditLogPageResponse;
 import in.zeta.dto.response.AuditLogsResponse;
 import in.zeta.enums.Role;
 import in.zeta.exception.AuditLogException;
+import in.zeta.exception.BadRequestException;
 import in.zeta.exception.InvalidOperationException;
 import in.zeta.producer.EventProducer;
+import in.zeta.repository.AuditLogFilter;
 import in.zeta.repository.AuditLogRepository;
 import in.zeta.service.UserService;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.JsonUtil;
+import in.zeta.util.KeysetCursor;
+import in.zeta.writer.AuditLogBatchWriter;
+import in.zeta.writer.AuditLogRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,9 +37,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +57,15 @@ class AuditServiceImplTest {
     @Mock
     private EventProducer eventProducer;
 
+    @Mock
+    private AuditLogBatchWriter auditLogBatchWriter;
+
+    @Mock
+    private AuditTimelineCache auditTimelineCache;
+
+    @Mock
+    private AuditArchiveStore auditArchiveStore;
+
     @Mock
     private SpectraLogger logger;
 
@@ -54,6 +77,7 @@ class AuditServiceImplTest {
     private Users testUser;
     private AuditLogs testAuditLog;
     private AuditLogCreatedEvent testEvent;
+    private AuditLogPageRequest firstPage;
 
     @BeforeEach
     void setUp() {
@@ -88,7 +112,11 @@ class AuditServiceImplTest {
                 .timestamp(LocalDateTime.now())
                 .build();
 
+        firstPage = AuditLogPageRequest.builder().build();
+
         ReflectionTestUtils.setField(auditService, "auditLogTopic", "audit-topic");
+        ReflectionTestUtils.setField(auditService, "defaultPageSize", 50);
+        ReflectionTestUtils.setField(auditService, "maxPageSize", 500);
     }
 
     @Test
@@ -127,95 +155,333 @@ class AuditServiceImplTest {
         ));
     }
 
+    @Test
+    void createAuditLog_WriterEnabled_WritesThroughWriterInsteadOfSaving() {
+        // Given
+        when(auditLogBatchWriter.isEnabled()).thenReturn(true);
+
+        // When
+        auditService.createAuditLog(
+                testEvent.getEntityType(),
+                testEvent.getEntityId(),
+                testEvent.getAction(),
+                testUser,
+                testEvent.getOldValue(),
+                testEvent.getNewValue()
+        );
+
+        // Then
+        ArgumentCaptor<AuditLogRecord> captor = ArgumentCaptor.forClass(AuditLogRecord.class);
+        verify(auditLogBatchWriter).write(captor.capture());
+        assertEquals(testUserId, captor.getValue().userId());
+        assertEquals(AuditAction.USER_CREATED, captor.getValue().action());
+        assertNotNull(captor.getValue().id());
+        verify(auditLogRepository, never()).save(any());
+    }
+
+    @Test
+    void createAuditLog_WriterFails_Throws() {
+        // Given
+        when(auditLogBatchWriter.isEnabled()).thenReturn(true);
+        doThrow(new AuditLogException("Audit log buffer full")).when(auditLogBatchWriter).write(any(AuditLogRecord.class));
+
+        // When & Then
+        assertThrows(AuditLogException.class, () -> auditService.createAuditLog(
+                testEvent.getEntityType(),
+                testEvent.getEntityId(),
+                testEvent.getAction(),
+                testUser,
+                testEvent.getOldValue(),
+                testEvent.getNewValue()
+        ));
+    }
+
+    @Test
+    void processAuditLogEvent_WriterDisabled_LoadsUserAndSaves() {
+        // Given
+        when(userService.getByIdOrThrow(eq(testUserId), any())).thenReturn(testUser);
+
+        // When
+        auditService.processAuditLogEvent(JsonUtil.toJson(testEvent));
+
+        // Then
+        verify(auditLogRepository).save(any(AuditLogs.class));
+        verify(auditLogBatchWriter, never()).write(any());
+    }
+
+    @Test
+    void processAuditLogEvent_WriterEnabled_SkipsUserLookup() {
+        // Given
+        when(auditLogBatchWriter.isEnabled()).thenReturn(true);
+
+        // When
+        auditService.processAuditLogEvent(JsonUtil.toJson(testEvent));
+
+        // Then
+        ArgumentCaptor<AuditLogRecord> captor = ArgumentCaptor.forClass(AuditLogRecord.class);
+        verify(auditLogBatchWriter).write(captor.capture());
+        assertEquals(testUserId, captor.getValue().userId());
+        assertEquals(testEvent.getEntityId(), captor.getValue().entityId());
+        verifyNoInteractions(userService);
+        verify(auditLogRepository, never()).save(any());
+    }
+
+    @Test
+    void processAuditLogEvent_WriterFails_Throws() {
+        // Given
+        when(auditLogBatchWriter.isEnabled()).thenReturn(true);
+        doThrow(new AuditLogException("Audit log buffer full")).when(auditLogBatchWriter).write(any(AuditLogRecord.class));
+
+        // When & Then
+        assertThrows(AuditLogException.class,
+                () -> auditService.processAuditLogEvent(JsonUtil.toJson(testEvent)));
+    }
+
+    @Test
+    void getAuditTrail_TimelineCacheEnabled_ServesFirstPageFromCache() {
+        // Given
+        when(auditTimelineCache.isEnabled()).thenReturn(true);
+        when(auditTimelineCache.capacity()).thenReturn(50);
+        when(auditLogRepository.findPage(any(AuditLogFilter.class), isNull(), eq(51)))
+                .thenReturn(List.of(testAuditLog));
+        when(auditTimelineCache.get(eq(EntityType.USER), eq(testUserId), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<AuditLogsResponse>>>getArgument(2).get());
+
+        // When
+        AuditLogPageResponse response = auditService.getAuditTrail(EntityType.USER, testUserId, firstPage);
+
+        // Then
+        assertEquals(1, response.getAuditLogs().size());
+        assertEquals(testAuditLogId, response.getAuditLogs().get(0).getId());
+        assertFalse(response.isHasMore());
+        verify(auditLogRepository).findPage(any(AuditLogFilter.class), isNull(), eq(51));
+    }
+
+    @Test
+    void getAuditTrail_WithCursor_BypassesTimelineCache() {
+        // Given
+        String cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+        when(auditTimelineCache.isEnabled()).thenReturn(true);
+        when(auditLogRepository.findPage(any(AuditLogFilter.class), any(KeysetCursor.class), eq(51)))
+                .thenReturn(List.of(testAuditLog));
+
+        // When
+        AuditLogPageResponse response = auditService.getAuditTrail(EntityType.USER, testUserId,
+                AuditLogPageRequest.builder().cursor(cursor).build());
+
+        // Then
+        assertEquals(1, response.getAuditLogs().size());
+        verify(auditTimelineCache, never()).get(any(), any(), any());
+    }
+
+    @Test
+    void getAuditTrail_HotRowsRunOut_ContinuesIntoArchive() {
+        // Given
+        AuditLogsResponse archived = AuditLogsResponse.builder()
+                .id(UUID.randomUUID())
+                .entityType(EntityType.USER)
+                .entityId(testUserId)
+                .action(AuditAction.USER_CREATED)
+                .timestamp(testAuditLog.getTimestamp().minusMonths(8))
+                .build();
+        when(auditLogRepository.findPage(any(AuditLogFilter.class), isNull(), eq(51)))
+                .thenReturn(List.of(testAuditLog));
+        when(auditArchiveStore.isEnabled()).thenReturn(true);
+        when(auditArchiveStore.findEntityLogs(any(AuditLogFilter.class), any(KeysetCursor.class), eq(50)))
+                .thenReturn(List.of(archived));
+
+        // When
+        AuditLogPageResponse response = auditService.getAuditTrail(EntityType.USER, testUserId, firstPage);
+
+        // Then
+        assertEquals(List.of(testAuditLogId, archived.getId()),
+                response.getAuditLogs().stream().map(AuditLogsResponse::getId).toList());
+        verify(auditArchiveStore).findEntityLogs(any(AuditLogFilter.class),
+                eq(new KeysetCursor(testAuditLog.getTimestamp(), testAuditLogId)), eq(50));
+    }
+
+    @Test
+    void getAllAuditLogs_ArchiveEnabled_ReadsHotRowsOnly() {
+        // Given
+        when(auditLogRepository.findPage(AuditLogFilter.all(null, null), null, 51)).thenReturn(List.of(testAuditLog));
+
+        // When
+        auditService.getAllAuditLogs(firstPage);
+
+        // Then
+        verifyNoInteractions(auditArchiveStore);
+    }
+
+    @Test
+    void createAuditLog_AppendsToTimelineCache() {
+        // When
+        auditService.createAuditLog(
+                testEvent.getEntityType(),
+                testEvent.getEntityId(),
+                testEvent.getAction(),
+                testUser,
+                testEvent.getOldValue(),
+                testEvent.getNewValue()
+        );
+
+        // Then
+        verify(auditTimelineCache).append(argThat(entry ->
+                entry.getEntityId().equals(testEvent.getEntityId()) && entry.getUserId().equals(testUserId)));
+    }
+
     @Test
     void getAuditLogsByAction_Success() {
         // Given
         List<AuditLogs> auditLogs = Arrays.asList(testAuditLog);
-        when(auditLogRepository.findByActionOrderByTimestampDesc(AuditAction.USER_CREATED))
+        when(auditLogRepository.findPage(AuditLogFilter.forAction(AuditAction.USER_CREATED, null, null), null, 51))
                 .thenReturn(auditLogs);
 
         // When
-        List<AuditLogsResponse> result = auditService.getAuditLogsByAction(AuditAction.USER_CREATED);
+        AuditLogPageResponse result = auditService.getAuditLogsByAction(AuditAction.USER_CREATED, firstPage);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(auditLogRepository).findByActionOrderByTimestampDesc(AuditAction.USER_CREATED);
+        assertEquals(1, result.getAuditLogs().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
     }
 
     @Test
     void getAuditLogsByAction_NullAction() {
         // When & Then
         assertThrows(InvalidOperationException.class,
-                () -> auditService.getAuditLogsByAction(null));
+                () -> auditService.getAuditLogsByAction(null, firstPage));
     }
 
     @Test
     void getAuditLogsByAction_EmptyList() {
         // Given
-        when(auditLogRepository.findByActionOrderByTimestampDesc(AuditAction.USER_CREATED))
+        when(auditLogRepository.findPage(AuditLogFilter.forAction(AuditAction.USER_CREATED, null, null), null, 51))
                 .thenReturn(Arrays.asList());
 
         // When
-        List<AuditLogsResponse> result = auditService.getAuditLogsByAction(AuditAction.USER_CREATED);
+        AuditLogPageResponse result = auditService.getAuditLogsByAction(AuditAction.USER_CREATED, firstPage);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(auditLogRepository).findByActionOrderByTimestampDesc(AuditAction.USER_CREATED);
+        assertTrue(result.getAuditLogs().isEmpty());
     }
 
     @Test
     void getAuditLogsByUser_Success() {
         // Given
         List<AuditLogs> auditLogs = Arrays.asList(testAuditLog);
-        when(auditLogRepository.findByUserIdOrderByTimestampDesc(testUserId))
+        when(auditLogRepository.findPage(AuditLogFilter.forUser(testUserId, null, null), null, 51))
                 .thenReturn(auditLogs);
 
         // When
-        List<AuditLogsResponse> result = auditService.getAuditLogsByUser(testUserId);
+        AuditLogPageResponse result = auditService.getAuditLogsByUser(testUserId, firstPage);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(auditLogRepository).findByUserIdOrderByTimestampDesc(testUserId);
+        assertEquals(1, result.getAuditLogs().size());
     }
 
     @Test
     void getAuditLogsByUser_NullUserId() {
         // When & Then
         assertThrows(InvalidOperationException.class,
-                () -> auditService.getAuditLogsByUser(null));
+                () -> auditService.getAuditLogsByUser(null, firstPage));
     }
 
     @Test
     void getAuditLogsByUser_EmptyList() {
         // Given
-        when(auditLogRepository.findByUserIdOrderByTimestampDesc(testUserId))
+        when(auditLogRepository.findPage(AuditLogFilter.forUser(testUserId, null, null), null, 51))
                 .thenReturn(Arrays.asList());
 
         // When
-        List<AuditLogsResponse> result = auditService.getAuditLogsByUser(testUserId);
+        AuditLogPageResponse result = auditService.getAuditLogsByUser(testUserId, firstPage);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(auditLogRepository).findByUserIdOrderByTimestampDesc(testUserId);
+        assertTrue(result.getAuditLogs().isEmpty());
     }
 
     @Test
     void getAllAuditLogs_Success() {
         // Given
         List<AuditLogs> auditLogs = Arrays.asList(testAuditLog);
-        when(auditLogRepository.findAllByOrderByTimestampDesc()).thenReturn(auditLogs);
+        when(auditLogRepository.findPage(AuditLogFilter.all(null, null), null, 51)).thenReturn(auditLogs);
 
         // When
-        List<AuditLogsResponse> result = auditService.getAllAuditLogs();
+        AuditLogPageResponse result = auditService.getAllAuditLogs(firstPage);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(auditLogRepository).findAllByOrderByTimestampDesc();
+        assertEquals(1, result.getAuditLogs().size());
+    }
+
+    @Test
+    void getAllAuditLogs_MoreRows_ReturnsCursorOfLastRow() {
+        // Given
+        AuditLogs older = AuditLogs.builder()
+                .id(UUID.randomUUID())
+                .entityType(EntityType.USER)
+                .entityId(testUserId)
+                .action(AuditAction.USER_CREATED)
+                .user(testUser)
+                .timestamp(testAuditLog.getTimestamp().minusMinutes(1))
+                .build();
+        AuditLogPageRequest pageRequest = AuditLogPageRequest.builder().limit(1).build();
+        when(auditLogRepository.findPage(AuditLogFilter.all(null, null), null, 2))
+                .thenReturn(List.of(testAuditLog, older));
+
+        // When
+        AuditLogPageResponse result = auditService.getAllAuditLogs(pageRequest);
+
+        // Then
+        assertEquals(1, result.getAuditLogs().size());
+        assertTrue(result.isHasMore());
+        assertEquals(new KeysetCursor(testAuditLog.getTimestamp(), testAuditLogId),
+                KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void getAllAuditLogs_WithCursorAndRange_PassesThrough() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 15, 12, 0), UUID.randomUUID());
+        AuditLogPageRequest pageRequest = AuditLogPageRequest.builder()
+                .from(from)
+                .to(to)
+                .cursor(cursor.encode())
+                .limit(10_000)
+                .build();
+        when(auditLogRepository.findPage(AuditLogFilter.all(from, to), cursor, 501)).thenReturn(List.of());
+
+        // When
+        AuditLogPageResponse result = auditService.getAllAuditLogs(pageRequest);
+
+        // Then
+        assertTrue(result.getAuditLogs().isEmpty());
+        verify(auditLogRepository).findPage(AuditLogFilter.all(from, to), cursor, 501);
+    }
+
+    @Test
+    void getAllAuditLogs_FromNotBeforeTo_Throws() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        AuditLogPageRequest pageRequest = AuditLogPageRequest.builder().from(now).to(now).build();
+
+        // When & Then
+        assertThrows(InvalidOperationException.class, () -> auditService.getAllAuditLogs(pageRequest));
+        verifyNoInteractions(auditLogRepository);
+    }
+
+    @Test
+    void getAllAuditLogs_InvalidCursor_Throws() {
+        // Given
+        AuditLogPageRequest pageRequest = AuditLogPageRequest.builder().cursor("not-a-cursor").build();
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> auditService.getAllAuditLogs(pageRequest));
     }
 
     @Test
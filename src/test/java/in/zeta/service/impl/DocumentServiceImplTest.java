@@ -11,6 +11,8 @@ import in.zeta.dto.response.DocumentResponse;
 import in.zeta.repository.DocumentRepository;
 import in.zeta.service.*;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.exception.InvalidStatusTransitionException;
+import in.zeta.statemachine.VerificationStateMachine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +21,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
@@ -30,6 +34,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +61,12 @@ class DocumentServiceImplTest {
     @Mock
     private SpectraLogger logger;
 
+    @Mock
+    private VerificationStateMachine verificationStateMachine;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
     @InjectMocks
     private DocumentServiceImpl documentService;
 
@@ -118,6 +129,9 @@ class DocumentServiceImplTest {
         when(userService.getByIdOrThrow(testUserId, "User not found: " + testUserId))
                 .thenReturn(testUser);
         when(documentRepository.save(any(Document.class))).thenReturn(testDocument);
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.DOCUMENT_UPLOADED))
+                .thenReturn(new VerificationStateMachine.Transition(
+                        VerificationStatus.SENT_BACK, VerificationStatus.DOCUMENT_UPLOADED, LocalDateTime.now()));
 
         // When
         DocumentResponse result = documentService.uploadDocument(
@@ -127,8 +141,59 @@ class DocumentServiceImplTest {
         assertNotNull(result);
         assertEquals("test.pdf", result.getFileName());
         verify(documentRepository).save(any(Document.class));
-        verify(verificationRequestService).save(any(VerificationRequest.class));
-        verify(notificationService, times(1)).publishNotificationEvent(any());
+        verify(verificationStateMachine).transition(testVerificationId, VerificationStatus.DOCUMENT_UPLOADED);
+        verify(statusHistoryService).publishStatusUpdateEvent(argThat(event ->
+                event.getVerificationRequestId().equals(testVerificationId)
+                        && event.getChangedBy().equals(testUserId)
+                        && event.getFromStatus() == VerificationStatus.SENT_BACK
+                        && event.getToStatus() == VerificationStatus.DOCUMENT_UPLOADED));
+        verify(verificationRequestService, never()).save(any(VerificationRequest.class));
+        // the requestor is notified through the status history, not directly
+        verify(notificationService, never()).publishNotificationEvent(any());
+        verify(officerAssignmentService).assignOfficerToVerification(testVerificationId);
+    }
+
+    @Test
+    void uploadDocument_PublishesTransitionOnlyAfterCommit() {
+        // Given
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(userService.getByIdOrThrow(testUserId, "User not found: " + testUserId))
+                .thenReturn(testUser);
+        when(documentRepository.save(any(Document.class))).thenReturn(testDocument);
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.DOCUMENT_UPLOADED))
+                .thenReturn(new VerificationStateMachine.Transition(
+                        VerificationStatus.SENT_BACK, VerificationStatus.DOCUMENT_UPLOADED, LocalDateTime.now()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            documentService.uploadDocument(testVerificationId, testFile, DocumentType.VOTER_ID, "Test description", testUserId);
+
+            // Then
+            verify(statusHistoryService, never()).publishStatusUpdateEvent(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(statusHistoryService).publishStatusUpdateEvent(argThat(event ->
+                    event.getToStatus() == VerificationStatus.DOCUMENT_UPLOADED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void uploadDocument_ClosedRequest_Rejected() {
+        // Given
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(userService.getByIdOrThrow(testUserId, "User not found: " + testUserId))
+                .thenReturn(testUser);
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.DOCUMENT_UPLOADED))
+                .thenThrow(new InvalidStatusTransitionException("Cannot move verification request"));
+
+        // When & Then
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> documentService.uploadDocument(testVerificationId, testFile,
+                        DocumentType.VOTER_ID, "Test description", testUserId));
+        verify(documentRepository, never()).save(any(Document.class));
     }
 
     @Test
@@ -1,5 +1,7 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.UnreadNotificationCountCache;
+import in.zeta.digest.NotificationDigester;
 import in.zeta.entity.Notification;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
@@ -8,31 +10,44 @@ import in.zeta.enums.NotificationType;
 import in.zeta.enums.Role;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.dto.requests.events.NotificationCreatedEvent;
+import in.zeta.dto.requests.NotificationPageRequest;
+import in.zeta.dto.response.NotificationPageResponse;
 import in.zeta.dto.response.NotificationResponse;
+import in.zeta.exception.BadRequestException;
 import in.zeta.exception.InvalidOperationException;
 import in.zeta.exception.ResourceNotFoundException;
+import in.zeta.mail.EmailDeliveryChannel;
 import in.zeta.producer.EventProducer;
 import in.zeta.repository.NotificationRepository;
 import in.zeta.service.AuditService;
 import in.zeta.service.UserService;
 import in.zeta.service.VerificationRequestService;
 import in.zeta.spectra.capture.SpectraLogger;
+import in.zeta.util.KeysetCursor;
+import in.zeta.stream.NotificationStreamRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +68,18 @@ class NotificationServiceImplTest {
     @Mock
     private EventProducer eventProducer;
 
+    @Mock
+    private NotificationStreamRegistry notificationStreamRegistry;
+
+    @Mock
+    private UnreadNotificationCountCache unreadNotificationCountCache;
+
+    @Mock
+    private NotificationDigester notificationDigester;
+
+    @Mock
+    private EmailDeliveryChannel emailDeliveryChannel;
+
     @Mock
     private SpectraLogger logger;
 
@@ -114,44 +141,113 @@ class NotificationServiceImplTest {
                 .build();
 
         ReflectionTestUtils.setField(notificationService, "notificationTopic", "notification-topic");
+        ReflectionTestUtils.setField(notificationService, "maxBulkReadIds", 3);
+        ReflectionTestUtils.setField(notificationService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(notificationService, "maxPageSize", 100);
+    }
+
+    @Test
+    void getUserNotifications_FirstPage_ReturnsCursorOfLastRow() {
+        // Given
+        NotificationResponse older = NotificationResponse.builder()
+                .id(UUID.randomUUID())
+                .createdAt(testNotificationResponse.getCreatedAt().minusMinutes(1))
+                .build();
+        NotificationResponse oldest = NotificationResponse.builder()
+                .id(UUID.randomUUID())
+                .createdAt(testNotificationResponse.getCreatedAt().minusMinutes(2))
+                .build();
+        when(notificationRepository.findFeed(testUserId, Limit.of(3)))
+                .thenReturn(List.of(testNotificationResponse, older, oldest));
+
+        // When
+        NotificationPageResponse result = notificationService.getUserNotifications(testUserId,
+                NotificationPageRequest.builder().limit(2).build());
+
+        // Then
+        assertEquals(List.of(testNotificationResponse, older), result.getNotifications());
+        assertTrue(result.isHasMore());
+        assertEquals(new KeysetCursor(older.getCreatedAt(), older.getId()), KeysetCursor.decode(result.getNextCursor()));
     }
 
     @Test
-    void getUserNotifications_Success() {
+    void getUserNotifications_WithCursor_SeeksPastIt() {
         // Given
-        List<NotificationResponse> notifications = Arrays.asList(testNotificationResponse);
-        when(notificationRepository.findByUserIdOrderByCreatedAtDesc(testUserId))
-                .thenReturn(notifications);
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(notificationRepository.findFeedAfter(testUserId, cursor.timestamp(), cursor.id(), Limit.of(21)))
+                .thenReturn(List.of(testNotificationResponse));
 
         // When
-        List<NotificationResponse> result = notificationService.getUserNotifications(testUserId);
+        NotificationPageResponse result = notificationService.getUserNotifications(testUserId,
+                NotificationPageRequest.builder().cursor(cursor.encode()).build());
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(notificationRepository).findByUserIdOrderByCreatedAtDesc(testUserId);
+        assertEquals(1, result.getNotifications().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+        verify(notificationRepository, never()).findFeed(any(), any());
+    }
+
+    @Test
+    void getUserNotifications_LimitAboveMax_IsCapped() {
+        // Given
+        when(notificationRepository.findFeed(testUserId, Limit.of(101))).thenReturn(List.of());
+
+        // When
+        NotificationPageResponse result = notificationService.getUserNotifications(testUserId,
+                NotificationPageRequest.builder().limit(1000).build());
+
+        // Then
+        assertTrue(result.getNotifications().isEmpty());
+    }
+
+    @Test
+    void getUserNotifications_InvalidPageRequest_Throws() {
+        // When & Then
+        assertThrows(InvalidOperationException.class, () -> notificationService.getUserNotifications(testUserId,
+                NotificationPageRequest.builder().limit(0).build()));
+        assertThrows(BadRequestException.class, () -> notificationService.getUserNotifications(testUserId,
+                NotificationPageRequest.builder().cursor("not-a-cursor").build()));
     }
 
     @Test
     void getUnreadNotifications_Success() {
         // Given
-        List<NotificationResponse> notifications = Arrays.asList(testNotificationResponse);
-        when(notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(testUserId))
-                .thenReturn(notifications);
+        when(notificationRepository.findUnreadFeed(testUserId, Limit.of(21)))
+                .thenReturn(List.of(testNotificationResponse));
 
         // When
-        List<NotificationResponse> result = notificationService.getUnreadNotifications(testUserId);
+        NotificationPageResponse result = notificationService.getUnreadNotifications(testUserId,
+                NotificationPageRequest.builder().build());
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(notificationRepository).findByUserIdAndIsReadFalseOrderByCreatedAtDesc(testUserId);
+        assertEquals(1, result.getNotifications().size());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void getUnreadNotifications_WithCursor_SeeksPastIt() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(notificationRepository.findUnreadFeedAfter(testUserId, cursor.timestamp(), cursor.id(), Limit.of(21)))
+                .thenReturn(List.of());
+
+        // When
+        NotificationPageResponse result = notificationService.getUnreadNotifications(testUserId,
+                NotificationPageRequest.builder().cursor(cursor.encode()).build());
+
+        // Then
+        assertTrue(result.getNotifications().isEmpty());
+        verify(notificationRepository).findUnreadFeedAfter(testUserId, cursor.timestamp(), cursor.id(), Limit.of(21));
     }
 
     @Test
     void getUnreadCount_Success() {
         // Given
         when(notificationRepository.countByUserIdAndIsReadFalse(testUserId)).thenReturn(5L);
+        when(unreadNotificationCountCache.get(eq(testUserId), any()))
+                .thenAnswer(invocation -> invocation.<Function<UUID, Long>>getArgument(1).apply(testUserId));
 
         // When
         Long result = notificationService.getUnreadCount(testUserId);
@@ -161,6 +257,19 @@ class NotificationServiceImplTest {
         verify(notificationRepository).countByUserIdAndIsReadFalse(testUserId);
     }
 
+    @Test
+    void getUnreadCount_CachedCounter_SkipsRepository() {
+        // Given
+        when(unreadNotificationCountCache.get(eq(testUserId), any())).thenReturn(3L);
+
+        // When
+        Long result = notificationService.getUnreadCount(testUserId);
+
+        // Then
+        assertEquals(3L, result);
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(any());
+    }
+
     @Test
     void markAsRead_Success() {
         // Given
@@ -171,10 +280,11 @@ class NotificationServiceImplTest {
         notificationService.markAsRead(testNotificationId, testUserId);
 
         // Then
-        verify(notificationRepository, times(2)).save(any(Notification.class));
+        verify(notificationRepository, times(1)).save(any(Notification.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         assertTrue(testNotification.getIsRead());
         assertNotNull(testNotification.getReadAt());
+        verify(unreadNotificationCountCache).decrement(testUserId);
     }
 
     @Test
@@ -203,14 +313,14 @@ class NotificationServiceImplTest {
         // Given
         testNotification.setIsRead(true);
         when(notificationRepository.findById(testNotificationId)).thenReturn(Optional.of(testNotification));
-        when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
 
         // When
         notificationService.markAsRead(testNotificationId, testUserId);
 
         // Then
-        verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(notificationRepository, never()).save(any(Notification.class));
         verify(auditService, never()).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
+        verify(unreadNotificationCountCache, never()).decrement(any());
     }
 
     @Test
@@ -228,6 +338,104 @@ class NotificationServiceImplTest {
         // Then
         verify(notificationRepository).save(any(Notification.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
+        verify(unreadNotificationCountCache).increment(testUserId);
+        verify(notificationStreamRegistry).publish(argThat(response ->
+                response.getId().equals(testNotificationId) && response.getUserId().equals(testUserId)));
+        verify(emailDeliveryChannel).deliver(testUser, testNotification);
+    }
+
+    @Test
+    void markAsRead_Bulk_UpdatesOnceAndAuditsOnce() {
+        // Given
+        UUID otherId = UUID.randomUUID();
+        List<UUID> requested = List.of(testNotificationId, otherId, testNotificationId);
+        when(notificationRepository.markAsRead(eq(testUserId), any())).thenReturn(List.of(testNotificationId));
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId)).thenReturn(testUser);
+
+        // When
+        List<UUID> result = notificationService.markAsRead(testUserId, requested);
+
+        // Then
+        assertEquals(List.of(testNotificationId), result);
+        verify(notificationRepository).markAsRead(testUserId, Set.of(testNotificationId, otherId));
+        verify(unreadNotificationCountCache).decrement(testUserId, 1);
+        verify(auditService, times(1)).publishAuditLogEvent(argThat(event ->
+                event.getEntityType() == EntityType.USER && event.getEntityId().equals(testUserId)));
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    void markAsRead_Bulk_NothingChanged_SkipsAudit() {
+        // Given
+        when(notificationRepository.markAsRead(eq(testUserId), any())).thenReturn(List.of());
+
+        // When
+        List<UUID> result = notificationService.markAsRead(testUserId, List.of(testNotificationId));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(auditService, unreadNotificationCountCache);
+    }
+
+    @Test
+    void markAsRead_Bulk_EmptyOrTooMany_Throws() {
+        // Given
+        List<UUID> tooMany = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> notificationService.markAsRead(testUserId, List.of()));
+        assertThrows(BadRequestException.class, () -> notificationService.markAsRead(testUserId, tooMany));
+        verify(notificationRepository, never()).markAsRead(any(), any());
+    }
+
+    @Test
+    void markAllAsRead_UpdatesOnceAndAuditsOnce() {
+        // Given
+        List<UUID> marked = List.of(testNotificationId, UUID.randomUUID());
+        when(notificationRepository.markAllAsRead(eq(testUserId), any(LocalDateTime.class))).thenReturn(marked);
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId)).thenReturn(testUser);
+        ArgumentCaptor<AuditLogCreatedEvent> eventCaptor = ArgumentCaptor.forClass(AuditLogCreatedEvent.class);
+
+        // When
+        List<UUID> result = notificationService.markAllAsRead(testUserId);
+
+        // Then
+        assertEquals(marked, result);
+        verify(unreadNotificationCountCache).decrement(testUserId, 2);
+        verify(auditService, times(1)).publishAuditLogEvent(eventCaptor.capture());
+        assertTrue(eventCaptor.getValue().getNewValue().contains("readCutoff"));
+        assertFalse(eventCaptor.getValue().getNewValue().contains(testNotificationId.toString()));
+    }
+
+    @Test
+    void streamNotifications_RegistersStream() {
+        // Given
+        SseEmitter emitter = new SseEmitter();
+        when(notificationStreamRegistry.register(testUserId)).thenReturn(emitter);
+
+        // When
+        SseEmitter result = notificationService.streamNotifications(testUserId);
+
+        // Then
+        assertSame(emitter, result);
+    }
+
+    @Test
+    void createNotificationFromEvent_EmailQueueFails_PropagatesWithoutPublishing() {
+        // Given
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
+                .thenReturn(testUser);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
+        doThrow(new DataAccessResourceFailureException("Connection refused"))
+                .when(emailDeliveryChannel).deliver(testUser, testNotification);
+
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+                () -> notificationService.createNotificationFromEvent(testEvent));
+        verifyNoInteractions(notificationStreamRegistry, unreadNotificationCountCache);
+        verify(auditService, never()).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
     }
 
     @Test
@@ -254,6 +462,78 @@ class NotificationServiceImplTest {
         // When & Then
         assertThrows(InvalidOperationException.class,
                 () -> notificationService.createNotificationFromEvent(testEvent));
+        verifyNoInteractions(notificationStreamRegistry, emailDeliveryChannel);
+    }
+
+    @Test
+    void createNotificationFromEventPayload_DigestEnabled_DefersPersisting() {
+        // Given
+        when(notificationDigester.isEnabled()).thenReturn(true);
+
+        // When
+        notificationService.createNotificationFromEventPayload(payload());
+
+        // Then
+        verify(notificationDigester).add(argThat(event -> event.getNotificationId().equals(testNotificationId)));
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    void createNotificationFromEventPayload_DigestDisabled_PersistsDirectly() {
+        // Given
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId)).thenReturn(testUser);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
+        when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
+
+        // When
+        notificationService.createNotificationFromEventPayload(payload());
+
+        // Then
+        verify(notificationDigester, never()).add(any());
+        verify(notificationRepository).save(any(Notification.class));
+    }
+
+    @Test
+    void createNotificationFromEventPayload_DigestStoreFails_Propagates() {
+        // Given
+        when(notificationDigester.isEnabled()).thenReturn(true);
+        doThrow(new DataAccessResourceFailureException("Connection refused")).when(notificationDigester).add(any());
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> notificationService.createNotificationFromEventPayload(payload()));
+    }
+
+    @Test
+    void flushDigests_PersistsReleasedDigests() {
+        // Given
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId)).thenReturn(testUser);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
+        when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
+        doAnswer(invocation -> {
+            invocation.<Consumer<NotificationCreatedEvent>>getArgument(0).accept(testEvent);
+            return 1;
+        }).when(notificationDigester).releaseDue(any());
+
+        // When
+        notificationService.flushDigests();
+
+        // Then
+        verify(notificationRepository).save(any(Notification.class));
+    }
+
+    @Test
+    void flushDigests_PersistFails_PropagatesToDigester() {
+        // Given
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
+                .thenThrow(new ResourceNotFoundException("User not found"));
+        doAnswer(invocation -> {
+            invocation.<Consumer<NotificationCreatedEvent>>getArgument(0).accept(testEvent);
+            return 1;
+        }).when(notificationDigester).releaseDue(any());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> notificationService.flushDigests());
+        verify(notificationRepository, never()).save(any(Notification.class));
     }
 
     @Test
@@ -292,4 +572,32 @@ class NotificationServiceImplTest {
                 testEvent
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void publishNotificationEvents_PublishesOneBatch() {
+        // When
+        notificationService.publishNotificationEvents(List.of(testEvent));
+
+        // Then
+        verify(eventProducer).publishEvents(
+                eq(EntityType.NOTIFICATION.toString()),
+                eq("notification-topic"),
+                eq(List.of(testEvent)),
+                any());
+    }
+
+    @Test
+    void publishNotificationEvents_Empty_PublishesNothing() {
+        // When
+        notificationService.publishNotificationEvents(List.of());
+
+        // Then
+        verifyNoInteractions(eventProducer);
+    }
+
+    private String payload() {
+        return "{\"notificationId\":\"" + testNotificationId + "\",\"userId\":\"" + testUserId
+                + "\",\"verificationRequestId\":\"" + testVerificationId
+                + "\",\"notificationType\":\"VERIFICATION_REQUESTED\",\"message\":\"Test notification\"}";
+    }
+}
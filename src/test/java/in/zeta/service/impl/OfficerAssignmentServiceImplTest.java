@@ -1,7 +1,8 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.RoleMember;
+import in.zeta.cache.RoleRegistry;
 import in.zeta.constants.Messages;
-import in.zeta.entity.Document;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
 import in.zeta.enums.EntityType;
@@ -11,22 +12,27 @@ import in.zeta.enums.VerificationStatus;
 import in.zeta.dto.requests.events.AuditLogCreatedEvent;
 import in.zeta.dto.requests.events.NotificationCreatedEvent;
 import in.zeta.service.*;
+import in.zeta.statemachine.VerificationStateMachine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,15 +44,21 @@ class OfficerAssignmentServiceImplTest {
     @Mock
     private VerificationRequestService verificationRequestService;
 
-    @Mock
-    private DocumentService documentService;
-
     @Mock
     private UserService userService;
 
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private RoleRegistry roleRegistry;
+
+    @Mock
+    private VerificationStateMachine verificationStateMachine;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
     @InjectMocks
     private OfficerAssignemetServiceImpl officerAssignmentService;
 
@@ -55,7 +67,6 @@ class OfficerAssignmentServiceImplTest {
     private Users testOfficer;
     private Users testOfficer2;
     private VerificationRequest testVerificationRequest;
-    private Document testDocument;
 
     @BeforeEach
     void setUp() {
@@ -81,27 +92,15 @@ class OfficerAssignmentServiceImplTest {
                 .status(VerificationStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        testDocument = Document.builder()
-                .id(UUID.randomUUID())
-                .fileName("test.pdf")
-                .fileSize(new BigDecimal("2048000")) // 2MB
-                .verificationRequest(testVerificationRequest)
-                .build();
     }
 
     @Test
     void getOfficerWorkload_Success() {
         // Given
-        List<VerificationRequest> activeRequests = Arrays.asList(testVerificationRequest);
-        List<Document> documents = Arrays.asList(testDocument);
-
         when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
                 .thenReturn(testOfficer);
-        when(verificationRequestService.findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.DOCUMENT_UPLOADED))
-                .thenReturn(activeRequests);
-        when(documentService.findByVerificationRequestId(testVerificationId))
-                .thenReturn(documents);
+        when(verificationRequestService.findOfficerWorkloads(List.of(testOfficerId), VerificationStatus.IN_REVIEW))
+                .thenReturn(List.of(new OfficerWorkload(testOfficerId, 1L, 1L, new BigDecimal("2048000")))); // 2MB
 
         // When
         BigDecimal result = officerAssignmentService.getOfficerWorkload(testOfficerId);
@@ -111,16 +110,15 @@ class OfficerAssignmentServiceImplTest {
         // Expected: requestCount(1) * 10 + totalDocuments(1) * 2 + sizeInMB(1) = 13
         assertEquals(new BigDecimal("13"), result);
         verify(userService).getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId);
-        verify(verificationRequestService).findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.DOCUMENT_UPLOADED);
-        verify(documentService).findByVerificationRequestId(testVerificationId);
+        verify(verificationRequestService).findOfficerWorkloads(List.of(testOfficerId), VerificationStatus.IN_REVIEW);
     }
 
     @Test
-    void getOfficerWorkload_NoActiveRequests() {
+    void getOfficerWorkload_NoRequestsInReview() {
         // Given
         when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
                 .thenReturn(testOfficer);
-        when(verificationRequestService.findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.DOCUMENT_UPLOADED))
+        when(verificationRequestService.findOfficerWorkloads(List.of(testOfficerId), VerificationStatus.IN_REVIEW))
                 .thenReturn(Collections.emptyList());
 
         // When
@@ -129,20 +127,15 @@ class OfficerAssignmentServiceImplTest {
         // Then
         assertEquals(BigDecimal.ZERO, result);
         verify(userService).getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId);
-        verify(verificationRequestService).findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.DOCUMENT_UPLOADED);
     }
 
     @Test
     void getOfficerWorkload_NoDocuments() {
         // Given
-        List<VerificationRequest> activeRequests = Arrays.asList(testVerificationRequest);
-
         when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
                 .thenReturn(testOfficer);
-        when(verificationRequestService.findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.DOCUMENT_UPLOADED))
-                .thenReturn(activeRequests);
-        when(documentService.findByVerificationRequestId(testVerificationId))
-                .thenReturn(Collections.emptyList());
+        when(verificationRequestService.findOfficerWorkloads(List.of(testOfficerId), VerificationStatus.IN_REVIEW))
+                .thenReturn(List.of(new OfficerWorkload(testOfficerId, 1L, 0L, null)));
 
         // When
         BigDecimal result = officerAssignmentService.getOfficerWorkload(testOfficerId);
@@ -155,36 +148,65 @@ class OfficerAssignmentServiceImplTest {
     @Test
     void assignOfficerToVerification_Success() {
         // Given
-        List<Users> availableOfficers = Arrays.asList(testOfficer, testOfficer2);
+        List<RoleMember> availableOfficers = Arrays.asList(toMember(testOfficer), toMember(testOfficer2));
 
         when(verificationRequestService.getByIdOrThrow(testVerificationId))
                 .thenReturn(testVerificationRequest);
-        when(userService.findByRole(Role.VERIFICATION_OFFICER))
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
                 .thenReturn(availableOfficers);
         when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
                 .thenReturn(testOfficer);
-        when(userService.getByIdOrThrow(testOfficer2.getId(), "Officer not found " + testOfficer2.getId()))
-                .thenReturn(testOfficer2);
-        when(verificationRequestService.findByAssignedOfficerAndStatus(any(Users.class), eq(VerificationStatus.DOCUMENT_UPLOADED)))
-                .thenReturn(Collections.emptyList());
+
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.IN_REVIEW))
+                .thenReturn(inReview());
 
         // When
         officerAssignmentService.assignOfficerToVerification(testVerificationId);
 
         // Then
-        assertEquals(VerificationStatus.IN_REVIEW, testVerificationRequest.getStatus());
         assertNotNull(testVerificationRequest.getAssignedOfficer());
         verify(verificationRequestService).saveVerificationRequest(testVerificationRequest);
+        verify(verificationStateMachine).transition(testVerificationId, VerificationStatus.IN_REVIEW);
+        verify(statusHistoryService).publishStatusUpdateEvent(argThat(event ->
+                event.getVerificationRequestId().equals(testVerificationId)
+                        && event.getFromStatus() == VerificationStatus.DOCUMENT_UPLOADED
+                        && event.getToStatus() == VerificationStatus.IN_REVIEW));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService).publishNotificationEvent(any(NotificationCreatedEvent.class));
     }
 
+    @Test
+    void assignOfficerToVerification_PublishesTransitionOnlyAfterCommit() {
+        // Given
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
+                .thenReturn(List.of(toMember(testOfficer)));
+        when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
+                .thenReturn(testOfficer);
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.IN_REVIEW))
+                .thenReturn(inReview());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            officerAssignmentService.assignOfficerToVerification(testVerificationId);
+
+            // Then
+            verify(statusHistoryService, never()).publishStatusUpdateEvent(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(statusHistoryService).publishStatusUpdateEvent(argThat(event ->
+                    event.getToStatus() == VerificationStatus.IN_REVIEW));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void assignOfficerToVerification_NoOfficersAvailable() {
         // Given
         when(verificationRequestService.getByIdOrThrow(testVerificationId))
                 .thenReturn(testVerificationRequest);
-        when(userService.findByRole(Role.VERIFICATION_OFFICER))
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
                 .thenReturn(Collections.emptyList());
 
         // When & Then
@@ -200,36 +222,127 @@ class OfficerAssignmentServiceImplTest {
     @Test
     void assignOfficerToVerification_SelectsOfficerWithLowerWorkload() {
         // Given
-        List<Users> availableOfficers = Arrays.asList(testOfficer, testOfficer2);
-        List<VerificationRequest> officer1Requests = Arrays.asList(testVerificationRequest);
+        List<RoleMember> availableOfficers = Arrays.asList(toMember(testOfficer), toMember(testOfficer2));
 
         when(verificationRequestService.getByIdOrThrow(testVerificationId))
                 .thenReturn(testVerificationRequest);
-        when(userService.findByRole(Role.VERIFICATION_OFFICER))
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
                 .thenReturn(availableOfficers);
-        when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
-                .thenReturn(testOfficer);
         when(userService.getByIdOrThrow(testOfficer2.getId(), "Officer not found " + testOfficer2.getId()))
                 .thenReturn(testOfficer2);
 
-        // Officer 1 has higher workload
-        when(verificationRequestService.findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.DOCUMENT_UPLOADED))
-                .thenReturn(officer1Requests);
-        when(documentService.findByVerificationRequestId(testVerificationId))
-                .thenReturn(Arrays.asList(testDocument));
+        // Officer 1 has a request in review, officer 2 has none
+        when(verificationRequestService.findOfficerWorkloads(
+                List.of(testOfficerId, testOfficer2.getId()), VerificationStatus.IN_REVIEW))
+                .thenReturn(List.of(new OfficerWorkload(testOfficerId, 1L, 1L, new BigDecimal("2048000"))));
 
-        // Officer 2 has lower workload
-        when(verificationRequestService.findByAssignedOfficerAndStatus(testOfficer2, VerificationStatus.DOCUMENT_UPLOADED))
-                .thenReturn(Collections.emptyList());
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.IN_REVIEW))
+                .thenReturn(inReview());
 
         // When
         officerAssignmentService.assignOfficerToVerification(testVerificationId);
 
         // Then
         assertEquals(testOfficer2, testVerificationRequest.getAssignedOfficer());
-        assertEquals(VerificationStatus.IN_REVIEW, testVerificationRequest.getStatus());
+        verify(verificationRequestService, times(1)).findOfficerWorkloads(any(), any());
+        verify(verificationRequestService, never()).findByAssignedOfficerAndStatus(any(), any());
+        verify(userService, never()).getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId);
+        verify(verificationStateMachine).transition(testVerificationId, VerificationStatus.IN_REVIEW);
         verify(verificationRequestService).saveVerificationRequest(testVerificationRequest);
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService).publishNotificationEvent(any(NotificationCreatedEvent.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void assignOfficerToVerification_DoesNotScanUsersByRole() {
+        // Given
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
+                .thenReturn(List.of(toMember(testOfficer)));
+        when(userService.getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId))
+                .thenReturn(testOfficer);
+
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.IN_REVIEW))
+                .thenReturn(inReview());
+
+        // When
+        officerAssignmentService.assignOfficerToVerification(testVerificationId);
+
+        // Then
+        assertEquals(testOfficer, testVerificationRequest.getAssignedOfficer());
+        verify(userService, never()).findByRole(any());
+    }
+
+    @Test
+    void reassignOfficer_HandsToLeastLoadedOtherOfficer() {
+        // Given
+        testVerificationRequest.setAssignedOfficer(testOfficer);
+        testVerificationRequest.setStatus(VerificationStatus.IN_REVIEW);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
+                .thenReturn(List.of(toMember(testOfficer), toMember(testOfficer2)));
+
+        // When
+        Optional<UUID> reassignedTo = officerAssignmentService.reassignOfficer(testVerificationId);
+
+        // Then
+        assertEquals(Optional.of(testOfficer2.getId()), reassignedTo);
+        verify(verificationRequestService).assignToOfficer(testVerificationId, testOfficer2.getId());
+        verify(userService, never()).getByIdOrThrow(testOfficerId, "Officer not found " + testOfficerId);
+    }
+
+    @Test
+    void reassignOfficer_NoCurrentOfficer_AssignsSelectedOfficer() {
+        // Given
+        testVerificationRequest.setStatus(VerificationStatus.IN_REVIEW);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
+                .thenReturn(List.of(toMember(testOfficer), toMember(testOfficer2)));
+        when(userService.getByIdOrThrow(testOfficer2.getId(), "Officer not found " + testOfficer2.getId()))
+                .thenReturn(testOfficer2);
+        when(verificationRequestService.findOfficerWorkloads(
+                List.of(testOfficerId, testOfficer2.getId()), VerificationStatus.IN_REVIEW))
+                .thenReturn(List.of(new OfficerWorkload(testOfficerId, 1L, 0L, null)));
+
+        // When
+        Optional<UUID> reassignedTo = officerAssignmentService.reassignOfficer(testVerificationId);
+
+        // Then
+        assertEquals(Optional.of(testOfficer2.getId()), reassignedTo);
+        assertEquals(testOfficer2, testVerificationRequest.getAssignedOfficer());
+        verify(verificationRequestService, times(1)).getByIdOrThrow(testVerificationId);
+        verify(verificationRequestService).saveVerificationRequest(testVerificationRequest);
+        verify(verificationStateMachine, never()).transition(any(), any());
+        verify(notificationService).publishNotificationEvent(argThat(event -> event.getUserId().equals(testOfficer2.getId())));
+    }
+
+    @Test
+    void reassignOfficer_NoOtherOfficer_ReturnsEmpty() {
+        // Given
+        testVerificationRequest.setAssignedOfficer(testOfficer);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId))
+                .thenReturn(testVerificationRequest);
+        when(roleRegistry.members(Role.VERIFICATION_OFFICER))
+                .thenReturn(List.of(toMember(testOfficer)));
+
+        // When
+        Optional<UUID> reassignedTo = officerAssignmentService.reassignOfficer(testVerificationId);
+
+        // Then
+        assertTrue(reassignedTo.isEmpty());
+        verify(verificationRequestService, never()).assignToOfficer(any(), any());
+        verify(verificationRequestService, never()).saveVerificationRequest(any());
+    }
+
+    private static VerificationStateMachine.Transition inReview() {
+        return new VerificationStateMachine.Transition(
+                VerificationStatus.DOCUMENT_UPLOADED, VerificationStatus.IN_REVIEW, LocalDateTime.now());
+    }
+
+    private static RoleMember toMember(Users user) {
+        return new RoleMember(user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+    }
+}
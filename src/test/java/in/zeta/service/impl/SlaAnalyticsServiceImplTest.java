@@ -0,0 +1,123 @@
+package in.zeta.service.impl;
+
+import in.zeta.analytics.DurationSketch;
+import in.zeta.dto.response.SlaMetricSummary;
+import in.zeta.dto.response.SlaReportResponse;
+import in.zeta.enums.SlaDimension;
+import in.zeta.enums.SlaMetric;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.exception.BadRequestException;
+import in.zeta.exception.InvalidOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlaAnalyticsServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private SlaAnalyticsServiceImpl slaAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(slaAnalyticsService, "maxRangeDays", 366);
+    }
+
+    @Test
+    void getSlaReport_MergesBucketsPerMetricAndStatus() throws Exception {
+        // Given
+        UUID officerId = UUID.randomUUID();
+        when(resultSet.getString("metric")).thenReturn("TIME_IN_STATUS", "TIME_IN_STATUS", "TURNAROUND");
+        when(resultSet.getString("status")).thenReturn("IN_REVIEW", "IN_REVIEW", "APPROVED");
+        when(resultSet.getInt("bucket")).thenReturn(
+                DurationSketch.bucketOf(600), DurationSketch.bucketOf(7_200), DurationSketch.bucketOf(86_400));
+        when(resultSet.getLong("sample_count")).thenReturn(3L, 1L, 2L);
+        when(resultSet.getLong("total_seconds")).thenReturn(1_800L, 7_200L, 172_800L);
+        when(resultSet.getLong("max_seconds")).thenReturn(600L, 7_200L, 86_400L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // When
+        SlaReportResponse report = slaAnalyticsService.getSlaReport(SlaDimension.OFFICER, officerId, FROM, TO);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowCallbackHandler.class), args.capture());
+        assertTrue(sql.getValue().contains("dimension_id = ?"));
+        assertArrayEquals(new Object[]{"OFFICER", Date.valueOf(FROM), Date.valueOf(TO), officerId}, args.getValue());
+
+        assertEquals(2, report.getMetrics().size());
+        SlaMetricSummary inReview = report.getMetrics().get(0);
+        assertEquals(SlaMetric.TIME_IN_STATUS, inReview.getMetric());
+        assertEquals(VerificationStatus.IN_REVIEW, inReview.getStatus());
+        assertEquals(4, inReview.getCount());
+        assertEquals(2_250.0, inReview.getMeanSeconds());
+        assertEquals(600, inReview.getP50Seconds(), 600 * 0.02);
+        assertEquals(7_200, inReview.getMaxSeconds());
+        SlaMetricSummary turnaround = report.getMetrics().get(1);
+        assertEquals(SlaMetric.TURNAROUND, turnaround.getMetric());
+        assertEquals(2, turnaround.getCount());
+        assertEquals(86_400, turnaround.getP99Seconds(), 86_400 * 0.02);
+    }
+
+    @Test
+    void getSlaReport_WholeDimension_DoesNotFilterById() {
+        // When
+        SlaReportResponse report = slaAnalyticsService.getSlaReport(SlaDimension.REQUESTOR, null, FROM, TO);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowCallbackHandler.class), any(Object[].class));
+        assertFalse(sql.getValue().contains("dimension_id"));
+        assertTrue(report.getMetrics().isEmpty());
+        assertNull(report.getDimensionId());
+    }
+
+    @Test
+    void getSlaReport_FromAfterTo_Throws() {
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+                () -> slaAnalyticsService.getSlaReport(SlaDimension.OFFICER, null, TO, FROM));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void getSlaReport_RangeTooLong_Throws() {
+        // When & Then
+        assertThrows(BadRequestException.class,
+                () -> slaAnalyticsService.getSlaReport(SlaDimension.OFFICER, null, FROM, FROM.plusDays(366)));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
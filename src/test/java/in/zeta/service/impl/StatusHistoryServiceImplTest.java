@@ -1,5 +1,7 @@
 package in.zeta.service.impl;
 
+import in.zeta.analytics.SlaAggregator;
+import in.zeta.deadline.RequestDeadlineQueue;
 import in.zeta.entity.StatusHistory;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequest;
@@ -19,6 +21,8 @@ import in.zeta.service.VerificationRequestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,10 +32,14 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +63,12 @@ class StatusHistoryServiceImplTest {
     @Mock
     private EventProducer eventProducer;
 
+    @Mock
+    private SlaAggregator slaAggregator;
+
+    @Mock
+    private RequestDeadlineQueue requestDeadlineQueue;
+
     @InjectMocks
     private StatusHistoryServiceImpl statusHistoryService;
 
@@ -161,16 +175,16 @@ class StatusHistoryServiceImplTest {
     @Test
     void getLatestStatus_Success() {
         // Given
-        when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
-        when(statusHistoryRepository.findLatestStatusHistory(testVerificationRequest))
-                .thenReturn(Optional.of(testStatusHistory));
+        when(statusHistoryRepository.findLatestStatus(testVerificationId))
+                .thenReturn(Optional.of(VerificationStatus.APPROVED));
 
         // When
         VerificationStatus result = statusHistoryService.getLatestStatus(testVerificationId);
 
         // Then
         assertEquals(VerificationStatus.APPROVED, result);
-        verify(statusHistoryRepository).findLatestStatusHistory(testVerificationRequest);
+        verify(statusHistoryRepository).findLatestStatus(testVerificationId);
+        verifyNoInteractions(verificationRequestService);
     }
 
     @Test
@@ -182,7 +196,7 @@ class StatusHistoryServiceImplTest {
 
         when(verificationRequestService.getByIdOrThrow(verificationRequestId))
                 .thenReturn(mockVerificationRequest);
-        when(statusHistoryRepository.findLatestStatusHistory(mockVerificationRequest))
+        when(statusHistoryRepository.findLatestStatus(verificationRequestId))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -195,7 +209,7 @@ class StatusHistoryServiceImplTest {
                 exception.getMessage().contains(verificationRequestId.toString()));
 
         verify(verificationRequestService).getByIdOrThrow(verificationRequestId);
-        verify(statusHistoryRepository).findLatestStatusHistory(mockVerificationRequest);
+        verify(statusHistoryRepository).findLatestStatus(verificationRequestId);
     }
 
     @Test
@@ -236,13 +250,13 @@ class StatusHistoryServiceImplTest {
         when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
         when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
                 .thenReturn(testUser);
-        when(statusHistoryRepository.save(any(StatusHistory.class))).thenReturn(testStatusHistory);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.of(testStatusHistory));
 
         // When
         statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
 
         // Then
-        verify(statusHistoryRepository).save(any(StatusHistory.class));
+        verify(statusHistoryRepository).saveTransition(any(StatusHistory.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService).publishNotificationEvent(any(NotificationCreatedEvent.class));
     }
@@ -254,13 +268,13 @@ class StatusHistoryServiceImplTest {
         when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
         when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
                 .thenReturn(testUser);
-        when(statusHistoryRepository.save(any(StatusHistory.class))).thenReturn(testStatusHistory);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.of(testStatusHistory));
 
         // When
         statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
 
         // Then
-        verify(statusHistoryRepository).save(any(StatusHistory.class));
+        verify(statusHistoryRepository).saveTransition(any(StatusHistory.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService).publishNotificationEvent(any(NotificationCreatedEvent.class));
         assertNotNull(testVerificationRequest.getApprovedAt());
@@ -273,13 +287,13 @@ class StatusHistoryServiceImplTest {
         when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
         when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
                 .thenReturn(testUser);
-        when(statusHistoryRepository.save(any(StatusHistory.class))).thenReturn(testStatusHistory);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.of(testStatusHistory));
 
         // When
         statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
 
         // Then
-        verify(statusHistoryRepository).save(any(StatusHistory.class));
+        verify(statusHistoryRepository).saveTransition(any(StatusHistory.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService).publishNotificationEvent(any(NotificationCreatedEvent.class));
         assertNotNull(testVerificationRequest.getRejectedAt());
@@ -293,13 +307,13 @@ class StatusHistoryServiceImplTest {
         when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
         when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
                 .thenReturn(testUser);
-        when(statusHistoryRepository.save(any(StatusHistory.class))).thenReturn(testStatusHistory);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.of(testStatusHistory));
 
         // When
         statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
 
         // Then
-        verify(statusHistoryRepository).save(any(StatusHistory.class));
+        verify(statusHistoryRepository).saveTransition(any(StatusHistory.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService, times(2)).publishNotificationEvent(any(NotificationCreatedEvent.class));
     }
@@ -312,14 +326,264 @@ class StatusHistoryServiceImplTest {
         when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
         when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
                 .thenReturn(testUser);
-        when(statusHistoryRepository.save(any(StatusHistory.class))).thenReturn(testStatusHistory);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.of(testStatusHistory));
 
         // When
         statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
 
         // Then
-        verify(statusHistoryRepository).save(any(StatusHistory.class));
+        verify(statusHistoryRepository).saveTransition(any(StatusHistory.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
         verify(notificationService, times(2)).publishNotificationEvent(any(NotificationCreatedEvent.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateStatusHistories_ResolvesReferencesOnceAndPublishesInBulk() {
+        // Given
+        testVerificationRequest.setRequestor(testUser);
+        StatusUpdateEvent uploaded = StatusUpdateEvent.builder()
+                .id(UUID.randomUUID())
+                .verificationRequestId(testVerificationId)
+                .changedBy(testUserId)
+                .fromStatus(VerificationStatus.IN_REVIEW)
+                .toStatus(VerificationStatus.DOCUMENT_UPLOADED)
+                .changedAt(LocalDateTime.now())
+                .build();
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        statusHistoryService.updateStatusHistories(List.of(testStatusUpdateEvent, uploaded));
+
+        // Then
+        ArgumentCaptor<List<StatusHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository).saveTransitions(histories.capture());
+        assertEquals(List.of(testStatusUpdateEvent.getId(), uploaded.getId()),
+                histories.getValue().stream().map(StatusHistory::getId).toList());
+        verify(verificationRequestService, never()).getByIdOrThrow(any());
+        verify(userService, never()).getByIdOrThrow(any(), any());
+
+        ArgumentCaptor<List<AuditLogCreatedEvent>> auditEvents = ArgumentCaptor.forClass(List.class);
+        verify(auditService).publishAuditLogEvents(auditEvents.capture());
+        assertEquals(2, auditEvents.getValue().size());
+
+        ArgumentCaptor<List<NotificationCreatedEvent>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).publishNotificationEvents(notifications.capture());
+        assertEquals(List.of(testCustomerId, testUserId, testOfficerId),
+                notifications.getValue().stream().map(NotificationCreatedEvent::getUserId).toList());
+        verify(notificationService, never()).publishNotificationEvent(any());
+    }
+
+    @Test
+    void updateStatusHistories_UnknownReference_RejectsOnlyThatEvent() {
+        // Given
+        UUID unknownVerificationId = UUID.randomUUID();
+        StatusUpdateEvent orphan = StatusUpdateEvent.builder()
+                .id(UUID.randomUUID())
+                .verificationRequestId(unknownVerificationId)
+                .changedBy(testUserId)
+                .toStatus(VerificationStatus.APPROVED)
+                .build();
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId, unknownVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<StatusUpdateEvent> rejected = statusHistoryService.updateStatusHistories(List.of(orphan, testStatusUpdateEvent));
+
+        // Then
+        assertEquals(List.of(orphan), rejected);
+        ArgumentCaptor<List<StatusHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository).saveTransitions(histories.capture());
+        assertEquals(1, histories.getValue().size());
+        assertEquals(testStatusUpdateEvent.getId(), histories.getValue().get(0).getId());
+
+        ArgumentCaptor<List<NotificationCreatedEvent>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).publishNotificationEvents(notifications.capture());
+        assertEquals(1, notifications.getValue().size());
+        assertEquals(NotificationType.VERIFICATION_APPROVED, notifications.getValue().get(0).getNotificationType());
+    }
+
+    @Test
+    void updateStatusHistories_FeedsSlaInTransitionOrder() {
+        // Given
+        LocalDateTime lastTransitionAt = LocalDateTime.now().minusHours(3);
+        LocalDateTime inReviewAt = lastTransitionAt.plusHours(1);
+        LocalDateTime approvedAt = lastTransitionAt.plusHours(2);
+        testVerificationRequest.setLatestStatusAt(lastTransitionAt);
+        StatusUpdateEvent inReview = StatusUpdateEvent.builder()
+                .id(UUID.randomUUID())
+                .verificationRequestId(testVerificationId)
+                .changedBy(testUserId)
+                .fromStatus(VerificationStatus.PENDING)
+                .toStatus(VerificationStatus.IN_REVIEW)
+                .changedAt(inReviewAt)
+                .build();
+        testStatusUpdateEvent.setFromStatus(VerificationStatus.IN_REVIEW);
+        testStatusUpdateEvent.setChangedAt(approvedAt);
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(slaAggregator.record(any(StatusHistory.class), any(LocalDateTime.class))).thenReturn(true);
+
+        // When
+        statusHistoryService.updateStatusHistories(List.of(testStatusUpdateEvent, inReview));
+
+        // Then
+        InOrder inOrder = inOrder(slaAggregator);
+        inOrder.verify(slaAggregator).record(argThat(history -> history.getChangedAt().equals(inReviewAt)),
+                eq(lastTransitionAt));
+        inOrder.verify(slaAggregator).record(argThat(history -> history.getChangedAt().equals(approvedAt)),
+                eq(inReviewAt));
+    }
+
+    @Test
+    void updateStatusHistories_TracksDeadlinesAfterSaving() {
+        // Given
+        testStatusUpdateEvent.setToStatus(VerificationStatus.IN_REVIEW);
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        statusHistoryService.updateStatusHistories(List.of(testStatusUpdateEvent));
+
+        // Then
+        InOrder inOrder = inOrder(statusHistoryRepository, requestDeadlineQueue);
+        inOrder.verify(statusHistoryRepository).saveTransitions(anyList());
+        inOrder.verify(requestDeadlineQueue).track(argThat(histories -> histories.size() == 1
+                && histories.get(0).getToStatus() == VerificationStatus.IN_REVIEW));
+    }
+
+    @Test
+    void updateStatusHistory_DeadlineTrackingFails_StillNotifies() {
+        // Given
+        testStatusUpdateEvent.setToStatus(VerificationStatus.PENDING);
+        when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
+                .thenReturn(testUser);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.of(testStatusHistory));
+        doThrow(new RuntimeException("db down")).when(requestDeadlineQueue).track(List.of(testStatusHistory));
+
+        // When
+        statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
+
+        // Then
+        verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
+        verify(notificationService).publishNotificationEvent(any(NotificationCreatedEvent.class));
+    }
+
+    @Test
+    void updateStatusHistory_AlreadyRecorded_SkipsSideEffects() {
+        // Given
+        when(verificationRequestService.getByIdOrThrow(testVerificationId)).thenReturn(testVerificationRequest);
+        when(userService.getByIdOrThrow(testUserId, "User not found with ID: " + testUserId))
+                .thenReturn(testUser);
+        when(statusHistoryRepository.saveTransition(any(StatusHistory.class))).thenReturn(Optional.empty());
+
+        // When
+        statusHistoryService.updateStatusHistory(testStatusUpdateEvent);
+
+        // Then
+        verifyNoInteractions(auditService, notificationService, requestDeadlineQueue, slaAggregator);
+    }
+
+    @Test
+    void updateStatusHistories_AlreadyRecorded_PublishesOnlyNewTransitions() {
+        // Given
+        StatusUpdateEvent redelivered = StatusUpdateEvent.builder()
+                .id(UUID.randomUUID())
+                .verificationRequestId(testVerificationId)
+                .changedBy(testUserId)
+                .fromStatus(VerificationStatus.PENDING)
+                .toStatus(VerificationStatus.IN_REVIEW)
+                .changedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> {
+            List<StatusHistory> histories = invocation.getArgument(0);
+            return histories.subList(1, histories.size());
+        });
+
+        // When
+        List<StatusUpdateEvent> rejected = statusHistoryService.updateStatusHistories(List.of(redelivered, testStatusUpdateEvent));
+
+        // Then
+        assertTrue(rejected.isEmpty());
+        ArgumentCaptor<List<AuditLogCreatedEvent>> auditEvents = ArgumentCaptor.forClass(List.class);
+        verify(auditService).publishAuditLogEvents(auditEvents.capture());
+        assertEquals(List.of(testStatusUpdateEvent.getId()),
+                auditEvents.getValue().stream().map(AuditLogCreatedEvent::getEntityId).toList());
+        ArgumentCaptor<List<NotificationCreatedEvent>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).publishNotificationEvents(notifications.capture());
+        assertEquals(1, notifications.getValue().size());
+        assertEquals(NotificationType.VERIFICATION_APPROVED, notifications.getValue().get(0).getNotificationType());
+    }
+
+    @Test
+    void updateStatusHistories_UploadBeforeAssignment_NotifiesRequestorOnly() {
+        // Given
+        testVerificationRequest.setRequestor(testUser);
+        testVerificationRequest.setAssignedOfficer(null);
+        StatusUpdateEvent uploaded = StatusUpdateEvent.builder()
+                .id(UUID.randomUUID())
+                .verificationRequestId(testVerificationId)
+                .changedBy(testUserId)
+                .fromStatus(VerificationStatus.PENDING)
+                .toStatus(VerificationStatus.DOCUMENT_UPLOADED)
+                .changedAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<StatusUpdateEvent> rejected = statusHistoryService.updateStatusHistories(List.of(uploaded, testStatusUpdateEvent));
+
+        // Then
+        assertTrue(rejected.isEmpty());
+        ArgumentCaptor<List<AuditLogCreatedEvent>> auditEvents = ArgumentCaptor.forClass(List.class);
+        verify(auditService).publishAuditLogEvents(auditEvents.capture());
+        assertEquals(2, auditEvents.getValue().size());
+        ArgumentCaptor<List<NotificationCreatedEvent>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).publishNotificationEvents(notifications.capture());
+        assertEquals(List.of(testUserId, testCustomerId),
+                notifications.getValue().stream().map(NotificationCreatedEvent::getUserId).toList());
+    }
+
+    @Test
+    void updateStatusHistories_PublishFails_DoesNotFailIngest() {
+        // Given
+        when(verificationRequestService.getAllWithParticipants(Set.of(testVerificationId)))
+                .thenReturn(List.of(testVerificationRequest));
+        when(userService.getByIds(Set.of(testUserId))).thenReturn(List.of(testUser));
+        when(statusHistoryRepository.saveTransitions(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new RuntimeException("broker down")).when(auditService).publishAuditLogEvents(anyList());
+
+        // When
+        List<StatusUpdateEvent> rejected = statusHistoryService.updateStatusHistories(List.of(testStatusUpdateEvent));
+
+        // Then
+        assertTrue(rejected.isEmpty());
+        verify(statusHistoryRepository).saveTransitions(anyList());
+        verify(notificationService).publishNotificationEvents(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void updateStatusHistories_Empty_DoesNothing() {
+        // When
+        statusHistoryService.updateStatusHistories(List.of());
+
+        // Then
+        verifyNoInteractions(verificationRequestService, userService, statusHistoryRepository,
+                auditService, notificationService, requestDeadlineQueue);
+    }
+}
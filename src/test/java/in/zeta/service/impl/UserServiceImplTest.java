@@ -1,5 +1,7 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.RoleRegistry;
+import in.zeta.cache.UserCache;
 import in.zeta.constants.Messages;
 import in.zeta.entity.Users;
 import in.zeta.enums.AuditAction;
@@ -14,6 +16,7 @@ import in.zeta.dto.requests.UserRegistrationRequest;
 import in.zeta.dto.response.UserResponse;
 import in.zeta.service.AuditService;
 import in.zeta.spectra.capture.SpectraLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -45,6 +49,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private RoleRegistry roleRegistry;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -99,6 +109,7 @@ class UserServiceImplTest {
         assertEquals(testUser.getEmail(), result.getEmail());
         assertEquals(testUser.getRole(), result.getRole());
         verify(usersRepository).save(any(Users.class));
+        verify(roleRegistry).upsert(testUser);
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
     }
 
@@ -174,6 +185,27 @@ class UserServiceImplTest {
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
     }
 
+    @Test
+    void authenticateUser_Success_AuditsLoginNotRoleChange() {
+        // Given
+        String email = "test@example.com";
+        String password = "password123";
+
+        when(usersRepository.findByEmail(email)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(password, testUser.getPassword())).thenReturn(true);
+
+        // When
+        userService.authenticateUser(email, password);
+
+        // Then
+        verify(auditService).publishAuditLogEvent(argThat(event ->
+                event.getAction() == AuditAction.USER_LOGIN
+                        && event.getEntityType() == EntityType.USER
+                        && event.getEntityId().equals(testUserId)));
+        verify(auditService, never()).publishAuditLogEvent(argThat(event ->
+                event.getAction() == AuditAction.USER_ROLE_CHANGED));
+    }
+
     @Test
     void authenticateUser_UserNotFound() {
         // Given
@@ -234,7 +266,8 @@ class UserServiceImplTest {
         assertNotNull(result);
         assertEquals(newRole, result.getRole());
         verify(usersRepository).save(any(Users.class));
-        verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
+        verify(roleRegistry).upsert(updatedUser);
+        verify(auditService).publishAuditLogEvent(argThat(event -> event.getAction() == AuditAction.USER_ROLE_CHANGED));
     }
 
     @Test
@@ -365,4 +398,115 @@ class UserServiceImplTest {
                 exception.getMessage().contains(testUserId.toString()));
         verify(usersRepository).findById(testUserId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getByIdOrThrow_CacheEnabled_LoadsOnce() {
+        // Given
+        enableRealUserCache();
+        when(usersRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+
+        // When
+        userService.getByIdOrThrow(testUserId, "User not found");
+        Users result = userService.getByIdOrThrow(testUserId, "User not found");
+
+        // Then
+        assertEquals(testUserId, result.getId());
+        verify(usersRepository, times(1)).findById(testUserId);
+    }
+
+    @Test
+    void getByIdOrThrow_CacheEnabled_CallerChangesDoNotLeakIntoCache() {
+        // Given
+        enableRealUserCache();
+        when(usersRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+
+        // When
+        userService.getByIdOrThrow(testUserId, "User not found").setRole(Role.ADMIN);
+        Users result = userService.getByIdOrThrow(testUserId, "User not found");
+
+        // Then
+        assertEquals(Role.CUSTOMER, result.getRole());
+        assertNull(result.getPassword());
+    }
+
+    @Test
+    void getByIdOrThrow_CacheEnabled_MissIsNotCached() {
+        // Given
+        enableRealUserCache();
+        when(usersRepository.findById(testUserId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> userService.getByIdOrThrow(testUserId, "User not found"));
+        assertThrows(ResourceNotFoundException.class, () -> userService.getByIdOrThrow(testUserId, "User not found"));
+        verify(usersRepository, times(2)).findById(testUserId);
+    }
+
+    @Test
+    void updateUserRole_CacheEnabled_InvalidatesEntry() {
+        // Given
+        enableRealUserCache();
+        when(usersRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        userService.getByIdOrThrow(testUserId, "User not found");
+
+        Users updatedUser = Users.builder()
+                .id(testUserId)
+                .username("testuser")
+                .email("test@example.com")
+                .password("encodedPassword")
+                .role(Role.ADMIN)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(usersRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(usersRepository.save(any(Users.class))).thenReturn(updatedUser);
+
+        // When
+        userService.updateUserRole("test@example.com", Role.ADMIN);
+        userService.getByIdOrThrow(testUserId, "User not found");
+
+        // Then
+        verify(usersRepository, times(2)).findById(testUserId);
+    }
+
+    @Test
+    void getByIds_CacheEnabled_LoadsOnlyMissingIds() {
+        // Given
+        enableRealUserCache();
+        Users otherUser = Users.builder()
+                .id(UUID.randomUUID())
+                .username("otheruser")
+                .email("other@example.com")
+                .password("encodedPassword")
+                .role(Role.CUSTOMER)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(usersRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(usersRepository.findAllById(List.of(otherUser.getId()))).thenReturn(List.of(otherUser));
+        userService.getByIdOrThrow(testUserId, "User not found");
+
+        // When
+        List<Users> result = userService.getByIds(List.of(testUserId, otherUser.getId()));
+
+        // Then
+        assertEquals(2, result.size());
+        verify(usersRepository).findAllById(List.of(otherUser.getId()));
+    }
+
+    @Test
+    void getByIds_CacheDisabled_QueriesRepository() {
+        // Given
+        List<UUID> ids = List.of(testUserId);
+        when(usersRepository.findAllById(ids)).thenReturn(List.of(testUser));
+
+        // When
+        List<Users> result = userService.getByIds(ids);
+
+        // Then
+        assertEquals(List.of(testUser), result);
+        verifyNoInteractions(userCache);
+    }
+
+    private void enableRealUserCache() {
+        ReflectionTestUtils.setField(userService, "userCache", new UserCache(new SimpleMeterRegistry(), 100, 60));
+        ReflectionTestUtils.setField(userService, "userCacheEnabled", true);
+    }
+}
@@ -1,5 +1,6 @@
 package in.zeta.service.impl;
 
+import in.zeta.cache.RequestLimitQuotaCache;
 import in.zeta.entity.Users;
 import in.zeta.entity.VerificationRequestLimit;
 import in.zeta.enums.Role;
@@ -16,6 +17,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -26,6 +29,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,9 @@ class VerificationRequestLimitServiceImplTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private RequestLimitQuotaCache quotaCache;
+
     @Mock
     private SpectraLogger logger;
 
@@ -340,4 +347,140 @@ class VerificationRequestLimitServiceImplTest {
         assertEquals(1, testLimit.getTotalRequests());
         verify(verificationRequestLimitRepository).save(testLimit);
     }
-}
\ No newline at end of file
+
+    @Test
+    void canCreateVerificationRequest_QuotaCacheEnabled_UsesCachedCounter() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        when(quotaCache.getOrLoad(testCustomerId, testRequestorId, currentYear))
+                .thenReturn(new RequestLimitQuotaCache.QuotaCounter(5, 20, 50));
+
+        // When
+        boolean result = verificationRequestLimitService.canCreateVerificationRequest(testCustomer, testRequestor);
+
+        // Then
+        assertTrue(result);
+        verifyNoInteractions(verificationRequestLimitRepository);
+    }
+
+    @Test
+    void canCreateVerificationRequest_QuotaCacheEnabled_ExceededTotalLimit() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        when(quotaCache.getOrLoad(testCustomerId, testRequestorId, currentYear))
+                .thenReturn(new RequestLimitQuotaCache.QuotaCounter(5, 50, 50));
+
+        // When
+        boolean result = verificationRequestLimitService.canCreateVerificationRequest(testCustomer, testRequestor);
+
+        // Then
+        assertFalse(result);
+    }
+
+    @Test
+    void incrementRequestCount_QuotaCacheEnabled_DelegatesToCache() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+
+        // When
+        verificationRequestLimitService.incrementRequestCount(testCustomer, testRequestor);
+
+        // Then
+        verify(quotaCache).increment(testCustomerId, testRequestorId, currentYear, 10);
+        verifyNoInteractions(verificationRequestLimitRepository);
+    }
+
+    @Test
+    void tryAcquireRequest_QuotaCacheEnabled_ReleasesOnRollback() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        when(quotaCache.tryAcquire(testCustomerId, testRequestorId, currentYear, 1, 10)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            boolean acquired = verificationRequestLimitService.tryAcquireRequest(testCustomer, testRequestor);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertTrue(acquired);
+            verify(quotaCache).release(testCustomerId, testRequestorId, currentYear, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tryAcquireRequest_QuotaCacheEnabled_KeepsCountOnCommit() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        when(quotaCache.tryAcquire(testCustomerId, testRequestorId, currentYear, 1, 10)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            verificationRequestLimitService.tryAcquireRequest(testCustomer, testRequestor);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            verify(quotaCache, never()).release(any(), any(), anyInt(), anyInt());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tryAcquireRequest_QuotaCacheEnabled_LimitReached() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        when(quotaCache.tryAcquire(testCustomerId, testRequestorId, currentYear, 1, 10)).thenReturn(false);
+
+        // When
+        boolean acquired = verificationRequestLimitService.tryAcquireRequest(testCustomer, testRequestor);
+
+        // Then
+        assertFalse(acquired);
+        verifyNoInteractions(verificationRequestLimitRepository);
+    }
+
+    @Test
+    void tryAcquireRequests_QuotaCacheEnabled_OneCustomerOverLimit_ReleasesTheRest() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        UUID otherCustomerId = UUID.randomUUID();
+        Users otherCustomer = Users.builder().id(otherCustomerId).build();
+        when(quotaCache.tryAcquire(testCustomerId, testRequestorId, currentYear, 2, 10)).thenReturn(true);
+        when(quotaCache.tryAcquire(otherCustomerId, testRequestorId, currentYear, 1, 10)).thenReturn(false);
+
+        // When
+        List<UUID> overLimit = verificationRequestLimitService.tryAcquireRequests(
+                testRequestor, List.of(testCustomer, otherCustomer, testCustomer));
+
+        // Then
+        assertEquals(List.of(otherCustomerId), overLimit);
+        verify(quotaCache).release(testCustomerId, testRequestorId, currentYear, 2);
+        verify(quotaCache, never()).release(eq(otherCustomerId), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void tryAcquireRequests_QuotaCacheEnabled_ReleasesOnRollback() {
+        // Given
+        ReflectionTestUtils.setField(verificationRequestLimitService, "quotaCacheEnabled", true);
+        when(quotaCache.tryAcquire(testCustomerId, testRequestorId, currentYear, 2, 10)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            List<UUID> overLimit = verificationRequestLimitService.tryAcquireRequests(
+                    testRequestor, List.of(testCustomer, testCustomer));
+            verify(quotaCache, never()).release(any(), any(), anyInt(), anyInt());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertTrue(overLimit.isEmpty());
+            verify(quotaCache).release(testCustomerId, testRequestorId, currentYear, 2);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -11,9 +11,12 @@ import in.zeta.dto.requests.events.NotificationCreatedEvent;
 import in.zeta.dto.requests.events.StatusUpdateEvent;
 import in.zeta.dto.response.CreateVerificationResponse;
 import in.zeta.dto.response.VerificationRequestResponse;
+import in.zeta.exception.InvalidOperationException;
+import in.zeta.exception.InvalidStatusTransitionException;
 import in.zeta.exception.ResourceNotFoundException;
 import in.zeta.repository.VerificationRequestRepository;
 import in.zeta.service.*;
+import in.zeta.statemachine.VerificationStateMachine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +32,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +56,9 @@ class VerificationRequestServiceImplTest {
     @Mock
     private StatusHistoryService statusHistoryService;
 
+    @Mock
+    private VerificationStateMachine verificationStateMachine;
+
     @InjectMocks
     private VerificationRequestServiceImpl verificationRequestService;
 
@@ -209,22 +216,49 @@ class VerificationRequestServiceImplTest {
                 .reason("Approved after review")
                 .build();
 
+        LocalDateTime transitionedAt = LocalDateTime.now();
+
         when(verificationRequestRepository.findById(testVerificationId))
                 .thenReturn(Optional.of(testVerificationRequest));
-        when(verificationRequestRepository.save(any(VerificationRequest.class)))
-                .thenReturn(testVerificationRequest);
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.APPROVED))
+                .thenReturn(new VerificationStateMachine.Transition(
+                        VerificationStatus.IN_REVIEW, VerificationStatus.APPROVED, transitionedAt));
 
         // When
         VerificationRequestResponse result = verificationRequestService.updateStatus(
                 testVerificationId, updateRequest, testOfficerId);
 
         // Then
-        assertNotNull(result);
-        verify(verificationRequestRepository).save(any(VerificationRequest.class));
-        verify(statusHistoryService).publishStatusUpdateEvent(any(StatusUpdateEvent.class));
+        assertEquals(VerificationStatus.APPROVED, result.getStatus());
+        assertEquals(transitionedAt, result.getApprovedAt());
+        assertEquals(VerificationStatus.PENDING, testVerificationRequest.getStatus());
+        verify(verificationRequestRepository, never()).save(any(VerificationRequest.class));
+        verify(statusHistoryService).publishStatusUpdateEvent(argThat(statusEvent ->
+                statusEvent.getFromStatus() == VerificationStatus.IN_REVIEW
+                        && statusEvent.getToStatus() == VerificationStatus.APPROVED));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
     }
 
+    @Test
+    void updateStatus_InvalidTransition_PublishesNothing() {
+        // Given
+        testVerificationRequest.setAssignedOfficer(testOfficer);
+        UpdateVerificationStatusRequest updateRequest = UpdateVerificationStatusRequest.builder()
+                .status(VerificationStatus.PENDING)
+                .reason("Reopen")
+                .build();
+
+        when(verificationRequestRepository.findById(testVerificationId))
+                .thenReturn(Optional.of(testVerificationRequest));
+        when(verificationStateMachine.transition(testVerificationId, VerificationStatus.PENDING))
+                .thenThrow(new InvalidStatusTransitionException("Cannot move verification request"));
+
+        // When & Then
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> verificationRequestService.updateStatus(testVerificationId, updateRequest, testOfficerId));
+        verifyNoInteractions(statusHistoryService, auditService);
+    }
+
     @Test
     void updateStatus_NoOfficerAssigned() {
         // Given
@@ -384,6 +418,17 @@ class VerificationRequestServiceImplTest {
         verify(verificationRequestRepository).findByAssignedOfficerAndStatus(testOfficer, VerificationStatus.PENDING);
     }
 
+    @Test
+    void findOfficerWorkloads_NoOfficers_SkipsQuery() {
+        // When
+        List<OfficerWorkload> result = verificationRequestService
+                .findOfficerWorkloads(List.of(), VerificationStatus.IN_REVIEW);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(verificationRequestRepository, never()).findOfficerWorkloads(any(), any());
+    }
+
     @Test
     void save_Success() {
         // When
@@ -400,7 +445,7 @@ class VerificationRequestServiceImplTest {
                 .thenReturn(testRequestor);
         when(userService.getByIdOrThrow(testCustomerId, "Customer not found " + testCustomerId))
                 .thenReturn(testCustomer);
-        when(verificationRequestLimitService.canCreateVerificationRequest(testCustomer, testRequestor))
+        when(verificationRequestLimitService.tryAcquireRequest(testCustomer, testRequestor))
                 .thenReturn(true);
         when(verificationRequestRepository.save(any(VerificationRequest.class)))
                 .thenReturn(testVerificationRequest);
@@ -412,11 +457,27 @@ class VerificationRequestServiceImplTest {
         // Then
         assertNotNull(result);
         verify(verificationRequestRepository).save(any(VerificationRequest.class));
-        verify(verificationRequestLimitService).incrementRequestCount(testCustomer, testRequestor);
         verify(statusHistoryService).publishStatusUpdateEvent(any(StatusUpdateEvent.class));
         verify(auditService).publishAuditLogEvent(any(AuditLogCreatedEvent.class));
     }
 
+    @Test
+    void createVerificationRequest_LimitReached_SavesNothing() {
+        // Given
+        when(userService.getByIdOrThrow(testRequestorId, "Requestor not found " + testRequestorId))
+                .thenReturn(testRequestor);
+        when(userService.getByIdOrThrow(testCustomerId, "Customer not found " + testCustomerId))
+                .thenReturn(testCustomer);
+        when(verificationRequestLimitService.tryAcquireRequest(testCustomer, testRequestor))
+                .thenReturn(false);
+
+        // When & Then
+        assertThrows(InvalidOperationException.class, () ->
+                verificationRequestService.createVerificationRequest(testCreateRequest, testRequestorId));
+        verify(verificationRequestRepository, never()).save(any());
+        verify(statusHistoryService, never()).publishStatusUpdateEvent(any());
+    }
+
     @Test
     void getRequestorVerifications_Success() {
         // Given
@@ -434,4 +495,58 @@ class VerificationRequestServiceImplTest {
         verify(userService).getByIdOrThrow(testRequestorId, "Requestor not found with ID: " + testRequestorId);
         verify(verificationRequestRepository).findByRequestorId(testRequestorId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createVerificationRequests_Success() {
+        // Given
+        List<CreateVerificationRequest> requests = Arrays.asList(testCreateRequest, testCreateRequest);
+        when(userService.getByIdOrThrow(testRequestorId, "Requestor not found " + testRequestorId))
+                .thenReturn(testRequestor);
+        when(userService.getByIds(any())).thenReturn(List.of(testCustomer));
+        when(verificationRequestLimitService.tryAcquireRequests(testRequestor, List.of(testCustomer, testCustomer)))
+                .thenReturn(List.of());
+        when(verificationRequestRepository.saveAll(anyList()))
+                .thenReturn(Arrays.asList(testVerificationRequest, testVerificationRequest));
+
+        // When
+        List<CreateVerificationResponse> result = verificationRequestService.createVerificationRequests(
+                requests, testRequestorId);
+
+        // Then
+        assertEquals(2, result.size());
+        verify(userService).getByIds(any());
+        verify(userService, never()).getByIdOrThrow(testCustomerId, "Customer not found " + testCustomerId);
+        verify(verificationRequestRepository, never()).save(any(VerificationRequest.class));
+        verify(statusHistoryService).publishStatusUpdateEvents(anyList());
+        verify(auditService).publishAuditLogEvents(anyList());
+    }
+
+    @Test
+    void createVerificationRequests_CustomerNotFound() {
+        // Given
+        when(userService.getByIdOrThrow(testRequestorId, "Requestor not found " + testRequestorId))
+                .thenReturn(testRequestor);
+        when(userService.getByIds(any())).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> verificationRequestService.createVerificationRequests(List.of(testCreateRequest), testRequestorId));
+        verify(verificationRequestRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createVerificationRequests_LimitExceeded() {
+        // Given
+        when(userService.getByIdOrThrow(testRequestorId, "Requestor not found " + testRequestorId))
+                .thenReturn(testRequestor);
+        when(userService.getByIds(any())).thenReturn(List.of(testCustomer));
+        when(verificationRequestLimitService.tryAcquireRequests(testRequestor, List.of(testCustomer)))
+                .thenReturn(List.of(testCustomerId));
+
+        // When & Then
+        assertThrows(InvalidOperationException.class,
+                () -> verificationRequestService.createVerificationRequests(List.of(testCreateRequest), testRequestorId));
+        verify(verificationRequestRepository, never()).saveAll(anyList());
+        verify(verificationRequestLimitService, never()).incrementRequestCounts(any(), anyList());
+    }
+}
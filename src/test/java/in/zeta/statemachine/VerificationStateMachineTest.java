@@ -0,0 +1,137 @@
+package in.zeta.statemachine;
+
+import in.zeta.enums.VerificationStatus;
+import in.zeta.exception.ConcurrentUpdateException;
+import in.zeta.exception.InvalidStatusTransitionException;
+import in.zeta.exception.ResourceNotFoundException;
+import in.zeta.repository.VerificationRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationStateMachineTest {
+
+    @Mock
+    private VerificationRequestRepository verificationRequestRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerificationStateMachine stateMachine;
+    private UUID verificationId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stateMachine = new VerificationStateMachine(verificationRequestRepository, meterRegistry, 3);
+        verificationId = UUID.randomUUID();
+    }
+
+    @Test
+    void canTransition_FollowsTable() {
+        // When & Then
+        assertTrue(stateMachine.canTransition(VerificationStatus.PENDING, VerificationStatus.IN_REVIEW));
+        assertTrue(stateMachine.canTransition(VerificationStatus.IN_REVIEW, VerificationStatus.APPROVED));
+        assertTrue(stateMachine.canTransition(VerificationStatus.SENT_BACK, VerificationStatus.DOCUMENT_UPDATED));
+        assertFalse(stateMachine.canTransition(VerificationStatus.PENDING, VerificationStatus.APPROVED));
+        assertFalse(stateMachine.canTransition(VerificationStatus.IN_REVIEW, VerificationStatus.PENDING));
+        assertFalse(stateMachine.canTransition(null, VerificationStatus.IN_REVIEW));
+    }
+
+    @Test
+    void canTransition_TerminalStatusesAllowNothing() {
+        // When & Then
+        for (VerificationStatus target : VerificationStatus.values()) {
+            assertFalse(stateMachine.canTransition(VerificationStatus.APPROVED, target));
+            assertFalse(stateMachine.canTransition(VerificationStatus.REJECTED, target));
+        }
+    }
+
+    @Test
+    void transition_AppliesConditionalUpdate() {
+        // Given
+        when(verificationRequestRepository.findStatusSnapshot(verificationId))
+                .thenReturn(Optional.of(new StatusSnapshot(VerificationStatus.IN_REVIEW, 4L)));
+        when(verificationRequestRepository.transitionStatus(eq(verificationId), eq(VerificationStatus.IN_REVIEW),
+                eq(4L), eq(VerificationStatus.APPROVED), any(), eq(true), eq(false))).thenReturn(1);
+
+        // When
+        VerificationStateMachine.Transition transition =
+                stateMachine.transition(verificationId, VerificationStatus.APPROVED);
+
+        // Then
+        assertEquals(VerificationStatus.IN_REVIEW, transition.from());
+        assertEquals(VerificationStatus.APPROVED, transition.to());
+        assertNotNull(transition.at());
+        verify(verificationRequestRepository, never()).save(any());
+    }
+
+    @Test
+    void transition_LostRace_RechecksAgainstNewStatus() {
+        // Given
+        when(verificationRequestRepository.findStatusSnapshot(verificationId))
+                .thenReturn(Optional.of(new StatusSnapshot(VerificationStatus.IN_REVIEW, 4L)),
+                        Optional.of(new StatusSnapshot(VerificationStatus.SENT_BACK, 5L)));
+        when(verificationRequestRepository.transitionStatus(eq(verificationId), any(), anyLong(),
+                eq(VerificationStatus.REJECTED), any(), eq(false), eq(true))).thenReturn(0, 1);
+
+        // When
+        VerificationStateMachine.Transition transition =
+                stateMachine.transition(verificationId, VerificationStatus.REJECTED);
+
+        // Then
+        assertEquals(VerificationStatus.SENT_BACK, transition.from());
+        verify(verificationRequestRepository).transitionStatus(eq(verificationId), eq(VerificationStatus.SENT_BACK),
+                eq(5L), eq(VerificationStatus.REJECTED), any(), eq(false), eq(true));
+        assertEquals(1.0, meterRegistry.counter("verification.transition.conflicts").count());
+    }
+
+    @Test
+    void transition_RaceLeavesInvalidStatus_Throws() {
+        // Given
+        when(verificationRequestRepository.findStatusSnapshot(verificationId))
+                .thenReturn(Optional.of(new StatusSnapshot(VerificationStatus.IN_REVIEW, 4L)),
+                        Optional.of(new StatusSnapshot(VerificationStatus.APPROVED, 5L)));
+        when(verificationRequestRepository.transitionStatus(any(), any(), anyLong(), any(), any(), anyBoolean(),
+                anyBoolean())).thenReturn(0);
+
+        // When & Then
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> stateMachine.transition(verificationId, VerificationStatus.SENT_BACK));
+        verify(verificationRequestRepository, times(1)).transitionStatus(any(), any(), anyLong(), any(), any(),
+                anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void transition_EveryAttemptLost_ThrowsConflict() {
+        // Given
+        when(verificationRequestRepository.findStatusSnapshot(verificationId))
+                .thenReturn(Optional.of(new StatusSnapshot(VerificationStatus.IN_REVIEW, 4L)));
+        when(verificationRequestRepository.transitionStatus(any(), any(), anyLong(), any(), any(), anyBoolean(),
+                anyBoolean())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class,
+                () -> stateMachine.transition(verificationId, VerificationStatus.APPROVED));
+        verify(verificationRequestRepository, times(3)).findStatusSnapshot(verificationId);
+    }
+
+    @Test
+    void transition_UnknownRequest_Throws() {
+        // Given
+        when(verificationRequestRepository.findStatusSnapshot(verificationId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> stateMachine.transition(verificationId, VerificationStatus.IN_REVIEW));
+    }
+}
@@ -0,0 +1,201 @@
+package in.zeta.stream;
+
+import in.zeta.dto.response.NotificationResponse;
+import in.zeta.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationStreamRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationStreamRegistry registry;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new NotificationStreamRegistry(Runnable::run, meterRegistry, 60_000, 2, 10);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void publish_SendsToEveryStreamOfRecipient() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter(false);
+        RecordingEmitter second = new RecordingEmitter(false);
+        RecordingEmitter otherUser = new RecordingEmitter(false);
+        registry.register(userId, first);
+        registry.register(userId, second);
+        registry.register(UUID.randomUUID(), otherUser);
+
+        // When
+        registry.publish(notification(userId));
+
+        // Then
+        assertEquals(1, first.sent.size());
+        assertEquals(1, second.sent.size());
+        assertTrue(otherUser.sent.isEmpty());
+        assertEquals(2.0, meterRegistry.counter("notification.stream.sent").count());
+    }
+
+    @Test
+    void publish_NoStreams_DoesNothing() {
+        // When
+        registry.publish(notification(userId));
+
+        // Then
+        assertEquals(0.0, meterRegistry.counter("notification.stream.sent").count());
+    }
+
+    @Test
+    void publish_FailedSend_DropsConnection() {
+        // Given
+        RecordingEmitter broken = new RecordingEmitter(true);
+        registry.register(userId, broken);
+
+        // When
+        registry.publish(notification(userId));
+
+        // Then
+        assertEquals(0, registry.connectionCount());
+        assertEquals(1.0, meterRegistry.counter("notification.stream.dropped").count());
+    }
+
+    @Test
+    void register_OverPerUserLimit_EvictsOldest() {
+        // Given
+        RecordingEmitter oldest = new RecordingEmitter(false);
+        RecordingEmitter middle = new RecordingEmitter(false);
+        RecordingEmitter newest = new RecordingEmitter(false);
+        registry.register(userId, oldest);
+        registry.register(userId, middle);
+
+        // When
+        registry.register(userId, newest);
+        registry.publish(notification(userId));
+
+        // Then
+        assertEquals(2, registry.connectionCount());
+        assertTrue(oldest.sent.isEmpty());
+        assertEquals(1, middle.sent.size());
+        assertEquals(1, newest.sent.size());
+    }
+
+    @Test
+    void publish_DispatchQueueFull_CountsDrop() {
+        // Given
+        NotificationStreamRegistry saturated = new NotificationStreamRegistry(
+                task -> { throw new RejectedExecutionException(); }, meterRegistry, 60_000, 2, 10);
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        saturated.register(userId, emitter);
+
+        // When
+        saturated.publish(notification(userId));
+
+        // Then
+        assertTrue(emitter.sent.isEmpty());
+        assertEquals(1, saturated.connectionCount());
+        assertEquals(1.0, meterRegistry.counter("notification.stream.dropped").count());
+    }
+
+    @Test
+    void publish_SlowPool_SendsInPublishOrderFromOneTask() {
+        // Given
+        List<Runnable> tasks = new ArrayList<>();
+        NotificationStreamRegistry queued = new NotificationStreamRegistry(tasks::add, meterRegistry, 60_000, 2, 10);
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        queued.register(userId, emitter);
+        NotificationResponse first = notification(userId);
+        NotificationResponse second = notification(userId);
+        NotificationResponse third = notification(userId);
+
+        // When
+        queued.publish(first);
+        queued.publish(second);
+        queued.publish(third);
+        tasks.forEach(Runnable::run);
+
+        // Then
+        assertEquals(1, tasks.size());
+        assertEquals(List.of(first, second, third), emitter.sentData());
+    }
+
+    @Test
+    void publish_ConnectionBacklogFull_DropsOnlyOverflow() {
+        // Given
+        List<Runnable> tasks = new ArrayList<>();
+        NotificationStreamRegistry queued = new NotificationStreamRegistry(tasks::add, meterRegistry, 60_000, 2, 2);
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        queued.register(userId, emitter);
+
+        // When
+        queued.publish(notification(userId));
+        queued.publish(notification(userId));
+        queued.publish(notification(userId));
+        tasks.forEach(Runnable::run);
+
+        // Then
+        assertEquals(2, emitter.sent.size());
+        assertEquals(1.0, meterRegistry.counter("notification.stream.dropped").count());
+    }
+
+    @Test
+    void heartbeat_SendsToAllStreams() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        registry.register(userId, emitter);
+
+        // When
+        registry.heartbeat();
+
+        // Then
+        assertEquals(1, emitter.sent.size());
+    }
+
+    private NotificationResponse notification(UUID recipient) {
+        return NotificationResponse.builder()
+                .id(UUID.randomUUID())
+                .userId(recipient)
+                .notificationType(NotificationType.VERIFICATION_APPROVED)
+                .message("Approved")
+                .isRead(false)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final boolean failing;
+        private final List<SseEventBuilder> sent = new ArrayList<>();
+
+        RecordingEmitter(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(builder);
+        }
+
+        List<Object> sentData() {
+            return sent.stream()
+                    .flatMap(builder -> builder.build().stream())
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(NotificationResponse.class::isInstance)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package in.zeta.writer;
+
+import in.zeta.cache.AuditTimelineCache;
+import in.zeta.dto.response.AuditLogsResponse;
+import in.zeta.enums.AuditAction;
+import in.zeta.enums.EntityType;
+import in.zeta.exception.AuditLogException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AuditLogBatchWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AuditTimelineCache auditTimelineCache;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        auditTimelineCache = mock(AuditTimelineCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void writeBatch_InsertsWholeBatchInOneCallAndAppendsToTimeline() {
+        // Given
+        writer = writer(false);
+
+        // When
+        var failures = writer.writeBatch(List.of(record(), record(), record()));
+
+        // Then
+        assertTrue(failures.isEmpty());
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogBatchWriter.INSERT_AUDIT_LOG_SQL),
+                argThat((List<Object[]> args) -> args.size() == 3));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(auditTimelineCache, times(3)).append(any(AuditLogsResponse.class));
+    }
+
+    @Test
+    void writeBatch_InsertFails_DoesNotAppendToTimeline() {
+        // Given
+        writer = writer(false);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("FK violation"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> writer.writeBatch(List.of(record())));
+        verifyNoInteractions(auditTimelineCache);
+    }
+
+    @Test
+    void writeSingle_InsertsRowAndAppendsToTimeline() {
+        // Given
+        writer = writer(false);
+        AuditLogRecord record = record();
+
+        // When
+        writer.writeSingle(record);
+
+        // Then
+        verify(jdbcTemplate).update(eq(AuditLogBatchWriter.INSERT_AUDIT_LOG_SQL), any(Object[].class));
+        verify(auditTimelineCache).append(argThat(entry -> entry.getId().equals(record.id())));
+    }
+
+    @Test
+    void writeSingle_NoPartitionForMonth_StoresInOverflowAndCounts() {
+        // Given
+        writer = writer(false);
+        AuditLogRecord record = record();
+        when(jdbcTemplate.update(eq(AuditLogBatchWriter.INSERT_AUDIT_LOG_SQL), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("insert failed",
+                        new SQLException("ERROR: no partition of relation \"audit_logs\" found for row", "23514")));
+
+        // When
+        writer.writeSingle(record);
+
+        // Then
+        verify(jdbcTemplate).update(eq(AuditLogBatchWriter.INSERT_OVERFLOW_SQL), any(Object[].class));
+        assertEquals(1.0, meterRegistry.get("audit.writer.overflow").counter().count());
+        verifyNoInteractions(auditTimelineCache);
+    }
+
+    @Test
+    void writeSingle_OtherConstraintViolation_Throws() {
+        // Given
+        writer = writer(false);
+        when(jdbcTemplate.update(eq(AuditLogBatchWriter.INSERT_AUDIT_LOG_SQL), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("insert failed",
+                        new SQLException("ERROR: insert violates foreign key constraint \"fk_audit_user\"", "23503")));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> writer.writeSingle(record()));
+        verify(jdbcTemplate, never()).update(eq(AuditLogBatchWriter.INSERT_OVERFLOW_SQL), any(Object[].class));
+        assertEquals(0.0, meterRegistry.get("audit.writer.overflow").counter().count());
+    }
+
+    @Test
+    void write_RowFails_ThrowsAuditLogException() throws InterruptedException {
+        // Given
+        writer = writer(true);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("FK violation"));
+        when(jdbcTemplate.update(eq(AuditLogBatchWriter.INSERT_AUDIT_LOG_SQL), any(Object[].class)))
+                .thenThrow(new RuntimeException("FK violation"));
+        writer.start();
+
+        // When & Then
+        assertThrows(AuditLogException.class, () -> writer.write(record()));
+        verifyNoInteractions(auditTimelineCache);
+    }
+
+    private AuditLogBatchWriter writer(boolean enabled) {
+        return new AuditLogBatchWriter(jdbcTemplate, auditTimelineCache, meterRegistry, enabled,
+                10, 1, 50, 1000);
+    }
+
+    private AuditLogRecord record() {
+        return new AuditLogRecord(UUID.randomUUID(), EntityType.USER, UUID.randomUUID(), AuditAction.USER_CREATED,
+                UUID.randomUUID(), "user", "{\"status\":\"PENDING\"}", "{\"status\":\"APPROVED\"}",
+                LocalDateTime.now());
+    }
+}
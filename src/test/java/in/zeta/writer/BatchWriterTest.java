@@ -0,0 +1,241 @@
+package in.zeta.writer;
+
+import in.zeta.exception.AuditLogException;
+import in.zeta.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchWriterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<String>> batches;
+    private List<String> singles;
+    private BatchWriter<String> writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batches = Collections.synchronizedList(new ArrayList<>());
+        singles = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void enqueue_BufferFull_RejectsAndCountsDrop() {
+        // Given
+        writer = writer(false, 1, 10, 1000, batch -> Map.of());
+
+        // When
+        CompletableFuture<Void> first = writer.enqueue("a");
+        CompletableFuture<Void> second = writer.enqueue("b");
+
+        // Then
+        assertFalse(first.isDone());
+        assertTrue(second.isCompletedExceptionally());
+        assertThrows(AuditLogException.class, () -> writer.write("c"));
+        assertEquals(1, writer.buffered());
+        assertEquals(2.0, meterRegistry.get("test.writer.dropped").counter().count());
+    }
+
+    @Test
+    void flush_HandsWholeBatchToHandlerInOneCall() {
+        // Given
+        writer = writer(false, 10, 10, 1000, this::recordBatch);
+        List<BatchWriter.Pending<String>> batch = List.of(pending("a"), pending("b"), pending("c"));
+
+        // When
+        writer.flush(batch);
+
+        // Then
+        assertEquals(List.of(List.of("a", "b", "c")), batches);
+        assertTrue(singles.isEmpty());
+        assertEquals(3.0, meterRegistry.get("test.writer.written").counter().count());
+        assertEquals(1, meterRegistry.get("test.writer.flush.duration").timer().count());
+        assertTrue(batch.stream().allMatch(pending -> pending.written().isDone() && !pending.written().isCompletedExceptionally()));
+    }
+
+    @Test
+    void flush_HandlerReportsFailure_FailsOnlyThatItem() {
+        // Given
+        ResourceNotFoundException rejected = new ResourceNotFoundException("unknown item");
+        writer = writer(false, 10, 10, 1000, batch -> Map.of(1, rejected));
+        BatchWriter.Pending<String> good = pending("a");
+        BatchWriter.Pending<String> bad = pending("b");
+
+        // When
+        writer.flush(List.of(good, bad));
+
+        // Then
+        assertDoesNotThrow(() -> good.written().join());
+        assertSame(rejected, assertThrows(Exception.class, () -> bad.written().join()).getCause());
+        assertTrue(singles.isEmpty());
+        assertEquals(1.0, meterRegistry.get("test.writer.written").counter().count());
+        assertEquals(1.0, meterRegistry.get("test.writer.failed").counter().count());
+    }
+
+    @Test
+    void flush_BatchFails_RetriesItemByItemAndCountsFailures() {
+        // Given
+        writer = writer(false, 10, 10, 1000, batch -> {
+            throw new IllegalStateException("batch failed");
+        });
+        BatchWriter.Pending<String> good = pending("a");
+        BatchWriter.Pending<String> bad = pending("bad");
+
+        // When
+        writer.flush(List.of(good, bad));
+
+        // Then
+        assertEquals(List.of("a", "bad"), singles);
+        assertDoesNotThrow(() -> good.written().join());
+        assertTrue(bad.written().isCompletedExceptionally());
+        assertEquals(1.0, meterRegistry.get("test.writer.written").counter().count());
+        assertEquals(1.0, meterRegistry.get("test.writer.failed").counter().count());
+    }
+
+    @Test
+    void start_FlushesBufferedItemsInBackground() throws InterruptedException {
+        // Given
+        writer = writer(true, 10, 2, 1000, this::recordBatch);
+        writer.start();
+
+        // When
+        writer.write("a");
+        writer.enqueue("b");
+        writer.enqueue("c");
+        writer.stop();
+
+        // Then
+        assertEquals(List.of("a", "b", "c"), batches.stream().flatMap(List::stream).toList());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        assertEquals(0, writer.buffered());
+        assertEquals(3.0, meterRegistry.get("test.writer.written").counter().count());
+    }
+
+    @Test
+    void write_ItemFails_ThrowsFailure() {
+        // Given
+        writer = writer(true, 10, 1, 1000, batch -> {
+            throw new IllegalStateException("batch failed");
+        });
+        writer.start();
+
+        // When & Then
+        AuditLogException exception = assertThrows(AuditLogException.class, () -> writer.write("bad"));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    void write_HandlerRejectsWithBaseException_RethrowsIt() {
+        // Given
+        writer = writer(true, 10, 1, 1000, batch -> Map.of(0, new ResourceNotFoundException("unknown item")));
+        writer.start();
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> writer.write("a"));
+    }
+
+    @Test
+    void write_NotWrittenInTime_Throws() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        writer = writer(true, 10, 1, 50, batch -> {
+            awaitQuietly(release);
+            return Map.of();
+        });
+        writer.start();
+
+        // When & Then
+        try {
+            assertThrows(AuditLogException.class, () -> writer.write("a"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void stop_FailsItemsLeftInBuffer() throws InterruptedException {
+        // Given
+        writer = writer(false, 10, 2, 1000, this::recordBatch);
+        CompletableFuture<Void> written = writer.enqueue("a");
+
+        // When
+        writer.stop();
+
+        // Then
+        assertTrue(written.isCompletedExceptionally());
+        assertEquals(0, writer.buffered());
+    }
+
+    @Test
+    void start_Disabled_DoesNotStartWorker() throws InterruptedException {
+        // Given
+        writer = writer(false, 10, 2, 1000, this::recordBatch);
+
+        // When
+        writer.start();
+        writer.enqueue("a");
+        writer.stop();
+
+        // Then
+        assertTrue(batches.isEmpty());
+        assertFalse(writer.isEnabled());
+    }
+
+    private BatchWriter<String> writer(boolean enabled, int bufferCapacity, int batchSize, long ackTimeoutMs,
+                                       BatchWriter.BatchHandler<String> batchHandler) {
+        return BatchWriter.<String>builder()
+                .name("test.writer")
+                .meterRegistry(meterRegistry)
+                .enabled(enabled)
+                .bufferCapacity(bufferCapacity)
+                .batchSize(batchSize)
+                .flushIntervalMs(20)
+                .ackTimeoutMs(ackTimeoutMs)
+                .batchHandler(batchHandler)
+                .singleHandler(item -> {
+                    singles.add(item);
+                    if (item.startsWith("bad")) {
+                        throw new IllegalArgumentException("bad item " + item);
+                    }
+                })
+                .describe(item -> "item " + item)
+                .failure(AuditLogException::new)
+                .build();
+    }
+
+    private Map<Integer, RuntimeException> recordBatch(List<String> batch) {
+        batches.add(batch);
+        return Map.of();
+    }
+
+    private static BatchWriter.Pending<String> pending(String item) {
+        return new BatchWriter.Pending<>(item, new CompletableFuture<>());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package in.zeta.writer;
+
+import in.zeta.dto.requests.events.StatusUpdateEvent;
+import in.zeta.enums.VerificationStatus;
+import in.zeta.exception.ResourceNotFoundException;
+import in.zeta.exception.StatusUpdateException;
+import in.zeta.service.StatusHistoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class StatusHistoryBatchWriterTest {
+
+    private StatusHistoryService statusHistoryService;
+    private StatusHistoryBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        statusHistoryService = mock(StatusHistoryService.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void writeBatch_IngestsWholeBatchInOneCall() {
+        // Given
+        writer = writer(false, 1000);
+        List<StatusUpdateEvent> events = List.of(event(), event(), event());
+        when(statusHistoryService.updateStatusHistories(events)).thenReturn(List.of());
+
+        // When
+        Map<Integer, RuntimeException> failures = writer.writeBatch(events);
+
+        // Then
+        assertTrue(failures.isEmpty());
+        verify(statusHistoryService).updateStatusHistories(events);
+        verify(statusHistoryService, never()).updateStatusHistory(any());
+    }
+
+    @Test
+    void writeBatch_RejectedEvent_FailsOnlyThatEvent() {
+        // Given
+        writer = writer(false, 1000);
+        StatusUpdateEvent good = event();
+        StatusUpdateEvent orphan = event();
+        when(statusHistoryService.updateStatusHistories(anyList())).thenReturn(List.of(orphan));
+
+        // When
+        Map<Integer, RuntimeException> failures = writer.writeBatch(List.of(good, orphan));
+
+        // Then
+        assertEquals(1, failures.size());
+        assertInstanceOf(ResourceNotFoundException.class, failures.get(1));
+    }
+
+    @Test
+    void write_RejectedEvent_ThrowsResourceNotFound() {
+        // Given
+        writer = writer(true, 1000);
+        when(statusHistoryService.updateStatusHistories(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        writer.start();
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> writer.write(event()));
+    }
+
+    @Test
+    void write_BatchAndRetryFail_ThrowsStatusUpdateException() {
+        // Given
+        writer = writer(true, 1000);
+        doThrow(new RuntimeException("FK violation")).when(statusHistoryService).updateStatusHistories(anyList());
+        doThrow(new RuntimeException("FK violation")).when(statusHistoryService).updateStatusHistory(any());
+        writer.start();
+
+        // When & Then
+        assertThrows(StatusUpdateException.class, () -> writer.write(event()));
+    }
+
+    @Test
+    void write_NotIngestedInTime_ThrowsStatusUpdateException() {
+        // Given
+        writer = writer(false, 50);
+
+        // When & Then
+        assertThrows(StatusUpdateException.class, () -> writer.write(event()));
+    }
+
+    private StatusHistoryBatchWriter writer(boolean enabled, long ackTimeoutMs) {
+        return new StatusHistoryBatchWriter(statusHistoryService, new SimpleMeterRegistry(), enabled,
+                10, 10, 50, ackTimeoutMs);
+    }
+
+    private StatusUpdateEvent event() {
+        return StatusUpdateEvent.builder()
+                .id(UUID.randomUUID())
+                .verificationRequestId(UUID.randomUUID())
+                .changedBy(UUID.randomUUID())
+                .fromStatus(VerificationStatus.IN_REVIEW)
+                .toStatus(VerificationStatus.APPROVED)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}